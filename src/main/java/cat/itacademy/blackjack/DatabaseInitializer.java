@@ -18,6 +18,8 @@ public class DatabaseInitializer implements CommandLineRunner {
         String createTableSql = """
             CREATE TABLE IF NOT EXISTS games (
                 id BIGSERIAL PRIMARY KEY,
+                version BIGINT NOT NULL DEFAULT 0,
+                event_seq INT NOT NULL DEFAULT 0,
                 player_id VARCHAR(255) NOT NULL,
                 created_at TIMESTAMP NOT NULL,
                 status VARCHAR(50) NOT NULL,
@@ -26,14 +28,36 @@ public class DatabaseInitializer implements CommandLineRunner {
                 dealer_score INT NOT NULL,
                 deck_json TEXT NOT NULL,
                 player_cards_json TEXT NOT NULL,
-                dealer_cards_json TEXT NOT NULL
+                dealer_cards_json TEXT NOT NULL,
+                initial_deck BYTEA
+            );
+            """;
+
+        String addVersionSql = "ALTER TABLE games ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;";
+        String addEventSeqSql = "ALTER TABLE games ADD COLUMN IF NOT EXISTS event_seq INT NOT NULL DEFAULT 0;";
+        String addInitialDeckSql = "ALTER TABLE games ADD COLUMN IF NOT EXISTS initial_deck BYTEA;";
+
+        String createCreatedAtIndexSql = "CREATE INDEX IF NOT EXISTS games_created_at_idx ON games (created_at);";
+
+        String createEventsTableSql = """
+            CREATE TABLE IF NOT EXISTS game_events (
+                game_id BIGINT NOT NULL REFERENCES games(id) ON DELETE CASCADE,
+                seq INT NOT NULL,
+                action VARCHAR(20) NOT NULL,
+                card SMALLINT,
+                PRIMARY KEY (game_id, seq)
             );
             """;
 
         databaseClient.sql(createTableSql)
                 .then()
-                .doOnSuccess(unused -> System.out.println("✅ Table 'games' created or already exist."))
-                .doOnError(error -> System.err.println("❌ Error creating 'games': " + error.getMessage()))
+                .then(databaseClient.sql(addVersionSql).then())
+                .then(databaseClient.sql(addEventSeqSql).then())
+                .then(databaseClient.sql(addInitialDeckSql).then())
+                .then(databaseClient.sql(createCreatedAtIndexSql).then())
+                .then(databaseClient.sql(createEventsTableSql).then())
+                .doOnSuccess(unused -> System.out.println("✅ Tables 'games' and 'game_events' created or already exist."))
+                .doOnError(error -> System.err.println("❌ Error creating 'games' or 'game_events': " + error.getMessage()))
                 .subscribe();
     }
 }
\ No newline at end of file
@@ -0,0 +1,29 @@
+package cat.itacademy.blackjack.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.UUID;
+
+/**
+ * Cross-node propagation of game changes through PostgreSQL LISTEN/NOTIFY.
+ *
+ * @param enabled publish a notification after every game save and listen for other nodes' changes
+ * @param channel Postgres channel name
+ * @param nodeId  identifies this node, so its own notifications are ignored; random when not set
+ */
+@ConfigurationProperties(prefix = "blackjack.cluster")
+public record ClusterProperties(
+        boolean enabled,
+        String channel,
+        String nodeId
+) {
+
+    public ClusterProperties {
+        if (channel == null || channel.isBlank()) {
+            channel = "game_changes";
+        }
+        if (nodeId == null || nodeId.isBlank()) {
+            nodeId = UUID.randomUUID().toString();
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package cat.itacademy.blackjack.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import org.reactivestreams.Publisher;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.codec.CodecCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.cbor.Jackson2CborDecoder;
+import org.springframework.http.codec.cbor.Jackson2CborEncoder;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.util.MimeType;
+import org.springframework.util.unit.DataSize;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Adds CBOR ({@code application/cbor}) next to JSON. Clients that ask for it in {@code Accept} get the same
+ * fields in a binary encoding, which is smaller and cheaper to write than JSON text; JSON stays the default.
+ * JSON arrays are written in chunks of {@code blackjack.codec.write-chunk-size} instead of one buffer per element.
+ */
+@Configuration
+public class CodecConfig {
+
+    /**
+     * Runs after Boot's Jackson customizer, which sets the default JSON encoder this one replaces.
+     */
+    @Bean
+    @Order(1)
+    public CodecCustomizer jsonCodecCustomizer(ObjectMapper objectMapper,
+                                               @Value("${blackjack.codec.write-chunk-size:8KB}") DataSize writeChunkSize) {
+        return configurer -> configurer.defaultCodecs()
+                .jackson2JsonEncoder(new ChunkedJsonEncoder(objectMapper, (int) writeChunkSize.toBytes()));
+    }
+
+    @Bean
+    public CodecCustomizer cborCodecCustomizer(Jackson2ObjectMapperBuilder objectMapperBuilder) {
+        ObjectMapper cborMapper = objectMapperBuilder.factory(new CBORFactory()).build();
+        return configurer -> {
+            configurer.customCodecs().register(new CollectingCborEncoder(cborMapper));
+            configurer.customCodecs().register(new Jackson2CborDecoder(cborMapper, MediaType.APPLICATION_CBOR));
+        };
+    }
+
+    /**
+     * Jackson writes a {@code Flux} as a JSON array with one buffer per element, and each buffer is a separate
+     * write (and, with compression on, a separate deflate flush). Elements are joined into buffers of at least
+     * {@code chunkSize} bytes before they are written; the body is unchanged. Streaming types (NDJSON) and
+     * single values are written as before, so streamed elements are not delayed.
+     */
+    static class ChunkedJsonEncoder extends Jackson2JsonEncoder {
+
+        private final int chunkSize;
+
+        ChunkedJsonEncoder(ObjectMapper objectMapper, int chunkSize) {
+            super(objectMapper);
+            this.chunkSize = chunkSize;
+        }
+
+        @Override
+        public Flux<DataBuffer> encode(Publisher<?> inputStream, DataBufferFactory bufferFactory, ResolvableType elementType,
+                                       MimeType mimeType, Map<String, Object> hints) {
+            Flux<DataBuffer> buffers = super.encode(inputStream, bufferFactory, elementType, mimeType, hints);
+            if (inputStream instanceof Mono || chunkSize <= 0 || isStreaming(mimeType)) {
+                return buffers;
+            }
+            return Flux.defer(() -> {
+                int[] pending = {0};
+                return buffers.bufferUntil(buffer -> {
+                            pending[0] += buffer.readableByteCount();
+                            if (pending[0] < chunkSize) {
+                                return false;
+                            }
+                            pending[0] = 0;
+                            return true;
+                        })
+                        .map(bufferFactory::join)
+                        .doOnDiscard(DataBuffer.class, DataBufferUtils::release);
+            });
+        }
+
+        private boolean isStreaming(MimeType mimeType) {
+            return mimeType != null && getStreamingMediaTypes().stream().anyMatch(type -> type.isCompatibleWith(mimeType));
+        }
+    }
+
+    /**
+     * Jackson's CBOR encoder only writes single values. A {@code Mono} body is written as its value, and a
+     * {@code Flux} body is collected and written as one CBOR array, the same shape as the JSON array written
+     * for non-streaming requests.
+     */
+    static class CollectingCborEncoder extends Jackson2CborEncoder {
+
+        CollectingCborEncoder(ObjectMapper cborMapper) {
+            super(cborMapper, MediaType.APPLICATION_CBOR);
+        }
+
+        @Override
+        public Flux<DataBuffer> encode(Publisher<?> inputStream, DataBufferFactory bufferFactory, ResolvableType elementType,
+                                       MimeType mimeType, Map<String, Object> hints) {
+            if (inputStream instanceof Mono<?> mono) {
+                return mono.map(value -> encodeValue(value, bufferFactory, elementType, mimeType, hints)).flux();
+            }
+            ResolvableType listType = ResolvableType.forClassWithGenerics(List.class, elementType);
+            return Flux.from(inputStream)
+                    .collectList()
+                    .map(values -> encodeValue(values, bufferFactory, listType, mimeType, hints))
+                    .flux();
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package cat.itacademy.blackjack.config;
+
+import io.netty.handler.codec.compression.Brotli;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.embedded.netty.NettyServerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import reactor.netty.http.server.compression.DeflateOption;
+import reactor.netty.http.server.compression.GzipOption;
+
+/**
+ * Compression levels for the responses selected by {@code server.compression} (enabled flag, MIME types and
+ * {@code min-response-size}). Netty picks the encoding from {@code Accept-Encoding}, preferring {@code br}
+ * when Brotli's native library is available, then {@code gzip} and {@code deflate}.
+ */
+@Configuration
+public class CompressionConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(CompressionConfig.class);
+
+    @Bean
+    public NettyServerCustomizer compressionLevelCustomizer(@Value("${blackjack.compression.level:6}") int level) {
+        logger.info("Response compression level {}, brotli available: {}", level, Brotli.isAvailable());
+        return httpServer -> httpServer.compressOptions(
+                GzipOption.builder().compressionLevel(level).build(),
+                DeflateOption.builder().compressionLevel(level).build());
+    }
+}
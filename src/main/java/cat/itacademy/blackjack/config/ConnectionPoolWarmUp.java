@@ -0,0 +1,56 @@
+package cat.itacademy.blackjack.config;
+
+import io.r2dbc.pool.ConnectionPool;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcProperties;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+/**
+ * Opens the pool's initial connections during startup, so the first burst of traffic
+ * after a deploy does not pay for the TCP + auth handshake.
+ */
+@Component
+public class ConnectionPoolWarmUp implements CommandLineRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(ConnectionPoolWarmUp.class);
+    private static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(10);
+
+    private final MeteredConnectionFactory connectionFactory;
+    private final R2dbcPoolProperties poolProperties;
+    private final R2dbcProperties r2dbcProperties;
+
+    public ConnectionPoolWarmUp(MeteredConnectionFactory connectionFactory,
+                                R2dbcPoolProperties poolProperties,
+                                R2dbcProperties r2dbcProperties) {
+        this.connectionFactory = connectionFactory;
+        this.poolProperties = poolProperties;
+        this.r2dbcProperties = r2dbcProperties;
+    }
+
+    @Override
+    public void run(String... args) {
+        if (!poolProperties.warmUp()) {
+            logger.debug("R2DBC pool warm-up disabled");
+            return;
+        }
+
+        ConnectionPool pool = connectionFactory.unwrap();
+        Duration timeout = r2dbcProperties.getPool().getMaxCreateConnectionTime() != null
+                ? r2dbcProperties.getPool().getMaxCreateConnectionTime()
+                : DEFAULT_TIMEOUT;
+
+        pool.warmup()
+                .timeout(timeout)
+                .doOnNext(opened -> logger.info("R2DBC pool warmed up with {} connections", opened))
+                .onErrorResume(error -> {
+                    logger.warn("R2DBC pool warm-up failed, connections will be opened on demand: {}", error.getMessage());
+                    return Mono.empty();
+                })
+                .block();
+    }
+}
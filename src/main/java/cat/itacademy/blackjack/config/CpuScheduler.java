@@ -0,0 +1,137 @@
+package cat.itacademy.blackjack.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs CPU-bound stages (card JSON parsing and serialization, shuffling, odds, auto-play and audit batches)
+ * off the Netty event loops, on a fixed pool with one thread per core and a bounded queue.
+ *
+ * <p>Work whose input is below {@code blackjack.cpu.inline-threshold} runs on the calling thread, since the
+ * hop would cost more than the work. When the queue is full, new work fails with 503 instead of queueing
+ * without limit behind the event loops.
+ */
+@Component
+public class CpuScheduler {
+
+    private static final Logger logger = LoggerFactory.getLogger(CpuScheduler.class);
+
+    private final ThreadPoolExecutor executor;
+    private final Scheduler scheduler;
+    private final long inlineThresholdBytes;
+    private final Counter inline;
+    private final Counter offloaded;
+    private final Counter rejected;
+    private final Timer queueWait;
+
+    public CpuScheduler(@Value("${blackjack.cpu.threads:0}") int threads,
+                        @Value("${blackjack.cpu.queue-capacity:1024}") int queueCapacity,
+                        @Value("${blackjack.cpu.inline-threshold:512B}") DataSize inlineThreshold,
+                        MeterRegistry meterRegistry) {
+        int size = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(size, size, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                    Thread thread = new Thread(runnable, "cpu-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        this.scheduler = Schedulers.fromExecutorService(executor, "cpu");
+        this.inlineThresholdBytes = inlineThreshold.toBytes();
+
+        this.inline = Counter.builder("blackjack.cpu.tasks")
+                .description("CPU-bound stages, by where they ran")
+                .tag("mode", "inline")
+                .register(meterRegistry);
+        this.offloaded = Counter.builder("blackjack.cpu.tasks")
+                .description("CPU-bound stages, by where they ran")
+                .tag("mode", "offloaded")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("blackjack.cpu.rejected")
+                .description("CPU-bound stages rejected because the queue was full")
+                .register(meterRegistry);
+        this.queueWait = Timer.builder("blackjack.cpu.queue.wait")
+                .description("Time offloaded stages waited for a CPU thread")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        BlockingQueue<Runnable> queue = executor.getQueue();
+        Gauge.builder("blackjack.cpu.queue.size", queue, BlockingQueue::size)
+                .description("Stages waiting for a CPU thread")
+                .register(meterRegistry);
+        Gauge.builder("blackjack.cpu.queue.remaining", queue, BlockingQueue::remainingCapacity)
+                .description("Free slots in the CPU queue")
+                .register(meterRegistry);
+        Gauge.builder("blackjack.cpu.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("CPU threads running a stage")
+                .register(meterRegistry);
+
+        logger.info("CPU scheduler -> threads: {}, queue: {}, inline below: {} bytes",
+                size, queueCapacity, inlineThresholdBytes);
+    }
+
+    /**
+     * Runs {@code work} on a CPU thread.
+     */
+    public <T> Mono<T> offload(Callable<T> work) {
+        return Mono.defer(() -> {
+                    long queuedAt = System.nanoTime();
+                    offloaded.increment();
+                    return Mono.fromCallable(() -> {
+                                queueWait.record(System.nanoTime() - queuedAt, TimeUnit.NANOSECONDS);
+                                return work.call();
+                            })
+                            .subscribeOn(scheduler);
+                })
+                .onErrorMap(RejectedExecutionException.class, e -> {
+                    rejected.increment();
+                    return new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Server busy, retry later.");
+                });
+    }
+
+    /**
+     * Runs {@code work} on a CPU thread, or on the calling thread when its input is smaller than the
+     * inline threshold.
+     *
+     * @param inputBytes approximate size of what {@code work} parses or writes
+     */
+    public <T> Mono<T> run(long inputBytes, Callable<T> work) {
+        if (inputBytes < inlineThresholdBytes) {
+            inline.increment();
+            return Mono.fromCallable(work);
+        }
+        return offload(work);
+    }
+
+    /**
+     * For {@code publishOn} in pipelines whose downstream stages are all CPU-bound.
+     */
+    public Scheduler scheduler() {
+        return scheduler;
+    }
+
+    @PreDestroy
+    public void dispose() {
+        scheduler.dispose();
+    }
+}
@@ -0,0 +1,51 @@
+package cat.itacademy.blackjack.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryMetadata;
+import io.r2dbc.spi.Wrapped;
+import reactor.core.publisher.Mono;
+
+/**
+ * Records how long callers wait to acquire a connection from the pool ({@code r2dbc.pool.acquire}).
+ * Gauges for acquired/idle/pending connections are bound by Actuator through {@link #unwrap()}.
+ */
+public class MeteredConnectionFactory implements ConnectionFactory, Wrapped<ConnectionPool> {
+
+    private final ConnectionPool pool;
+    private final Timer acquireTimer;
+
+    public MeteredConnectionFactory(ConnectionPool pool, MeterRegistry meterRegistry) {
+        this.pool = pool;
+        this.acquireTimer = Timer.builder("r2dbc.pool.acquire")
+                .description("Time spent waiting for a pooled connection")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Mono<Connection> create() {
+        return Mono.defer(() -> {
+            Timer.Sample sample = Timer.start();
+            return pool.create()
+                    .doOnSuccess(connection -> sample.stop(acquireTimer));
+        });
+    }
+
+    @Override
+    public ConnectionFactoryMetadata getMetadata() {
+        return pool.getMetadata();
+    }
+
+    @Override
+    public ConnectionPool unwrap() {
+        return pool;
+    }
+
+    public void dispose() {
+        pool.dispose();
+    }
+}
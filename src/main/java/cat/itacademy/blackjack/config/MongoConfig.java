@@ -1,11 +1,88 @@
 package cat.itacademy.blackjack.config;
 
+import cat.itacademy.blackjack.model.Player;
+import cat.itacademy.blackjack.repository.mongo.PlayerStatsUpdates;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+import org.springframework.data.mongodb.core.index.ReactiveIndexOperations;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.data.mongodb.repository.config.EnableReactiveMongoRepositories;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
+import java.util.List;
 
+
+/**
+ * Mongo repositories and the indexes of the {@code players} collection. Indexes are created
+ * explicitly on startup instead of relying on {@code auto-index-creation}, which is off by default.
+ */
 @Configuration
 @EnableReactiveMongoRepositories(basePackages = "cat.itacademy.blackjack.repository.mongo")
 public class MongoConfig {
 
+    private static final Logger logger = LoggerFactory.getLogger(MongoConfig.class);
+
+    /**
+     * Serves the ranking query: its sort follows the leading keys and every field it projects
+     * is part of the key, so Mongo streams the top entries from the index without fetching documents.
+     */
+    public static final String PLAYER_RANKING_INDEX = "player_win_rate";
+
+    /** Ranking index on the raw counters, replaced once {@code winRate} is stored. */
+    private static final String LEGACY_RANKING_INDEX = "player_ranking";
+
+    static final List<IndexDefinition> PLAYER_INDEXES = List.of(
+            new Index().on("name", Sort.Direction.ASC).unique().named("name"),
+            new Index()
+                    .on("winRate", Sort.Direction.DESC)
+                    .on("totalScore", Sort.Direction.DESC)
+                    .on("name", Sort.Direction.ASC)
+                    .on("gamesPlayed", Sort.Direction.ASC)
+                    .on("gamesWon", Sort.Direction.ASC)
+                    .named(PLAYER_RANKING_INDEX)
+    );
+
+    @Bean
+    public CommandLineRunner mongoIndexInitializer(ReactiveMongoTemplate mongoTemplate) {
+        return args -> backfillWinRate(mongoTemplate)
+                .then(dropLegacyRankingIndex(mongoTemplate))
+                .thenMany(Flux.fromIterable(PLAYER_INDEXES))
+                .concatMap(index -> mongoTemplate.indexOps(Player.class).createIndex(index))
+                .collectList()
+                .doOnSuccess(names -> logger.info("Mongo indexes on 'players' created or already exist: {}", names))
+                .doOnError(error -> logger.error("Error creating Mongo indexes on 'players': {}", error.getMessage()))
+                .subscribe();
+    }
+
+    /**
+     * Sets {@code winRate} on players written before it was stored. Idempotent: players that
+     * already have it are skipped.
+     */
+    private Mono<Void> backfillWinRate(ReactiveMongoTemplate mongoTemplate) {
+        return mongoTemplate.updateMulti(Query.query(Criteria.where("winRate").exists(false)),
+                        PlayerStatsUpdates.backfillWinRate(), Player.class)
+                .doOnNext(result -> {
+                    if (result.getModifiedCount() > 0) {
+                        logger.info("Backfilled winRate on {} players", result.getModifiedCount());
+                    }
+                })
+                .then();
+    }
+
+    private Mono<Void> dropLegacyRankingIndex(ReactiveMongoTemplate mongoTemplate) {
+        ReactiveIndexOperations indexOps = mongoTemplate.indexOps(Player.class);
+        return indexOps.getIndexInfo()
+                .filter(index -> LEGACY_RANKING_INDEX.equals(index.getName()))
+                .concatMap(index -> indexOps.dropIndex(index.getName()))
+                .then();
+    }
 }
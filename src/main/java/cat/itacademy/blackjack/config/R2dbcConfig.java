@@ -1,10 +1,80 @@
 package cat.itacademy.blackjack.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import io.r2dbc.spi.Option;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.PropertyMapper;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.r2dbc.repository.config.EnableR2dbcRepositories;
+import org.springframework.util.StringUtils;
 
 @Configuration
 @EnableR2dbcRepositories(basePackages = "cat.itacademy.blackjack.repository.sql")
+@EnableConfigurationProperties({R2dbcProperties.class, R2dbcPoolProperties.class, R2dbcDriverProperties.class})
 public class R2dbcConfig {
 
+    private static final Logger logger = LoggerFactory.getLogger(R2dbcConfig.class);
+
+    @Bean(destroyMethod = "dispose")
+    public MeteredConnectionFactory connectionFactory(R2dbcProperties properties,
+                                                      R2dbcPoolProperties poolProperties,
+                                                      R2dbcDriverProperties driverProperties,
+                                                      MeterRegistry meterRegistry) {
+        ConnectionFactoryOptions parsed = ConnectionFactoryOptions.parse(properties.getUrl());
+        ConnectionFactoryOptions.Builder options = parsed.mutate();
+        if (R2dbcDriverProperties.isPostgres(parsed)) {
+            driverProperties.applyTo(options);
+            logger.info("Postgres driver -> statement cache: {}, pipelining: {}",
+                    driverProperties.statementCacheSize(), driverProperties.pipelining());
+        }
+        if (StringUtils.hasText(properties.getUsername())) {
+            options.option(ConnectionFactoryOptions.USER, properties.getUsername());
+        }
+        if (StringUtils.hasText(properties.getPassword())) {
+            options.option(ConnectionFactoryOptions.PASSWORD, properties.getPassword());
+        }
+        properties.getProperties().forEach((key, value) -> options.option(Option.valueOf(key), value));
+
+        ConnectionPool pool = new ConnectionPool(
+                poolConfiguration(options.build(), properties.getPool(), poolProperties));
+        return new MeteredConnectionFactory(pool, meterRegistry);
+    }
+
+    private ConnectionPoolConfiguration poolConfiguration(ConnectionFactoryOptions options,
+                                                          R2dbcProperties.Pool pool,
+                                                          R2dbcPoolProperties poolProperties) {
+        int cores = Runtime.getRuntime().availableProcessors();
+        int maxSize = poolProperties.resolveMaxSize(pool.getMaxSize(), cores);
+        int initialSize = poolProperties.resolveInitialSize(pool.getInitialSize(), maxSize);
+
+        logger.info("R2DBC pool sizing -> cores: {}, initial: {}, max: {}, validation: {}",
+                cores, initialSize, maxSize,
+                StringUtils.hasText(pool.getValidationQuery()) ? pool.getValidationQuery() : pool.getValidationDepth());
+
+        ConnectionPoolConfiguration.Builder builder = ConnectionPoolConfiguration
+                .builder(ConnectionFactories.get(options))
+                .name("blackjack")
+                .initialSize(initialSize)
+                .maxSize(maxSize)
+                .minIdle(Math.min(pool.getMinIdle(), maxSize))
+                .acquireRetry(pool.getAcquireRetry())
+                .validationDepth(pool.getValidationDepth());
+
+        PropertyMapper map = PropertyMapper.get().alwaysApplyingWhenNonNull();
+        map.from(pool.getMaxIdleTime()).to(builder::maxIdleTime);
+        map.from(pool.getMaxLifeTime()).to(builder::maxLifeTime);
+        map.from(pool.getMaxAcquireTime()).to(builder::maxAcquireTime);
+        map.from(pool.getMaxCreateConnectionTime()).to(builder::maxCreateConnectionTime);
+        map.from(pool.getMaxValidationTime()).to(builder::maxValidationTime);
+        map.from(pool.getValidationQuery()).when(StringUtils::hasText).to(builder::validationQuery);
+        return builder.build();
+    }
 }
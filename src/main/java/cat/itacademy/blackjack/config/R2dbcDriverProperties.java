@@ -0,0 +1,32 @@
+package cat.itacademy.blackjack.config;
+
+import io.r2dbc.postgresql.PostgresqlConnectionFactoryProvider;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Postgres driver settings used by the short statements of each game move.
+ *
+ * @param statementCacheSize named prepared statements cached per connection
+ *                           (-1 unbounded, 0 disables reuse, e.g. behind PgBouncer in transaction mode)
+ * @param pipelining         send Parse/Bind/Execute/Sync in a single flush and disable Nagle;
+ *                           turn off for proxies such as pgpool that need compatibility mode
+ */
+@ConfigurationProperties(prefix = "blackjack.r2dbc.driver")
+public record R2dbcDriverProperties(
+        int statementCacheSize,
+        boolean pipelining
+) {
+
+    public void applyTo(ConnectionFactoryOptions.Builder options) {
+        options.option(PostgresqlConnectionFactoryProvider.PREPARED_STATEMENT_CACHE_QUERIES, statementCacheSize);
+        options.option(PostgresqlConnectionFactoryProvider.COMPATIBILITY_MODE, !pipelining);
+        options.option(PostgresqlConnectionFactoryProvider.TCP_NODELAY, pipelining);
+    }
+
+    public static boolean isPostgres(ConnectionFactoryOptions options) {
+        Object driver = options.getValue(ConnectionFactoryOptions.DRIVER);
+        return PostgresqlConnectionFactoryProvider.POSTGRESQL_DRIVER.equals(driver)
+                || PostgresqlConnectionFactoryProvider.LEGACY_POSTGRESQL_DRIVER.equals(driver);
+    }
+}
@@ -0,0 +1,27 @@
+package cat.itacademy.blackjack.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Extra tuning on top of the standard {@code spring.r2dbc.pool.*} settings.
+ *
+ * @param warmUp             open {@code initial-size} connections before the app reports ready
+ * @param connectionsPerCore when greater than 0, {@code max-size} is derived as cores * this value
+ */
+@ConfigurationProperties(prefix = "blackjack.r2dbc.pool")
+public record R2dbcPoolProperties(
+        boolean warmUp,
+        int connectionsPerCore
+) {
+
+    public int resolveMaxSize(int configuredMaxSize, int availableCores) {
+        if (connectionsPerCore <= 0) {
+            return configuredMaxSize;
+        }
+        return Math.max(1, availableCores * connectionsPerCore);
+    }
+
+    public int resolveInitialSize(int configuredInitialSize, int maxSize) {
+        return Math.min(configuredInitialSize, maxSize);
+    }
+}
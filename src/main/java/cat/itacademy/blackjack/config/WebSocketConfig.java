@@ -0,0 +1,18 @@
+package cat.itacademy.blackjack.config;
+
+import cat.itacademy.blackjack.controller.GameWebSocketHandler;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.reactive.HandlerMapping;
+import org.springframework.web.reactive.handler.SimpleUrlHandlerMapping;
+
+import java.util.Map;
+
+@Configuration
+public class WebSocketConfig {
+
+    @Bean
+    public HandlerMapping gameWebSocketMapping(GameWebSocketHandler gameWebSocketHandler) {
+        return new SimpleUrlHandlerMapping(Map.of("/ws/game", gameWebSocketHandler), -1);
+    }
+}
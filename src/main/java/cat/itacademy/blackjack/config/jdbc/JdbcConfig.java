@@ -0,0 +1,81 @@
+package cat.itacademy.blackjack.config.jdbc;
+
+import cat.itacademy.blackjack.repository.blocking.BlockingPlayerRepository;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.mongo.MongoProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.repository.config.EnableMongoRepositories;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.jdbc.support.JdbcTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+
+/**
+ * Blocking execution mode: {@code GameService} and {@code PlayerService} are served by {@code JdbcGameService} and
+ * {@code JdbcPlayerService}, which read and write Postgres through HikariCP and {@link JdbcClient}, and players through
+ * the sync Mongo driver, each call on a virtual thread of {@link JdbcScheduler}.
+ *
+ * <p>The features outside those two services (WebSocket sessions, audit jobs, leaderboards, cluster LISTEN/NOTIFY)
+ * keep their reactive repositories, so the R2DBC pool and the reactive Mongo client are still created, carrying only
+ * that traffic. The sync Mongo client is configured here rather than by Spring Boot, whose auto-configuration is
+ * excluded in {@code application.yml} so the default mode does not open a second Mongo client.
+ */
+@Configuration
+@Profile("jdbc")
+@EnableConfigurationProperties(JdbcProperties.class)
+@EnableMongoRepositories(basePackageClasses = BlockingPlayerRepository.class)
+public class JdbcConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(JdbcConfig.class);
+
+    @Bean(destroyMethod = "close")
+    public HikariDataSource jdbcDataSource(JdbcProperties properties, MeterRegistry meterRegistry) {
+        HikariConfig config = new HikariConfig();
+        config.setPoolName("blackjack-jdbc");
+        config.setJdbcUrl(properties.url());
+        config.setUsername(properties.username());
+        config.setPassword(properties.password());
+        config.setMaximumPoolSize(properties.maximumPoolSize());
+        config.setConnectionTimeout(properties.connectionTimeout().toMillis());
+        // like the R2DBC pool, start even if the database is not reachable yet
+        config.setInitializationFailTimeout(-1);
+        config.setMetricRegistry(meterRegistry);
+
+        logger.info("JDBC mode -> pool size: {}, game and player services on virtual threads", properties.maximumPoolSize());
+        return new HikariDataSource(config);
+    }
+
+    @Bean
+    public JdbcClient jdbcClient(DataSource jdbcDataSource) {
+        return JdbcClient.create(jdbcDataSource);
+    }
+
+    /**
+     * Not exposed as a transaction manager bean, so the R2DBC one keeps backing {@code TransactionalOperator}.
+     */
+    @Bean
+    public TransactionTemplate jdbcTransactionTemplate(DataSource jdbcDataSource) {
+        return new TransactionTemplate(new JdbcTransactionManager(jdbcDataSource));
+    }
+
+    @Bean(destroyMethod = "close")
+    public MongoClient blockingMongoClient(MongoProperties properties) {
+        return MongoClients.create(properties.determineUri());
+    }
+
+    @Bean
+    public MongoTemplate mongoTemplate(MongoClient blockingMongoClient, MongoProperties properties) {
+        return new MongoTemplate(blockingMongoClient, properties.getMongoClientDatabase());
+    }
+}
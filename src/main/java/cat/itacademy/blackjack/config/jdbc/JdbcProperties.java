@@ -0,0 +1,22 @@
+package cat.itacademy.blackjack.config.jdbc;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Blocking connection settings of the {@code jdbc} profile.
+ *
+ * @param url               JDBC URL of the same Postgres database, e.g. {@code jdbc:postgresql://db:5432/blackjack}
+ * @param maximumPoolSize   HikariCP pool size; calls beyond it wait on a virtual thread, not on an event loop
+ * @param connectionTimeout how long a call waits for a pooled connection before failing
+ */
+@ConfigurationProperties(prefix = "blackjack.jdbc")
+public record JdbcProperties(
+        String url,
+        String username,
+        String password,
+        int maximumPoolSize,
+        Duration connectionTimeout
+) {
+}
@@ -0,0 +1,44 @@
+package cat.itacademy.blackjack.config.jdbc;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+
+/**
+ * Runs the blocking calls of the {@code jdbc} profile (JDBC statements, sync Mongo operations) off the Netty
+ * event loops, each on a new virtual thread. Nothing is queued here: a call waiting for a pooled connection
+ * parks its virtual thread, and the pools' sizes and timeouts decide how many calls run at once.
+ */
+@Component
+@Profile("jdbc")
+public class JdbcScheduler {
+
+    private final Scheduler scheduler = Schedulers.fromExecutorService(
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("jdbc-", 0).factory()), "jdbc");
+
+    /**
+     * Runs {@code work} on a virtual thread; a {@code null} result completes empty.
+     */
+    public <T> Mono<T> call(Callable<T> work) {
+        return Mono.fromCallable(work).subscribeOn(scheduler);
+    }
+
+    /**
+     * Runs {@code work} on a virtual thread and emits the elements of the list it returns.
+     */
+    public <T> Flux<T> callMany(Callable<? extends Iterable<T>> work) {
+        return call(work).flatMapIterable(elements -> elements);
+    }
+
+    @PreDestroy
+    public void dispose() {
+        scheduler.dispose();
+    }
+}
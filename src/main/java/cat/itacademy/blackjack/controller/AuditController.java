@@ -0,0 +1,46 @@
+package cat.itacademy.blackjack.controller;
+
+import cat.itacademy.blackjack.dto.GameVerificationResult;
+import cat.itacademy.blackjack.dto.VerificationJobResponse;
+import cat.itacademy.blackjack.service.audit.GameAuditService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+
+@RestController
+@RequestMapping("/audit")
+@RequiredArgsConstructor
+@Tag(name = "Audit", description = "Replay stored games and check them against their move logs")
+public class AuditController {
+
+    private final GameAuditService gameAuditService;
+
+    @GetMapping("/games/{id}")
+    @Operation(summary = "Verify a game", description = "Replays one game from its initial deck and move log and compares it with the stored row.")
+    public Mono<ResponseEntity<GameVerificationResult>> verifyGame(@PathVariable Long id) {
+        return gameAuditService.verifyGame(id)
+                .map(ResponseEntity::ok);
+    }
+
+    @PostMapping("/verifications")
+    @Operation(summary = "Start a verification", description = "Starts a job that verifies every game in the ID range and returns its ID. Poll the job for progress and mismatches.")
+    public Mono<ResponseEntity<VerificationJobResponse>> start(@RequestParam(defaultValue = "1") long fromId,
+                                                               @RequestParam(defaultValue = "9223372036854775807") long toId) {
+        return Mono.fromCallable(() -> gameAuditService.submit(fromId, toId))
+                .map(job -> ResponseEntity.accepted()
+                        .location(URI.create("/audit/verifications/" + job.id()))
+                        .body(job));
+    }
+
+    @GetMapping("/verifications/{id}")
+    @Operation(summary = "Get verification", description = "Returns the live counters of a verification job and the first mismatches found.")
+    public Mono<ResponseEntity<VerificationJobResponse>> find(@PathVariable String id) {
+        return gameAuditService.find(id)
+                .map(ResponseEntity::ok);
+    }
+}
@@ -0,0 +1,158 @@
+package cat.itacademy.blackjack.controller;
+
+import cat.itacademy.blackjack.dto.GameResponse;
+import cat.itacademy.blackjack.service.cluster.GameChangedEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Encoded JSON bodies of finished games. A finished game never changes, so its {@link GameResponse}
+ * is serialized once, when it finishes or on its first read, and later reads write the stored bytes
+ * without loading, mapping or encoding the game again.
+ *
+ * <p>The cache is bounded by the total size of the bodies; when full, the games that were cached
+ * first are evicted first. A game deleted on this node is evicted by the controller, one deleted on
+ * another node when its cluster notification arrives.
+ */
+@Component
+public class FinishedGameResponses {
+
+    private static final Logger logger = LoggerFactory.getLogger(FinishedGameResponses.class);
+
+    private final ObjectMapper objectMapper;
+    private final long maxBytes;
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+    private final Queue<Long> insertionOrder = new ConcurrentLinkedQueue<>();
+    private final AtomicLong bytes = new AtomicLong();
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter evictions;
+
+    public FinishedGameResponses(ObjectMapper objectMapper,
+                                 @Value("${blackjack.games.response-cache-size:16MB}") DataSize maxSize,
+                                 MeterRegistry meterRegistry) {
+        this.objectMapper = objectMapper;
+        this.maxBytes = maxSize.toBytes();
+        this.hits = Counter.builder("blackjack.game.cache.gets")
+                .description("Finished-game detail reads served from the encoded response cache")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.misses = Counter.builder("blackjack.game.cache.gets")
+                .description("Finished-game detail reads served from the encoded response cache")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        this.evictions = Counter.builder("blackjack.game.cache.evictions")
+                .description("Encoded finished-game responses evicted to stay under the size limit")
+                .register(meterRegistry);
+        Gauge.builder("blackjack.game.cache.size", entries, Map::size)
+                .description("Finished games held in the encoded response cache")
+                .register(meterRegistry);
+        Gauge.builder("blackjack.game.cache.bytes", bytes, AtomicLong::get)
+                .description("Total size of the encoded finished-game responses")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    /**
+     * The cached body of a finished game, or null. Only found entries are counted, as hits;
+     * a read that had to load a finished game is counted by {@link #putAfterMiss}.
+     */
+    public Entry get(Long gameId) {
+        Entry entry = entries.get(gameId);
+        if (entry != null) {
+            hits.increment();
+        }
+        return entry;
+    }
+
+    /**
+     * Caches a game that has just finished. The entry is returned even if it was too large to keep.
+     */
+    public Entry put(GameResponse game, String etag) {
+        Entry entry = entries.get(game.id());
+        if (entry != null) {
+            return entry;
+        }
+        entry = new Entry(encode(game), etag);
+        if (entry.body().length <= maxBytes && entries.putIfAbsent(game.id(), entry) == null) {
+            insertionOrder.add(game.id());
+            if (bytes.addAndGet(entry.body().length) > maxBytes) {
+                evictOldest();
+            }
+        }
+        return entry;
+    }
+
+    public Entry putAfterMiss(GameResponse game, String etag) {
+        misses.increment();
+        return put(game, etag);
+    }
+
+    public void evict(Long gameId) {
+        Entry removed = entries.remove(gameId);
+        if (removed != null) {
+            insertionOrder.remove(gameId);
+            bytes.addAndGet(-removed.body().length);
+        }
+    }
+
+    @EventListener
+    public void onRemoteChange(GameChangedEvent event) {
+        if (event.deleted()) {
+            logger.debug("Game {} deleted by node {}, evicting its cached response", event.id(), event.origin());
+            evict(event.id());
+        }
+    }
+
+    private void evictOldest() {
+        Long oldest;
+        while (bytes.get() > maxBytes && (oldest = insertionOrder.poll()) != null) {
+            Entry removed = entries.remove(oldest);
+            if (removed != null) {
+                bytes.addAndGet(-removed.body().length);
+                evictions.increment();
+            }
+        }
+    }
+
+    private byte[] encode(GameResponse game) {
+        try {
+            return objectMapper.writeValueAsBytes(game);
+        } catch (JsonProcessingException e) {
+            logger.error("Failed to encode finished game {}", game.id(), e);
+            throw new IllegalStateException("Failed to encode game " + game.id(), e);
+        }
+    }
+
+    /**
+     * @param body the JSON body exactly as the Jackson encoder would write it
+     * @param etag the ETag of the finished game
+     */
+    public record Entry(byte[] body, String etag) {
+
+        /**
+         * Wraps the stored bytes read-only, without copying them.
+         */
+        public DataBuffer asDataBuffer() {
+            return DefaultDataBufferFactory.sharedInstance.wrap(ByteBuffer.wrap(body).asReadOnlyBuffer());
+        }
+    }
+}
@@ -1,27 +1,49 @@
 package cat.itacademy.blackjack.controller;
 
+import cat.itacademy.blackjack.dto.AdviceResponse;
+import cat.itacademy.blackjack.dto.AutoplayRequest;
+import cat.itacademy.blackjack.dto.AutoplaySummary;
+import cat.itacademy.blackjack.dto.BulkMoveRequest;
+import cat.itacademy.blackjack.dto.GameBatchRequest;
+import cat.itacademy.blackjack.dto.GameEvent;
+import cat.itacademy.blackjack.dto.GameOddsResponse;
 import cat.itacademy.blackjack.dto.GameRequest;
 import cat.itacademy.blackjack.dto.GameResponse;
+import cat.itacademy.blackjack.dto.MoveResult;
+import cat.itacademy.blackjack.model.GameStatus;
 import cat.itacademy.blackjack.service.GameService;
 import cat.itacademy.blackjack.service.PlayerService;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.web.bind.annotation.*;
 import reactor.core.publisher.Mono;
 import reactor.core.publisher.Flux;
 
+import java.time.Duration;
+
 @RestController
 @RequestMapping("/game")
 @RequiredArgsConstructor
 @Tag(name = "Game", description = "Endpoints related to the game of Blackjack")
 public class GameController {
 
+    private static final Duration KEEP_ALIVE_INTERVAL = Duration.ofSeconds(15);
+    private static final String EXPAND_PLAYER = "player";
+
     private final GameService gameService;
     private final PlayerService playerService;
+    private final FinishedGameResponses finishedGames;
 
     @PostMapping("/new")
     @Operation(summary = "Create new game", description = "Creates a new game for a given player.")
@@ -30,24 +52,52 @@ public class GameController {
                 .map(game -> ResponseEntity.status(HttpStatus.CREATED).body(game));
     }
 
+    @PostMapping(value = "/batch", produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    @ResponseStatus(HttpStatus.CREATED)
+    @Operation(summary = "Create games in batch", description = "Creates one game per player name (e.g. a tournament round). Games are streamed back as they are inserted.")
+    public Flux<GameResponse> createGames(@Valid @RequestBody GameBatchRequest request) {
+        return gameService.createGames(request.playerNames());
+    }
+
     @GetMapping("/details/{id}")
-    @Operation(summary = "Get game details", description = "Retrieves details of a specific game by its ID.")
-    public Mono<ResponseEntity<GameResponse>> getGameById(@PathVariable("id") Long gameId) {
+    @Operation(summary = "Get game details",
+            description = "Retrieves details of a specific game by its ID. Finished games are cacheable for a minute; "
+                    + "send the ETag back in If-None-Match to get 304 Not Modified.")
+    @ApiResponse(responseCode = "200", content = @Content(schema = @Schema(implementation = GameResponse.class)))
+    public Mono<ResponseEntity<?>> getGameById(@PathVariable("id") Long gameId,
+                                               @RequestHeader HttpHeaders headers) {
+        boolean json = HttpCaching.prefersJson(headers.getAccept());
+        FinishedGameResponses.Entry cached = gameId == null || !json ? null : finishedGames.get(gameId);
+        if (cached != null) {
+            return Mono.just(finishedGame(cached));
+        }
         return gameService.getGameById(gameId)
-                .map(ResponseEntity::ok);
+                .map(game -> {
+                    boolean finished = game.status() != GameStatus.IN_PROGRESS;
+                    if (finished && json) {
+                        return finishedGame(finishedGames.putAfterMiss(game, HttpCaching.gameETag(game)));
+                    }
+                    return ResponseEntity.ok()
+                            .eTag(HttpCaching.gameETag(game))
+                            .cacheControl(finished ? HttpCaching.FINISHED_GAME : HttpCaching.REVALIDATE)
+                            .varyBy(HttpHeaders.ACCEPT)
+                            .body(game);
+                });
     }
 
     @DeleteMapping("/delete/{id}")
     @Operation(summary = "Delete a game", description = "Deletes a specific game by its ID.")
     public Mono<ResponseEntity<Void>> deleteGame(@PathVariable("id") Long gameId) {
         return gameService.deleteGame(gameId)
+                .doOnSuccess(deleted -> finishedGames.evict(gameId))
                 .thenReturn(ResponseEntity.noContent().build());
     }
 
     @GetMapping("/all")
-    @Operation(summary = "List all games", description = "Returns a list of all games.")
-    public Flux<GameResponse> getAllGames() {
-        return gameService.getAllGames();
+    @Operation(summary = "List all games",
+            description = "Returns a list of all games. Use expand=player to embed the player's name and stats.")
+    public Flux<GameResponse> getAllGames(@RequestParam(name = "expand", required = false) String expand) {
+        return gameService.getAllGames(EXPAND_PLAYER.equalsIgnoreCase(expand));
     }
 
 
@@ -55,6 +105,7 @@ public class GameController {
 @Operation(summary = "Hit", description = "Plays a player turn.")
 public Mono<ResponseEntity<GameResponse>> hit(@PathVariable Long id) {
     return gameService.hit(id)
+            .doOnNext(this::cacheIfFinished)
             .map(ResponseEntity::ok);
 }
 
@@ -62,8 +113,64 @@ public Mono<ResponseEntity<GameResponse>> hit(@PathVariable Long id) {
     @Operation(summary = "Stand", description = "Player stands and the dealer plays the  turn.")
     public Mono<ResponseEntity<GameResponse>> stand(@PathVariable Long id) {
         return gameService.stand(id)
+                .doOnNext(this::cacheIfFinished)
                 .map(ResponseEntity::ok);
     }
 
-}
+    @GetMapping("/{id}/odds")
+    @Operation(summary = "Dealer odds", description = "Dealer final-total distribution given the dealer's upcard and the unseen cards, and the result probabilities if the player stands now. Use exact=false for the infinite-deck table.")
+    public Mono<ResponseEntity<GameOddsResponse>> getOdds(@PathVariable Long id,
+                                                          @RequestParam(defaultValue = "true") boolean exact) {
+        return gameService.getOdds(id, exact)
+                .map(ResponseEntity::ok);
+    }
+
+    @GetMapping("/{id}/advice")
+    @Operation(summary = "Strategy advice", description = "Recommends HIT or STAND for the current scores, from precomputed strategy tables.")
+    public Mono<ResponseEntity<AdviceResponse>> getAdvice(@PathVariable Long id) {
+        return gameService.getAdvice(id)
+                .map(ResponseEntity::ok);
+    }
 
+    @PostMapping(value = "/moves", produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    @Operation(summary = "Bulk moves", description = "Plays a list of (gameId, action) moves. Moves of the same game run in request order; each move gets its own result or error.")
+    public Flux<MoveResult> playMoves(@Valid @RequestBody BulkMoveRequest request) {
+        return gameService.playMoves(request.moves());
+    }
+
+    @PostMapping(value = "/autoplay", produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    @Operation(summary = "Auto-play", description = "Plays whole games on the server for a player with the given strategy. Streams running totals after every saved batch.")
+    public Flux<AutoplaySummary> autoplay(@Valid @RequestBody AutoplayRequest request) {
+        return gameService.autoplay(request.playerName(), request.strategy(), request.games());
+    }
+
+    @GetMapping(value = "/{id}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Game events", description = "Streams the current game state followed by a delta after every move. Completes when the game ends.")
+    public Flux<ServerSentEvent<GameEvent>> streamEvents(@PathVariable Long id) {
+        return gameService.streamEvents(id)
+                .map(event -> ServerSentEvent.builder(event)
+                        .event(event.type().name())
+                        .build())
+                .publish(events -> Flux.merge(
+                        events,
+                        Flux.interval(KEEP_ALIVE_INTERVAL)
+                                .map(tick -> ServerSentEvent.<GameEvent>builder().comment("keep-alive").build())
+                                .takeUntilOther(events.then())
+                ));
+    }
+
+    private void cacheIfFinished(GameResponse game) {
+        if (game.status() != GameStatus.IN_PROGRESS) {
+            finishedGames.put(game, HttpCaching.gameETag(game));
+        }
+    }
+
+    private static ResponseEntity<DataBuffer> finishedGame(FinishedGameResponses.Entry entry) {
+        return ResponseEntity.ok()
+                .eTag(entry.etag())
+                .cacheControl(HttpCaching.FINISHED_GAME)
+                .varyBy(HttpHeaders.ACCEPT)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(entry.asDataBuffer());
+    }
+}
@@ -0,0 +1,105 @@
+package cat.itacademy.blackjack.controller;
+
+import cat.itacademy.blackjack.dto.GameEvent;
+import cat.itacademy.blackjack.dto.GameSocketCommand;
+import cat.itacademy.blackjack.dto.GameSocketError;
+import cat.itacademy.blackjack.exception.InvalidGameStateException;
+import cat.itacademy.blackjack.service.session.GameSession;
+import cat.itacademy.blackjack.service.session.GameSessionService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.socket.WebSocketHandler;
+import org.springframework.web.reactive.socket.WebSocketMessage;
+import org.springframework.web.reactive.socket.WebSocketSession;
+import reactor.core.publisher.Mono;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Gameplay channel at {@code /ws/game}. Each text frame is a {@link GameSocketCommand};
+ * each reply is a {@link GameEvent} delta or a {@link GameSocketError}.
+ * Commands of one connection are processed in order, and the games it touches stay
+ * deserialized in memory until they finish or the connection closes.
+ */
+@Component
+@RequiredArgsConstructor
+public class GameWebSocketHandler implements WebSocketHandler {
+
+    private static final Logger logger = LoggerFactory.getLogger(GameWebSocketHandler.class);
+
+    private final GameSessionService gameSessionService;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public Mono<Void> handle(WebSocketSession session) {
+        Map<Long, GameSession> games = new HashMap<>();
+        logger.info("Gameplay WebSocket opened: {}", session.getId());
+
+        return session.send(session.receive()
+                        .map(WebSocketMessage::getPayloadAsText)
+                        .concatMap(payload -> handleCommand(payload, games))
+                        .map(session::textMessage))
+                .doFinally(signal -> {
+                    games.values().forEach(gameSessionService::close);
+                    logger.info("Gameplay WebSocket closed: {} ({})", session.getId(), signal);
+                });
+    }
+
+    private Mono<String> handleCommand(String payload, Map<Long, GameSession> games) {
+        GameSocketCommand command;
+        try {
+            command = objectMapper.readValue(payload, GameSocketCommand.class);
+        } catch (JsonProcessingException e) {
+            return Mono.just(toJson(new GameSocketError(null, "Malformed command")));
+        }
+
+        Long gameId = command.gameId();
+        return Mono.justOrEmpty(gameId == null ? null : games.get(gameId))
+                .switchIfEmpty(Mono.defer(() -> gameSessionService.open(gameId)
+                        .doOnNext(opened -> games.put(gameId, opened))))
+                .flatMap(gameSession -> execute(command.action(), gameSession))
+                .doOnNext(event -> {
+                    if (event.isFinal()) {
+                        close(games, gameId);
+                    }
+                })
+                .map(this::toJson)
+                .onErrorResume(RuntimeException.class, e -> {
+                    logger.warn("WebSocket command {} failed for game {}: {}", command.action(), gameId, e.getMessage());
+                    close(games, gameId);
+                    return Mono.just(toJson(new GameSocketError(gameId, e.getMessage())));
+                });
+    }
+
+    private void close(Map<Long, GameSession> games, Long gameId) {
+        GameSession gameSession = gameId == null ? null : games.remove(gameId);
+        if (gameSession != null) {
+            gameSessionService.close(gameSession);
+        }
+    }
+
+    private Mono<GameEvent> execute(String action, GameSession gameSession) {
+        if (action == null) {
+            return Mono.error(new InvalidGameStateException("Action must not be null"));
+        }
+        return switch (action.toUpperCase()) {
+            case "OPEN" -> Mono.just(gameSessionService.snapshot(gameSession));
+            case "HIT" -> gameSessionService.hit(gameSession);
+            case "STAND" -> gameSessionService.stand(gameSession);
+            default -> Mono.error(new InvalidGameStateException("Unknown action: " + action));
+        };
+    }
+
+    private String toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("WebSocket reply serialization failed", e);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package cat.itacademy.blackjack.controller;
+
+import cat.itacademy.blackjack.dto.GameResponse;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * ETags and {@code Cache-Control} for read endpoints. A matching {@code If-None-Match} is answered
+ * with {@code 304 Not Modified} by WebFlux before the body is serialized. Responses vary by {@code Accept},
+ * since the same resource can be sent as JSON or CBOR.
+ */
+final class HttpCaching {
+
+    /**
+     * Finished games never change again, but they can still be deleted, so shared caches keep them
+     * only briefly before revalidating instead of treating them as immutable.
+     */
+    static final CacheControl FINISHED_GAME = CacheControl.maxAge(Duration.ofMinutes(1)).cachePublic();
+
+    /** Cached copies must be revalidated, which is a cheap 304 while the ETag still matches. */
+    static final CacheControl REVALIDATE = CacheControl.noCache();
+
+    private HttpCaching() {
+    }
+
+    /**
+     * A game only moves forward (a hit adds a player card, a stand adds dealer cards and finishes it),
+     * so its id, card counts and status identify every state it goes through. The tag is weak because
+     * the JSON and CBOR bodies of one state share it.
+     */
+    static String gameETag(GameResponse game) {
+        return "W/\"game-" + game.id() + "-" + size(game.playerCards()) + "-" + size(game.dealerCards())
+                + "-" + game.status() + "\"";
+    }
+
+    /**
+     * Whether JSON is the preferred format of an {@code Accept} header, so a stored JSON body can be sent.
+     * JSON wins ties, as it does in content negotiation.
+     */
+    static boolean prefersJson(List<MediaType> accept) {
+        if (accept.isEmpty()) {
+            return true;
+        }
+        double json = quality(accept, MediaType.APPLICATION_JSON);
+        return json > 0 && json >= quality(accept, MediaType.APPLICATION_CBOR);
+    }
+
+    static String contentETag(String prefix, List<?> body) {
+        return "W/\"" + prefix + "-" + body.size() + "-" + Integer.toHexString(body.hashCode()) + "\"";
+    }
+
+    private static double quality(List<MediaType> accept, MediaType type) {
+        return accept.stream()
+                .filter(range -> range.includes(type))
+                .mapToDouble(MediaType::getQualityValue)
+                .max()
+                .orElse(0);
+    }
+
+    private static int size(List<?> cards) {
+        return cards == null ? 0 : cards.size();
+    }
+}
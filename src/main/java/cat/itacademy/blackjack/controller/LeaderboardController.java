@@ -0,0 +1,45 @@
+package cat.itacademy.blackjack.controller;
+
+import cat.itacademy.blackjack.dto.LeaderboardResponse;
+import cat.itacademy.blackjack.model.LeaderboardWindow;
+import cat.itacademy.blackjack.service.leaderboard.LeaderboardService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequestMapping("/leaderboard")
+@RequiredArgsConstructor
+@Tag(name = "Leaderboard", description = "Daily, weekly and all-time rankings served from periodic snapshots")
+public class LeaderboardController {
+
+    private final LeaderboardService leaderboardService;
+
+    @GetMapping("/{window}")
+    @Operation(summary = "Get a leaderboard",
+            description = "Returns the latest snapshot of the daily, weekly or all-time leaderboard. "
+                    + "Send the ETag back in If-None-Match to get 304 Not Modified while it has not changed.")
+    public Mono<ResponseEntity<LeaderboardResponse>> getLeaderboard(@PathVariable String window,
+                                                                    @RequestParam(required = false) Integer limit) {
+        LeaderboardWindow leaderboardWindow;
+        try {
+            leaderboardWindow = LeaderboardWindow.fromPath(window);
+        } catch (IllegalArgumentException e) {
+            return Mono.error(new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Window must be one of daily, weekly, all-time"));
+        }
+        int size = limit == null ? leaderboardService.size() : Math.clamp(limit, 1, leaderboardService.size());
+
+        return leaderboardService.snapshot(leaderboardWindow)
+                .map(snapshot -> ResponseEntity.ok()
+                        .eTag(snapshot.etag(size))
+                        .varyBy(HttpHeaders.ACCEPT)
+                        .body(snapshot.top(size)));
+    }
+}
@@ -9,12 +9,15 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("/player")
 @RequiredArgsConstructor
@@ -58,9 +61,17 @@ public class PlayerController {
     }
 
     @GetMapping("/ranking")
-    @Operation(summary = "Player ranking", description = "Returns players ranked by win rate and score")
-    public Flux<PlayerRankingResponse> getRanking() {
-        return playerService.getRanking();
+    @Operation(summary = "Player ranking",
+            description = "Returns the top players ranked by win rate and score. limit defaults to 100 and is capped at 1000. "
+                    + "Send the ETag back in If-None-Match to get 304 Not Modified while the ranking is unchanged.")
+    public Mono<ResponseEntity<List<PlayerRankingResponse>>> getRanking(@RequestParam(name = "limit", required = false) Integer limit) {
+        return playerService.getRanking(limit)
+                .collectList()
+                .map(ranking -> ResponseEntity.ok()
+                        .eTag(HttpCaching.contentETag("ranking", ranking))
+                        .cacheControl(HttpCaching.REVALIDATE)
+                        .varyBy(HttpHeaders.ACCEPT)
+                        .body(ranking));
     }
 
     @PutMapping("/{id}")
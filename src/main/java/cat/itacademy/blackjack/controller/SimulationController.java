@@ -0,0 +1,39 @@
+package cat.itacademy.blackjack.controller;
+
+import cat.itacademy.blackjack.dto.SimulationJobResponse;
+import cat.itacademy.blackjack.dto.SimulationRequest;
+import cat.itacademy.blackjack.service.simulation.SimulationJobService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+
+@RestController
+@RequestMapping("/simulation")
+@RequiredArgsConstructor
+@Tag(name = "Simulation", description = "Offline Monte Carlo analyses of the game rules")
+public class SimulationController {
+
+    private final SimulationJobService simulationJobService;
+
+    @PostMapping
+    @Operation(summary = "Start a simulation", description = "Starts a Monte Carlo simulation job and returns its ID. Poll the job until it is COMPLETED.")
+    public Mono<ResponseEntity<SimulationJobResponse>> start(@Valid @RequestBody SimulationRequest request) {
+        return Mono.fromCallable(() -> simulationJobService.submit(request))
+                .map(job -> ResponseEntity.accepted()
+                        .location(URI.create("/simulation/" + job.id()))
+                        .body(job));
+    }
+
+    @GetMapping("/{id}")
+    @Operation(summary = "Get simulation", description = "Returns the status of a simulation job and its result once completed.")
+    public Mono<ResponseEntity<SimulationJobResponse>> find(@PathVariable String id) {
+        return simulationJobService.find(id)
+                .map(ResponseEntity::ok);
+    }
+}
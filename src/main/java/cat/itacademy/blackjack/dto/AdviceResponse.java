@@ -0,0 +1,26 @@
+package cat.itacademy.blackjack.dto;
+
+import cat.itacademy.blackjack.model.GameAction;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Recommended move for a game in progress")
+public record AdviceResponse(
+
+        @Schema(description = "Game ID", example = "123")
+        Long gameId,
+
+        @Schema(description = "Player's current score", example = "15")
+        int playerScore,
+
+        @Schema(description = "Dealer's current score", example = "20")
+        int dealerScore,
+
+        @Schema(description = "Recommended move", example = "HIT")
+        GameAction action,
+
+        @Schema(description = "Expected result per unit bet if the player hits and keeps following the advice", example = "-0.45")
+        double hitExpectedValue,
+
+        @Schema(description = "Expected result per unit bet if the player stands now", example = "-1.0")
+        double standExpectedValue
+) {}
@@ -0,0 +1,26 @@
+package cat.itacademy.blackjack.dto;
+
+import cat.itacademy.blackjack.model.AutoplayStrategy;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+
+@Schema(description = "Games to play on the server on behalf of a player")
+public record AutoplayRequest(
+
+        @Schema(description = "Player the games belong to", example = "bot-1")
+        @NotBlank(message = "Player name must not be blank")
+        String playerName,
+
+        @Schema(description = "Decision strategy", example = "BASIC")
+        @NotNull(message = "Strategy must not be null")
+        AutoplayStrategy strategy,
+
+        @Schema(description = "Number of games to play", example = "1000")
+        @NotNull(message = "Number of games must not be null")
+        @Min(value = 1, message = "At least one game must be played")
+        @Max(value = 10000, message = "At most 10000 games can be played per request")
+        Integer games
+) {}
@@ -0,0 +1,47 @@
+package cat.itacademy.blackjack.dto;
+
+import cat.itacademy.blackjack.model.AutoplayStrategy;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Running totals of an auto-play request, emitted after every persisted batch")
+public record AutoplaySummary(
+
+        @Schema(description = "Player name", example = "bot-1")
+        String playerName,
+
+        @Schema(description = "Strategy used", example = "BASIC")
+        AutoplayStrategy strategy,
+
+        @Schema(description = "Games requested", example = "1000")
+        int gamesRequested,
+
+        @Schema(description = "Games played and saved so far", example = "500")
+        int gamesPlayed,
+
+        @Schema(description = "Games won by the player", example = "210")
+        int wins,
+
+        @Schema(description = "Games won by the dealer", example = "250")
+        int losses,
+
+        @Schema(description = "Draws", example = "40")
+        int draws,
+
+        @Schema(description = "Net result in units, one unit bet per game", example = "-40")
+        int net,
+
+        @Schema(description = "True on the last summary", example = "false")
+        boolean completed
+) {
+
+    public static AutoplaySummary start(String playerName, AutoplayStrategy strategy, int gamesRequested) {
+        return new AutoplaySummary(playerName, strategy, gamesRequested, 0, 0, 0, 0, 0, false);
+    }
+
+    public AutoplaySummary add(int wins, int losses, int draws) {
+        int played = gamesPlayed + wins + losses + draws;
+        return new AutoplaySummary(playerName, strategy, gamesRequested, played,
+                this.wins + wins, this.losses + losses, this.draws + draws,
+                net + wins - losses, played >= gamesRequested);
+    }
+}
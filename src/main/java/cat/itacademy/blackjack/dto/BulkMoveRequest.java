@@ -0,0 +1,14 @@
+package cat.itacademy.blackjack.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record BulkMoveRequest(
+        @NotEmpty(message = "Moves must not be empty")
+        @Size(max = 1000, message = "A bulk submission can contain at most 1000 moves")
+        List<@Valid @NotNull(message = "Move must not be null") MoveRequest> moves
+) {}
@@ -0,0 +1,13 @@
+package cat.itacademy.blackjack.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record GameBatchRequest(
+        @NotEmpty(message = "Player names must not be empty")
+        @Size(max = 1000, message = "A batch can create at most 1000 games")
+        List<@NotBlank(message = "Player name must not be blank") String> playerNames
+) {}
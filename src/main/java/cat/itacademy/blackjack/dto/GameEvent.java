@@ -0,0 +1,69 @@
+package cat.itacademy.blackjack.dto;
+
+import cat.itacademy.blackjack.model.GameEventType;
+import cat.itacademy.blackjack.model.GameStatus;
+import cat.itacademy.blackjack.model.GameTurn;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "Change in a game's state. SNAPSHOT carries the full hands, HIT and STAND only the new cards")
+@JsonInclude(JsonInclude.Include.NON_EMPTY)
+public record GameEvent(
+
+        @Schema(description = "Game ID", example = "123")
+        Long gameId,
+
+        @Schema(description = "Type of event", example = "HIT")
+        GameEventType type,
+
+        @ArraySchema(schema = @Schema(implementation = CardResponseDTO.class),
+                arraySchema = @Schema(description = "Player cards added by this event"))
+        List<CardResponseDTO> playerCards,
+
+        @ArraySchema(schema = @Schema(implementation = CardResponseDTO.class),
+                arraySchema = @Schema(description = "Dealer cards added by this event"))
+        List<CardResponseDTO> dealerCards,
+
+        @Schema(description = "Player score after the event", example = "19")
+        int playerScore,
+
+        @Schema(description = "Dealer score after the event", example = "18")
+        int dealerScore,
+
+        @Schema(description = "Status after the event", example = "IN_PROGRESS")
+        GameStatus status,
+
+        @Schema(description = "Turn after the event", example = "PLAYER_TURN")
+        GameTurn turn,
+
+        @Schema(description = "Move-log seq of the last move included in the event", example = "4")
+        int seq
+
+) {
+
+    public static GameEvent snapshot(GameResponse game, int seq) {
+        return new GameEvent(game.id(), GameEventType.SNAPSHOT, game.playerCards(), game.dealerCards(),
+                game.playerScore(), game.dealerScore(), game.status(), game.turn(), seq);
+    }
+
+    /**
+     * Seq the game must be at for this delta to apply: a hit logs one move, a stand one per dealer card plus the stand.
+     */
+    @JsonIgnore
+    public int previousSeq() {
+        return switch (type) {
+            case SNAPSHOT -> seq;
+            case HIT -> seq - 1;
+            case STAND -> seq - dealerCards.size() - 1;
+        };
+    }
+
+    @JsonIgnore
+    public boolean isFinal() {
+        return status != GameStatus.IN_PROGRESS;
+    }
+}
@@ -0,0 +1,31 @@
+package cat.itacademy.blackjack.dto;
+
+import cat.itacademy.blackjack.model.CardValue;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.Map;
+
+@Schema(description = "Dealer outcome probabilities for a game in progress")
+public record GameOddsResponse(
+
+        @Schema(description = "Game ID", example = "123")
+        Long gameId,
+
+        @Schema(description = "Dealer's upcard", example = "TEN")
+        CardValue dealerUpcard,
+
+        @Schema(description = "Dealer's current score, from both visible cards", example = "16")
+        int dealerScore,
+
+        @Schema(description = "Player's current score", example = "16")
+        int playerScore,
+
+        @Schema(description = "True when computed from the exact unseen cards, false for the infinite-deck table", example = "true")
+        boolean exact,
+
+        @Schema(description = "Dealer final total (UNDER_17, 17..21, BUST) -> probability")
+        Map<String, Double> dealerOutcomes,
+
+        @Schema(description = "Result probabilities if the player stands now")
+        StandOdds stand
+) {}
@@ -2,6 +2,7 @@ package cat.itacademy.blackjack.dto;
 
 import cat.itacademy.blackjack.model.GameStatus;
 import cat.itacademy.blackjack.model.GameTurn;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Schema;
 
@@ -38,6 +39,10 @@ public record GameResponse(
 
         @ArraySchema(schema = @Schema(implementation = CardResponseDTO.class),
                 arraySchema = @Schema(description = "List of cards held by the dealer"))
-        List<CardResponseDTO> dealerCards
+        List<CardResponseDTO> dealerCards,
+
+        @Schema(description = "Player name and stats, only present when requested with expand=player")
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        PlayerSummary player
 
 ) {}
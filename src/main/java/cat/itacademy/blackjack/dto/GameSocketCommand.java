@@ -0,0 +1,10 @@
+package cat.itacademy.blackjack.dto;
+
+/**
+ * Command sent by a client over the gameplay WebSocket, e.g. {@code {"action":"HIT","gameId":1}}.
+ * Supported actions: OPEN, HIT, STAND.
+ */
+public record GameSocketCommand(
+        String action,
+        Long gameId
+) {}
@@ -0,0 +1,6 @@
+package cat.itacademy.blackjack.dto;
+
+public record GameSocketError(
+        Long gameId,
+        String error
+) {}
@@ -0,0 +1,41 @@
+package cat.itacademy.blackjack.dto;
+
+import cat.itacademy.blackjack.model.GameStatus;
+import cat.itacademy.blackjack.model.VerificationOutcome;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "Stored state of a game compared with the state recomputed from its initial deck and move log")
+public record GameVerificationResult(
+
+        @Schema(description = "Game ID", example = "42")
+        Long gameId,
+
+        @Schema(description = "Whether the replay matches the stored row", example = "MATCH")
+        VerificationOutcome outcome,
+
+        @Schema(description = "Moves replayed, up to the stored snapshot", example = "4")
+        int movesReplayed,
+
+        @Schema(description = "Stored status", example = "FINISHED_PLAYER_WON")
+        GameStatus storedStatus,
+
+        @Schema(description = "Recomputed status", example = "FINISHED_PLAYER_WON")
+        GameStatus replayedStatus,
+
+        @Schema(description = "Stored player score", example = "20")
+        int storedPlayerScore,
+
+        @Schema(description = "Recomputed player score", example = "20")
+        Integer replayedPlayerScore,
+
+        @Schema(description = "Stored dealer score", example = "19")
+        int storedDealerScore,
+
+        @Schema(description = "Recomputed dealer score", example = "19")
+        Integer replayedDealerScore,
+
+        @Schema(description = "Why the game could not be replayed, if it could not")
+        String error
+) {}
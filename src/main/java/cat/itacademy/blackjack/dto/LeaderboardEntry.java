@@ -0,0 +1,29 @@
+package cat.itacademy.blackjack.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "One player's position in a leaderboard window")
+public record LeaderboardEntry(
+
+        @Schema(description = "Position, starting at 1", example = "1")
+        int rank,
+
+        @Schema(description = "MongoDB player ID", example = "64d7a98dfb13")
+        String playerId,
+
+        @Schema(description = "Player name, null if the player was deleted", example = "John")
+        String name,
+
+        @Schema(description = "Finished games in the window", example = "12")
+        int gamesPlayed,
+
+        @Schema(description = "Games won in the window", example = "7")
+        int gamesWon,
+
+        @Schema(description = "gamesWon / gamesPlayed", example = "0.5833")
+        double winRate,
+
+        @Schema(description = "Sum of the player's final scores in the window", example = "214")
+        long totalScore
+
+) {}
@@ -0,0 +1,24 @@
+package cat.itacademy.blackjack.dto;
+
+import cat.itacademy.blackjack.model.LeaderboardWindow;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Schema(description = "Leaderboard snapshot of one time window")
+public record LeaderboardResponse(
+
+        @Schema(description = "Time window", example = "DAILY")
+        LeaderboardWindow window,
+
+        @Schema(description = "First game creation time included, null for all time", type = "string", format = "date-time")
+        LocalDateTime since,
+
+        @Schema(description = "When this snapshot was computed", type = "string", format = "date-time")
+        LocalDateTime generatedAt,
+
+        @Schema(description = "Players ranked by win rate, then total score")
+        List<LeaderboardEntry> entries
+
+) {}
@@ -0,0 +1,16 @@
+package cat.itacademy.blackjack.dto;
+
+import cat.itacademy.blackjack.model.GameAction;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+
+@Schema(description = "A single move of a bulk submission")
+public record MoveRequest(
+        @Schema(description = "Game the move applies to", example = "123")
+        @NotNull(message = "Game ID must not be null")
+        Long gameId,
+
+        @Schema(description = "Move to play", example = "HIT")
+        @NotNull(message = "Action must not be null")
+        GameAction action
+) {}
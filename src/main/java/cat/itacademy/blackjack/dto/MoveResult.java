@@ -0,0 +1,40 @@
+package cat.itacademy.blackjack.dto;
+
+import cat.itacademy.blackjack.model.GameAction;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "Outcome of one move of a bulk submission: the game state after the move, or the error")
+public record MoveResult(
+
+        @Schema(description = "Position of the move in the request", example = "0")
+        int index,
+
+        @Schema(description = "Game the move applies to", example = "123")
+        Long gameId,
+
+        @Schema(description = "Move played", example = "HIT")
+        GameAction action,
+
+        @Schema(description = "Game state right after the move")
+        GameResponse game,
+
+        @Schema(description = "Why the move was rejected", example = "Game is already finished or not in player's turn.")
+        String error
+) {
+
+    public static MoveResult applied(int index, MoveRequest move, GameResponse game) {
+        return new MoveResult(index, move.gameId(), move.action(), game, null);
+    }
+
+    public static MoveResult rejected(int index, MoveRequest move, String error) {
+        return new MoveResult(index, move.gameId(), move.action(), null, error);
+    }
+
+    @JsonIgnore
+    public boolean isApplied() {
+        return error == null;
+    }
+}
@@ -0,0 +1,30 @@
+package cat.itacademy.blackjack.dto;
+
+import cat.itacademy.blackjack.model.Player;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Player name and stats embedded in a game when requested with expand=player")
+public record PlayerSummary(
+
+        @Schema(description = "MongoDB player ID", example = "64d7a98dfb13")
+        String id,
+
+        @Schema(description = "Player name", example = "John")
+        String name,
+
+        @Schema(description = "Accumulated score", example = "120")
+        int totalScore,
+
+        @Schema(description = "Games played", example = "10")
+        int gamesPlayed,
+
+        @Schema(description = "Games won", example = "6")
+        int gamesWon
+
+) {
+
+    public static PlayerSummary from(Player player) {
+        return new PlayerSummary(player.getId(), player.getName(),
+                player.getTotalScore(), player.getGamesPlayed(), player.getGamesWon());
+    }
+}
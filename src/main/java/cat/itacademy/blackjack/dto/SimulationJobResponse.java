@@ -0,0 +1,31 @@
+package cat.itacademy.blackjack.dto;
+
+import cat.itacademy.blackjack.model.SimulationJobStatus;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "State of a simulation job")
+public record SimulationJobResponse(
+
+        @Schema(description = "Job ID", example = "4f1c2a9e-8d7b-4c55-9a0e-2f5c1b7d3e61")
+        String id,
+
+        @Schema(description = "Job status", example = "COMPLETED")
+        SimulationJobStatus status,
+
+        @Schema(description = "Hands requested", example = "100000000")
+        long hands,
+
+        @Schema(description = "Seed used, to reproduce the run", example = "42")
+        long seed,
+
+        @Schema(description = "Wall-clock time of the run, once finished", example = "5400")
+        Long elapsedMillis,
+
+        @Schema(description = "Result, once completed")
+        SimulationResult result,
+
+        @Schema(description = "Failure reason, if failed")
+        String error
+) {}
@@ -0,0 +1,44 @@
+package cat.itacademy.blackjack.dto;
+
+import cat.itacademy.blackjack.service.simulation.SimulationRules;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+@Schema(description = "Monte Carlo simulation parameters. Omitted rules default to the live game.")
+public record SimulationRequest(
+
+        @Schema(description = "Hands to play", example = "100000000")
+        @NotNull(message = "Number of hands must not be null")
+        @Min(value = 1, message = "At least one hand must be simulated")
+        @Max(value = 1_000_000_000L, message = "At most 1000000000 hands can be simulated per job")
+        Long hands,
+
+        @Schema(description = "Decks in the shoe, reshuffled every hand", example = "1")
+        @Min(value = 1, message = "At least one deck is required")
+        @Max(value = 8, message = "At most 8 decks are supported")
+        Integer decks,
+
+        @Schema(description = "Dealer draws while below this total", example = "17")
+        @Min(value = 12, message = "Dealer must stand on 12 or more")
+        @Max(value = 21, message = "Dealer must stand on 21 or less")
+        Integer dealerStandsOn,
+
+        @Schema(description = "Simulated player hits while below this total", example = "17")
+        @Min(value = 2, message = "Player must stand on 2 or more")
+        @Max(value = 22, message = "Player must stand on 22 or less")
+        Integer playerStandsOn,
+
+        @Schema(description = "Random seed; the same seed always gives the same result", example = "42")
+        Long seed
+) {
+
+    public SimulationRules toRules() {
+        SimulationRules live = SimulationRules.LIVE_GAME;
+        return new SimulationRules(
+                decks != null ? decks : live.decks(),
+                dealerStandsOn != null ? dealerStandsOn : live.dealerStandsOn(),
+                playerStandsOn != null ? playerStandsOn : live.playerStandsOn());
+    }
+}
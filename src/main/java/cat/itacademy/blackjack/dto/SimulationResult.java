@@ -0,0 +1,33 @@
+package cat.itacademy.blackjack.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.Map;
+
+@Schema(description = "Aggregated outcome of a simulation")
+public record SimulationResult(
+
+        @Schema(description = "Hands played", example = "100000000")
+        long hands,
+
+        @Schema(description = "Hands won by the player", example = "41000000")
+        long playerWins,
+
+        @Schema(description = "Hands won by the dealer", example = "50000000")
+        long dealerWins,
+
+        @Schema(description = "Pushes", example = "9000000")
+        long draws,
+
+        @Schema(description = "Hands where the player went over 21", example = "28000000")
+        long playerBusts,
+
+        @Schema(description = "House edge per unit bet with even-money payouts", example = "0.09")
+        double houseEdge,
+
+        @Schema(description = "Share of dealer turns ending over 21", example = "0.28")
+        double dealerBustRate,
+
+        @Schema(description = "Dealer final total -> probability, over hands where the dealer played")
+        Map<Integer, Double> dealerFinalTotals
+) {}
@@ -0,0 +1,16 @@
+package cat.itacademy.blackjack.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Probabilities of each result if the player stands now")
+public record StandOdds(
+
+        @Schema(description = "Probability the player wins", example = "0.42")
+        double win,
+
+        @Schema(description = "Probability of a draw", example = "0.08")
+        double draw,
+
+        @Schema(description = "Probability the dealer wins", example = "0.50")
+        double lose
+) {}
@@ -0,0 +1,45 @@
+package cat.itacademy.blackjack.dto;
+
+import cat.itacademy.blackjack.model.VerificationJobStatus;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "Progress of a game verification job; counters are live while it runs")
+public record VerificationJobResponse(
+
+        @Schema(description = "Job ID", example = "4f1c2a9e-8d7b-4c55-9a0e-2f5c1b7d3e61")
+        String id,
+
+        @Schema(description = "Job status", example = "COMPLETED")
+        VerificationJobStatus status,
+
+        @Schema(description = "First game ID of the range", example = "1")
+        long fromId,
+
+        @Schema(description = "Last game ID of the range", example = "9223372036854775807")
+        long toId,
+
+        @Schema(description = "Games checked so far", example = "2500000")
+        long checked,
+
+        @Schema(description = "Games whose replay matches the stored row", example = "2499990")
+        long matched,
+
+        @Schema(description = "Games whose replay does not match the stored row", example = "2")
+        long mismatched,
+
+        @Schema(description = "Games without an initial deck, created before decks were recorded", example = "8")
+        long unverifiable,
+
+        @Schema(description = "Wall-clock time so far, or of the whole run once finished", example = "41000")
+        long elapsedMillis,
+
+        @Schema(description = "First mismatches found, up to blackjack.audit.max-reported-mismatches")
+        List<GameVerificationResult> mismatches,
+
+        @Schema(description = "Failure reason, if failed")
+        String error
+) {}
@@ -5,6 +5,7 @@ import jakarta.validation.ConstraintViolationException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.core.annotation.Order;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -37,7 +38,8 @@ public class GlobalExceptionHandler {
         );
     }
 
-    @ExceptionHandler({PlayerNotFoundException.class, GameNotFoundException.class})
+    @ExceptionHandler({PlayerNotFoundException.class, GameNotFoundException.class, SimulationNotFoundException.class,
+            VerificationNotFoundException.class})
     public ResponseEntity<ErrorResponse> handleNotFound(RuntimeException ex, ServerWebExchange exchange) {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(
                 buildErrorResponse(HttpStatus.NOT_FOUND, "Not Found", ex.getMessage(), exchange.getRequest().getPath().value())
@@ -127,6 +129,13 @@ public class GlobalExceptionHandler {
         );
     }
 
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorResponse> handleOptimisticLocking(OptimisticLockingFailureException ex, ServerWebExchange exchange) {
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(
+                buildErrorResponse(HttpStatus.CONFLICT, "Conflict", "The game was modified concurrently, please retry.", exchange.getRequest().getPath().value())
+        );
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ErrorResponse> handleAllExceptions(Exception ex, ServerWebExchange exchange) {
         logger.error("Unexpected error occurred", ex);
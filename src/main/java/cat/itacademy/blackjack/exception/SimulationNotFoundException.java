@@ -0,0 +1,13 @@
+package cat.itacademy.blackjack.exception;
+
+import java.io.Serial;
+
+public class SimulationNotFoundException extends RuntimeException {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    public SimulationNotFoundException(String id) {
+        super("Simulation with id '" + id + "' not found.");
+    }
+}
@@ -0,0 +1,13 @@
+package cat.itacademy.blackjack.exception;
+
+import java.io.Serial;
+
+public class VerificationNotFoundException extends RuntimeException {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    public VerificationNotFoundException(String id) {
+        super("Verification with id '" + id + "' not found.");
+    }
+}
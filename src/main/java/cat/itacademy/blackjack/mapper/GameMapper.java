@@ -14,5 +14,6 @@ public interface GameMapper {
 
     @Mapping(source = "playerCards", target = "playerCards", qualifiedByName = "toDtoList")
     @Mapping(source = "dealerCards", target = "dealerCards", qualifiedByName = "toDtoList")
+    @Mapping(target = "player", ignore = true)
     GameResponse toResponse(Games game, List<Card> playerCards, List<Card> dealerCards);
 }
\ No newline at end of file
@@ -14,6 +14,7 @@ public interface PlayerMapper {
     @Mapping(target = "gamesPlayed", constant = "0")
     @Mapping(target = "gamesWon", constant = "0")
     @Mapping(target = "totalScore", constant = "0")
+    @Mapping(target = "winRate", constant = "0")
     @Mapping(target = "createdAt", expression = "java(java.time.LocalDateTime.now())")
     Player toEntity(PlayerRequest request);
 
@@ -0,0 +1,13 @@
+package cat.itacademy.blackjack.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "How an auto-played hand decides between hit and stand")
+public enum AutoplayStrategy {
+    /** Follows the basic-strategy tables. */
+    BASIC,
+    /** Hits below 17, like the dealer. */
+    MIMIC_DEALER,
+    /** Hits only while no card can bust the hand (below 11). */
+    NEVER_BUST
+}
@@ -0,0 +1,9 @@
+package cat.itacademy.blackjack.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Move a player can make on their turn")
+public enum GameAction {
+    HIT,
+    STAND
+}
@@ -0,0 +1,10 @@
+package cat.itacademy.blackjack.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Kind of change carried by a game event")
+public enum GameEventType {
+    SNAPSHOT,
+    HIT,
+    STAND
+}
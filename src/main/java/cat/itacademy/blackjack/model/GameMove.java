@@ -0,0 +1,44 @@
+package cat.itacademy.blackjack.model;
+
+/**
+ * One row of the append-only {@code game_events} log. {@code seq} starts at 1 for each game, and
+ * {@code card} is the drawn card packed into one byte ({@code suit * 13 + value}, {@code null} for STAND).
+ * A stand is logged as the dealer's draws followed by the STAND that resolves the game.
+ */
+public record GameMove(
+        Long gameId,
+        int seq,
+        GameMoveType type,
+        Byte card
+) {
+
+    private static final int VALUES = CardValue.values().length;
+
+    public static GameMove hit(Card card) {
+        return new GameMove(null, 0, GameMoveType.HIT, encode(card));
+    }
+
+    public static GameMove dealerDraw(Card card) {
+        return new GameMove(null, 0, GameMoveType.DEALER_DRAW, encode(card));
+    }
+
+    public static GameMove stand() {
+        return new GameMove(null, 0, GameMoveType.STAND, null);
+    }
+
+    public GameMove at(Long gameId, int seq) {
+        return new GameMove(gameId, seq, type, card);
+    }
+
+    public Card toCard() {
+        return card == null ? null : decode(card);
+    }
+
+    public static byte encode(Card card) {
+        return (byte) (card.getSuit().ordinal() * VALUES + card.getValue().ordinal());
+    }
+
+    public static Card decode(byte code) {
+        return new Card(CardSuit.values()[code / VALUES], CardValue.values()[code % VALUES]);
+    }
+}
@@ -0,0 +1,10 @@
+package cat.itacademy.blackjack.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Kind of entry in a game's move log")
+public enum GameMoveType {
+    HIT,
+    DEALER_DRAW,
+    STAND
+}
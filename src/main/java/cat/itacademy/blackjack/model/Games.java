@@ -4,6 +4,7 @@ import jakarta.validation.constraints.NotNull;
 import lombok.*;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.annotation.Transient;
+import org.springframework.data.annotation.Version;
 import org.springframework.data.relational.core.mapping.Column;
 import org.springframework.data.relational.core.mapping.Table;
 
@@ -21,6 +22,10 @@ public class Games {
     @Id
     private Long id;
 
+    @Version
+    @Column("version")
+    private Long version;
+
     @NotNull
     @Column("player_id")
     private String playerId;
@@ -55,6 +60,18 @@ public class Games {
     @Column("dealer_cards_json")
     private String dealerCardsJson;
 
+    /** Deck the game was dealt from, one byte per card, so it can be replayed from the start. */
+    @Column("initial_deck")
+    private byte[] initialDeck;
+
+    /** Last {@code game_events} seq folded into this row; later moves are replayed on load. */
+    @Column("event_seq")
+    private int eventSeq;
+
+    /** Last {@code game_events} seq applied to this instance, i.e. {@code eventSeq} plus replayed moves. */
+    @Transient
+    private int lastSeq;
+
     @Transient
     private List<Card> playerCards;
 
@@ -0,0 +1,40 @@
+package cat.itacademy.blackjack.model;
+
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.temporal.TemporalAdjusters;
+
+/**
+ * Time buckets of the leaderboard, by {@code Games.createdAt}. Daily and weekly buckets are
+ * calendar-aligned (midnight, Monday) so everybody sees the same reset time.
+ */
+public enum LeaderboardWindow {
+
+    DAILY,
+    WEEKLY,
+    ALL_TIME;
+
+    /**
+     * First creation time included in the bucket that contains {@code now}, or {@code null} for all time.
+     */
+    public LocalDateTime since(LocalDateTime now) {
+        return switch (this) {
+            case DAILY -> now.toLocalDate().atStartOfDay();
+            case WEEKLY -> now.toLocalDate().with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)).atStartOfDay();
+            case ALL_TIME -> null;
+        };
+    }
+
+    public String path() {
+        return name().toLowerCase().replace('_', '-');
+    }
+
+    public static LeaderboardWindow fromPath(String path) {
+        for (LeaderboardWindow window : values()) {
+            if (window.path().equalsIgnoreCase(path)) {
+                return window;
+            }
+        }
+        throw new IllegalArgumentException("Unknown leaderboard window '" + path + "'");
+    }
+}
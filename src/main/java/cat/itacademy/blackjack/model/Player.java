@@ -21,6 +21,7 @@ public class Player {
     private int totalScore;
     private int gamesPlayed;
     private int gamesWon;
+    private double winRate;
 
     private LocalDateTime createdAt;
 }
\ No newline at end of file
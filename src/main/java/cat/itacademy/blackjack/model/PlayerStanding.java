@@ -0,0 +1,11 @@
+package cat.itacademy.blackjack.model;
+
+/**
+ * Results of one player's finished games within a leaderboard window.
+ */
+public record PlayerStanding(String playerId, int gamesPlayed, int gamesWon, long totalScore) {
+
+    public double winRate() {
+        return gamesPlayed == 0 ? 0.0 : (double) gamesWon / gamesPlayed;
+    }
+}
@@ -0,0 +1,13 @@
+package cat.itacademy.blackjack.model;
+
+/**
+ * The columns of a {@code games} row needed to verify it, without the JSON hands and deck.
+ */
+public record StoredGame(
+        Long id,
+        GameStatus status,
+        int playerScore,
+        int dealerScore,
+        int eventSeq,
+        byte[] initialDeck
+) {}
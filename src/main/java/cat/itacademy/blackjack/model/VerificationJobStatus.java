@@ -0,0 +1,10 @@
+package cat.itacademy.blackjack.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Lifecycle of a game verification job")
+public enum VerificationJobStatus {
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
@@ -0,0 +1,10 @@
+package cat.itacademy.blackjack.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Result of replaying a stored game")
+public enum VerificationOutcome {
+    MATCH,
+    MISMATCH,
+    UNVERIFIABLE
+}
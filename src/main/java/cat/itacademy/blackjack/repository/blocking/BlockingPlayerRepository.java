@@ -0,0 +1,30 @@
+package cat.itacademy.blackjack.repository.blocking;
+
+import cat.itacademy.blackjack.config.MongoConfig;
+import cat.itacademy.blackjack.dto.PlayerRankingResponse;
+import cat.itacademy.blackjack.model.Player;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * {@code PlayerRepository} on the sync Mongo driver, for the {@code jdbc} profile. Enabled by {@code JdbcConfig}.
+ */
+public interface BlockingPlayerRepository extends MongoRepository<Player, String> {
+
+    Optional<Player> findByName(String name);
+
+    List<Player> findByNameIn(Collection<String> names);
+
+    /**
+     * Same query as {@code PlayerRepository#findRanking}, served from {@link MongoConfig#PLAYER_RANKING_INDEX}.
+     */
+    @Query(value = "{}",
+            fields = "{ _id: 0, name: 1, gamesPlayed: 1, gamesWon: 1, winRate: 1, totalScore: 1 }",
+            sort = "{ winRate: -1, totalScore: -1 }")
+    List<PlayerRankingResponse> findRanking(Limit limit);
+}
@@ -0,0 +1,95 @@
+package cat.itacademy.blackjack.repository.blocking;
+
+import cat.itacademy.blackjack.model.GameMove;
+import cat.itacademy.blackjack.model.GameMoveType;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.stereotype.Repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Blocking access to {@code game_events} for the {@code jdbc} profile. As in {@code GameMoveRepository}, the
+ * {@code (game_id, seq)} primary key serializes concurrent moves: the second writer of a seq fails with a
+ * {@code DuplicateKeyException}.
+ */
+@Repository
+@Profile("jdbc")
+public class JdbcGameMoveRepository {
+
+    private static final String INSERT_PREFIX = "INSERT INTO game_events (game_id, seq, action, card) VALUES ";
+    private static final String SELECT_PENDING = "SELECT e.game_id, e.seq, e.action, e.card FROM game_events e "
+            + "JOIN games g ON g.id = e.game_id WHERE e.seq > g.event_seq";
+
+    private final JdbcClient jdbcClient;
+
+    public JdbcGameMoveRepository(JdbcClient jdbcClient) {
+        this.jdbcClient = jdbcClient;
+    }
+
+    /**
+     * Inserts all moves with one multi-row statement; either all of them are appended or none.
+     */
+    public void appendAll(List<GameMove> moves) {
+        if (moves.isEmpty()) {
+            return;
+        }
+
+        List<Object> params = new ArrayList<>(moves.size() * 4);
+        for (GameMove move : moves) {
+            params.add(move.gameId());
+            params.add(move.seq());
+            params.add(move.type().name());
+            params.add(move.card() == null ? null : move.card().shortValue());
+        }
+        jdbcClient.sql(INSERT_PREFIX + String.join(", ", Collections.nCopies(moves.size(), "(?, ?, ?, ?)")))
+                .params(params)
+                .update();
+    }
+
+    /**
+     * Moves of one game logged after {@code seq}, in order.
+     */
+    public List<GameMove> findAfter(Long gameId, int seq) {
+        return jdbcClient.sql("SELECT game_id, seq, action, card FROM game_events WHERE game_id = ? AND seq > ? ORDER BY seq")
+                .params(gameId, seq)
+                .query(JdbcGameMoveRepository::toMove)
+                .list();
+    }
+
+    /**
+     * Moves not yet folded into the snapshot row of each of the given games, ordered by game and seq.
+     */
+    public List<GameMove> findPending(Collection<Long> gameIds) {
+        if (gameIds.isEmpty()) {
+            return List.of();
+        }
+        return jdbcClient.sql(SELECT_PENDING + " AND e.game_id IN (:ids) ORDER BY e.game_id, e.seq")
+                .param("ids", gameIds)
+                .query(JdbcGameMoveRepository::toMove)
+                .list();
+    }
+
+    /**
+     * Moves not yet folded into the snapshot row of any game, ordered by game and seq.
+     */
+    public List<GameMove> findAllPending() {
+        return jdbcClient.sql(SELECT_PENDING + " ORDER BY e.game_id, e.seq")
+                .query(JdbcGameMoveRepository::toMove)
+                .list();
+    }
+
+    private static GameMove toMove(ResultSet row, int rowNum) throws SQLException {
+        short card = row.getShort("card");
+        return new GameMove(
+                row.getLong("game_id"),
+                row.getInt("seq"),
+                GameMoveType.valueOf(row.getString("action")),
+                row.wasNull() ? null : (byte) card);
+    }
+}
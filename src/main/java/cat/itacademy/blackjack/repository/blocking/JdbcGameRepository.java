@@ -0,0 +1,186 @@
+package cat.itacademy.blackjack.repository.blocking;
+
+import cat.itacademy.blackjack.model.GameStatus;
+import cat.itacademy.blackjack.model.GameTurn;
+import cat.itacademy.blackjack.model.Games;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Blocking access to the {@code games} rows for the {@code jdbc} profile, with the same statements as
+ * {@code GameRepository}: inserts start at version 0, and snapshot updates only overwrite older snapshots.
+ */
+@Repository
+@Profile("jdbc")
+public class JdbcGameRepository {
+
+    private static final String COLUMNS = "id, version, event_seq, player_id, created_at, status, turn, player_score, "
+            + "dealer_score, deck_json, player_cards_json, dealer_cards_json, initial_deck";
+    private static final String INSERT = "INSERT INTO games (version, player_id, created_at, status, turn, player_score, "
+            + "dealer_score, deck_json, player_cards_json, dealer_cards_json, event_seq, initial_deck) VALUES (0, :playerId, "
+            + ":createdAt, :status, :turn, :playerScore, :dealerScore, :deckJson, :playerCardsJson, :dealerCardsJson, "
+            + ":eventSeq, :initialDeck)";
+    private static final String UPDATE_SNAPSHOT = "UPDATE games SET version = version + 1, event_seq = :lastSeq, "
+            + "status = :status, turn = :turn, player_score = :playerScore, dealer_score = :dealerScore, deck_json = :deckJson, "
+            + "player_cards_json = :playerCardsJson, dealer_cards_json = :dealerCardsJson WHERE id = :id AND event_seq < :lastSeq";
+
+    private final JdbcClient jdbcClient;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public JdbcGameRepository(JdbcClient jdbcClient, DataSource jdbcDataSource) {
+        this.jdbcClient = jdbcClient;
+        this.jdbcTemplate = new NamedParameterJdbcTemplate(jdbcDataSource);
+    }
+
+    public Optional<Games> findById(Long id) {
+        return jdbcClient.sql("SELECT " + COLUMNS + " FROM games WHERE id = :id")
+                .param("id", id)
+                .query(JdbcGameRepository::toGame)
+                .optional();
+    }
+
+    public List<Games> findAllById(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return jdbcClient.sql("SELECT " + COLUMNS + " FROM games WHERE id IN (:ids)")
+                .param("ids", ids)
+                .query(JdbcGameRepository::toGame)
+                .list();
+    }
+
+    public List<Games> findAll() {
+        return jdbcClient.sql("SELECT " + COLUMNS + " FROM games")
+                .query(JdbcGameRepository::toGame)
+                .list();
+    }
+
+    /**
+     * Inserts {@code game} and sets its id and version.
+     */
+    public Games insert(Games game) {
+        KeyHolder keys = new GeneratedKeyHolder();
+        jdbcClient.sql(INSERT)
+                .paramSource(insertParams(game))
+                .update(keys, "id");
+        game.setId(keys.getKeyAs(Long.class));
+        game.setVersion(0L);
+        return game;
+    }
+
+    /**
+     * Inserts all games with one JDBC batch and sets their ids and versions. The driver returns the generated
+     * keys in the order the batch ran, which is the order of {@code games}.
+     */
+    public List<Games> insertAll(List<Games> games) {
+        if (games.isEmpty()) {
+            return games;
+        }
+
+        KeyHolder keys = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(INSERT, games.stream().map(JdbcGameRepository::insertParams).toArray(SqlParameterSource[]::new),
+                keys, new String[]{"id"});
+        List<Map<String, Object>> ids = keys.getKeyList();
+        if (ids.size() != games.size()) {
+            throw new IllegalStateException("Inserted " + ids.size() + " of " + games.size() + " games");
+        }
+        for (int row = 0; row < games.size(); row++) {
+            games.get(row).setId(((Number) ids.get(row).get("id")).longValue());
+            games.get(row).setVersion(0L);
+        }
+        return games;
+    }
+
+    /**
+     * Writes each game as the snapshot at its {@code lastSeq}, unless a snapshot at that seq or later is already stored.
+     *
+     * @return ids of the games whose row was written
+     */
+    public Set<Long> updateAll(List<Games> games) {
+        if (games.isEmpty()) {
+            return Set.of();
+        }
+
+        int[] counts = jdbcTemplate.batchUpdate(UPDATE_SNAPSHOT, games.stream()
+                .map(game -> new MapSqlParameterSource()
+                        .addValue("id", game.getId())
+                        .addValue("lastSeq", game.getLastSeq())
+                        .addValue("status", game.getStatus().name())
+                        .addValue("turn", game.getTurn().name())
+                        .addValue("playerScore", game.getPlayerScore())
+                        .addValue("dealerScore", game.getDealerScore())
+                        .addValue("deckJson", game.getDeckJson())
+                        .addValue("playerCardsJson", game.getPlayerCardsJson())
+                        .addValue("dealerCardsJson", game.getDealerCardsJson()))
+                .toArray(SqlParameterSource[]::new));
+        Set<Long> written = new HashSet<>();
+        for (int row = 0; row < counts.length; row++) {
+            if (counts[row] > 0) {
+                written.add(games.get(row).getId());
+            }
+        }
+        return written;
+    }
+
+    /**
+     * Deletes the game and, through the foreign key, its move log.
+     *
+     * @return whether the game existed
+     */
+    public boolean deleteById(Long id) {
+        return jdbcClient.sql("DELETE FROM games WHERE id = :id")
+                .param("id", id)
+                .update() > 0;
+    }
+
+    private static SqlParameterSource insertParams(Games game) {
+        return new MapSqlParameterSource()
+                .addValue("playerId", game.getPlayerId())
+                .addValue("createdAt", game.getCreatedAt())
+                .addValue("status", game.getStatus().name())
+                .addValue("turn", game.getTurn().name())
+                .addValue("playerScore", game.getPlayerScore())
+                .addValue("dealerScore", game.getDealerScore())
+                .addValue("deckJson", game.getDeckJson())
+                .addValue("playerCardsJson", game.getPlayerCardsJson())
+                .addValue("dealerCardsJson", game.getDealerCardsJson())
+                .addValue("eventSeq", game.getEventSeq())
+                .addValue("initialDeck", game.getInitialDeck(), Types.BINARY);
+    }
+
+    private static Games toGame(ResultSet row, int rowNum) throws SQLException {
+        return Games.builder()
+                .id(row.getLong("id"))
+                .version(row.getLong("version"))
+                .eventSeq(row.getInt("event_seq"))
+                .playerId(row.getString("player_id"))
+                .createdAt(row.getObject("created_at", LocalDateTime.class))
+                .status(GameStatus.valueOf(row.getString("status")))
+                .turn(GameTurn.valueOf(row.getString("turn")))
+                .playerScore(row.getInt("player_score"))
+                .dealerScore(row.getInt("dealer_score"))
+                .deckJson(row.getString("deck_json"))
+                .playerCardsJson(row.getString("player_cards_json"))
+                .dealerCardsJson(row.getString("dealer_cards_json"))
+                .initialDeck(row.getBytes("initial_deck"))
+                .build();
+    }
+}
@@ -1,12 +1,32 @@
 package cat.itacademy.blackjack.repository.mongo;
 
+import cat.itacademy.blackjack.config.MongoConfig;
+import cat.itacademy.blackjack.dto.PlayerRankingResponse;
 import cat.itacademy.blackjack.model.Player;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.mongodb.repository.Query;
 import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
 import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.Collection;
+
 @Repository
 public interface PlayerRepository extends ReactiveMongoRepository<Player, String> {
 
     Mono<Player> findByName(String name);
+
+    Flux<Player> findByNameIn(Collection<String> names);
+
+    /**
+     * Top {@code limit} players by stored win rate, then total score. The sort matches the leading keys of
+     * {@link MongoConfig#PLAYER_RANKING_INDEX}, which also holds every projected field, so the planner streams
+     * documents from the index and stops after {@code limit} entries. No hint: the index is created
+     * asynchronously on startup, and a hint on a missing index fails the query instead of sorting in memory.
+     */
+    @Query(value = "{}",
+            fields = "{ _id: 0, name: 1, gamesPlayed: 1, gamesWon: 1, winRate: 1, totalScore: 1 }",
+            sort = "{ winRate: -1, totalScore: -1 }")
+    Flux<PlayerRankingResponse> findRanking(Limit limit);
 }
\ No newline at end of file
@@ -0,0 +1,37 @@
+package cat.itacademy.blackjack.repository.mongo;
+
+import org.springframework.data.mongodb.core.aggregation.AggregationExpression;
+import org.springframework.data.mongodb.core.aggregation.AggregationUpdate;
+import org.springframework.data.mongodb.core.aggregation.ArithmeticOperators;
+import org.springframework.data.mongodb.core.aggregation.ComparisonOperators;
+import org.springframework.data.mongodb.core.aggregation.ConditionalOperators;
+
+/**
+ * Pipeline updates on {@code players} that keep {@code winRate} consistent with the counters.
+ * Each {@code set} is its own {@code $set} stage, so the win rate is computed from the counters
+ * already incremented by the previous stage, all within one atomic document update.
+ */
+public final class PlayerStatsUpdates {
+
+    private PlayerStatsUpdates() {
+    }
+
+    public static AggregationUpdate recordResults(int played, long won, long score) {
+        return AggregationUpdate.update()
+                .set("gamesPlayed").toValue(ArithmeticOperators.valueOf("gamesPlayed").add(played))
+                .set("gamesWon").toValue(ArithmeticOperators.valueOf("gamesWon").add(won))
+                .set("totalScore").toValue(ArithmeticOperators.valueOf("totalScore").add(score))
+                .set("winRate").toValue(winRate());
+    }
+
+    public static AggregationUpdate backfillWinRate() {
+        return AggregationUpdate.update()
+                .set("winRate").toValue(winRate());
+    }
+
+    private static AggregationExpression winRate() {
+        return ConditionalOperators.when(ComparisonOperators.valueOf("gamesPlayed").equalToValue(0))
+                .then(0.0)
+                .otherwise(ArithmeticOperators.valueOf("gamesWon").divideBy("gamesPlayed"));
+    }
+}
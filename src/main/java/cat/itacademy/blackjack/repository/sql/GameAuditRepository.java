@@ -0,0 +1,54 @@
+package cat.itacademy.blackjack.repository.sql;
+
+import cat.itacademy.blackjack.model.GameStatus;
+import cat.itacademy.blackjack.model.StoredGame;
+import io.r2dbc.spi.Readable;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reads {@code games} rows for verification, in id order and one keyset page at a time,
+ * so a scan over the whole table never holds more than one page per query.
+ */
+@Repository
+public class GameAuditRepository {
+
+    private static final String SELECT = "SELECT id, status, player_score, dealer_score, event_seq, initial_deck FROM games";
+
+    private final DatabaseClient databaseClient;
+
+    public GameAuditRepository(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    public Mono<StoredGame> findById(Long id) {
+        return databaseClient.sql(SELECT + " WHERE id = $1")
+                .bind(0, id)
+                .map(GameAuditRepository::toStoredGame)
+                .one();
+    }
+
+    /**
+     * Up to {@code limit} games with {@code afterId < id <= toId}, ordered by id.
+     */
+    public Flux<StoredGame> findPage(long afterId, long toId, int limit) {
+        return databaseClient.sql(SELECT + " WHERE id > $1 AND id <= $2 ORDER BY id LIMIT $3")
+                .bind(0, afterId)
+                .bind(1, toId)
+                .bind(2, limit)
+                .map(GameAuditRepository::toStoredGame)
+                .all();
+    }
+
+    private static StoredGame toStoredGame(Readable row) {
+        return new StoredGame(
+                row.get("id", Long.class),
+                GameStatus.valueOf(row.get("status", String.class)),
+                row.get("player_score", Integer.class),
+                row.get("dealer_score", Integer.class),
+                row.get("event_seq", Integer.class),
+                row.get("initial_deck", byte[].class));
+    }
+}
@@ -0,0 +1,21 @@
+package cat.itacademy.blackjack.repository.sql;
+
+import cat.itacademy.blackjack.model.Games;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+
+public interface GameBatchRepository {
+
+    /**
+     * Inserts all games with one multi-row statement and returns them with their generated ids, in input order.
+     */
+    Flux<Games> insertAll(List<Games> games);
+
+    /**
+     * Writes all games as snapshots at their {@code lastSeq} with one multi-row statement. A row is only
+     * overwritten by a newer snapshot, so emits the ids actually updated; a missing id means a snapshot
+     * at the same or a later seq was already written.
+     */
+    Flux<Long> updateAll(List<Games> games);
+}
@@ -0,0 +1,130 @@
+package cat.itacademy.blackjack.repository.sql;
+
+import cat.itacademy.blackjack.model.Games;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+import java.util.Map;
+
+public class GameBatchRepositoryImpl implements GameBatchRepository {
+
+    private static final String INSERT_COLUMNS = "player_id, created_at, status, turn, player_score, dealer_score, "
+            + "deck_json, player_cards_json, dealer_cards_json, event_seq, initial_deck";
+    private static final String[] INSERT_TYPES =
+            {"varchar", "timestamp", "varchar", "varchar", "int", "int", "text", "text", "text", "int", "bytea"};
+    private static final String[] UPDATE_TYPES =
+            {"bigint", "int", "varchar", "varchar", "int", "int", "text", "text", "text"};
+
+    private final DatabaseClient databaseClient;
+
+    public GameBatchRepositoryImpl(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    @Override
+    public Flux<Games> insertAll(List<Games> games) {
+        if (games.isEmpty()) {
+            return Flux.empty();
+        }
+
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(insertSql(games.size()));
+        for (int row = 0; row < games.size(); row++) {
+            Games game = games.get(row);
+            int offset = row * INSERT_TYPES.length;
+            spec = spec.bind(offset, game.getPlayerId())
+                    .bind(offset + 1, game.getCreatedAt())
+                    .bind(offset + 2, game.getStatus().name())
+                    .bind(offset + 3, game.getTurn().name())
+                    .bind(offset + 4, game.getPlayerScore())
+                    .bind(offset + 5, game.getDealerScore())
+                    .bind(offset + 6, game.getDeckJson())
+                    .bind(offset + 7, game.getPlayerCardsJson())
+                    .bind(offset + 8, game.getDealerCardsJson())
+                    .bind(offset + 9, game.getEventSeq());
+            spec = game.getInitialDeck() == null
+                    ? spec.bindNull(offset + 10, byte[].class)
+                    : spec.bind(offset + 10, game.getInitialDeck());
+        }
+
+        return spec.map(row -> Map.entry(row.get("ord", Integer.class), row.get("id", Long.class)))
+                .all()
+                .doOnNext(inserted -> {
+                    Games game = games.get(inserted.getKey());
+                    game.setId(inserted.getValue());
+                    game.setVersion(0L);
+                })
+                .count()
+                .flatMapMany(inserted -> inserted == games.size()
+                        ? Flux.fromIterable(games)
+                        : Flux.error(new IllegalStateException("Inserted " + inserted + " of " + games.size() + " games")));
+    }
+
+    @Override
+    public Flux<Long> updateAll(List<Games> games) {
+        if (games.isEmpty()) {
+            return Flux.empty();
+        }
+
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(updateSql(games.size()));
+        for (int row = 0; row < games.size(); row++) {
+            Games game = games.get(row);
+            int offset = row * UPDATE_TYPES.length;
+            spec = spec.bind(offset, game.getId())
+                    .bind(offset + 1, game.getLastSeq())
+                    .bind(offset + 2, game.getStatus().name())
+                    .bind(offset + 3, game.getTurn().name())
+                    .bind(offset + 4, game.getPlayerScore())
+                    .bind(offset + 5, game.getDealerScore())
+                    .bind(offset + 6, game.getDeckJson())
+                    .bind(offset + 7, game.getPlayerCardsJson())
+                    .bind(offset + 8, game.getDealerCardsJson());
+        }
+        return spec.map(row -> row.get("id", Long.class)).all();
+    }
+
+    /**
+     * Ids are drawn with {@code nextval} next to each row's position in the input, and that position is
+     * returned with the id: Postgres does not promise to draw a serial column's values in {@code VALUES} order.
+     */
+    static String insertSql(int rows) {
+        StringBuilder sql = new StringBuilder("WITH v (ord, ").append(INSERT_COLUMNS).append(") AS (VALUES ");
+        for (int row = 0; row < rows; row++) {
+            if (row > 0) {
+                sql.append(", ");
+            }
+            sql.append('(').append(row);
+            for (int param = 0; param < INSERT_TYPES.length; param++) {
+                sql.append(", $").append(row * INSERT_TYPES.length + param + 1).append("::").append(INSERT_TYPES[param]);
+            }
+            sql.append(')');
+        }
+        return sql.append("), numbered AS (SELECT nextval(pg_get_serial_sequence('games', 'id')) AS id, v.* FROM v), ")
+                .append("inserted AS (INSERT INTO games (id, version, ").append(INSERT_COLUMNS).append(") ")
+                .append("SELECT id, 0, ").append(INSERT_COLUMNS).append(" FROM numbered RETURNING id) ")
+                .append("SELECT numbered.ord, numbered.id FROM numbered JOIN inserted ON inserted.id = numbered.id")
+                .toString();
+    }
+
+    static String updateSql(int rows) {
+        StringBuilder sql = new StringBuilder("UPDATE games AS g SET version = g.version + 1, event_seq = v.event_seq, "
+                + "status = v.status, turn = v.turn, player_score = v.player_score, dealer_score = v.dealer_score, deck_json = v.deck_json, "
+                + "player_cards_json = v.player_cards_json, dealer_cards_json = v.dealer_cards_json FROM (VALUES ");
+        for (int row = 0; row < rows; row++) {
+            if (row > 0) {
+                sql.append(", ");
+            }
+            sql.append('(');
+            for (int param = 0; param < UPDATE_TYPES.length; param++) {
+                if (param > 0) {
+                    sql.append(", ");
+                }
+                sql.append('$').append(row * UPDATE_TYPES.length + param + 1).append("::").append(UPDATE_TYPES[param]);
+            }
+            sql.append(')');
+        }
+        return sql.append(") AS v(id, event_seq, status, turn, player_score, dealer_score, deck_json, player_cards_json, ")
+                .append("dealer_cards_json) WHERE g.id = v.id AND g.event_seq < v.event_seq RETURNING g.id")
+                .toString();
+    }
+}
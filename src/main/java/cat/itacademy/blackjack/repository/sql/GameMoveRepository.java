@@ -0,0 +1,126 @@
+package cat.itacademy.blackjack.repository.sql;
+
+import cat.itacademy.blackjack.model.GameMove;
+import cat.itacademy.blackjack.model.GameMoveType;
+import io.r2dbc.spi.Readable;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Append-only access to {@code game_events}. The {@code (game_id, seq)} primary key is what
+ * serializes concurrent moves: the second writer of a seq fails with a data integrity violation.
+ */
+@Repository
+public class GameMoveRepository {
+
+    private static final String INSERT_PREFIX = "INSERT INTO game_events (game_id, seq, action, card) VALUES ";
+    private static final int PARAMS_PER_ROW = 4;
+    private static final String SELECT_PENDING = "SELECT e.game_id, e.seq, e.action, e.card FROM game_events e "
+            + "JOIN games g ON g.id = e.game_id WHERE e.seq > g.event_seq";
+
+    private final DatabaseClient databaseClient;
+
+    public GameMoveRepository(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    /**
+     * Inserts all moves with one multi-row statement; either all of them are appended or none.
+     */
+    public Mono<Void> appendAll(List<GameMove> moves) {
+        if (moves.isEmpty()) {
+            return Mono.empty();
+        }
+
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(insertSql(moves.size()));
+        for (int row = 0; row < moves.size(); row++) {
+            GameMove move = moves.get(row);
+            int offset = row * PARAMS_PER_ROW;
+            spec = spec.bind(offset, move.gameId())
+                    .bind(offset + 1, move.seq())
+                    .bind(offset + 2, move.type().name());
+            spec = move.card() == null
+                    ? spec.bindNull(offset + 3, Short.class)
+                    : spec.bind(offset + 3, move.card().shortValue());
+        }
+        return spec.then();
+    }
+
+    /**
+     * Moves of one game logged after {@code seq}, in order.
+     */
+    public Flux<GameMove> findAfter(Long gameId, int seq) {
+        return databaseClient.sql("SELECT game_id, seq, action, card FROM game_events WHERE game_id = $1 AND seq > $2 ORDER BY seq")
+                .bind(0, gameId)
+                .bind(1, seq)
+                .map(GameMoveRepository::toMove)
+                .all();
+    }
+
+    /**
+     * Moves not yet folded into the snapshot row of each of the given games, ordered by game and seq.
+     */
+    public Flux<GameMove> findPending(Collection<Long> gameIds) {
+        if (gameIds.isEmpty()) {
+            return Flux.empty();
+        }
+        return databaseClient.sql(SELECT_PENDING + " AND e.game_id = ANY($1) ORDER BY e.game_id, e.seq")
+                .bind(0, gameIds.toArray(Long[]::new))
+                .map(GameMoveRepository::toMove)
+                .all();
+    }
+
+    /**
+     * Moves not yet folded into the snapshot row of any game, ordered by game and seq.
+     */
+    public Flux<GameMove> findAllPending() {
+        return databaseClient.sql(SELECT_PENDING + " ORDER BY e.game_id, e.seq")
+                .map(GameMoveRepository::toMove)
+                .all();
+    }
+
+    /**
+     * Full logs of the given games, ordered by game and seq.
+     */
+    public Flux<GameMove> findByGameIds(Collection<Long> gameIds) {
+        if (gameIds.isEmpty()) {
+            return Flux.empty();
+        }
+        return databaseClient.sql("SELECT game_id, seq, action, card FROM game_events WHERE game_id = ANY($1) ORDER BY game_id, seq")
+                .bind(0, gameIds.toArray(Long[]::new))
+                .map(GameMoveRepository::toMove)
+                .all();
+    }
+
+    private static GameMove toMove(Readable row) {
+        Short card = row.get("card", Short.class);
+        return new GameMove(
+                row.get("game_id", Long.class),
+                row.get("seq", Integer.class),
+                GameMoveType.valueOf(row.get("action", String.class)),
+                card == null ? null : card.byteValue());
+    }
+
+    static String insertSql(int rows) {
+        StringBuilder sql = new StringBuilder(INSERT_PREFIX);
+        for (int row = 0; row < rows; row++) {
+            if (row > 0) {
+                sql.append(", ");
+            }
+            sql.append('(');
+            for (int param = 1; param <= PARAMS_PER_ROW; param++) {
+                if (param > 1) {
+                    sql.append(", ");
+                }
+                sql.append('$').append(row * PARAMS_PER_ROW + param);
+            }
+            sql.append(')');
+        }
+        return sql.toString();
+    }
+}
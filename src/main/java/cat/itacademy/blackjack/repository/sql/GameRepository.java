@@ -6,7 +6,7 @@ import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Mono;
 
 @Repository
-public interface GameRepository extends ReactiveCrudRepository<Games, Long> {
+public interface GameRepository extends ReactiveCrudRepository<Games, Long>, GameBatchRepository {
 
     Mono<Games> findByPlayerId(String playerId);
 }
\ No newline at end of file
@@ -0,0 +1,64 @@
+package cat.itacademy.blackjack.repository.sql;
+
+import cat.itacademy.blackjack.model.GameStatus;
+import cat.itacademy.blackjack.model.PlayerStanding;
+import io.r2dbc.spi.Readable;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+
+import java.time.LocalDateTime;
+
+/**
+ * Aggregates finished games per player for the leaderboard. Grouping, ordering and the limit
+ * all run in Postgres, so only the top rows of a window are sent back.
+ */
+@Repository
+public class LeaderboardRepository {
+
+    private static final String SELECT = """
+            SELECT player_id,
+                   COUNT(*) AS played,
+                   COUNT(*) FILTER (WHERE status = '%s') AS won,
+                   SUM(player_score) AS score
+            FROM games
+            WHERE status <> '%s'
+            """.formatted(GameStatus.FINISHED_PLAYER_WON, GameStatus.IN_PROGRESS);
+
+    private static final String RANK = """
+            GROUP BY player_id
+            ORDER BY COUNT(*) FILTER (WHERE status = '%s')::float8 / COUNT(*) DESC, score DESC, player_id
+            """.formatted(GameStatus.FINISHED_PLAYER_WON);
+
+    private final DatabaseClient databaseClient;
+
+    public LeaderboardRepository(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    /**
+     * Top {@code limit} players by win rate, then total score, over games created at or after
+     * {@code since} ({@code null} for all games).
+     */
+    public Flux<PlayerStanding> findTop(LocalDateTime since, int limit) {
+        if (since == null) {
+            return databaseClient.sql(SELECT + RANK + "LIMIT $1")
+                    .bind(0, limit)
+                    .map(LeaderboardRepository::toStanding)
+                    .all();
+        }
+        return databaseClient.sql(SELECT + "AND created_at >= $1\n" + RANK + "LIMIT $2")
+                .bind(0, since)
+                .bind(1, limit)
+                .map(LeaderboardRepository::toStanding)
+                .all();
+    }
+
+    private static PlayerStanding toStanding(Readable row) {
+        return new PlayerStanding(
+                row.get("player_id", String.class),
+                row.get("played", Long.class).intValue(),
+                row.get("won", Long.class).intValue(),
+                row.get("score", Long.class));
+    }
+}
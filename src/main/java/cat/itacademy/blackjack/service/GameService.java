@@ -1,14 +1,30 @@
 package cat.itacademy.blackjack.service;
 
+import cat.itacademy.blackjack.dto.AdviceResponse;
+import cat.itacademy.blackjack.dto.AutoplaySummary;
+import cat.itacademy.blackjack.dto.GameEvent;
+import cat.itacademy.blackjack.dto.GameOddsResponse;
 import cat.itacademy.blackjack.dto.GameResponse;
+import cat.itacademy.blackjack.dto.MoveRequest;
+import cat.itacademy.blackjack.dto.MoveResult;
+import cat.itacademy.blackjack.model.AutoplayStrategy;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
+
 public interface GameService {
     Mono<GameResponse> createGame(String playerName);
+    Flux<GameResponse> createGames(List<String> playerNames);
    Mono<GameResponse> hit(Long gameId);
     Mono<GameResponse> stand(Long gameId);
+    Flux<MoveResult> playMoves(List<MoveRequest> moves);
+    Flux<AutoplaySummary> autoplay(String playerName, AutoplayStrategy strategy, int games);
     Mono<GameResponse> getGameById(Long gameId);
-    Flux<GameResponse> getAllGames();
+    Flux<GameResponse> getAllGames(boolean expandPlayer);
     Mono<Void> deleteGame(Long gameId);
+    Flux<GameEvent> streamEvents(Long gameId);
+    Mono<GameEvent> getSnapshot(Long gameId);
+    Mono<GameOddsResponse> getOdds(Long gameId, boolean exact);
+    Mono<AdviceResponse> getAdvice(Long gameId);
 }
@@ -1,39 +1,76 @@
 package cat.itacademy.blackjack.service;
 
+import cat.itacademy.blackjack.dto.AdviceResponse;
+import cat.itacademy.blackjack.dto.AutoplaySummary;
+import cat.itacademy.blackjack.dto.GameEvent;
+import cat.itacademy.blackjack.dto.GameOddsResponse;
 import cat.itacademy.blackjack.dto.GameResponse;
+import cat.itacademy.blackjack.dto.MoveRequest;
+import cat.itacademy.blackjack.dto.MoveResult;
 import cat.itacademy.blackjack.exception.GameNotFoundException;
+import cat.itacademy.blackjack.exception.InvalidGameStateException;
 import cat.itacademy.blackjack.mapper.GameMapper;
+import cat.itacademy.blackjack.model.AutoplayStrategy;
+import cat.itacademy.blackjack.model.GameStatus;
+import cat.itacademy.blackjack.model.Games;
 import cat.itacademy.blackjack.repository.sql.GameRepository;
+import cat.itacademy.blackjack.service.cluster.GameChangeNotifier;
 import cat.itacademy.blackjack.service.engine.DeckManager;
+import cat.itacademy.blackjack.service.event.GameEventPublisher;
+import cat.itacademy.blackjack.service.eventlog.GameStateLoader;
+import cat.itacademy.blackjack.service.logic.AutoplayProcessor;
+import cat.itacademy.blackjack.service.logic.BulkMoveProcessor;
+import cat.itacademy.blackjack.service.logic.GameCommandLanes;
 import cat.itacademy.blackjack.service.logic.GameCreationService;
 import cat.itacademy.blackjack.service.logic.GameHitProcessor;
 import cat.itacademy.blackjack.service.logic.GameStandProcessor;
+import cat.itacademy.blackjack.service.odds.GameOddsService;
+import cat.itacademy.blackjack.service.player.PlayerExpander;
+import cat.itacademy.blackjack.service.strategy.BasicStrategyAdvisor;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
+
 @RequiredArgsConstructor
 @Service
+@Profile("!jdbc")
 public class GameServiceImpl implements GameService {
 
     private static final Logger logger = LoggerFactory.getLogger(GameServiceImpl.class);
 
     private final GameRepository gameRepository;
+    private final GameStateLoader gameStateLoader;
     private final GameMapper gameMapper;
     private final DeckManager deckManager;
 
     private final GameCreationService gameCreationService;
     private final GameHitProcessor gameHitProcessor;
     private final GameStandProcessor gameStandProcessor;
+    private final GameCommandLanes gameCommandLanes;
+    private final GameEventPublisher gameEventPublisher;
+    private final GameChangeNotifier gameChangeNotifier;
+    private final BulkMoveProcessor bulkMoveProcessor;
+    private final AutoplayProcessor autoplayProcessor;
+    private final GameOddsService gameOddsService;
+    private final BasicStrategyAdvisor basicStrategyAdvisor;
+    private final PlayerExpander playerExpander;
 
     @Override
     public Mono<GameResponse> createGame(String playerName) {
         return gameCreationService.createGame(playerName);
     }
 
+    @Override
+    public Flux<GameResponse> createGames(List<String> playerNames) {
+        return gameCreationService.createGames(playerNames);
+    }
+
     @Override
     public Mono<GameResponse> getGameById(Long gameId) {
         if (gameId == null) {
@@ -43,23 +80,19 @@ public class GameServiceImpl implements GameService {
 
         logger.info("Fetching game with ID: {}", gameId);
 
-        return gameRepository.findById(gameId)
+        return gameStateLoader.load(gameId)
                 .switchIfEmpty(Mono.error(new GameNotFoundException(gameId)))
-                .flatMap(game -> Mono.zip(
-                        deckManager.deserializeCardsReactive(game.getPlayerCardsJson()),
-                        deckManager.deserializeCardsReactive(game.getDealerCardsJson())
-                ).map(tuple -> gameMapper.toResponse(game, tuple.getT1(), tuple.getT2())));
+                .flatMap(this::toResponse);
     }
 
     @Override
-    public Flux<GameResponse> getAllGames() {
-        logger.info("Retrieving all games from repository");
-
-        return gameRepository.findAll()
-                .flatMap(game -> Mono.zip(
-                        deckManager.deserializeCardsReactive(game.getPlayerCardsJson()),
-                        deckManager.deserializeCardsReactive(game.getDealerCardsJson())
-                ).map(tuple -> gameMapper.toResponse(game, tuple.getT1(), tuple.getT2())))
+    public Flux<GameResponse> getAllGames(boolean expandPlayer) {
+        logger.info("Retrieving all games from repository (expand player: {})", expandPlayer);
+
+        Flux<GameResponse> games = gameStateLoader.loadAll()
+                .flatMap(this::toResponse);
+
+        return (expandPlayer ? playerExpander.expand(games) : games)
                 .doOnComplete(() -> logger.info("Completed fetching all games"));
     }
 
@@ -74,16 +107,84 @@ public class GameServiceImpl implements GameService {
         return gameRepository.findById(gameId)
                 .switchIfEmpty(Mono.error(new GameNotFoundException(gameId)))
                 .flatMap(game -> gameRepository.delete(game)
-                        .doOnSuccess(v -> logger.info("Game deleted: {}", gameId)));
+                        .doOnSuccess(v -> logger.info("Game deleted: {}", gameId)))
+                .then(Mono.defer(() -> gameChangeNotifier.notifyDeleted(gameId)));
     }
 
     @Override
     public Mono<GameResponse> hit(Long gameId) {
-        return gameHitProcessor.processHit(gameId);
+        if (gameId == null) {
+            return gameHitProcessor.processHit(null);
+        }
+        return gameCommandLanes.submit(gameId, () -> gameHitProcessor.processHit(gameId));
     }
 
     @Override
     public Mono<GameResponse> stand(Long gameId) {
-        return gameStandProcessor.processStand(gameId);
+        if (gameId == null) {
+            return gameStandProcessor.processStand(null);
+        }
+        return gameCommandLanes.submit(gameId, () -> gameStandProcessor.processStand(gameId));
+    }
+
+    @Override
+    public Flux<MoveResult> playMoves(List<MoveRequest> moves) {
+        return bulkMoveProcessor.processMoves(moves);
+    }
+
+    @Override
+    public Flux<AutoplaySummary> autoplay(String playerName, AutoplayStrategy strategy, int games) {
+        return autoplayProcessor.autoplay(playerName, strategy, games);
+    }
+
+    @Override
+    public Flux<GameEvent> streamEvents(Long gameId) {
+        logger.info("Opening event stream for game ID: {}", gameId);
+        return gameEventPublisher.subscribe(gameId, getSnapshot(gameId));
+    }
+
+    @Override
+    public Mono<GameEvent> getSnapshot(Long gameId) {
+        if (gameId == null) {
+            return Mono.error(new GameNotFoundException("Game ID must not be null."));
+        }
+
+        return gameStateLoader.load(gameId)
+                .switchIfEmpty(Mono.error(new GameNotFoundException(gameId)))
+                .flatMap(game -> toResponse(game).map(response -> GameEvent.snapshot(response, game.getLastSeq())));
+    }
+
+    @Override
+    public Mono<GameOddsResponse> getOdds(Long gameId, boolean exact) {
+        return gameOddsService.getOdds(gameId, exact);
+    }
+
+    @Override
+    public Mono<AdviceResponse> getAdvice(Long gameId) {
+        if (gameId == null) {
+            logger.warn("Attempt to get advice with null ID");
+            return Mono.error(new GameNotFoundException("Game ID must not be null."));
+        }
+
+        return gameStateLoader.load(gameId)
+                .switchIfEmpty(Mono.error(new GameNotFoundException(gameId)))
+                .flatMap(game -> {
+                    if (game.getStatus() != GameStatus.IN_PROGRESS) {
+                        return Mono.error(new InvalidGameStateException("Advice is only available for games in progress."));
+                    }
+                    int player = game.getPlayerScore();
+                    int dealer = game.getDealerScore();
+                    return Mono.just(new AdviceResponse(game.getId(), player, dealer,
+                            basicStrategyAdvisor.advise(player, dealer),
+                            basicStrategyAdvisor.hitValue(player, dealer),
+                            basicStrategyAdvisor.standValue(player, dealer)));
+                });
+    }
+
+    private Mono<GameResponse> toResponse(Games game) {
+        return Mono.zip(
+                deckManager.deserializeCardsReactive(game.getPlayerCardsJson()),
+                deckManager.deserializeCardsReactive(game.getDealerCardsJson())
+        ).map(tuple -> gameMapper.toResponse(game, tuple.getT1(), tuple.getT2()));
     }
 }
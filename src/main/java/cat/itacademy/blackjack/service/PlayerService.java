@@ -12,6 +12,6 @@ public interface PlayerService {
     Mono<PlayerResponse> findById(String id);
     Mono<Void> deleteById(String id);
     Flux<PlayerResponse> findAll();
-    Flux<PlayerRankingResponse> getRanking();
+    Flux<PlayerRankingResponse> getRanking(Integer limit);
     Mono<PlayerResponse> updatePlayerName(String id, String newName);
 }
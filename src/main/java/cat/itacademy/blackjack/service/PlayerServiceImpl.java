@@ -9,22 +9,36 @@ import cat.itacademy.blackjack.exception.PlayerNotFoundException;
 import cat.itacademy.blackjack.mapper.PlayerMapper;
 import cat.itacademy.blackjack.model.Player;
 import cat.itacademy.blackjack.repository.mongo.PlayerRepository;
-import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 
 @Service
-@RequiredArgsConstructor
+@Profile("!jdbc")
 public class PlayerServiceImpl implements PlayerService {
 
     private static final Logger logger = LoggerFactory.getLogger(PlayerServiceImpl.class);
 
     private final PlayerRepository playerRepository;
     private final PlayerMapper playerMapper;
+    private final int rankingLimit;
+    private final int rankingMaxLimit;
+
+    public PlayerServiceImpl(PlayerRepository playerRepository,
+                             PlayerMapper playerMapper,
+                             @Value("${blackjack.ranking.limit:100}") int rankingLimit,
+                             @Value("${blackjack.ranking.max-limit:1000}") int rankingMaxLimit) {
+        this.playerRepository = playerRepository;
+        this.playerMapper = playerMapper;
+        this.rankingLimit = rankingLimit;
+        this.rankingMaxLimit = rankingMaxLimit;
+    }
 
     @Override
     public Mono<PlayerResponse> create(PlayerRequest request) {
@@ -70,27 +84,11 @@ public class PlayerServiceImpl implements PlayerService {
     }
 
     @Override
-    public Flux<PlayerRankingResponse> getRanking() {
-        logger.info("Retrieving player ranking by win rate and total score");
+    public Flux<PlayerRankingResponse> getRanking(Integer limit) {
+        int size = limit == null ? rankingLimit : Math.clamp(limit, 1, rankingMaxLimit);
+        logger.info("Retrieving top {} players by win rate and total score", size);
 
-        return playerRepository.findAll()
-                .map(player -> {
-                    double winRate = player.getGamesPlayed() == 0 ? 0.0 :
-                            (double) player.getGamesWon() / player.getGamesPlayed();
-
-                    return new PlayerRankingResponse(
-                            player.getName(),
-                            player.getGamesPlayed(),
-                            player.getGamesWon(),
-                            winRate,
-                            player.getTotalScore()
-                    );
-                })
-                .sort((p1, p2) -> {
-                    int byWinRate = Double.compare(p2.winRate(), p1.winRate());
-                    if (byWinRate != 0) return byWinRate;
-                    return Integer.compare(p2.totalScore(), p1.totalScore());
-                })
+        return playerRepository.findRanking(Limit.of(size))
                 .doOnComplete(() -> logger.info("Ranking retrieval completed"));
     }
 
@@ -0,0 +1,209 @@
+package cat.itacademy.blackjack.service.audit;
+
+import cat.itacademy.blackjack.config.CpuScheduler;
+import cat.itacademy.blackjack.dto.GameVerificationResult;
+import cat.itacademy.blackjack.dto.VerificationJobResponse;
+import cat.itacademy.blackjack.exception.GameNotFoundException;
+import cat.itacademy.blackjack.exception.VerificationNotFoundException;
+import cat.itacademy.blackjack.model.GameMove;
+import cat.itacademy.blackjack.model.StoredGame;
+import cat.itacademy.blackjack.model.VerificationJobStatus;
+import cat.itacademy.blackjack.repository.sql.GameAuditRepository;
+import cat.itacademy.blackjack.repository.sql.GameMoveRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Verifies stored games against their replay as background jobs. A job walks the id range in keyset
+ * pages of {@code pageSize} games; each page is read with one query for the rows and one for their
+ * move logs, and up to {@code concurrency} pages are replayed at once on the {@link CpuScheduler}.
+ * Only counters and the first {@code maxReportedMismatches} mismatches are kept, so memory stays
+ * bounded by the pages in flight whatever the size of the table.
+ */
+@Service
+public class GameAuditService {
+
+    private static final Logger logger = LoggerFactory.getLogger(GameAuditService.class);
+
+    private final GameAuditRepository gameAuditRepository;
+    private final GameMoveRepository gameMoveRepository;
+    private final GameVerifier gameVerifier;
+    private final CpuScheduler cpuScheduler;
+    private final int pageSize;
+    private final int concurrency;
+    private final int maxRunningJobs;
+    private final int maxRetainedJobs;
+    private final int maxReportedMismatches;
+    private final Map<String, VerificationJob> jobs = new ConcurrentHashMap<>();
+    private final Queue<String> jobOrder = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger runningJobs = new AtomicInteger();
+
+    public GameAuditService(GameAuditRepository gameAuditRepository,
+                            GameMoveRepository gameMoveRepository,
+                            GameVerifier gameVerifier,
+                            CpuScheduler cpuScheduler,
+                            @Value("${blackjack.audit.page-size:1000}") int pageSize,
+                            @Value("${blackjack.audit.concurrency:0}") int concurrency,
+                            @Value("${blackjack.audit.max-running-jobs:1}") int maxRunningJobs,
+                            @Value("${blackjack.audit.max-retained-jobs:20}") int maxRetainedJobs,
+                            @Value("${blackjack.audit.max-reported-mismatches:100}") int maxReportedMismatches) {
+        this.gameAuditRepository = gameAuditRepository;
+        this.gameMoveRepository = gameMoveRepository;
+        this.gameVerifier = gameVerifier;
+        this.cpuScheduler = cpuScheduler;
+        this.pageSize = pageSize;
+        this.concurrency = concurrency > 0 ? concurrency : Runtime.getRuntime().availableProcessors();
+        this.maxRunningJobs = maxRunningJobs;
+        this.maxRetainedJobs = maxRetainedJobs;
+        this.maxReportedMismatches = maxReportedMismatches;
+    }
+
+    public Mono<GameVerificationResult> verifyGame(Long gameId) {
+        if (gameId == null) {
+            return Mono.error(new GameNotFoundException("Game ID must not be null."));
+        }
+
+        return gameAuditRepository.findById(gameId)
+                .switchIfEmpty(Mono.error(new GameNotFoundException(gameId)))
+                .flatMap(stored -> gameMoveRepository.findByGameIds(List.of(gameId))
+                        .collectList()
+                        .map(log -> gameVerifier.verify(stored, log)));
+    }
+
+    public VerificationJobResponse submit(long fromId, long toId) {
+        if (fromId < 1 || toId < fromId) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "fromId must be at least 1 and not greater than toId.");
+        }
+        if (runningJobs.incrementAndGet() > maxRunningJobs) {
+            runningJobs.decrementAndGet();
+            throw new ResponseStatusException(HttpStatus.TOO_MANY_REQUESTS, "Too many verifications running, retry later.");
+        }
+
+        VerificationJob job = new VerificationJob(UUID.randomUUID().toString(), fromId, toId, maxReportedMismatches);
+        store(job);
+
+        logger.info("Starting verification {} of games {}..{}", job.id, fromId, toId);
+        verifyRange(fromId, toId)
+                .doFinally(signal -> runningJobs.decrementAndGet())
+                .subscribe(
+                        job::record,
+                        error -> {
+                            logger.error("Verification {} failed after {} games", job.id, job.checked.get(), error);
+                            job.finish(VerificationJobStatus.FAILED, error.getMessage());
+                        },
+                        () -> {
+                            logger.info("Verification {} completed: {} games, {} mismatches, {} unverifiable",
+                                    job.id, job.checked.get(), job.mismatched.get(), job.unverifiable.get());
+                            job.finish(VerificationJobStatus.COMPLETED, null);
+                        });
+        return job.toResponse();
+    }
+
+    public Mono<VerificationJobResponse> find(String id) {
+        return Mono.justOrEmpty(jobs.get(id))
+                .map(VerificationJob::toResponse)
+                .switchIfEmpty(Mono.error(new VerificationNotFoundException(id)));
+    }
+
+    /**
+     * Streams the verification of every game with {@code fromId <= id <= toId}, in no particular order.
+     */
+    public Flux<GameVerificationResult> verifyRange(long fromId, long toId) {
+        return page(fromId - 1, toId)
+                .expand(page -> page.size() < pageSize ? Mono.empty() : page(page.get(page.size() - 1).id(), toId))
+                .flatMap(this::verifyPage, concurrency);
+    }
+
+    private Mono<List<StoredGame>> page(long afterId, long toId) {
+        return gameAuditRepository.findPage(afterId, toId, pageSize).collectList();
+    }
+
+    private Flux<GameVerificationResult> verifyPage(List<StoredGame> page) {
+        if (page.isEmpty()) {
+            return Flux.empty();
+        }
+
+        return gameMoveRepository.findByGameIds(page.stream().map(StoredGame::id).toList())
+                .collect(Collectors.groupingBy(GameMove::gameId))
+                .flatMap(logs -> cpuScheduler.offload(() -> page.stream()
+                        .map(stored -> gameVerifier.verify(stored, logs.getOrDefault(stored.id(), List.of())))
+                        .toList()))
+                .flatMapIterable(results -> results);
+    }
+
+    private void store(VerificationJob job) {
+        jobs.put(job.id, job);
+        jobOrder.add(job.id);
+        while (jobOrder.size() > maxRetainedJobs) {
+            String oldest = jobOrder.poll();
+            if (oldest != null) {
+                jobs.remove(oldest);
+            }
+        }
+    }
+
+    private static final class VerificationJob {
+
+        private final String id;
+        private final long fromId;
+        private final long toId;
+        private final int maxReportedMismatches;
+        private final long start = System.nanoTime();
+        private final AtomicLong checked = new AtomicLong();
+        private final AtomicLong matched = new AtomicLong();
+        private final AtomicLong mismatched = new AtomicLong();
+        private final AtomicLong unverifiable = new AtomicLong();
+        private final Queue<GameVerificationResult> mismatches = new ConcurrentLinkedQueue<>();
+        private volatile VerificationJobStatus status = VerificationJobStatus.RUNNING;
+        private volatile long elapsedMillis = -1;
+        private volatile String error;
+
+        private VerificationJob(String id, long fromId, long toId, int maxReportedMismatches) {
+            this.id = id;
+            this.fromId = fromId;
+            this.toId = toId;
+            this.maxReportedMismatches = maxReportedMismatches;
+        }
+
+        void record(GameVerificationResult result) {
+            checked.incrementAndGet();
+            switch (result.outcome()) {
+                case MATCH -> matched.incrementAndGet();
+                case UNVERIFIABLE -> unverifiable.incrementAndGet();
+                case MISMATCH -> {
+                    if (mismatched.incrementAndGet() <= maxReportedMismatches) {
+                        mismatches.add(result);
+                    }
+                }
+            }
+        }
+
+        void finish(VerificationJobStatus finalStatus, String failure) {
+            elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+            error = failure;
+            status = finalStatus;
+        }
+
+        VerificationJobResponse toResponse() {
+            long elapsed = elapsedMillis >= 0 ? elapsedMillis : (System.nanoTime() - start) / 1_000_000;
+            return new VerificationJobResponse(id, status, fromId, toId, checked.get(), matched.get(),
+                    mismatched.get(), unverifiable.get(), elapsed, List.copyOf(mismatches), error);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package cat.itacademy.blackjack.service.audit;
+
+import cat.itacademy.blackjack.dto.GameVerificationResult;
+import cat.itacademy.blackjack.model.*;
+import cat.itacademy.blackjack.service.engine.BlackjackEngine;
+import cat.itacademy.blackjack.service.engine.DeckManager;
+import cat.itacademy.blackjack.service.eventlog.GameStateLoader;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Replays a game from the deck it was dealt from and its move log, up to the stored snapshot, and compares
+ * the result with the stored row. Dealing follows {@code GameCreationService} and moves are applied by
+ * {@link GameStateLoader}, so the replay uses the same {@link BlackjackEngine} rules as live play.
+ */
+@Component
+@RequiredArgsConstructor
+public class GameVerifier {
+
+    private final DeckManager deckManager;
+    private final BlackjackEngine blackjackEngine;
+    private final GameStateLoader gameStateLoader;
+
+    /**
+     * @param log moves of the game in seq order; moves after the stored {@code event_seq} are ignored
+     */
+    public GameVerificationResult verify(StoredGame stored, List<GameMove> log) {
+        if (stored.initialDeck() == null) {
+            return result(stored, VerificationOutcome.UNVERIFIABLE, 0, null, "No initial deck recorded for this game");
+        }
+
+        List<Card> deck = new ArrayList<>(deckManager.unpackCards(stored.initialDeck()));
+        if (deck.size() < 4) {
+            return result(stored, VerificationOutcome.MISMATCH, 0, null, "Initial deck has only " + deck.size() + " cards");
+        }
+
+        List<Card> playerCards = new ArrayList<>(List.of(deck.remove(0), deck.remove(0)));
+        List<Card> dealerCards = new ArrayList<>(List.of(deck.remove(0), deck.remove(0)));
+        Games replayed = Games.builder()
+                .id(stored.id())
+                .status(GameStatus.IN_PROGRESS)
+                .turn(GameTurn.PLAYER_TURN)
+                .playerScore(blackjackEngine.calculateScore(playerCards))
+                .dealerScore(blackjackEngine.calculateScore(dealerCards))
+                .build();
+        List<GameMove> moves = log.stream()
+                .filter(move -> move.seq() <= stored.eventSeq())
+                .toList();
+
+        try {
+            gameStateLoader.apply(replayed, deck, playerCards, dealerCards, moves);
+        } catch (IllegalStateException e) {
+            return result(stored, VerificationOutcome.MISMATCH, replayed.getLastSeq(), replayed, e.getMessage());
+        }
+        if (replayed.getLastSeq() != stored.eventSeq()) {
+            return result(stored, VerificationOutcome.MISMATCH, replayed.getLastSeq(), replayed,
+                    "Move log ends at seq " + replayed.getLastSeq() + " but the snapshot is at seq " + stored.eventSeq());
+        }
+
+        boolean matches = replayed.getStatus() == stored.status()
+                && replayed.getPlayerScore() == stored.playerScore()
+                && replayed.getDealerScore() == stored.dealerScore();
+        return result(stored, matches ? VerificationOutcome.MATCH : VerificationOutcome.MISMATCH, moves.size(), replayed, null);
+    }
+
+    private static GameVerificationResult result(StoredGame stored, VerificationOutcome outcome, int movesReplayed,
+                                                 Games replayed, String error) {
+        return new GameVerificationResult(
+                stored.id(),
+                outcome,
+                movesReplayed,
+                stored.status(),
+                replayed != null ? replayed.getStatus() : null,
+                stored.playerScore(),
+                replayed != null ? replayed.getPlayerScore() : null,
+                stored.dealerScore(),
+                replayed != null ? replayed.getDealerScore() : null,
+                error);
+    }
+}
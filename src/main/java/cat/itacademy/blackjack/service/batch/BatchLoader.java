@@ -0,0 +1,143 @@
+package cat.itacademy.blackjack.service.batch;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * DataLoader-style batching for key lookups. Keys requested by concurrent callers are
+ * collected for up to {@code window} or {@code maxBatchSize} keys, looked up with one call
+ * to the batch function (e.g. a Mongo {@code $in} query) and each result is sent back to
+ * the callers waiting for its key. Callers whose key was not found complete empty.
+ *
+ * <p>Nothing is cached: every batch hits the store, so values are as fresh as a single lookup.
+ *
+ * @param <K> lookup key
+ * @param <V> loaded value, from which {@code keyOf} recovers the key
+ */
+public class BatchLoader<K, V> implements Disposable {
+
+    private static final Logger logger = LoggerFactory.getLogger(BatchLoader.class);
+
+    private final String name;
+    private final Function<List<K>, Flux<V>> batchFunction;
+    private final Function<V, K> keyOf;
+    private final int maxBatchSize;
+    private final Duration window;
+    private final Scheduler timer = Schedulers.parallel();
+    private final DistributionSummary batchSizes;
+
+    private final Queue<Request<K, V>> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingCount = new AtomicInteger();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+    private volatile boolean disposed;
+
+    public BatchLoader(String name,
+                       Function<List<K>, Flux<V>> batchFunction,
+                       Function<V, K> keyOf,
+                       int maxBatchSize,
+                       Duration window,
+                       MeterRegistry meterRegistry) {
+        this.name = name;
+        this.batchFunction = batchFunction;
+        this.keyOf = keyOf;
+        this.maxBatchSize = Math.max(1, maxBatchSize);
+        this.window = window;
+        this.batchSizes = DistributionSummary.builder("blackjack.loader.batch.size")
+                .description("Distinct keys resolved per batched lookup")
+                .tag("loader", name)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Loads the value of one key as part of the next batch. Empty if the key is null or not found.
+     */
+    public Mono<V> load(K key) {
+        if (key == null) {
+            return Mono.empty();
+        }
+        return Mono.create(result -> {
+            if (disposed) {
+                result.error(new IllegalStateException("Loader " + name + " is disposed"));
+                return;
+            }
+            pending.add(new Request<>(key, result));
+            if (pendingCount.incrementAndGet() >= maxBatchSize) {
+                flush();
+            } else if (flushScheduled.compareAndSet(false, true)) {
+                timer.schedule(this::windowElapsed, window.toNanos(), TimeUnit.NANOSECONDS);
+            }
+        });
+    }
+
+    private void windowElapsed() {
+        // reset first: a key queued after the flush below starts a new window
+        flushScheduled.set(false);
+        flush();
+    }
+
+    private void flush() {
+        List<Request<K, V>> batch = new ArrayList<>();
+        Request<K, V> request;
+        while ((request = pending.poll()) != null) {
+            pendingCount.decrementAndGet();
+            batch.add(request);
+            if (batch.size() == maxBatchSize) {
+                dispatch(batch);
+                batch = new ArrayList<>();
+            }
+        }
+        if (!batch.isEmpty()) {
+            dispatch(batch);
+        }
+    }
+
+    private void dispatch(List<Request<K, V>> batch) {
+        List<K> keys = batch.stream().map(Request::key).distinct().toList();
+        batchSizes.record(keys.size());
+        logger.debug("Loader {} resolving {} keys for {} callers", name, keys.size(), batch.size());
+
+        Flux.defer(() -> batchFunction.apply(keys))
+                .collectMap(keyOf)
+                .subscribe(
+                        values -> batch.forEach(request -> request.result().success(values.get(request.key()))),
+                        error -> {
+                            logger.warn("Loader {} failed to resolve {} keys", name, keys.size(), error);
+                            batch.forEach(request -> request.result().error(error));
+                        });
+    }
+
+    @Override
+    public void dispose() {
+        disposed = true;
+        Request<K, V> request;
+        while ((request = pending.poll()) != null) {
+            request.result().error(new IllegalStateException("Loader " + name + " is disposed"));
+        }
+    }
+
+    @Override
+    public boolean isDisposed() {
+        return disposed;
+    }
+
+    private record Request<K, V>(K key, MonoSink<V> result) {
+    }
+}
@@ -0,0 +1,135 @@
+package cat.itacademy.blackjack.service.cluster;
+
+import cat.itacademy.blackjack.config.ClusterProperties;
+import cat.itacademy.blackjack.config.MeteredConnectionFactory;
+import cat.itacademy.blackjack.service.GameService;
+import cat.itacademy.blackjack.service.event.GameEventPublisher;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.r2dbc.postgresql.api.Notification;
+import io.r2dbc.postgresql.api.PostgresqlConnection;
+import io.r2dbc.postgresql.api.PostgresqlResult;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.regex.Pattern;
+
+/**
+ * Holds one dedicated (non-pooled) connection on {@code LISTEN <channel>} and turns other nodes'
+ * notifications into local {@link GameChangedEvent}s and, for games with live subscribers,
+ * fresh snapshots on the SSE stream. Reconnects with backoff if the connection drops.
+ */
+@Component
+@ConditionalOnProperty(prefix = "blackjack.cluster", name = "enabled", havingValue = "true")
+public class GameChangeListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(GameChangeListener.class);
+    private static final Pattern CHANNEL_NAME = Pattern.compile("[a-z_][a-z0-9_]*");
+
+    private final MeteredConnectionFactory connectionFactory;
+    private final ClusterProperties clusterProperties;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final GameEventPublisher gameEventPublisher;
+    private final GameService gameService;
+
+    private Disposable subscription;
+
+    public GameChangeListener(MeteredConnectionFactory connectionFactory,
+                              ClusterProperties clusterProperties,
+                              ObjectMapper objectMapper,
+                              ApplicationEventPublisher applicationEventPublisher,
+                              GameEventPublisher gameEventPublisher,
+                              GameService gameService) {
+        this.connectionFactory = connectionFactory;
+        this.clusterProperties = clusterProperties;
+        this.objectMapper = objectMapper;
+        this.applicationEventPublisher = applicationEventPublisher;
+        this.gameEventPublisher = gameEventPublisher;
+        this.gameService = gameService;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        String channel = clusterProperties.channel();
+        if (!CHANNEL_NAME.matcher(channel).matches()) {
+            logger.error("Invalid cluster channel name '{}', cross-node notifications disabled", channel);
+            return;
+        }
+
+        ConnectionFactory unpooled = connectionFactory.unwrap().unwrap();
+        subscription = Flux.usingWhen(
+                        Mono.from(unpooled.create()),
+                        connection -> listen(connection, channel),
+                        Connection::close)
+                .retryWhen(Retry.backoff(Long.MAX_VALUE, Duration.ofSeconds(1))
+                        .maxBackoff(Duration.ofSeconds(30))
+                        .doBeforeRetry(signal -> logger.warn("LISTEN connection lost, reconnecting: {}",
+                                signal.failure().getMessage())))
+                .concatMap(this::handle)
+                .subscribe();
+
+        logger.info("Listening for game changes on channel '{}' as node {}", channel, clusterProperties.nodeId());
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (subscription != null) {
+            subscription.dispose();
+        }
+    }
+
+    private Flux<Notification> listen(Connection connection, String channel) {
+        if (!(connection instanceof PostgresqlConnection postgres)) {
+            logger.error("LISTEN/NOTIFY requires a PostgreSQL connection, got {}", connection.getClass().getName());
+            return Flux.empty();
+        }
+        return postgres.createStatement("LISTEN " + channel)
+                .execute()
+                .flatMap(PostgresqlResult::getRowsUpdated)
+                .thenMany(postgres.getNotifications())
+                .concatWith(Mono.error(new IllegalStateException("LISTEN connection closed")));
+    }
+
+    private Mono<Void> handle(Notification notification) {
+        GameChangedEvent event;
+        try {
+            event = objectMapper.readValue(notification.getParameter(), GameChangedEvent.class);
+        } catch (JsonProcessingException e) {
+            logger.warn("Ignoring malformed game change notification: {}", notification.getParameter());
+            return Mono.empty();
+        }
+
+        if (clusterProperties.nodeId().equals(event.origin())) {
+            return Mono.empty();
+        }
+
+        logger.debug("Game {} changed on node {} (seq {}, status {}, deleted {})",
+                event.id(), event.origin(), event.seq(), event.status(), event.deleted());
+        applicationEventPublisher.publishEvent(event);
+
+        if (event.deleted() || !gameEventPublisher.hasSubscribers(event.id())) {
+            return Mono.empty();
+        }
+        return gameService.getSnapshot(event.id())
+                .doOnNext(gameEventPublisher::publish)
+                .then()
+                .onErrorResume(error -> {
+                    logger.warn("Could not refresh live stream of game {}: {}", event.id(), error.getMessage());
+                    return Mono.empty();
+                });
+    }
+}
@@ -0,0 +1,91 @@
+package cat.itacademy.blackjack.service.cluster;
+
+import cat.itacademy.blackjack.config.ClusterProperties;
+import cat.itacademy.blackjack.model.Games;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.reactivestreams.Publisher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.r2dbc.mapping.OutboundRow;
+import org.springframework.data.r2dbc.mapping.event.AfterSaveCallback;
+import org.springframework.data.relational.core.sql.SqlIdentifier;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * Announces a {@link GameChangedEvent} after every {@code GameRepository} save and every logged move:
+ * always as a local Spring event, so in-memory state on this node (e.g. WebSocket sessions) sees moves made
+ * through other endpoints, and with {@code pg_notify} when the cluster is enabled, so other API nodes can
+ * refresh their caches and live streams.
+ */
+@Component
+public class GameChangeNotifier implements AfterSaveCallback<Games> {
+
+    private static final Logger logger = LoggerFactory.getLogger(GameChangeNotifier.class);
+
+    private final DatabaseClient databaseClient;
+    private final ObjectMapper objectMapper;
+    private final ClusterProperties clusterProperties;
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    public GameChangeNotifier(DatabaseClient databaseClient,
+                              ObjectMapper objectMapper,
+                              ClusterProperties clusterProperties,
+                              ApplicationEventPublisher applicationEventPublisher) {
+        this.databaseClient = databaseClient;
+        this.objectMapper = objectMapper;
+        this.clusterProperties = clusterProperties;
+        this.applicationEventPublisher = applicationEventPublisher;
+    }
+
+    @Override
+    public Publisher<Games> onAfterSave(Games game, OutboundRow outboundRow, SqlIdentifier table) {
+        return notifyChanged(game).thenReturn(game);
+    }
+
+    /**
+     * Announces a game written outside {@code GameRepository.save}, e.g. by appending moves, at its
+     * {@code lastSeq} when subscribed. Never fails: a lost notification only delays other nodes until their next read.
+     */
+    public Mono<Void> notifyChanged(Games game) {
+        return Mono.defer(() -> announce(
+                GameChangedEvent.changed(game.getId(), game.getLastSeq(), game.getStatus(), clusterProperties.nodeId())));
+    }
+
+    /**
+     * Tells this node and the others to drop what they hold in memory for a deleted game. Never fails, like
+     * {@link #notifyChanged}.
+     */
+    public Mono<Void> notifyDeleted(Long gameId) {
+        return Mono.defer(() -> announce(GameChangedEvent.deleted(gameId, clusterProperties.nodeId())));
+    }
+
+    private Mono<Void> announce(GameChangedEvent event) {
+        applicationEventPublisher.publishEvent(event);
+        return clusterProperties.enabled() ? send(event) : Mono.empty();
+    }
+
+    private Mono<Void> send(GameChangedEvent event) {
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            logger.error("Error serializing change notification for game {}", event.id(), e);
+            return Mono.empty();
+        }
+
+        return databaseClient.sql("SELECT pg_notify(:channel, :payload)")
+                .bind("channel", clusterProperties.channel())
+                .bind("payload", payload)
+                .then()
+                .doOnSuccess(unused -> logger.debug("Notified {} of game {} (seq {})",
+                        event.deleted() ? "deletion" : "change", event.id(), event.seq()))
+                .onErrorResume(error -> {
+                    logger.warn("Could not notify change of game {}: {}", event.id(), error.getMessage());
+                    return Mono.empty();
+                });
+    }
+}
@@ -0,0 +1,26 @@
+package cat.itacademy.blackjack.service.cluster;
+
+import cat.itacademy.blackjack.model.GameStatus;
+
+/**
+ * Compact description of a game change. Published as a Spring application event on the node that made
+ * the change, sent as the NOTIFY payload (with the origin node), and republished as a Spring application
+ * event by the nodes that receive it; compare {@code origin} to tell local changes from remote ones.
+ * A deleted game is announced with {@code deleted} set and no seq or status.
+ */
+public record GameChangedEvent(
+        Long id,
+        int seq,
+        GameStatus status,
+        String origin,
+        boolean deleted
+) {
+
+    public static GameChangedEvent changed(Long id, int seq, GameStatus status, String origin) {
+        return new GameChangedEvent(id, seq, status, origin, false);
+    }
+
+    public static GameChangedEvent deleted(Long id, String origin) {
+        return new GameChangedEvent(id, 0, null, origin, true);
+    }
+}
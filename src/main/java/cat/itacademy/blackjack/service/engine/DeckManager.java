@@ -1,8 +1,10 @@
 package cat.itacademy.blackjack.service.engine;
 
+import cat.itacademy.blackjack.config.CpuScheduler;
 import cat.itacademy.blackjack.model.Card;
 import cat.itacademy.blackjack.model.CardSuit;
 import cat.itacademy.blackjack.model.CardValue;
+import cat.itacademy.blackjack.model.GameMove;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -16,15 +18,23 @@ import reactor.util.function.Tuples;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.Callable;
 
 @Component
 public class DeckManager {
 
     private static final Logger logger = LoggerFactory.getLogger(DeckManager.class);
+    /**
+     * Approximate JSON size of one card, e.g. {@code {"suit":"HEARTS","value":"QUEEN"}}.
+     */
+    public static final int CARD_JSON_BYTES = 36;
+
     private final ObjectMapper objectMapper;
+    private final CpuScheduler cpuScheduler;
 
-    public DeckManager(ObjectMapper objectMapper) {
+    public DeckManager(ObjectMapper objectMapper, CpuScheduler cpuScheduler) {
         this.objectMapper = objectMapper;
+        this.cpuScheduler = cpuScheduler;
     }
 
     public List<Card> generateShuffledDeck() {
@@ -51,17 +61,58 @@ public class DeckManager {
         }
     }
 
+    /**
+     * Parses on a CPU thread, or inline for short lists such as a hand.
+     */
     public Mono<List<Card>> deserializeCardsReactive(String deckJson) {
+        return cpuScheduler.run(deckJson == null ? 0 : deckJson.length(), () -> deserializeCards(deckJson));
+    }
+
+    /**
+     * Runs a game step that re-serializes {@code deck} on a CPU thread, or inline when the deck is
+     * nearly empty.
+     */
+    public <T> Mono<T> withDeck(List<Card> deck, Callable<T> step) {
+        return cpuScheduler.run((long) deck.size() * CARD_JSON_BYTES, step);
+    }
+
+    /**
+     * Same as {@link #withDeck(List, Callable)} for a step that parses and re-serializes {@code deckJson}.
+     */
+    public <T> Mono<T> withDeck(String deckJson, Callable<T> step) {
+        return cpuScheduler.run(deckJson == null ? 0 : deckJson.length(), step);
+    }
+
+    public List<Card> deserializeCards(String deckJson) {
         if (deckJson == null || deckJson.isBlank()) {
-            return Mono.just(List.of());
+            return List.of();
         }
 
         try {
-            return Mono.just(objectMapper.readValue(deckJson, new TypeReference<List<Card>>() {}));
+            return objectMapper.readValue(deckJson, new TypeReference<List<Card>>() {});
         } catch (JsonProcessingException e) {
             logger.error("Error parsing deck JSON", e);
-            return Mono.error(new RuntimeException("Deck parsing failed", e));
+            throw new RuntimeException("Deck parsing failed", e);
+        }
+    }
+
+    /**
+     * Packs cards one byte each, in order, e.g. to keep the deck a game was dealt from.
+     */
+    public byte[] packCards(List<Card> cards) {
+        byte[] packed = new byte[cards.size()];
+        for (int i = 0; i < packed.length; i++) {
+            packed[i] = GameMove.encode(cards.get(i));
+        }
+        return packed;
+    }
+
+    public List<Card> unpackCards(byte[] packed) {
+        List<Card> cards = new ArrayList<>(packed.length);
+        for (byte code : packed) {
+            cards.add(GameMove.decode(code));
         }
+        return cards;
     }
 
     public Tuple2<List<Card>, List<Card>> splitDeck(List<Card> deck) {
@@ -0,0 +1,190 @@
+package cat.itacademy.blackjack.service.event;
+
+import cat.itacademy.blackjack.dto.GameEvent;
+import cat.itacademy.blackjack.mapper.CardMapper;
+import cat.itacademy.blackjack.model.Card;
+import cat.itacademy.blackjack.model.GameEventType;
+import cat.itacademy.blackjack.model.Games;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.util.concurrent.Queues;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * In-process fan-out of game changes to live subscribers (SSE clients).
+ * Each game with subscribers has its own sink, so moves on unrelated games never contend, and each
+ * subscriber gets its own bounded buffer, so a slow client cannot hold back the processors or other clients.
+ * Deltas carry the game's move-log seq: a subscriber that misses one, because its buffer overflowed or a
+ * delta arrived out of order, is sent a fresh snapshot instead of a stream with a gap.
+ *
+ * <p>{@link #publish} never waits: it runs on event loops and on the LISTEN loop. When another thread is
+ * already emitting on the same feed, the event is queued and that thread emits it after its own.
+ */
+@Component
+public class GameEventPublisher {
+
+    private static final Logger logger = LoggerFactory.getLogger(GameEventPublisher.class);
+
+    private final Map<Long, Feed> feeds = new ConcurrentHashMap<>();
+    private final CardMapper cardMapper;
+    private final int subscriberBufferSize;
+    private final Counter dropped;
+
+    public GameEventPublisher(CardMapper cardMapper,
+                              @Value("${blackjack.events.subscriber-buffer-size:64}") int subscriberBufferSize,
+                              MeterRegistry meterRegistry) {
+        this.cardMapper = cardMapper;
+        this.subscriberBufferSize = subscriberBufferSize;
+        this.dropped = Counter.builder("blackjack.events.dropped")
+                .description("Game events the feed sink refused; their subscribers resync on the next event")
+                .register(meterRegistry);
+    }
+
+    public void publishHit(Games game, Card newCard) {
+        publish(hitEvent(game, newCard));
+    }
+
+    public void publishStand(Games game, List<Card> dealerDrawnCards) {
+        publish(standEvent(game, dealerDrawnCards));
+    }
+
+    public GameEvent hitEvent(Games game, Card newCard) {
+        return hitEvent(game, newCard, game.getLastSeq());
+    }
+
+    /**
+     * @param seq seq of the logged hit, for moves not yet appended to the log
+     */
+    public GameEvent hitEvent(Games game, Card newCard, int seq) {
+        return new GameEvent(game.getId(), GameEventType.HIT, cardMapper.toDtoList(List.of(newCard)), List.of(),
+                game.getPlayerScore(), game.getDealerScore(), game.getStatus(), game.getTurn(), seq);
+    }
+
+    public GameEvent standEvent(Games game, List<Card> dealerDrawnCards) {
+        return standEvent(game, dealerDrawnCards, game.getLastSeq());
+    }
+
+    /**
+     * @param seq seq of the logged stand, for moves not yet appended to the log
+     */
+    public GameEvent standEvent(Games game, List<Card> dealerDrawnCards, int seq) {
+        return new GameEvent(game.getId(), GameEventType.STAND, List.of(), cardMapper.toDtoList(dealerDrawnCards),
+                game.getPlayerScore(), game.getDealerScore(), game.getStatus(), game.getTurn(), seq);
+    }
+
+    public void publish(GameEvent event) {
+        Feed feed = feeds.get(event.gameId());
+        if (feed == null) {
+            return;
+        }
+        logger.debug("Publishing {} event for game {} at seq {}", event.type(), event.gameId(), event.seq());
+        feed.emit(event, dropped);
+    }
+
+    public boolean hasSubscribers(Long gameId) {
+        return feeds.containsKey(gameId);
+    }
+
+    /**
+     * Emits the snapshot first and then the live events of the game, completing once the game is finished.
+     * The live feed is tapped before the snapshot is read, so no move is lost in between; deltas already
+     * included in the snapshot are skipped. {@code snapshot} is subscribed again whenever the subscriber
+     * has to be resynchronized.
+     */
+    public Flux<GameEvent> subscribe(Long gameId, Mono<GameEvent> snapshot) {
+        return Flux.defer(() -> {
+            Sinks.Many<GameEvent> pending = Sinks.many().unicast()
+                    .onBackpressureBuffer(Queues.<GameEvent>get(subscriberBufferSize).get());
+            AtomicBoolean overflowed = new AtomicBoolean();
+            AtomicInteger delivered = new AtomicInteger();
+            Feed feed = feeds.compute(gameId, (id, current) -> (current == null ? new Feed() : current).retain());
+            Disposable tap = feed.sink.asFlux().subscribe(event -> {
+                if (pending.tryEmitNext(event).isFailure()) {
+                    // flag first: if the retry fails too, events are still queued and one of them triggers the resync
+                    overflowed.set(true);
+                    if (pending.tryEmitNext(event).isFailure()) {
+                        logger.warn("Subscriber buffer full for game {}, it will be sent a fresh snapshot", gameId);
+                    }
+                }
+            });
+
+            Mono<GameEvent> resync = snapshot.doOnNext(event -> delivered.set(event.seq()));
+            return resync.concatWith(pending.asFlux().concatMap(event -> {
+                        if (overflowed.getAndSet(false)) {
+                            return resync;
+                        }
+                        if (event.seq() <= delivered.get()) {
+                            return Mono.empty();
+                        }
+                        if (event.type() != GameEventType.SNAPSHOT && event.previousSeq() != delivered.get()) {
+                            logger.debug("Game {} stream expected seq {} but got {}, resending snapshot",
+                                    gameId, delivered.get(), event.previousSeq());
+                            return resync;
+                        }
+                        delivered.set(event.seq());
+                        return Mono.just(event);
+                    }))
+                    .takeUntil(GameEvent::isFinal)
+                    .doFinally(signal -> {
+                        tap.dispose();
+                        feeds.computeIfPresent(gameId, (id, current) -> current.release());
+                    });
+        });
+    }
+
+    /**
+     * Sink of one game's events, kept while the game has subscribers. The count is only changed inside
+     * {@code feeds.compute}, which runs atomically per game. Emits are serialized through {@code outbox}:
+     * whoever takes {@code emitting} from 0 drains it, everyone else only enqueues.
+     */
+    private static final class Feed {
+
+        private final Sinks.Many<GameEvent> sink = Sinks.many().multicast().directBestEffort();
+        private final Queue<GameEvent> outbox = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger emitting = new AtomicInteger();
+        private int subscribers;
+
+        void emit(GameEvent event, Counter dropped) {
+            outbox.offer(event);
+            if (emitting.getAndIncrement() != 0) {
+                return;
+            }
+            int missed = 1;
+            do {
+                GameEvent next;
+                while ((next = outbox.poll()) != null) {
+                    Sinks.EmitResult result = sink.tryEmitNext(next);
+                    if (result.isFailure() && result != Sinks.EmitResult.FAIL_ZERO_SUBSCRIBER) {
+                        dropped.increment();
+                        logger.warn("Dropped {} event of game {}: {}", next.type(), next.gameId(), result);
+                    }
+                }
+                missed = emitting.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        Feed retain() {
+            subscribers++;
+            return this;
+        }
+
+        Feed release() {
+            return --subscribers > 0 ? this : null;
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package cat.itacademy.blackjack.service.eventlog;
+
+import cat.itacademy.blackjack.model.GameMove;
+import cat.itacademy.blackjack.model.GameTurn;
+import cat.itacademy.blackjack.model.Games;
+import cat.itacademy.blackjack.repository.sql.GameMoveRepository;
+import cat.itacademy.blackjack.repository.sql.GameRepository;
+import cat.itacademy.blackjack.service.cluster.GameChangeNotifier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Persists moves as appends to {@code game_events} instead of rewriting the {@code games} row.
+ * The row is rewritten as a snapshot only when the game finishes or {@code snapshotInterval}
+ * moves have piled up since the last one, so finished games never need a replay.
+ */
+@Component
+public class GameMoveLog {
+
+    private static final Logger logger = LoggerFactory.getLogger(GameMoveLog.class);
+
+    private final GameMoveRepository gameMoveRepository;
+    private final GameRepository gameRepository;
+    private final GameChangeNotifier gameChangeNotifier;
+    private final int snapshotInterval;
+
+    public GameMoveLog(GameMoveRepository gameMoveRepository,
+                       GameRepository gameRepository,
+                       GameChangeNotifier gameChangeNotifier,
+                       @Value("${blackjack.event-log.snapshot-interval:8}") int snapshotInterval) {
+        this.gameMoveRepository = gameMoveRepository;
+        this.gameRepository = gameRepository;
+        this.gameChangeNotifier = gameChangeNotifier;
+        this.snapshotInterval = snapshotInterval;
+    }
+
+    /**
+     * Appends the moves just applied in memory to {@code game}, after its {@code lastSeq}.
+     *
+     * @return the game, or {@link OptimisticLockingFailureException} if another request logged a move first
+     */
+    public Mono<Games> append(Games game, List<GameMove> moves) {
+        return gameMoveRepository.appendAll(number(game, moves))
+                .onErrorMap(DataIntegrityViolationException.class, e -> new OptimisticLockingFailureException(
+                        "Game " + game.getId() + " was modified concurrently", e))
+                .then(Mono.defer(() -> {
+                    game.setLastSeq(game.getLastSeq() + moves.size());
+                    logger.debug("Logged {} moves of game {} up to seq {}", moves.size(), game.getId(), game.getLastSeq());
+                    return snapshotIfDue(List.of(game));
+                }))
+                .then(gameChangeNotifier.notifyChanged(game))
+                .thenReturn(game);
+    }
+
+    /**
+     * Appends the moves of many games with one statement. If any game conflicts, falls back to one
+     * statement per game so only the conflicting games are left out.
+     *
+     * @return ids of the games whose moves were appended
+     */
+    public Mono<Set<Long>> appendAll(List<Games> games, Map<Long, List<GameMove>> movesByGame) {
+        List<GameMove> all = games.stream()
+                .flatMap(game -> number(game, movesByGame.get(game.getId())).stream())
+                .toList();
+
+        return gameMoveRepository.appendAll(all)
+                .thenReturn(games)
+                .onErrorResume(DataIntegrityViolationException.class, e -> {
+                    logger.debug("Batch append of {} games conflicted, appending game by game", games.size());
+                    return Flux.fromIterable(games)
+                            .concatMap(game -> gameMoveRepository.appendAll(number(game, movesByGame.get(game.getId())))
+                                    .thenReturn(game)
+                                    .onErrorResume(DataIntegrityViolationException.class, conflict -> Mono.empty()))
+                            .collectList();
+                })
+                .flatMap(appended -> {
+                    appended.forEach(game -> game.setLastSeq(game.getLastSeq() + movesByGame.get(game.getId()).size()));
+                    return snapshotIfDue(appended)
+                            .thenReturn(appended.stream().map(Games::getId).collect(Collectors.toSet()));
+                });
+    }
+
+    private Mono<Void> snapshotIfDue(List<Games> games) {
+        List<Games> due = games.stream()
+                .filter(game -> game.getTurn() == GameTurn.FINISHED || game.getLastSeq() - game.getEventSeq() >= snapshotInterval)
+                .toList();
+        if (due.isEmpty()) {
+            return Mono.empty();
+        }
+
+        // the log already holds the moves, so a failed snapshot only means a longer replay on the next load
+        return gameRepository.updateAll(due)
+                .collect(Collectors.toSet())
+                .doOnNext(written -> due.stream()
+                        .filter(game -> written.contains(game.getId()))
+                        .forEach(game -> {
+                            game.setEventSeq(game.getLastSeq());
+                            game.setVersion(game.getVersion() + 1);
+                        }))
+                .doOnNext(written -> logger.debug("Wrote {} of {} due snapshots", written.size(), due.size()))
+                .onErrorResume(error -> {
+                    logger.warn("Could not write snapshots of {} games: {}", due.size(), error.getMessage());
+                    return Mono.empty();
+                })
+                .then();
+    }
+
+    private static List<GameMove> number(Games game, List<GameMove> moves) {
+        return IntStream.range(0, moves.size())
+                .mapToObj(index -> moves.get(index).at(game.getId(), game.getLastSeq() + index + 1))
+                .toList();
+    }
+}
@@ -0,0 +1,130 @@
+package cat.itacademy.blackjack.service.eventlog;
+
+import cat.itacademy.blackjack.model.*;
+import cat.itacademy.blackjack.repository.sql.GameMoveRepository;
+import cat.itacademy.blackjack.repository.sql.GameRepository;
+import cat.itacademy.blackjack.service.engine.BlackjackEngine;
+import cat.itacademy.blackjack.service.engine.DeckManager;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Reads the current state of games: the {@code games} row is the latest snapshot, and the moves logged
+ * in {@code game_events} after it are replayed on top. Replay applies the recorded cards rather than
+ * drawing again, and fails if they do not match the top of the snapshot's deck.
+ */
+@Component
+@RequiredArgsConstructor
+public class GameStateLoader {
+
+    private static final Logger logger = LoggerFactory.getLogger(GameStateLoader.class);
+
+    private final GameRepository gameRepository;
+    private final GameMoveRepository gameMoveRepository;
+    private final DeckManager deckManager;
+    private final BlackjackEngine blackjackEngine;
+
+    public Mono<Games> load(Long gameId) {
+        return gameRepository.findById(gameId)
+                .flatMap(game -> gameMoveRepository.findAfter(gameId, game.getEventSeq())
+                        .collectList()
+                        .flatMap(moves -> moves.isEmpty()
+                                ? Mono.just(replay(game, moves))
+                                : deckManager.withDeck(game.getDeckJson(), () -> replay(game, moves))));
+    }
+
+    /**
+     * Loads the given games with one query for the rows and one for all their pending moves.
+     */
+    public Flux<Games> loadAll(Collection<Long> gameIds) {
+        return gameMoveRepository.findPending(gameIds)
+                .collect(Collectors.groupingBy(GameMove::gameId))
+                .flatMapMany(pending -> gameRepository.findAllById(gameIds)
+                        .map(game -> replay(game, pending.getOrDefault(game.getId(), List.of()))));
+    }
+
+    public Flux<Games> loadAll() {
+        return gameMoveRepository.findAllPending()
+                .collect(Collectors.groupingBy(GameMove::gameId))
+                .flatMapMany(pending -> gameRepository.findAll()
+                        .map(game -> replay(game, pending.getOrDefault(game.getId(), List.of()))));
+    }
+
+    /**
+     * Applies {@code moves}, which must directly follow the snapshot's {@code eventSeq}, to the snapshot in place.
+     */
+    public Games replay(Games snapshot, List<GameMove> moves) {
+        snapshot.setLastSeq(snapshot.getEventSeq());
+        if (moves.isEmpty()) {
+            return snapshot;
+        }
+
+        List<Card> deck = new ArrayList<>(deckManager.deserializeCards(snapshot.getDeckJson()));
+        List<Card> playerCards = new ArrayList<>(deckManager.deserializeCards(snapshot.getPlayerCardsJson()));
+        List<Card> dealerCards = new ArrayList<>(deckManager.deserializeCards(snapshot.getDealerCardsJson()));
+        apply(snapshot, deck, playerCards, dealerCards, moves);
+
+        logger.debug("Replayed {} moves of game {} on top of snapshot seq {}", moves.size(), snapshot.getId(), snapshot.getEventSeq());
+        snapshot.setPlayerCards(playerCards);
+        snapshot.setDealerCards(dealerCards);
+        snapshot.setDeckJson(deckManager.serializeCards(deck));
+        snapshot.setPlayerCardsJson(deckManager.serializeCards(playerCards));
+        snapshot.setDealerCardsJson(deckManager.serializeCards(dealerCards));
+        return snapshot;
+    }
+
+    /**
+     * Applies {@code moves}, which must directly follow {@code game.getLastSeq()}, to already deserialized hands.
+     * Updates scores, status, turn and {@code lastSeq} of {@code game}; the card lists are changed in place.
+     *
+     * @throws IllegalStateException if a seq is missing or a logged card is not on top of {@code deck}
+     */
+    public void apply(Games game, List<Card> deck, List<Card> playerCards, List<Card> dealerCards, List<GameMove> moves) {
+        for (GameMove move : moves) {
+            if (move.seq() != game.getLastSeq() + 1) {
+                throw new IllegalStateException("Move log of game " + game.getId() + " is missing seq " + (game.getLastSeq() + 1));
+            }
+            switch (move.type()) {
+                case HIT -> {
+                    playerCards.add(take(game, deck, move));
+                    int playerScore = blackjackEngine.calculateScore(playerCards);
+                    game.setPlayerScore(playerScore);
+                    if (playerScore > 21) {
+                        finish(game, GameStatus.FINISHED_DEALER_WON);
+                    } else if (playerScore == 21) {
+                        finish(game, blackjackEngine.determineWinner(playerScore, game.getDealerScore()));
+                    }
+                }
+                case DEALER_DRAW -> {
+                    dealerCards.add(take(game, deck, move));
+                    game.setDealerScore(blackjackEngine.calculateScore(dealerCards));
+                }
+                case STAND -> finish(game, blackjackEngine.determineWinner(
+                        blackjackEngine.calculateScore(playerCards), game.getDealerScore()));
+            }
+            game.setLastSeq(move.seq());
+        }
+    }
+
+    private static Card take(Games game, List<Card> deck, GameMove move) {
+        Card logged = move.toCard();
+        if (deck.isEmpty() || deck.get(0).getSuit() != logged.getSuit() || deck.get(0).getValue() != logged.getValue()) {
+            throw new IllegalStateException("Move log of game " + game.getId() + " does not match its deck at seq " + move.seq());
+        }
+        return deck.remove(0);
+    }
+
+    private static void finish(Games game, GameStatus status) {
+        game.setStatus(status);
+        game.setTurn(GameTurn.FINISHED);
+    }
+}
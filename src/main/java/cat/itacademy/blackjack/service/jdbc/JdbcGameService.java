@@ -0,0 +1,479 @@
+package cat.itacademy.blackjack.service.jdbc;
+
+import cat.itacademy.blackjack.config.CpuScheduler;
+import cat.itacademy.blackjack.config.jdbc.JdbcScheduler;
+import cat.itacademy.blackjack.dto.AdviceResponse;
+import cat.itacademy.blackjack.dto.AutoplaySummary;
+import cat.itacademy.blackjack.dto.GameEvent;
+import cat.itacademy.blackjack.dto.GameOddsResponse;
+import cat.itacademy.blackjack.dto.GameResponse;
+import cat.itacademy.blackjack.dto.MoveRequest;
+import cat.itacademy.blackjack.dto.MoveResult;
+import cat.itacademy.blackjack.dto.PlayerSummary;
+import cat.itacademy.blackjack.exception.GameNotFoundException;
+import cat.itacademy.blackjack.exception.InsufficientCardsException;
+import cat.itacademy.blackjack.exception.InvalidGameStateException;
+import cat.itacademy.blackjack.exception.PlayerNotFoundException;
+import cat.itacademy.blackjack.mapper.GameMapper;
+import cat.itacademy.blackjack.model.AutoplayStrategy;
+import cat.itacademy.blackjack.model.Card;
+import cat.itacademy.blackjack.model.GameMove;
+import cat.itacademy.blackjack.model.GameStatus;
+import cat.itacademy.blackjack.model.Games;
+import cat.itacademy.blackjack.model.Player;
+import cat.itacademy.blackjack.repository.blocking.BlockingPlayerRepository;
+import cat.itacademy.blackjack.service.GameService;
+import cat.itacademy.blackjack.service.cluster.GameChangeNotifier;
+import cat.itacademy.blackjack.service.engine.DeckManager;
+import cat.itacademy.blackjack.service.event.GameEventPublisher;
+import cat.itacademy.blackjack.service.logic.AutoplayProcessor;
+import cat.itacademy.blackjack.service.logic.BulkMoveProcessor;
+import cat.itacademy.blackjack.service.logic.GameCommandLanes;
+import cat.itacademy.blackjack.service.logic.GameCreationService;
+import cat.itacademy.blackjack.service.logic.GameHitProcessor;
+import cat.itacademy.blackjack.service.logic.GameStandProcessor;
+import cat.itacademy.blackjack.service.odds.GameOddsService;
+import cat.itacademy.blackjack.service.player.PlayerExpander;
+import cat.itacademy.blackjack.service.strategy.BasicStrategyAdvisor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * {@link GameService} of the {@code jdbc} profile. Games are read and written with blocking JDBC through
+ * {@link JdbcGameStore} and players with the sync Mongo driver, each call wrapped in a {@code Mono} running on a
+ * virtual thread of {@link JdbcScheduler}. The game rules, events, command lanes and cluster notifications are the
+ * ones {@code GameServiceImpl} uses.
+ *
+ * <p>Bulk moves are played and appended game by game, each on its lane, instead of in batched appends across games:
+ * a blocked virtual thread costs little, and holding the lane until the append is written removes the window in
+ * which a concurrent single move could make the batch conflict.
+ */
+@Service
+@Profile("jdbc")
+public class JdbcGameService implements GameService {
+
+    private static final Logger logger = LoggerFactory.getLogger(JdbcGameService.class);
+
+    private final JdbcScheduler jdbcScheduler;
+    private final JdbcGameStore gameStore;
+    private final BlockingPlayerRepository playerRepository;
+    private final GameMapper gameMapper;
+    private final DeckManager deckManager;
+    private final CpuScheduler cpuScheduler;
+
+    private final GameCreationService gameCreationService;
+    private final GameHitProcessor gameHitProcessor;
+    private final GameStandProcessor gameStandProcessor;
+    private final AutoplayProcessor autoplayProcessor;
+    private final GameCommandLanes gameCommandLanes;
+    private final GameEventPublisher gameEventPublisher;
+    private final GameChangeNotifier gameChangeNotifier;
+    private final GameOddsService gameOddsService;
+    private final BasicStrategyAdvisor basicStrategyAdvisor;
+    private final int batchInsertSize;
+    private final int bulkConcurrency;
+
+    public JdbcGameService(JdbcScheduler jdbcScheduler,
+                           JdbcGameStore gameStore,
+                           BlockingPlayerRepository playerRepository,
+                           GameMapper gameMapper,
+                           DeckManager deckManager,
+                           CpuScheduler cpuScheduler,
+                           GameCreationService gameCreationService,
+                           GameHitProcessor gameHitProcessor,
+                           GameStandProcessor gameStandProcessor,
+                           AutoplayProcessor autoplayProcessor,
+                           GameCommandLanes gameCommandLanes,
+                           GameEventPublisher gameEventPublisher,
+                           GameChangeNotifier gameChangeNotifier,
+                           GameOddsService gameOddsService,
+                           BasicStrategyAdvisor basicStrategyAdvisor,
+                           @Value("${blackjack.games.batch-insert-size:200}") int batchInsertSize,
+                           @Value("${blackjack.moves.bulk-concurrency:16}") int bulkConcurrency) {
+        this.jdbcScheduler = jdbcScheduler;
+        this.gameStore = gameStore;
+        this.playerRepository = playerRepository;
+        this.gameMapper = gameMapper;
+        this.deckManager = deckManager;
+        this.cpuScheduler = cpuScheduler;
+        this.gameCreationService = gameCreationService;
+        this.gameHitProcessor = gameHitProcessor;
+        this.gameStandProcessor = gameStandProcessor;
+        this.autoplayProcessor = autoplayProcessor;
+        this.gameCommandLanes = gameCommandLanes;
+        this.gameEventPublisher = gameEventPublisher;
+        this.gameChangeNotifier = gameChangeNotifier;
+        this.gameOddsService = gameOddsService;
+        this.basicStrategyAdvisor = basicStrategyAdvisor;
+        this.batchInsertSize = batchInsertSize;
+        this.bulkConcurrency = bulkConcurrency;
+    }
+
+    @Override
+    public Mono<GameResponse> createGame(String playerName) {
+        if (playerName == null || playerName.trim().isEmpty()) {
+            logger.warn("Attempt to create game with null or empty player name.");
+            return Mono.error(PlayerNotFoundException.forInvalidInput());
+        }
+
+        logger.info("Creating game for player: {}", playerName);
+
+        return jdbcScheduler.call(() -> {
+                    Player player = playerRepository.findByName(playerName)
+                            .orElseThrow(() -> PlayerNotFoundException.forMissingName(playerName));
+                    Games game = gameStore.insert(gameCreationService.dealGame(player));
+                    logger.info("Game created with ID: {}", game.getId());
+                    gameStore.recordResults(game.getPlayerId(), List.of(game));
+                    return game;
+                })
+                .flatMap(game -> gameChangeNotifier.notifyChanged(game)
+                        .thenReturn(gameMapper.toResponse(game, game.getPlayerCards(), game.getDealerCards())));
+    }
+
+    /**
+     * Resolves all players with one query, then inserts the games in batches of {@code batchInsertSize},
+     * emitting the responses batch by batch, in request order.
+     */
+    @Override
+    public Flux<GameResponse> createGames(List<String> playerNames) {
+        if (playerNames == null || playerNames.isEmpty()) {
+            return Flux.empty();
+        }
+        if (playerNames.stream().anyMatch(name -> name == null || name.trim().isEmpty())) {
+            logger.warn("Attempt to create games with null or empty player name.");
+            return Flux.error(PlayerNotFoundException.forInvalidInput());
+        }
+
+        Set<String> distinctNames = new LinkedHashSet<>(playerNames);
+        logger.info("Creating {} games for {} players", playerNames.size(), distinctNames.size());
+
+        return jdbcScheduler.callMany(() -> {
+                    Map<String, Player> playersByName = playerRepository.findByNameIn(distinctNames).stream()
+                            .collect(Collectors.toMap(Player::getName, Function.identity(), (first, second) -> first));
+                    List<String> missing = distinctNames.stream()
+                            .filter(name -> !playersByName.containsKey(name))
+                            .toList();
+                    if (!missing.isEmpty()) {
+                        throw PlayerNotFoundException.forMissingName(String.join("', '", missing));
+                    }
+                    return playerNames.stream().map(playersByName::get).toList();
+                })
+                .flatMapSequential(player -> cpuScheduler.offload(() -> gameCreationService.dealGame(player)))
+                .buffer(batchInsertSize)
+                .concatMap(batch -> jdbcScheduler.callMany(() -> gameStore.insertAll(batch))
+                        .doOnComplete(() -> logger.info("Inserted batch of {} games", batch.size())))
+                .map(game -> gameMapper.toResponse(game, game.getPlayerCards(), game.getDealerCards()));
+    }
+
+    @Override
+    public Mono<GameResponse> getGameById(Long gameId) {
+        if (gameId == null) {
+            logger.warn("Attempt to get game with null ID");
+            return Mono.error(new GameNotFoundException("Game ID must not be null."));
+        }
+
+        logger.info("Fetching game with ID: {}", gameId);
+        return jdbcScheduler.call(() -> toResponse(loadGame(gameId)));
+    }
+
+    @Override
+    public Flux<GameResponse> getAllGames(boolean expandPlayer) {
+        logger.info("Retrieving all games from repository (expand player: {})", expandPlayer);
+
+        return jdbcScheduler.callMany(() -> {
+                    List<Games> games = gameStore.loadAll();
+                    Map<String, Player> players = expandPlayer
+                            ? playerRepository.findAllById(games.stream().map(Games::getPlayerId).collect(Collectors.toSet())).stream()
+                            .collect(Collectors.toMap(Player::getId, Function.identity()))
+                            : Map.of();
+                    return games.stream()
+                            .map(game -> {
+                                GameResponse response = toResponse(game);
+                                Player player = players.get(game.getPlayerId());
+                                return player == null ? response : PlayerExpander.withPlayer(response, PlayerSummary.from(player));
+                            })
+                            .toList();
+                })
+                .doOnComplete(() -> logger.info("Completed fetching all games"));
+    }
+
+    @Override
+    public Mono<Void> deleteGame(Long gameId) {
+        if (gameId == null) {
+            logger.warn("Attempt to delete game with null ID");
+            return Mono.error(new GameNotFoundException("Game ID must not be null."));
+        }
+
+        logger.info("Deleting game with ID: {}", gameId);
+        return jdbcScheduler.<Void>call(() -> {
+                    if (!gameStore.delete(gameId)) {
+                        throw new GameNotFoundException(gameId);
+                    }
+                    logger.info("Game deleted: {}", gameId);
+                    return null;
+                })
+                .then(Mono.defer(() -> gameChangeNotifier.notifyDeleted(gameId)));
+    }
+
+    @Override
+    public Mono<GameResponse> hit(Long gameId) {
+        if (gameId == null) {
+            logger.warn("Attempted to process hit with null gameId");
+            return Mono.error(new GameNotFoundException("Game ID must not be null"));
+        }
+
+        return gameCommandLanes.submit(gameId, () -> jdbcScheduler.call(() -> {
+                    Games game = loadGame(gameId);
+                    List<Card> deck = new ArrayList<>(deckManager.deserializeCards(game.getDeckJson()));
+                    List<Card> playerCards = new ArrayList<>(deckManager.deserializeCards(game.getPlayerCardsJson()));
+                    List<Card> dealerCards = deckManager.deserializeCards(game.getDealerCardsJson());
+
+                    Card drawn = gameHitProcessor.drawForPlayer(game, deck, playerCards);
+                    gameStore.append(game, List.of(GameMove.hit(drawn)));
+                    gameEventPublisher.publishHit(game, drawn);
+                    gameStore.recordResults(game.getPlayerId(), List.of(game));
+                    return new Moved(game, gameMapper.toResponse(game, playerCards, dealerCards));
+                })
+                .flatMap(moved -> gameChangeNotifier.notifyChanged(moved.game()).thenReturn(moved.response())));
+    }
+
+    @Override
+    public Mono<GameResponse> stand(Long gameId) {
+        if (gameId == null) {
+            logger.warn("Attempted to process stand with null gameId");
+            return Mono.error(new GameNotFoundException("Game ID must not be null"));
+        }
+
+        return gameCommandLanes.submit(gameId, () -> jdbcScheduler.call(() -> {
+                    Games game = loadGame(gameId);
+                    List<Card> deck = new ArrayList<>(deckManager.deserializeCards(game.getDeckJson()));
+                    List<Card> playerCards = deckManager.deserializeCards(game.getPlayerCardsJson());
+                    List<Card> dealerCards = deckManager.deserializeCards(game.getDealerCardsJson());
+
+                    List<Card> drawn = gameStandProcessor.playDealerTurn(game, dealerCards, playerCards, deck);
+                    gameStore.append(game, GameStandProcessor.standMoves(drawn));
+                    gameEventPublisher.publishStand(game, drawn);
+                    gameStore.recordResults(game.getPlayerId(), List.of(game));
+                    return new Moved(game, gameMapper.toResponse(game, playerCards, game.getDealerCards()));
+                })
+                .flatMap(moved -> gameChangeNotifier.notifyChanged(moved.game()).thenReturn(moved.response())));
+    }
+
+    @Override
+    public Flux<MoveResult> playMoves(List<MoveRequest> moves) {
+        if (moves == null || moves.isEmpty()) {
+            return Flux.empty();
+        }
+
+        Map<Long, List<IndexedMove>> movesByGame = new LinkedHashMap<>();
+        for (int index = 0; index < moves.size(); index++) {
+            MoveRequest move = moves.get(index);
+            movesByGame.computeIfAbsent(move.gameId(), id -> new ArrayList<>()).add(new IndexedMove(index, move));
+        }
+
+        logger.info("Processing {} moves for {} games", moves.size(), movesByGame.size());
+
+        return Flux.fromIterable(movesByGame.entrySet())
+                .flatMap(entry -> gameCommandLanes.submit(entry.getKey(),
+                                        () -> jdbcScheduler.call(() -> playAndAppend(entry.getKey(), entry.getValue())))
+                                .onErrorResume(error -> {
+                                    logger.error("Could not play bulk moves of game {}", entry.getKey(), error);
+                                    return Mono.just(new BulkOutcome(null, reject(entry.getValue(), error.getMessage())));
+                                })
+                                .flatMapMany(outcome -> (outcome.game() == null
+                                        ? Mono.<Void>empty()
+                                        : gameChangeNotifier.notifyChanged(outcome.game()))
+                                        .thenMany(Flux.fromIterable(outcome.results()))),
+                        bulkConcurrency);
+    }
+
+    @Override
+    public Flux<AutoplaySummary> autoplay(String playerName, AutoplayStrategy strategy, int games) {
+        if (playerName == null || playerName.trim().isEmpty()) {
+            return Flux.error(PlayerNotFoundException.forInvalidInput());
+        }
+
+        logger.info("Auto-playing {} games for player {} with strategy {}", games, playerName, strategy);
+
+        return jdbcScheduler.call(() -> playerRepository.findByName(playerName)
+                        .orElseThrow(() -> PlayerNotFoundException.forMissingName(playerName)))
+                .flatMapMany(player -> Flux.range(0, games)
+                        .buffer(batchInsertSize)
+                        .concatMap(batch -> cpuScheduler.offload(() -> autoplayProcessor.playBatch(player.getId(), strategy, batch.size()))
+                                .flatMap(played -> jdbcScheduler.call(() -> gameStore.insertPlayed(played)))
+                                .flatMap(saved -> recordResults(player.getId(), saved).thenReturn(saved)))
+                        .scan(AutoplaySummary.start(playerName, strategy, games), AutoplayProcessor::addBatch)
+                        .skip(1))
+                .doOnComplete(() -> logger.info("Auto-play of {} games for player {} completed", games, playerName));
+    }
+
+    @Override
+    public Flux<GameEvent> streamEvents(Long gameId) {
+        logger.info("Opening event stream for game ID: {}", gameId);
+        return gameEventPublisher.subscribe(gameId, getSnapshot(gameId));
+    }
+
+    @Override
+    public Mono<GameEvent> getSnapshot(Long gameId) {
+        if (gameId == null) {
+            return Mono.error(new GameNotFoundException("Game ID must not be null."));
+        }
+
+        return jdbcScheduler.call(() -> {
+            Games game = loadGame(gameId);
+            return GameEvent.snapshot(toResponse(game), game.getLastSeq());
+        });
+    }
+
+    @Override
+    public Mono<GameOddsResponse> getOdds(Long gameId, boolean exact) {
+        if (gameId == null) {
+            return Mono.error(new GameNotFoundException("Game ID must not be null."));
+        }
+
+        return jdbcScheduler.call(() -> loadGame(gameId))
+                .flatMap(game -> gameOddsService.getOdds(game, exact));
+    }
+
+    @Override
+    public Mono<AdviceResponse> getAdvice(Long gameId) {
+        if (gameId == null) {
+            logger.warn("Attempt to get advice with null ID");
+            return Mono.error(new GameNotFoundException("Game ID must not be null."));
+        }
+
+        return jdbcScheduler.call(() -> loadGame(gameId))
+                .flatMap(game -> {
+                    if (game.getStatus() != GameStatus.IN_PROGRESS) {
+                        return Mono.error(new InvalidGameStateException("Advice is only available for games in progress."));
+                    }
+                    int player = game.getPlayerScore();
+                    int dealer = game.getDealerScore();
+                    return Mono.just(new AdviceResponse(game.getId(), player, dealer,
+                            basicStrategyAdvisor.advise(player, dealer),
+                            basicStrategyAdvisor.hitValue(player, dealer),
+                            basicStrategyAdvisor.standValue(player, dealer)));
+                });
+    }
+
+    /**
+     * Plays the moves of one game in memory and appends them with one statement. The events are published and
+     * the player's stats updated only once the append succeeded.
+     */
+    private BulkOutcome playAndAppend(Long gameId, List<IndexedMove> moves) {
+        Games game = gameStore.load(gameId).orElse(null);
+        if (game == null) {
+            return new BulkOutcome(null, reject(moves, new GameNotFoundException(gameId).getMessage()));
+        }
+
+        List<Card> deck = new ArrayList<>(deckManager.deserializeCards(game.getDeckJson()));
+        List<Card> playerCards = new ArrayList<>(deckManager.deserializeCards(game.getPlayerCardsJson()));
+        List<Card> dealerCards = new ArrayList<>(deckManager.deserializeCards(game.getDealerCardsJson()));
+        List<MoveResult> results = new ArrayList<>(moves.size());
+        List<GameEvent> events = new ArrayList<>();
+        List<GameMove> logged = new ArrayList<>();
+
+        for (IndexedMove indexed : moves) {
+            try {
+                GameEvent event = switch (indexed.move().action()) {
+                    case HIT -> {
+                        Card drawn = gameHitProcessor.drawForPlayer(game, deck, playerCards);
+                        logged.add(GameMove.hit(drawn));
+                        yield gameEventPublisher.hitEvent(game, drawn, game.getLastSeq() + logged.size());
+                    }
+                    case STAND -> {
+                        List<Card> drawn = gameStandProcessor.playDealerTurn(game, dealerCards, playerCards, deck);
+                        logged.addAll(GameStandProcessor.standMoves(drawn));
+                        dealerCards = new ArrayList<>(game.getDealerCards());
+                        yield gameEventPublisher.standEvent(game, drawn, game.getLastSeq() + logged.size());
+                    }
+                };
+                events.add(event);
+                results.add(MoveResult.applied(indexed.index(), indexed.move(), gameMapper.toResponse(game, playerCards, dealerCards)));
+            } catch (InvalidGameStateException | InsufficientCardsException e) {
+                results.add(MoveResult.rejected(indexed.index(), indexed.move(), e.getMessage()));
+            }
+        }
+        if (events.isEmpty()) {
+            return new BulkOutcome(null, results);
+        }
+
+        try {
+            gameStore.append(game, logged);
+        } catch (OptimisticLockingFailureException e) {
+            return new BulkOutcome(null, rejectApplied(results, BulkMoveProcessor.CONFLICT));
+        } catch (RuntimeException e) {
+            logger.error("Append of the bulk moves of game {} failed", gameId, e);
+            return new BulkOutcome(null, rejectApplied(results, BulkMoveProcessor.NOT_SAVED));
+        }
+        events.forEach(gameEventPublisher::publish);
+        gameStore.recordResults(game.getPlayerId(), List.of(game));
+        return new BulkOutcome(game, results);
+    }
+
+    private Mono<Void> recordResults(String playerId, List<Games> saved) {
+        return jdbcScheduler.<Void>call(() -> {
+                    gameStore.recordResults(playerId, saved);
+                    return null;
+                })
+                .retryWhen(Retry.backoff(3, Duration.ofMillis(100)))
+                .onErrorResume(error -> {
+                    logger.error("Saved {} auto-played games of player {} but could not add them to its stats",
+                            saved.size(), playerId, error);
+                    return Mono.empty();
+                });
+    }
+
+    private Games loadGame(Long gameId) {
+        return gameStore.load(gameId).orElseThrow(() -> new GameNotFoundException(gameId));
+    }
+
+    private GameResponse toResponse(Games game) {
+        return gameMapper.toResponse(game,
+                deckManager.deserializeCards(game.getPlayerCardsJson()),
+                deckManager.deserializeCards(game.getDealerCardsJson()));
+    }
+
+    private static List<MoveResult> reject(List<IndexedMove> moves, String error) {
+        return moves.stream()
+                .map(indexed -> MoveResult.rejected(indexed.index(), indexed.move(), error))
+                .toList();
+    }
+
+    private static List<MoveResult> rejectApplied(List<MoveResult> results, String error) {
+        return results.stream()
+                .map(result -> result.isApplied()
+                        ? new MoveResult(result.index(), result.gameId(), result.action(), null, error)
+                        : result)
+                .toList();
+    }
+
+    private record Moved(Games game, GameResponse response) {
+    }
+
+    private record IndexedMove(int index, MoveRequest move) {
+    }
+
+    /**
+     * @param game the game, if moves of it were appended and the cluster must be told
+     */
+    private record BulkOutcome(Games game, List<MoveResult> results) {
+    }
+}
@@ -0,0 +1,217 @@
+package cat.itacademy.blackjack.service.jdbc;
+
+import cat.itacademy.blackjack.model.GameMove;
+import cat.itacademy.blackjack.model.GameStatus;
+import cat.itacademy.blackjack.model.GameTurn;
+import cat.itacademy.blackjack.model.Games;
+import cat.itacademy.blackjack.model.Player;
+import cat.itacademy.blackjack.repository.blocking.JdbcGameMoveRepository;
+import cat.itacademy.blackjack.repository.blocking.JdbcGameRepository;
+import cat.itacademy.blackjack.repository.mongo.PlayerStatsUpdates;
+import cat.itacademy.blackjack.service.eventlog.GameStateLoader;
+import cat.itacademy.blackjack.service.logic.AutoplayProcessor.PlayedGame;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Blocking counterpart of {@code GameStateLoader}, {@code GameMoveLog} and {@code PlayerStatsUpdater} for the
+ * {@code jdbc} profile, with the same rules: the {@code games} row is a snapshot with the later moves replayed
+ * on top, moves are appended to {@code game_events}, and the snapshot is rewritten only when the game finishes
+ * or {@code snapshotInterval} moves have piled up. Every method blocks and must run on a {@code JdbcScheduler} thread.
+ */
+@Component
+@Profile("jdbc")
+public class JdbcGameStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(JdbcGameStore.class);
+
+    private final JdbcGameRepository gameRepository;
+    private final JdbcGameMoveRepository gameMoveRepository;
+    private final GameStateLoader gameStateLoader;
+    private final TransactionTemplate jdbcTransactionTemplate;
+    private final MongoTemplate mongoTemplate;
+    private final int snapshotInterval;
+
+    public JdbcGameStore(JdbcGameRepository gameRepository,
+                         JdbcGameMoveRepository gameMoveRepository,
+                         GameStateLoader gameStateLoader,
+                         TransactionTemplate jdbcTransactionTemplate,
+                         MongoTemplate mongoTemplate,
+                         @Value("${blackjack.event-log.snapshot-interval:8}") int snapshotInterval) {
+        this.gameRepository = gameRepository;
+        this.gameMoveRepository = gameMoveRepository;
+        this.gameStateLoader = gameStateLoader;
+        this.jdbcTransactionTemplate = jdbcTransactionTemplate;
+        this.mongoTemplate = mongoTemplate;
+        this.snapshotInterval = snapshotInterval;
+    }
+
+    public Optional<Games> load(Long gameId) {
+        return gameRepository.findById(gameId)
+                .map(game -> gameStateLoader.replay(game, gameMoveRepository.findAfter(gameId, game.getEventSeq())));
+    }
+
+    /**
+     * Loads the given games with one query for the rows and one for all their pending moves.
+     */
+    public Map<Long, Games> loadAll(Collection<Long> gameIds) {
+        Map<Long, List<GameMove>> pending = gameMoveRepository.findPending(gameIds).stream()
+                .collect(Collectors.groupingBy(GameMove::gameId));
+        return gameRepository.findAllById(gameIds).stream()
+                .map(game -> gameStateLoader.replay(game, pending.getOrDefault(game.getId(), List.of())))
+                .collect(Collectors.toMap(Games::getId, game -> game));
+    }
+
+    public List<Games> loadAll() {
+        Map<Long, List<GameMove>> pending = gameMoveRepository.findAllPending().stream()
+                .collect(Collectors.groupingBy(GameMove::gameId));
+        return gameRepository.findAll().stream()
+                .map(game -> gameStateLoader.replay(game, pending.getOrDefault(game.getId(), List.of())))
+                .toList();
+    }
+
+    public Games insert(Games game) {
+        return gameRepository.insert(game);
+    }
+
+    public List<Games> insertAll(List<Games> games) {
+        return gameRepository.insertAll(games);
+    }
+
+    /**
+     * Writes auto-played games and their move logs in one transaction, so a failed append leaves no game without its log.
+     */
+    public List<Games> insertPlayed(List<PlayedGame> played) {
+        return jdbcTransactionTemplate.execute(status -> {
+            List<Games> saved = gameRepository.insertAll(played.stream().map(PlayedGame::game).toList());
+            gameMoveRepository.appendAll(played.stream()
+                    .flatMap(game -> IntStream.range(0, game.moves().size())
+                            .mapToObj(index -> game.moves().get(index).at(game.game().getId(), index + 1)))
+                    .toList());
+            return saved;
+        });
+    }
+
+    /**
+     * Appends the moves just applied in memory to {@code game}, after its {@code lastSeq}.
+     *
+     * @throws OptimisticLockingFailureException if another request logged a move first
+     */
+    public Games append(Games game, List<GameMove> moves) {
+        try {
+            gameMoveRepository.appendAll(number(game, moves));
+        } catch (DataIntegrityViolationException e) {
+            throw new OptimisticLockingFailureException("Game " + game.getId() + " was modified concurrently", e);
+        }
+        game.setLastSeq(game.getLastSeq() + moves.size());
+        logger.debug("Logged {} moves of game {} up to seq {}", moves.size(), game.getId(), game.getLastSeq());
+        snapshotIfDue(List.of(game));
+        return game;
+    }
+
+    /**
+     * Appends the moves of many games with one statement. If any game conflicts, falls back to one
+     * statement per game so only the conflicting games are left out.
+     *
+     * @return ids of the games whose moves were appended
+     */
+    public Set<Long> appendAll(List<Games> games, Map<Long, List<GameMove>> movesByGame) {
+        List<Games> appended;
+        try {
+            gameMoveRepository.appendAll(games.stream()
+                    .flatMap(game -> number(game, movesByGame.get(game.getId())).stream())
+                    .toList());
+            appended = games;
+        } catch (DataIntegrityViolationException e) {
+            logger.debug("Batch append of {} games conflicted, appending game by game", games.size());
+            appended = games.stream()
+                    .filter(game -> {
+                        try {
+                            gameMoveRepository.appendAll(number(game, movesByGame.get(game.getId())));
+                            return true;
+                        } catch (DataIntegrityViolationException conflict) {
+                            return false;
+                        }
+                    })
+                    .toList();
+        }
+
+        appended.forEach(game -> game.setLastSeq(game.getLastSeq() + movesByGame.get(game.getId()).size()));
+        snapshotIfDue(appended);
+        return appended.stream().map(Games::getId).collect(Collectors.toSet());
+    }
+
+    /**
+     * Deletes the game and, through the foreign key, its move log.
+     *
+     * @return whether the game existed
+     */
+    public boolean delete(Long gameId) {
+        return gameRepository.deleteById(gameId);
+    }
+
+    /**
+     * Adds the results of the finished games among {@code games} to the stats of their player, in one update.
+     */
+    public void recordResults(String playerId, List<Games> games) {
+        List<Games> finished = games.stream()
+                .filter(game -> game.getStatus() != null && game.getStatus() != GameStatus.IN_PROGRESS)
+                .toList();
+        if (finished.isEmpty()) {
+            return;
+        }
+
+        long won = finished.stream().filter(game -> game.getStatus() == GameStatus.FINISHED_PLAYER_WON).count();
+        long score = finished.stream().mapToLong(Games::getPlayerScore).sum();
+        logger.info("Recording {} finished games for player {} ({} won)", finished.size(), playerId, won);
+
+        mongoTemplate.updateFirst(Query.query(Criteria.where("_id").is(playerId)),
+                PlayerStatsUpdates.recordResults(finished.size(), won, score), Player.class);
+    }
+
+    private void snapshotIfDue(List<Games> games) {
+        List<Games> due = games.stream()
+                .filter(game -> game.getTurn() == GameTurn.FINISHED || game.getLastSeq() - game.getEventSeq() >= snapshotInterval)
+                .toList();
+        if (due.isEmpty()) {
+            return;
+        }
+
+        // the log already holds the moves, so a failed snapshot only means a longer replay on the next load
+        try {
+            Set<Long> written = gameRepository.updateAll(due);
+            due.stream()
+                    .filter(game -> written.contains(game.getId()))
+                    .forEach(game -> {
+                        game.setEventSeq(game.getLastSeq());
+                        game.setVersion(game.getVersion() + 1);
+                    });
+            logger.debug("Wrote {} of {} due snapshots", written.size(), due.size());
+        } catch (RuntimeException e) {
+            logger.warn("Could not write snapshots of {} games: {}", due.size(), e.getMessage());
+        }
+    }
+
+    private static List<GameMove> number(Games game, List<GameMove> moves) {
+        return IntStream.range(0, moves.size())
+                .mapToObj(index -> moves.get(index).at(game.getId(), game.getLastSeq() + index + 1))
+                .toList();
+    }
+}
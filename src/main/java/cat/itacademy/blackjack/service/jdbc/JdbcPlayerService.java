@@ -0,0 +1,145 @@
+package cat.itacademy.blackjack.service.jdbc;
+
+import cat.itacademy.blackjack.config.jdbc.JdbcScheduler;
+import cat.itacademy.blackjack.dto.PlayerRankingResponse;
+import cat.itacademy.blackjack.dto.PlayerRequest;
+import cat.itacademy.blackjack.dto.PlayerResponse;
+import cat.itacademy.blackjack.exception.InvalidPlayerNameException;
+import cat.itacademy.blackjack.exception.PlayerAlreadyExistsException;
+import cat.itacademy.blackjack.exception.PlayerNotFoundException;
+import cat.itacademy.blackjack.mapper.PlayerMapper;
+import cat.itacademy.blackjack.model.Player;
+import cat.itacademy.blackjack.repository.blocking.BlockingPlayerRepository;
+import cat.itacademy.blackjack.service.PlayerService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * {@link PlayerService} of the {@code jdbc} profile: the same rules as {@code PlayerServiceImpl}, on the sync Mongo
+ * driver, each call on a virtual thread of {@link JdbcScheduler}.
+ */
+@Service
+@Profile("jdbc")
+public class JdbcPlayerService implements PlayerService {
+
+    private static final Logger logger = LoggerFactory.getLogger(JdbcPlayerService.class);
+
+    private final JdbcScheduler jdbcScheduler;
+    private final BlockingPlayerRepository playerRepository;
+    private final PlayerMapper playerMapper;
+    private final int rankingLimit;
+    private final int rankingMaxLimit;
+
+    public JdbcPlayerService(JdbcScheduler jdbcScheduler,
+                             BlockingPlayerRepository playerRepository,
+                             PlayerMapper playerMapper,
+                             @Value("${blackjack.ranking.limit:100}") int rankingLimit,
+                             @Value("${blackjack.ranking.max-limit:1000}") int rankingMaxLimit) {
+        this.jdbcScheduler = jdbcScheduler;
+        this.playerRepository = playerRepository;
+        this.playerMapper = playerMapper;
+        this.rankingLimit = rankingLimit;
+        this.rankingMaxLimit = rankingMaxLimit;
+    }
+
+    @Override
+    public Mono<PlayerResponse> create(PlayerRequest request) {
+        String name = request.name();
+        if (name == null || name.trim().isEmpty()) {
+            return Mono.error(new InvalidPlayerNameException("Player name cannot be null or empty"));
+        }
+
+        return jdbcScheduler.call(() -> {
+            if (playerRepository.findByName(name).isPresent()) {
+                throw new PlayerAlreadyExistsException("Player with that name already exists.");
+            }
+            return playerMapper.toResponse(playerRepository.save(playerMapper.toEntity(request)));
+        });
+    }
+
+    @Override
+    public Mono<PlayerResponse> findByName(String name) {
+        logger.debug("Finding player by name: {}", name);
+        return jdbcScheduler.call(() -> {
+            Player player = playerRepository.findByName(name)
+                    .orElseThrow(() -> PlayerNotFoundException.forMissingName(name));
+            logger.info("Player found: {}", player.getName());
+            return playerMapper.toResponse(player);
+        });
+    }
+
+    @Override
+    public Mono<PlayerResponse> findById(String id) {
+        logger.debug("Finding player by ID: {}", id);
+        return jdbcScheduler.call(() -> {
+            Player player = playerRepository.findById(id)
+                    .orElseThrow(() -> PlayerNotFoundException.forMissingId(id));
+            logger.info("Player found by ID: {}", id);
+            return playerMapper.toResponse(player);
+        });
+    }
+
+    @Override
+    public Flux<PlayerResponse> findAll() {
+        logger.info("Retrieving all players");
+        return jdbcScheduler.callMany(playerRepository::findAll)
+                .doOnComplete(() -> logger.info("All players retrieved"))
+                .map(playerMapper::toResponse);
+    }
+
+    @Override
+    public Flux<PlayerRankingResponse> getRanking(Integer limit) {
+        int size = limit == null ? rankingLimit : Math.clamp(limit, 1, rankingMaxLimit);
+        logger.info("Retrieving top {} players by win rate and total score", size);
+
+        return jdbcScheduler.callMany(() -> playerRepository.findRanking(Limit.of(size)))
+                .doOnComplete(() -> logger.info("Ranking retrieval completed"));
+    }
+
+    @Override
+    public Mono<Void> deleteById(String id) {
+        if (id == null || id.trim().isEmpty()) {
+            logger.warn("Attempted to delete player with null or empty ID");
+            return Mono.error(new PlayerNotFoundException("Player ID must not be null or empty."));
+        }
+
+        logger.warn("Deleting player with ID: {}", id);
+        return jdbcScheduler.<Void>call(() -> {
+            Player player = playerRepository.findById(id)
+                    .orElseThrow(() -> new PlayerNotFoundException("Player with id '" + id + "' not found."));
+            playerRepository.delete(player);
+            logger.info("Player deleted with ID: {}", id);
+            return null;
+        });
+    }
+
+    @Override
+    public Mono<PlayerResponse> updatePlayerName(String id, String newName) {
+        if (id == null || id.trim().isEmpty()) {
+            logger.warn("Attempted to update player with null or empty ID");
+            return Mono.error(new PlayerNotFoundException("Player ID must not be null or empty."));
+        }
+        if (newName == null || newName.trim().isEmpty()) {
+            logger.warn("Attempted to update player with null or empty new name");
+            return Mono.error(new InvalidPlayerNameException("New player name cannot be null or empty"));
+        }
+        logger.info("Updating name for player ID: {} to {}", id, newName);
+        return jdbcScheduler.call(() -> {
+            if (playerRepository.findByName(newName).isPresent()) {
+                throw new PlayerAlreadyExistsException("Player with name '" + newName + "' already exists");
+            }
+            Player player = playerRepository.findById(id)
+                    .orElseThrow(() -> PlayerNotFoundException.forMissingId(id));
+            player.setName(newName);
+            PlayerResponse updated = playerMapper.toResponse(playerRepository.save(player));
+            logger.info("Player name updated for ID: {}", id);
+            return updated;
+        });
+    }
+}
@@ -0,0 +1,129 @@
+package cat.itacademy.blackjack.service.leaderboard;
+
+import cat.itacademy.blackjack.dto.LeaderboardEntry;
+import cat.itacademy.blackjack.dto.LeaderboardResponse;
+import cat.itacademy.blackjack.model.LeaderboardWindow;
+import cat.itacademy.blackjack.model.Player;
+import cat.itacademy.blackjack.model.PlayerStanding;
+import cat.itacademy.blackjack.repository.mongo.PlayerRepository;
+import cat.itacademy.blackjack.repository.sql.LeaderboardRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Daily, weekly and all-time leaderboards. Every {@code refresh-interval} the top
+ * {@code size} players of each window are aggregated in Postgres, named with one Mongo
+ * {@code $in} query and kept in memory, so ranking requests are a map lookup.
+ */
+@Service
+public class LeaderboardService {
+
+    private static final Logger logger = LoggerFactory.getLogger(LeaderboardService.class);
+
+    private final LeaderboardRepository leaderboardRepository;
+    private final PlayerRepository playerRepository;
+    private final int size;
+    private final Duration refreshInterval;
+
+    private final Map<LeaderboardWindow, LeaderboardSnapshot> snapshots = new ConcurrentHashMap<>();
+    private Disposable refresher;
+
+    public LeaderboardService(LeaderboardRepository leaderboardRepository,
+                              PlayerRepository playerRepository,
+                              @Value("${blackjack.leaderboard.size:100}") int size,
+                              @Value("${blackjack.leaderboard.refresh-interval:30s}") Duration refreshInterval) {
+        this.leaderboardRepository = leaderboardRepository;
+        this.playerRepository = playerRepository;
+        this.size = Math.max(1, size);
+        this.refreshInterval = refreshInterval;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        refresher = Flux.interval(Duration.ZERO, refreshInterval)
+                .onBackpressureDrop(tick -> logger.warn("Leaderboard refresh still running, skipping a tick"))
+                .concatMap(tick -> refreshAll(), 1)
+                .subscribe();
+        logger.info("Refreshing leaderboards every {}", refreshInterval);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (refresher != null) {
+            refresher.dispose();
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Latest snapshot of {@code window}. Computed on demand only until the first refresh has run.
+     */
+    public Mono<LeaderboardSnapshot> snapshot(LeaderboardWindow window) {
+        LeaderboardSnapshot snapshot = snapshots.get(window);
+        return snapshot != null ? Mono.just(snapshot) : refresh(window);
+    }
+
+    public Mono<Void> refreshAll() {
+        return Flux.fromArray(LeaderboardWindow.values())
+                .concatMap(window -> refresh(window)
+                        .onErrorResume(error -> {
+                            logger.warn("Could not refresh the {} leaderboard: {}", window, error.getMessage());
+                            return Mono.empty();
+                        }))
+                .then();
+    }
+
+    public Mono<LeaderboardSnapshot> refresh(LeaderboardWindow window) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime since = window.since(now);
+
+        return leaderboardRepository.findTop(since, size)
+                .collectList()
+                .flatMap(standings -> withNames(standings)
+                        .map(names -> toSnapshot(window, since, now, standings, names)))
+                .doOnNext(snapshot -> {
+                    LeaderboardSnapshot previous = snapshots.put(window, snapshot);
+                    if (previous == null || !previous.version().equals(snapshot.version())) {
+                        logger.debug("{} leaderboard changed: {} players", window, snapshot.board().entries().size());
+                    }
+                });
+    }
+
+    private Mono<Map<String, String>> withNames(List<PlayerStanding> standings) {
+        if (standings.isEmpty()) {
+            return Mono.just(Map.of());
+        }
+        List<String> ids = standings.stream().map(PlayerStanding::playerId).toList();
+        return playerRepository.findAllById(ids)
+                .collectMap(Player::getId, Player::getName);
+    }
+
+    private static LeaderboardSnapshot toSnapshot(LeaderboardWindow window, LocalDateTime since, LocalDateTime now,
+                                                  List<PlayerStanding> standings, Map<String, String> names) {
+        List<LeaderboardEntry> entries = new ArrayList<>(standings.size());
+        for (PlayerStanding standing : standings) {
+            entries.add(new LeaderboardEntry(entries.size() + 1, standing.playerId(), names.get(standing.playerId()),
+                    standing.gamesPlayed(), standing.gamesWon(), standing.winRate(), standing.totalScore()));
+        }
+        String version = Integer.toHexString(31 * entries.hashCode() + String.valueOf(since).hashCode());
+        return new LeaderboardSnapshot(new LeaderboardResponse(window, since, now, List.copyOf(entries)), version);
+    }
+}
@@ -0,0 +1,23 @@
+package cat.itacademy.blackjack.service.leaderboard;
+
+import cat.itacademy.blackjack.dto.LeaderboardResponse;
+
+/**
+ * Materialized leaderboard of one window. {@code version} is a hash of the entries, so two
+ * refreshes that produce the same ranking keep the same ETag. The ETag is weak because
+ * {@code generatedAt} still changes on every refresh.
+ */
+public record LeaderboardSnapshot(LeaderboardResponse board, String version) {
+
+    public LeaderboardResponse top(int limit) {
+        if (limit >= board.entries().size()) {
+            return board;
+        }
+        return new LeaderboardResponse(board.window(), board.since(), board.generatedAt(),
+                board.entries().subList(0, limit));
+    }
+
+    public String etag(int limit) {
+        return "W/\"" + board.window().path() + "-" + version + "-" + Math.min(limit, board.entries().size()) + "\"";
+    }
+}
@@ -0,0 +1,204 @@
+package cat.itacademy.blackjack.service.logic;
+
+import cat.itacademy.blackjack.config.CpuScheduler;
+import cat.itacademy.blackjack.dto.AutoplaySummary;
+import cat.itacademy.blackjack.exception.PlayerNotFoundException;
+import cat.itacademy.blackjack.model.*;
+import cat.itacademy.blackjack.repository.mongo.PlayerRepository;
+import cat.itacademy.blackjack.repository.sql.GameMoveRepository;
+import cat.itacademy.blackjack.repository.sql.GameRepository;
+import cat.itacademy.blackjack.service.engine.BlackjackEngine;
+import cat.itacademy.blackjack.service.engine.DeckManager;
+import cat.itacademy.blackjack.service.strategy.BasicStrategyAdvisor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Plays whole games on the server for bot players. Each game runs in memory with {@link BlackjackEngine};
+ * only finished games are written, {@code batchSize} rows per insert followed by one insert of their move
+ * logs, with one stats update per batch.
+ *
+ * <p>The rows and the move logs of a batch are written in one transaction, so a failed append leaves no
+ * game without its log. The player's stats live in Mongo, outside that transaction, and are only updated
+ * once it has committed. A stats update that still fails after its retries is logged and skipped: the
+ * games stay saved and counted in the summary, but the player's totals miss that batch.
+ */
+@Component
+public class AutoplayProcessor {
+
+    private static final Logger logger = LoggerFactory.getLogger(AutoplayProcessor.class);
+
+    private final PlayerRepository playerRepository;
+    private final GameRepository gameRepository;
+    private final GameMoveRepository gameMoveRepository;
+    private final DeckManager deckManager;
+    private final BlackjackEngine blackjackEngine;
+    private final BasicStrategyAdvisor basicStrategyAdvisor;
+    private final PlayerStatsUpdater playerStatsUpdater;
+    private final CpuScheduler cpuScheduler;
+    private final TransactionalOperator transactionalOperator;
+    private final int batchSize;
+
+    public AutoplayProcessor(PlayerRepository playerRepository,
+                             GameRepository gameRepository,
+                             GameMoveRepository gameMoveRepository,
+                             DeckManager deckManager,
+                             BlackjackEngine blackjackEngine,
+                             BasicStrategyAdvisor basicStrategyAdvisor,
+                             PlayerStatsUpdater playerStatsUpdater,
+                             CpuScheduler cpuScheduler,
+                             TransactionalOperator transactionalOperator,
+                             @Value("${blackjack.games.batch-insert-size:200}") int batchSize) {
+        this.playerRepository = playerRepository;
+        this.gameRepository = gameRepository;
+        this.gameMoveRepository = gameMoveRepository;
+        this.deckManager = deckManager;
+        this.blackjackEngine = blackjackEngine;
+        this.basicStrategyAdvisor = basicStrategyAdvisor;
+        this.playerStatsUpdater = playerStatsUpdater;
+        this.cpuScheduler = cpuScheduler;
+        this.transactionalOperator = transactionalOperator;
+        this.batchSize = batchSize;
+    }
+
+    public Flux<AutoplaySummary> autoplay(String playerName, AutoplayStrategy strategy, int games) {
+        if (playerName == null || playerName.trim().isEmpty()) {
+            return Flux.error(PlayerNotFoundException.forInvalidInput());
+        }
+
+        logger.info("Auto-playing {} games for player {} with strategy {}", games, playerName, strategy);
+
+        return playerRepository.findByName(playerName)
+                .switchIfEmpty(Mono.error(PlayerNotFoundException.forMissingName(playerName)))
+                .flatMapMany(player -> Flux.range(0, games)
+                        .buffer(batchSize)
+                        .concatMap(batch -> cpuScheduler.offload(() -> playBatch(player.getId(), strategy, batch.size()))
+                                .flatMap(played -> insert(played).as(transactionalOperator::transactional))
+                                .flatMap(saved -> recordResults(player.getId(), saved).thenReturn(saved)))
+                        .scan(AutoplaySummary.start(playerName, strategy, games), AutoplayProcessor::addBatch)
+                        .skip(1))
+                .doOnComplete(() -> logger.info("Auto-play of {} games for player {} completed", games, playerName));
+    }
+
+    /**
+     * Plays {@code size} games to the end in memory, with nothing written.
+     */
+    public List<PlayedGame> playBatch(String playerId, AutoplayStrategy strategy, int size) {
+        List<PlayedGame> played = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            played.add(play(playerId, strategy));
+        }
+        return played;
+    }
+
+    private Mono<List<Games>> insert(List<PlayedGame> played) {
+        List<Games> games = played.stream().map(PlayedGame::game).toList();
+        return gameRepository.insertAll(games)
+                .collectList()
+                .flatMap(saved -> gameMoveRepository.appendAll(played.stream()
+                                .flatMap(game -> IntStream.range(0, game.moves().size())
+                                        .mapToObj(index -> game.moves().get(index).at(game.game().getId(), index + 1)))
+                                .toList())
+                        .thenReturn(saved));
+    }
+
+    private Mono<Void> recordResults(String playerId, List<Games> saved) {
+        return playerStatsUpdater.recordResults(playerId, saved)
+                .retryWhen(Retry.backoff(3, Duration.ofMillis(100)))
+                .onErrorResume(error -> {
+                    logger.error("Saved {} auto-played games of player {} but could not add them to its stats",
+                            saved.size(), playerId, error);
+                    return Mono.empty();
+                });
+    }
+
+    /**
+     * Same flow as the hit and stand processors: a bust or a 21 ends the game without the dealer playing.
+     * The moves are logged as the processors would, and the row is the snapshot after the last of them.
+     */
+    PlayedGame play(String playerId, AutoplayStrategy strategy) {
+        List<Card> deck = deckManager.generateShuffledDeck();
+        byte[] initialDeck = deckManager.packCards(deck);
+        List<GameMove> moves = new ArrayList<>();
+        List<Card> playerCards = new ArrayList<>(List.of(deck.remove(0), deck.remove(0)));
+        List<Card> dealerCards = new ArrayList<>(List.of(deck.remove(0), deck.remove(0)));
+        int playerScore = blackjackEngine.calculateScore(playerCards);
+        int dealerScore = blackjackEngine.calculateScore(dealerCards);
+
+        GameStatus status = null;
+        while (shouldHit(strategy, playerScore, dealerScore) && !deck.isEmpty()) {
+            playerCards.add(deck.remove(0));
+            moves.add(GameMove.hit(playerCards.get(playerCards.size() - 1)));
+            playerScore = blackjackEngine.calculateScore(playerCards);
+            if (playerScore > 21) {
+                status = GameStatus.FINISHED_DEALER_WON;
+                break;
+            }
+            if (playerScore == 21) {
+                status = blackjackEngine.determineWinner(playerScore, dealerScore);
+                break;
+            }
+        }
+
+        if (status == null) {
+            TurnResult dealerTurn = blackjackEngine.simulateTurnWithInitial(dealerCards, deck);
+            moves.addAll(GameStandProcessor.standMoves(dealerTurn.cards().subList(dealerCards.size(), dealerTurn.cards().size())));
+            dealerCards = dealerTurn.cards();
+            dealerScore = dealerTurn.score();
+            status = blackjackEngine.determineWinner(playerScore, dealerScore);
+        }
+
+        Games game = Games.builder()
+                .playerId(playerId)
+                .createdAt(LocalDateTime.now())
+                .status(status)
+                .turn(GameTurn.FINISHED)
+                .playerScore(playerScore)
+                .dealerScore(dealerScore)
+                .deckJson(deckManager.serializeCards(deck))
+                .playerCardsJson(deckManager.serializeCards(playerCards))
+                .dealerCardsJson(deckManager.serializeCards(dealerCards))
+                .initialDeck(initialDeck)
+                .eventSeq(moves.size())
+                .lastSeq(moves.size())
+                .build();
+        return new PlayedGame(game, moves);
+    }
+
+    private boolean shouldHit(AutoplayStrategy strategy, int playerScore, int dealerScore) {
+        return switch (strategy) {
+            case BASIC -> basicStrategyAdvisor.advise(playerScore, dealerScore) == GameAction.HIT;
+            case MIMIC_DEALER -> playerScore < 17;
+            case NEVER_BUST -> playerScore < 11;
+        };
+    }
+
+    public record PlayedGame(Games game, List<GameMove> moves) {
+    }
+
+    public static AutoplaySummary addBatch(AutoplaySummary summary, List<Games> saved) {
+        int wins = 0;
+        int losses = 0;
+        int draws = 0;
+        for (Games game : saved) {
+            switch (game.getStatus()) {
+                case FINISHED_PLAYER_WON -> wins++;
+                case FINISHED_DEALER_WON -> losses++;
+                default -> draws++;
+            }
+        }
+        return summary.add(wins, losses, draws);
+    }
+}
@@ -0,0 +1,258 @@
+package cat.itacademy.blackjack.service.logic;
+
+import cat.itacademy.blackjack.dto.GameEvent;
+import cat.itacademy.blackjack.dto.GameResponse;
+import cat.itacademy.blackjack.dto.MoveRequest;
+import cat.itacademy.blackjack.dto.MoveResult;
+import cat.itacademy.blackjack.exception.GameNotFoundException;
+import cat.itacademy.blackjack.exception.InsufficientCardsException;
+import cat.itacademy.blackjack.exception.InvalidGameStateException;
+import cat.itacademy.blackjack.mapper.GameMapper;
+import cat.itacademy.blackjack.model.Card;
+import cat.itacademy.blackjack.model.GameMove;
+import cat.itacademy.blackjack.model.Games;
+import cat.itacademy.blackjack.service.cluster.GameChangeNotifier;
+import cat.itacademy.blackjack.service.engine.DeckManager;
+import cat.itacademy.blackjack.service.event.GameEventPublisher;
+import cat.itacademy.blackjack.service.eventlog.GameMoveLog;
+import cat.itacademy.blackjack.service.eventlog.GameStateLoader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Plays many moves in one request. Moves are grouped by game so each game sees them in request order;
+ * different games are played concurrently, in memory, and their moves are appended to the log with one
+ * batched insert per {@code batchSize} games. Every move gets its own {@link MoveResult}.
+ *
+ * <p>Each game is played on its {@link GameCommandLanes} lane, so it does not start while a single move on the
+ * same game is running on this node. The lane is released before the batched append; a move that lands between
+ * the load and the append is still caught by the move-log seq check and reported as a conflict.
+ */
+@Component
+public class BulkMoveProcessor {
+
+    private static final Logger logger = LoggerFactory.getLogger(BulkMoveProcessor.class);
+    public static final String CONFLICT = "The game was modified concurrently, please retry.";
+    public static final String NOT_SAVED = "The game could not be saved, please retry.";
+
+    private final GameStateLoader gameStateLoader;
+    private final GameMoveLog gameMoveLog;
+    private final DeckManager deckManager;
+    private final GameMapper gameMapper;
+    private final GameHitProcessor gameHitProcessor;
+    private final GameStandProcessor gameStandProcessor;
+    private final GameEventPublisher gameEventPublisher;
+    private final GameChangeNotifier gameChangeNotifier;
+    private final PlayerStatsUpdater playerStatsUpdater;
+    private final GameCommandLanes gameCommandLanes;
+    private final int concurrency;
+    private final int batchSize;
+
+    public BulkMoveProcessor(GameStateLoader gameStateLoader,
+                             GameMoveLog gameMoveLog,
+                             DeckManager deckManager,
+                             GameMapper gameMapper,
+                             GameHitProcessor gameHitProcessor,
+                             GameStandProcessor gameStandProcessor,
+                             GameEventPublisher gameEventPublisher,
+                             GameChangeNotifier gameChangeNotifier,
+                             PlayerStatsUpdater playerStatsUpdater,
+                             GameCommandLanes gameCommandLanes,
+                             @Value("${blackjack.moves.bulk-concurrency:16}") int concurrency,
+                             @Value("${blackjack.moves.bulk-batch-size:100}") int batchSize) {
+        this.gameStateLoader = gameStateLoader;
+        this.gameMoveLog = gameMoveLog;
+        this.deckManager = deckManager;
+        this.gameMapper = gameMapper;
+        this.gameHitProcessor = gameHitProcessor;
+        this.gameStandProcessor = gameStandProcessor;
+        this.gameEventPublisher = gameEventPublisher;
+        this.gameChangeNotifier = gameChangeNotifier;
+        this.playerStatsUpdater = playerStatsUpdater;
+        this.gameCommandLanes = gameCommandLanes;
+        this.concurrency = concurrency;
+        this.batchSize = batchSize;
+    }
+
+    public Flux<MoveResult> processMoves(List<MoveRequest> moves) {
+        if (moves == null || moves.isEmpty()) {
+            return Flux.empty();
+        }
+
+        Map<Long, List<IndexedMove>> movesByGame = new LinkedHashMap<>();
+        for (int index = 0; index < moves.size(); index++) {
+            MoveRequest move = moves.get(index);
+            movesByGame.computeIfAbsent(move.gameId(), id -> new ArrayList<>()).add(new IndexedMove(index, move));
+        }
+
+        logger.info("Processing {} moves for {} games", moves.size(), movesByGame.size());
+
+        return gameStateLoader.loadAll(movesByGame.keySet())
+                .collectMap(Games::getId)
+                .flatMapMany(games -> Flux.fromIterable(movesByGame.entrySet())
+                        .flatMap(entry -> playInLane(entry.getKey(), games.get(entry.getKey()), entry.getValue()), concurrency)
+                        .buffer(batchSize)
+                        .concatMap(this::persist));
+    }
+
+    private Mono<GameOutcome> playInLane(Long gameId, Games game, List<IndexedMove> moves) {
+        return gameCommandLanes.submit(gameId, () -> play(gameId, game, moves))
+                .onErrorResume(error -> {
+                    logger.error("Could not play bulk moves of game {}", gameId, error);
+                    return Mono.just(GameOutcome.rejected(moves, error.getMessage()));
+                });
+    }
+
+    private Mono<GameOutcome> play(Long gameId, Games game, List<IndexedMove> moves) {
+        if (game == null) {
+            return Mono.just(GameOutcome.rejected(moves, new GameNotFoundException(gameId).getMessage()));
+        }
+
+        return Mono.zip(
+                deckManager.deserializeCardsReactive(game.getDeckJson()),
+                deckManager.deserializeCardsReactive(game.getPlayerCardsJson()),
+                deckManager.deserializeCardsReactive(game.getDealerCardsJson())
+        ).map(tuple -> {
+            List<Card> deck = new ArrayList<>(tuple.getT1());
+            List<Card> playerCards = new ArrayList<>(tuple.getT2());
+            List<Card> dealerCards = new ArrayList<>(tuple.getT3());
+            GameOutcome outcome = new GameOutcome(game);
+
+            for (IndexedMove indexed : moves) {
+                try {
+                    GameEvent event = switch (indexed.move().action()) {
+                        case HIT -> {
+                            Card drawn = gameHitProcessor.drawForPlayer(game, deck, playerCards);
+                            outcome.logged(List.of(GameMove.hit(drawn)));
+                            yield gameEventPublisher.hitEvent(game, drawn, outcome.seq());
+                        }
+                        case STAND -> {
+                            List<Card> drawn = gameStandProcessor.playDealerTurn(game, dealerCards, playerCards, deck);
+                            outcome.logged(GameStandProcessor.standMoves(drawn));
+                            GameEvent standEvent = gameEventPublisher.standEvent(game, drawn, outcome.seq());
+                            dealerCards = new ArrayList<>(game.getDealerCards());
+                            yield standEvent;
+                        }
+                    };
+                    outcome.applied(indexed, event, gameMapper.toResponse(game, playerCards, dealerCards));
+                } catch (InvalidGameStateException | InsufficientCardsException e) {
+                    outcome.rejected(indexed, e.getMessage());
+                }
+            }
+            return outcome;
+        });
+    }
+
+    private Flux<MoveResult> persist(List<GameOutcome> outcomes) {
+        List<Games> changed = outcomes.stream()
+                .filter(GameOutcome::isChanged)
+                .map(GameOutcome::game)
+                .toList();
+        Map<Long, List<GameMove>> movesByGame = outcomes.stream()
+                .filter(GameOutcome::isChanged)
+                .collect(Collectors.toMap(outcome -> outcome.game().getId(), GameOutcome::moves));
+
+        return gameMoveLog.appendAll(changed, movesByGame)
+                .doOnNext(appended -> logger.debug("Batch append logged {} of {} games", appended.size(), changed.size()))
+                .map(appended -> Map.entry(appended, CONFLICT))
+                .onErrorResume(error -> {
+                    logger.error("Batch append of {} games failed", changed.size(), error);
+                    return Mono.just(Map.entry(Set.of(), NOT_SAVED));
+                })
+                .flatMapMany(result -> Flux.fromIterable(outcomes)
+                        .concatMap(outcome -> !outcome.isChanged() || result.getKey().contains(outcome.game().getId())
+                                ? afterSave(outcome).thenMany(Flux.fromIterable(outcome.results()))
+                                : Flux.fromIterable(outcome.rejectApplied(result.getValue()))));
+    }
+
+    private Mono<Void> afterSave(GameOutcome outcome) {
+        if (!outcome.isChanged()) {
+            return Mono.empty();
+        }
+
+        Games game = outcome.game();
+        outcome.events().forEach(gameEventPublisher::publish);
+        return gameChangeNotifier.notifyChanged(game)
+                .then(playerStatsUpdater.updateAfterGameIfFinished(game));
+    }
+
+    private record IndexedMove(int index, MoveRequest move) {
+    }
+
+    private static final class GameOutcome {
+
+        private final Games game;
+        private final List<MoveResult> results = new ArrayList<>();
+        private final List<GameEvent> events = new ArrayList<>();
+        private final List<GameMove> moves = new ArrayList<>();
+
+        private GameOutcome(Games game) {
+            this.game = game;
+        }
+
+        static GameOutcome rejected(List<IndexedMove> moves, String error) {
+            GameOutcome outcome = new GameOutcome(null);
+            moves.forEach(move -> outcome.rejected(move, error));
+            return outcome;
+        }
+
+        void applied(IndexedMove indexed, GameEvent event, GameResponse response) {
+            events.add(event);
+            results.add(MoveResult.applied(indexed.index(), indexed.move(), response));
+        }
+
+        void logged(List<GameMove> applied) {
+            moves.addAll(applied);
+        }
+
+        /**
+         * Seq the last logged move will get once appended.
+         */
+        int seq() {
+            return game.getLastSeq() + moves.size();
+        }
+
+        void rejected(IndexedMove indexed, String error) {
+            results.add(MoveResult.rejected(indexed.index(), indexed.move(), error));
+        }
+
+        List<MoveResult> rejectApplied(String error) {
+            return results.stream()
+                    .map(result -> result.isApplied()
+                            ? new MoveResult(result.index(), result.gameId(), result.action(), null, error)
+                            : result)
+                    .toList();
+        }
+
+        boolean isChanged() {
+            return !events.isEmpty();
+        }
+
+        Games game() {
+            return game;
+        }
+
+        List<MoveResult> results() {
+            return results;
+        }
+
+        List<GameEvent> events() {
+            return events;
+        }
+
+        List<GameMove> moves() {
+            return moves;
+        }
+    }
+}
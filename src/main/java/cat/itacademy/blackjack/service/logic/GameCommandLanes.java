@@ -0,0 +1,161 @@
+package cat.itacademy.blackjack.service.logic;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Runs the moves of one game one at a time, in arrival order, without locks. Each game id is hashed onto
+ * one of a fixed set of lanes. A lane is a lock-free queue with at most one command running, so hits and
+ * stands on the same game never race for its move-log seq, while games on different lanes run in parallel.
+ *
+ * <p>A lane orders commands, it does not own a thread: a command's I/O and CPU stages run where they
+ * always do, and the next command on the lane starts when the previous one terminates. Games sharing a
+ * lane wait for each other, so there should be many more lanes than cores. A command that was queued
+ * still runs if its request is cancelled. Only moves on this node are ordered; other nodes are still
+ * caught by the move-log seq check.
+ *
+ * <p>A command that has not terminated after {@code blackjack.moves.lane-timeout} is cancelled and fails with
+ * 503, and the lane moves on, so one stuck command cannot hold up every game hashed onto its lane. Work it
+ * already sent to the database may still commit; the move-log seq check rejects whatever comes after it.
+ */
+@Component
+public class GameCommandLanes {
+
+    private static final Logger logger = LoggerFactory.getLogger(GameCommandLanes.class);
+
+    private final Lane[] lanes;
+    private final AtomicInteger queued = new AtomicInteger();
+    private final Timer queueWait;
+    private final Counter timeouts;
+    private final Duration timeout;
+
+    public GameCommandLanes(@Value("${blackjack.moves.lanes:256}") int lanes,
+                            @Value("${blackjack.moves.lane-timeout:30s}") Duration timeout,
+                            MeterRegistry meterRegistry) {
+        if (lanes < 1) {
+            throw new IllegalArgumentException("blackjack.moves.lanes must be at least 1");
+        }
+        if (timeout.isNegative() || timeout.isZero()) {
+            throw new IllegalArgumentException("blackjack.moves.lane-timeout must be positive");
+        }
+        this.timeout = timeout;
+        this.lanes = new Lane[lanes];
+        for (int i = 0; i < lanes; i++) {
+            this.lanes[i] = new Lane();
+        }
+        this.queueWait = Timer.builder("blackjack.game.lanes.wait")
+                .description("Time a move waited for earlier moves on its lane")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        Gauge.builder("blackjack.game.lanes.queued", queued, AtomicInteger::get)
+                .description("Moves waiting for their lane")
+                .register(meterRegistry);
+        this.timeouts = Counter.builder("blackjack.game.lanes.timeouts")
+                .description("Moves cancelled because they held their lane longer than the lane timeout")
+                .register(meterRegistry);
+        logger.info("Game command lanes: {}, timeout: {}", lanes, timeout);
+    }
+
+    /**
+     * Subscribes to {@code command} once the earlier commands on {@code gameId}'s lane have terminated,
+     * and relays its result. The lane is released on every outcome: value, error, timeout or a
+     * {@code command} that throws instead of returning a {@link Mono}.
+     */
+    public <T> Mono<T> submit(Long gameId, Supplier<Mono<T>> command) {
+        return Mono.deferContextual(context -> {
+            Sinks.One<T> result = Sinks.one();
+            long submittedAt = System.nanoTime();
+            queued.incrementAndGet();
+            laneOf(gameId).submit(done -> {
+                queued.decrementAndGet();
+                queueWait.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+                Mono<T> mono;
+                try {
+                    mono = command.get();
+                } catch (RuntimeException e) {
+                    mono = Mono.error(e);
+                }
+                mono.timeout(timeout, Mono.defer(() -> {
+                            timeouts.increment();
+                            logger.warn("Move on game {} timed out after {}, releasing its lane", gameId, timeout);
+                            return Mono.error(new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE,
+                                    "The move took too long, please retry."));
+                        }))
+                        .contextWrite(context)
+                        .doFinally(signal -> done.run())
+                        .subscribe(result::tryEmitValue, result::tryEmitError, result::tryEmitEmpty);
+            });
+            return result.asMono();
+        });
+    }
+
+    private int laneIndex(Long gameId) {
+        int hash = gameId.hashCode();
+        return Math.floorMod(hash ^ (hash >>> 16), lanes.length);
+    }
+
+    private Lane laneOf(Long gameId) {
+        return lanes[laneIndex(gameId)];
+    }
+
+    @FunctionalInterface
+    private interface Command {
+        /**
+         * Starts the command; {@code done} must be run once when it terminates.
+         */
+        void start(Runnable done);
+    }
+
+    /**
+     * Multi-producer queue drained by one command at a time. {@code pending} counts queued commands plus
+     * the running one; whoever takes it from 0 to 1 starts draining. Commands that terminate before
+     * {@code start} returns are drained in a loop rather than recursively.
+     */
+    private static final class Lane {
+
+        private static final int RUNNING = 0;
+        private static final int DONE_IN_START = 1;
+        private static final int ASYNC = 2;
+
+        private final Queue<Command> commands = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger pending = new AtomicInteger();
+
+        void submit(Command command) {
+            commands.offer(command);
+            if (pending.getAndIncrement() == 0) {
+                drain();
+            }
+        }
+
+        private void drain() {
+            do {
+                AtomicInteger state = new AtomicInteger(RUNNING);
+                commands.poll().start(() -> {
+                    if (!state.compareAndSet(RUNNING, DONE_IN_START) && pending.decrementAndGet() > 0) {
+                        drain();
+                    }
+                });
+                if (state.compareAndSet(RUNNING, ASYNC)) {
+                    return;
+                }
+            } while (pending.decrementAndGet() > 0);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package cat.itacademy.blackjack.service.logic;
 
+import cat.itacademy.blackjack.config.CpuScheduler;
 import cat.itacademy.blackjack.dto.GameResponse;
 import cat.itacademy.blackjack.exception.InsufficientCardsException;
 import cat.itacademy.blackjack.exception.PlayerNotFoundException;
@@ -10,26 +11,52 @@ import cat.itacademy.blackjack.repository.sql.GameRepository;
 import cat.itacademy.blackjack.service.engine.BlackjackEngine;
 import cat.itacademy.blackjack.service.engine.DeckManager;
 import cat.itacademy.blackjack.service.engine.GameFactory;
-import lombok.RequiredArgsConstructor;
+import cat.itacademy.blackjack.service.player.PlayerLoader;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 
 @Component
-@RequiredArgsConstructor
 public class GameCreationService {
 
     private static final Logger logger = LoggerFactory.getLogger(GameCreationService.class);
 
     private final PlayerRepository playerRepository;
+    private final PlayerLoader playerLoader;
     private final GameRepository gameRepository;
     private final DeckManager deckManager;
     private final GameFactory gameFactory;
     private final GameMapper gameMapper;
     private final PlayerStatsUpdater playerStatsUpdater;
+    private final CpuScheduler cpuScheduler;
+    private final int batchInsertSize;
+
+    public GameCreationService(PlayerRepository playerRepository,
+                               PlayerLoader playerLoader,
+                               GameRepository gameRepository,
+                               DeckManager deckManager,
+                               GameFactory gameFactory,
+                               GameMapper gameMapper,
+                               PlayerStatsUpdater playerStatsUpdater,
+                               CpuScheduler cpuScheduler,
+                               @Value("${blackjack.games.batch-insert-size:200}") int batchInsertSize) {
+        this.playerRepository = playerRepository;
+        this.playerLoader = playerLoader;
+        this.gameRepository = gameRepository;
+        this.deckManager = deckManager;
+        this.gameFactory = gameFactory;
+        this.gameMapper = gameMapper;
+        this.playerStatsUpdater = playerStatsUpdater;
+        this.cpuScheduler = cpuScheduler;
+        this.batchInsertSize = batchInsertSize;
+    }
 
     public Mono<GameResponse> createGame(String playerName) {
         if (playerName == null || playerName.trim().isEmpty()) {
@@ -39,30 +66,75 @@ public class GameCreationService {
 
         logger.info("Creating game for player: {}", playerName);
 
-        return playerRepository.findByName(playerName)
+        return playerLoader.findByName(playerName)
                 .switchIfEmpty(Mono.error(PlayerNotFoundException.forMissingName(playerName)))
-                .flatMap(player -> {
-                    List<Card> deck = deckManager.generateShuffledDeck();
+                .flatMap(player -> cpuScheduler.offload(() -> dealGame(player)))
+                .flatMap(game -> gameRepository.save(game)
+                        .doOnSuccess(saved -> logger.info("Game created with ID: {}", saved.getId()))
+                        .flatMap(savedGame ->
+                                playerStatsUpdater.updateAfterGameIfFinished(savedGame)
+                                        .thenReturn(gameMapper.toResponse(savedGame, game.getPlayerCards(), game.getDealerCards()))
+                        ));
+    }
+
+    /**
+     * Creates one game per entry of {@code playerNames}. All players are resolved with a single query,
+     * decks are dealt in parallel and games are inserted in multi-row batches of {@code batchInsertSize}.
+     * Responses are emitted batch by batch, in request order.
+     */
+    public Flux<GameResponse> createGames(List<String> playerNames) {
+        if (playerNames == null || playerNames.isEmpty()) {
+            return Flux.empty();
+        }
+        if (playerNames.stream().anyMatch(name -> name == null || name.trim().isEmpty())) {
+            logger.warn("Attempt to create games with null or empty player name.");
+            return Flux.error(PlayerNotFoundException.forInvalidInput());
+        }
+
+        Set<String> distinctNames = new LinkedHashSet<>(playerNames);
+        logger.info("Creating {} games for {} players", playerNames.size(), distinctNames.size());
 
-                    if (deck.size() < 4) {
-                        logger.error("Not enough cards to start a game");
-                        return Mono.error(new InsufficientCardsException("Not enough cards in the deck to start a game"));
+        return playerRepository.findByNameIn(distinctNames)
+                .collectMap(Player::getName)
+                .flatMapMany(playersByName -> {
+                    List<String> missing = distinctNames.stream()
+                            .filter(name -> !playersByName.containsKey(name))
+                            .toList();
+                    if (!missing.isEmpty()) {
+                        return Flux.error(PlayerNotFoundException.forMissingName(String.join("', '", missing)));
                     }
 
-                    List<Card> playerCards = List.of(deck.remove(0), deck.remove(0));
-                    List<Card> dealerCards = List.of(deck.remove(0), deck.remove(0));
-
-                    Games game = gameFactory.createNewGame(player.getId(), playerCards, dealerCards, deck);
-                    game.setTurn(GameTurn.PLAYER_TURN);
-                    game.setPlayerCards(playerCards);
-                    game.setDealerCards(dealerCards);
-
-                    return gameRepository.save(game)
-                            .doOnSuccess(saved -> logger.info("Game created with ID: {}", saved.getId()))
-                            .flatMap(savedGame ->
-                                    playerStatsUpdater.updateAfterGameIfFinished(savedGame)
-                                            .thenReturn(gameMapper.toResponse(savedGame, playerCards, dealerCards))
-                            );
-                });
+                    return Flux.fromIterable(playerNames)
+                            .map(playersByName::get)
+                            .flatMapSequential(player -> cpuScheduler.offload(() -> dealGame(player)))
+                            .buffer(batchInsertSize)
+                            .concatMap(batch -> Flux.defer(() -> gameRepository.insertAll(batch))
+                                    .doOnComplete(() -> logger.info("Inserted batch of {} games", batch.size())));
+                })
+                .map(game -> gameMapper.toResponse(game, game.getPlayerCards(), game.getDealerCards()));
+    }
+
+    /**
+     * Shuffles a deck and deals the opening hands of a new game for {@code player}, in memory only.
+     */
+    public Games dealGame(Player player) {
+        List<Card> deck = deckManager.generateShuffledDeck();
+
+        if (deck.size() < 4) {
+            logger.error("Not enough cards to start a game");
+            throw new InsufficientCardsException("Not enough cards in the deck to start a game");
+        }
+
+        byte[] initialDeck = deckManager.packCards(deck);
+
+        List<Card> playerCards = List.of(deck.remove(0), deck.remove(0));
+        List<Card> dealerCards = List.of(deck.remove(0), deck.remove(0));
+
+        Games game = gameFactory.createNewGame(player.getId(), playerCards, dealerCards, deck);
+        game.setTurn(GameTurn.PLAYER_TURN);
+        game.setInitialDeck(initialDeck);
+        game.setPlayerCards(playerCards);
+        game.setDealerCards(dealerCards);
+        return game;
     }
 }
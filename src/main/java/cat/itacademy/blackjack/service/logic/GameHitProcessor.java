@@ -6,9 +6,11 @@ import cat.itacademy.blackjack.exception.InsufficientCardsException;
 import cat.itacademy.blackjack.exception.InvalidGameStateException;
 import cat.itacademy.blackjack.mapper.GameMapper;
 import cat.itacademy.blackjack.model.*;
-import cat.itacademy.blackjack.repository.sql.GameRepository;
 import cat.itacademy.blackjack.service.engine.BlackjackEngine;
 import cat.itacademy.blackjack.service.engine.DeckManager;
+import cat.itacademy.blackjack.service.event.GameEventPublisher;
+import cat.itacademy.blackjack.service.eventlog.GameMoveLog;
+import cat.itacademy.blackjack.service.eventlog.GameStateLoader;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -24,11 +26,13 @@ public class GameHitProcessor {
 
     private static final Logger logger = LoggerFactory.getLogger(GameHitProcessor.class);
 
-    private final GameRepository gameRepository;
+    private final GameStateLoader gameStateLoader;
+    private final GameMoveLog gameMoveLog;
     private final DeckManager deckManager;
     private final BlackjackEngine blackjackEngine;
     private final GameMapper gameMapper;
     private final PlayerStatsUpdater playerStatsUpdater;
+    private final GameEventPublisher gameEventPublisher;
 
     public Mono<GameResponse> processHit(Long gameId) {
         if (gameId == null) {
@@ -38,15 +42,13 @@ public class GameHitProcessor {
 
         logger.debug("Starting hit process for game ID: {}", gameId);
 
-        return gameRepository.findById(gameId)
+        return gameStateLoader.load(gameId)
                 .switchIfEmpty(Mono.defer(() -> {
                     logger.warn("Game with ID {} not found", gameId);
                     return Mono.error(new GameNotFoundException(gameId));
                 }))
                 .flatMap(game -> {
-                    if (game.getTurn() != GameTurn.PLAYER_TURN || game.getStatus() != GameStatus.IN_PROGRESS) {
-                        logger.warn("Invalid game state for hit. Game ID: {}, Turn: {}, Status: {}",
-                                game.getId(), game.getTurn(), game.getStatus());
+                    if (!isPlayerTurn(game)) {
                         return Mono.error(new InvalidGameStateException("Game is already finished or not in player's turn."));
                     }
 
@@ -61,44 +63,74 @@ public class GameHitProcessor {
                         List<Card> playerCards = new ArrayList<>(tuple.getT2());
                         List<Card> dealerCards = tuple.getT3();
 
-                        if (deck.isEmpty()) {
-                            logger.warn("Deck is empty for game ID: {}", gameId);
-                            return Mono.error(new InsufficientCardsException("No cards left in deck"));
-                        }
-
-                        Card newCard = deck.remove(0);
-                        playerCards.add(newCard);
-                        int playerScore = blackjackEngine.calculateScore(playerCards);
-
-                        logger.info("Player hit in game {}: drew {}, new score {}", gameId, newCard, playerScore);
-
-                        game.setPlayerCardsJson(deckManager.serializeDeck(playerCards));
-                        game.setDeckJson(deckManager.serializeDeck(deck));
-                        game.setPlayerScore(playerScore);
-
-                        if (playerScore > 21) {
-                            game.setStatus(GameStatus.FINISHED_DEALER_WON);
-                            game.setTurn(GameTurn.FINISHED);
-                            logger.info("Player bust in game {}. Game ends with status: {}", gameId, game.getStatus());
-                        } else if (playerScore == 21) {
-                            GameStatus resolved = blackjackEngine.determineWinner(playerScore, game.getDealerScore());
-                            game.setStatus(resolved);
-                            game.setTurn(GameTurn.FINISHED);
-                            logger.info("Player hit 21 in game {}. Game ends with status: {}", gameId, resolved);
-                        } else {
-                            logger.debug("Player continues after hit. Score: {}", playerScore);
-                        }
-
-                        return gameRepository.save(game)
-                                .doOnNext(saved -> logger.debug("Game {} saved after hit. Current status: {}", saved.getId(), saved.getStatus()))
-                                .flatMap(updated ->
-                                        playerStatsUpdater.updateAfterGameIfFinished(updated)
-                                                .thenReturn(gameMapper.toResponse(updated, playerCards, dealerCards))
-                                );
+                        return applyHit(game, deck, playerCards)
+                                .map(updated -> gameMapper.toResponse(updated, playerCards, dealerCards));
                     });
                 });
     }
-}
 
+    /**
+     * Draws a card for the player from an already deserialized deck, then logs the move,
+     * updates player stats and publishes the change. {@code deck} and {@code playerCards}
+     * are updated in place, so callers keeping the game in memory can reuse them for the next move.
+     */
+    public Mono<Games> applyHit(Games game, List<Card> deck, List<Card> playerCards) {
+        return deckManager.withDeck(deck, () -> drawForPlayer(game, deck, playerCards))
+                .flatMap(newCard -> gameMoveLog.append(game, List.of(GameMove.hit(newCard)))
+                        .doOnNext(saved -> logger.debug("Game {} logged hit at seq {}. Current status: {}", saved.getId(), saved.getLastSeq(), saved.getStatus()))
+                        .doOnNext(saved -> gameEventPublisher.publishHit(saved, newCard)))
+                .flatMap(updated -> playerStatsUpdater.updateAfterGameIfFinished(updated).thenReturn(updated));
+    }
+
+    /**
+     * Applies a hit to the game in memory only (nothing logged, no event) and returns the drawn card.
+     *
+     * @throws InvalidGameStateException  if it is not the player's turn
+     * @throws InsufficientCardsException if the deck is empty
+     */
+    public Card drawForPlayer(Games game, List<Card> deck, List<Card> playerCards) {
+        Long gameId = game.getId();
+        if (!isPlayerTurn(game)) {
+            throw new InvalidGameStateException("Game is already finished or not in player's turn.");
+        }
 
+        if (deck.isEmpty()) {
+            logger.warn("Deck is empty for game ID: {}", gameId);
+            throw new InsufficientCardsException("No cards left in deck");
+        }
 
+        Card newCard = deck.remove(0);
+        playerCards.add(newCard);
+        int playerScore = blackjackEngine.calculateScore(playerCards);
+
+        logger.info("Player hit in game {}: drew {}, new score {}", gameId, newCard, playerScore);
+
+        game.setPlayerCards(playerCards);
+        game.setPlayerCardsJson(deckManager.serializeDeck(playerCards));
+        game.setDeckJson(deckManager.serializeDeck(deck));
+        game.setPlayerScore(playerScore);
+
+        if (playerScore > 21) {
+            game.setStatus(GameStatus.FINISHED_DEALER_WON);
+            game.setTurn(GameTurn.FINISHED);
+            logger.info("Player bust in game {}. Game ends with status: {}", gameId, game.getStatus());
+        } else if (playerScore == 21) {
+            GameStatus resolved = blackjackEngine.determineWinner(playerScore, game.getDealerScore());
+            game.setStatus(resolved);
+            game.setTurn(GameTurn.FINISHED);
+            logger.info("Player hit 21 in game {}. Game ends with status: {}", gameId, resolved);
+        } else {
+            logger.debug("Player continues after hit. Score: {}", playerScore);
+        }
+        return newCard;
+    }
+
+    private boolean isPlayerTurn(Games game) {
+        if (game.getTurn() != GameTurn.PLAYER_TURN || game.getStatus() != GameStatus.IN_PROGRESS) {
+            logger.warn("Invalid game state for hit. Game ID: {}, Turn: {}, Status: {}",
+                    game.getId(), game.getTurn(), game.getStatus());
+            return false;
+        }
+        return true;
+    }
+}
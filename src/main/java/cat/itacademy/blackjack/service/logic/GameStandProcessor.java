@@ -5,15 +5,18 @@ import cat.itacademy.blackjack.exception.GameNotFoundException;
 import cat.itacademy.blackjack.exception.InvalidGameStateException;
 import cat.itacademy.blackjack.mapper.GameMapper;
 import cat.itacademy.blackjack.model.*;
-import cat.itacademy.blackjack.repository.sql.GameRepository;
 import cat.itacademy.blackjack.service.engine.BlackjackEngine;
 import cat.itacademy.blackjack.service.engine.DeckManager;
+import cat.itacademy.blackjack.service.event.GameEventPublisher;
+import cat.itacademy.blackjack.service.eventlog.GameMoveLog;
+import cat.itacademy.blackjack.service.eventlog.GameStateLoader;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Mono;
 
+import java.util.ArrayList;
 import java.util.List;
 
 @Component
@@ -22,11 +25,13 @@ public class GameStandProcessor {
 
     private static final Logger logger = LoggerFactory.getLogger(GameStandProcessor.class);
 
-    private final GameRepository gameRepository;
+    private final GameStateLoader gameStateLoader;
+    private final GameMoveLog gameMoveLog;
     private final DeckManager deckManager;
     private final BlackjackEngine blackjackEngine;
     private final GameMapper gameMapper;
     private final PlayerStatsUpdater playerStatsUpdater;
+    private final GameEventPublisher gameEventPublisher;
 
     public Mono<GameResponse> processStand(Long gameId) {
         if (gameId == null) {
@@ -36,15 +41,13 @@ public class GameStandProcessor {
 
         logger.debug("Starting stand process for game ID: {}", gameId);
 
-        return gameRepository.findById(gameId)
+        return gameStateLoader.load(gameId)
                 .switchIfEmpty(Mono.defer(() -> {
                     logger.warn("Game with ID {} not found", gameId);
                     return Mono.error(new GameNotFoundException(gameId));
                 }))
                 .flatMap(game -> {
-                    if (game.getTurn() != GameTurn.PLAYER_TURN || game.getStatus() != GameStatus.IN_PROGRESS) {
-                        logger.warn("Invalid game state for stand. Game ID: {}, Turn: {}, Status: {}",
-                                game.getId(), game.getTurn(), game.getStatus());
+                    if (!isPlayerTurn(game)) {
                         return Mono.error(new InvalidGameStateException("Game is not in player's turn"));
                     }
 
@@ -54,36 +57,76 @@ public class GameStandProcessor {
                             deckManager.deserializeCardsReactive(game.getPlayerCardsJson()),
                             deckManager.deserializeCardsReactive(game.getDeckJson())
                     ).flatMap(tuple -> {
-                        List<Card> dealerInitialCards = tuple.getT1();
                         List<Card> playerCards = tuple.getT2();
-                        List<Card> deck = tuple.getT3();
-
-                        logger.debug("Simulating dealer's turn. Dealer initial cards: {}", dealerInitialCards);
-                        TurnResult dealerTurn = blackjackEngine.simulateTurnWithInitial(dealerInitialCards, deck);
-                        int dealerScore = dealerTurn.score();
-                        int playerScore = blackjackEngine.calculateScore(playerCards);
-
-                        GameStatus finalStatus = blackjackEngine.determineWinner(playerScore, dealerScore);
-
-                        logger.info("Game {} resolved. Player score: {}, Dealer score: {}, Final status: {}",
-                                gameId, playerScore, dealerScore, finalStatus);
-
-                        game.setDealerCards(dealerTurn.cards());
-                        game.setDealerScore(dealerScore);
-                        game.setDealerCardsJson(deckManager.serializeCards(dealerTurn.cards()));
-                        game.setDeckJson(deckManager.serializeCards(deck));
-                        game.setStatus(finalStatus);
-                        game.setTurn(GameTurn.FINISHED);
-
-                        return gameRepository.save(game)
-                                .doOnNext(saved -> logger.debug("Game {} saved after stand with status {}", saved.getId(), saved.getStatus()))
-                                .flatMap(updated ->
-                                        playerStatsUpdater.updateAfterGameIfFinished(updated)
-                                                .thenReturn(gameMapper.toResponse(updated, playerCards, dealerTurn.cards()))
-                                );
+
+                        return applyStand(game, tuple.getT1(), playerCards, tuple.getT3())
+                                .map(updated -> gameMapper.toResponse(updated, playerCards, updated.getDealerCards()));
                     });
                 });
     }
 
-}
+    /**
+     * Plays the dealer's turn on an already deserialized deck, then logs the dealer's draws and the stand,
+     * updates player stats and publishes the change. The dealer's final hand is left in
+     * {@link Games#getDealerCards()} and the drawn cards are removed from {@code deck}.
+     */
+    public Mono<Games> applyStand(Games game, List<Card> dealerInitialCards, List<Card> playerCards, List<Card> deck) {
+        return deckManager.withDeck(deck, () -> playDealerTurn(game, dealerInitialCards, playerCards, deck))
+                .flatMap(dealerDrawnCards -> gameMoveLog.append(game, standMoves(dealerDrawnCards))
+                        .doOnNext(saved -> logger.debug("Game {} logged stand at seq {} with status {}", saved.getId(), saved.getLastSeq(), saved.getStatus()))
+                        .doOnNext(saved -> gameEventPublisher.publishStand(saved, dealerDrawnCards)))
+                .flatMap(updated -> playerStatsUpdater.updateAfterGameIfFinished(updated).thenReturn(updated));
+    }
+
+    /**
+     * Resolves the dealer's turn in memory only (nothing logged, no event) and returns the cards the dealer drew.
+     *
+     * @throws InvalidGameStateException if it is not the player's turn
+     */
+    public List<Card> playDealerTurn(Games game, List<Card> dealerInitialCards, List<Card> playerCards, List<Card> deck) {
+        Long gameId = game.getId();
+        if (!isPlayerTurn(game)) {
+            throw new InvalidGameStateException("Game is not in player's turn");
+        }
+
+        logger.debug("Simulating dealer's turn. Dealer initial cards: {}", dealerInitialCards);
+        TurnResult dealerTurn = blackjackEngine.simulateTurnWithInitial(dealerInitialCards, deck);
+        int dealerScore = dealerTurn.score();
+        List<Card> dealerDrawnCards = dealerTurn.cards().subList(
+                Math.min(dealerInitialCards.size(), dealerTurn.cards().size()), dealerTurn.cards().size());
+        int playerScore = blackjackEngine.calculateScore(playerCards);
+
+        GameStatus finalStatus = blackjackEngine.determineWinner(playerScore, dealerScore);
+
+        logger.info("Game {} resolved. Player score: {}, Dealer score: {}, Final status: {}",
+                gameId, playerScore, dealerScore, finalStatus);
+
+        game.setPlayerCards(playerCards);
+        game.setDealerCards(dealerTurn.cards());
+        game.setDealerScore(dealerScore);
+        game.setDealerCardsJson(deckManager.serializeCards(dealerTurn.cards()));
+        game.setDeckJson(deckManager.serializeCards(deck));
+        game.setStatus(finalStatus);
+        game.setTurn(GameTurn.FINISHED);
+        return dealerDrawnCards;
+    }
+
+    /**
+     * Log entries for a stand: one DEALER_DRAW per card the dealer drew, then the STAND that resolves the game.
+     */
+    public static List<GameMove> standMoves(List<Card> dealerDrawnCards) {
+        List<GameMove> moves = new ArrayList<>(dealerDrawnCards.size() + 1);
+        dealerDrawnCards.forEach(card -> moves.add(GameMove.dealerDraw(card)));
+        moves.add(GameMove.stand());
+        return moves;
+    }
 
+    private boolean isPlayerTurn(Games game) {
+        if (game.getTurn() != GameTurn.PLAYER_TURN || game.getStatus() != GameStatus.IN_PROGRESS) {
+            logger.warn("Invalid game state for stand. Game ID: {}, Turn: {}, Status: {}",
+                    game.getId(), game.getTurn(), game.getStatus());
+            return false;
+        }
+        return true;
+    }
+}
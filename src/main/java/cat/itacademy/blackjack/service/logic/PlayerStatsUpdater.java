@@ -2,20 +2,26 @@ package cat.itacademy.blackjack.service.logic;
 
 import cat.itacademy.blackjack.model.GameStatus;
 import cat.itacademy.blackjack.model.Games;
-import cat.itacademy.blackjack.repository.mongo.PlayerRepository;
+import cat.itacademy.blackjack.model.Player;
+import cat.itacademy.blackjack.repository.mongo.PlayerStatsUpdates;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
+
 @Component
 @RequiredArgsConstructor
 public class PlayerStatsUpdater {
 
     private static final Logger logger = LoggerFactory.getLogger(PlayerStatsUpdater.class);
 
-    private final PlayerRepository playerRepository;
+    private final ReactiveMongoTemplate mongoTemplate;
 
     public Mono<Void> updateAfterGameIfFinished(Games game) {
         if (game.getStatus() == null || game.getStatus().name().startsWith("IN_PROGRESS")) {
@@ -23,19 +29,28 @@ public class PlayerStatsUpdater {
             return Mono.empty();
         }
 
-        return playerRepository.findById(game.getPlayerId())
-                .flatMap(player -> {
-                    logger.info("Updating stats for player {} after game {}", player.getName(), game.getId());
-
-                    player.setGamesPlayed(player.getGamesPlayed() + 1);
+        logger.info("Updating stats for player {} after game {}", game.getPlayerId(), game.getId());
+        return recordResults(game.getPlayerId(), List.of(game));
+    }
 
-                    if (game.getStatus() == GameStatus.FINISHED_PLAYER_WON) {
-                        player.setGamesWon(player.getGamesWon() + 1);
-                    }
+    /**
+     * Adds the results of many finished games of one player and recomputes its win rate with a
+     * single atomic pipeline update, instead of one read-modify-write per game.
+     */
+    public Mono<Void> recordResults(String playerId, List<Games> games) {
+        List<Games> finished = games.stream()
+                .filter(game -> game.getStatus() != null && game.getStatus() != GameStatus.IN_PROGRESS)
+                .toList();
+        if (finished.isEmpty()) {
+            return Mono.empty();
+        }
 
-                    player.setTotalScore(player.getTotalScore() + game.getPlayerScore());
+        long won = finished.stream().filter(game -> game.getStatus() == GameStatus.FINISHED_PLAYER_WON).count();
+        long score = finished.stream().mapToLong(Games::getPlayerScore).sum();
+        logger.info("Recording {} finished games for player {} ({} won)", finished.size(), playerId, won);
 
-                    return playerRepository.save(player).then();
-                });
+        return mongoTemplate.updateFirst(Query.query(Criteria.where("_id").is(playerId)),
+                        PlayerStatsUpdates.recordResults(finished.size(), won, score), Player.class)
+                .then();
     }
 }
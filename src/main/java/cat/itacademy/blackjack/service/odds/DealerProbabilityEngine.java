@@ -0,0 +1,180 @@
+package cat.itacademy.blackjack.service.odds;
+
+import cat.itacademy.blackjack.model.Card;
+import cat.itacademy.blackjack.model.CardValue;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Exact distribution of the dealer's final total under the game rules (aces count 11, dealer draws below 17),
+ * given the dealer's current total and the composition of the unseen cards.
+ * <p>
+ * Sub-results are memoized by (dealer total, composition), with the composition packed into a {@code long}:
+ * 5 bits per rank for 2-9 and ace, 7 bits for ten-valued cards. The memo is a bounded LRU, so a full memo
+ * evicts one cold entry at a time. Shoes too large for that packing, and callers that only need an
+ * approximation, use the infinite-deck tables computed at startup.
+ */
+@Component
+public class DealerProbabilityEngine {
+
+    /** Outcome buckets: deck ran out below 17, final 17..21, bust. */
+    public static final int OUTCOMES = 7;
+    public static final int UNDER_17 = 0;
+    public static final int BUST = 6;
+
+    private static final int MIN_POINTS = 2;
+    private static final int MAX_POINTS = 11;
+    private static final int TEN = 10;
+    private static final int SMALL_FIELD_BITS = 5;
+    private static final int TEN_FIELD_BITS = 7;
+    private static final int MAX_TOTAL = 31;
+    private static final int TOTAL_SHIFT = 9 * SMALL_FIELD_BITS + TEN_FIELD_BITS;
+
+    private static final double[][] INFINITE_DECK = infiniteDeckTables();
+
+    private final Map<Long, double[]> cache;
+
+    public DealerProbabilityEngine(@Value("${blackjack.odds.cache-size:50000}") int maxCacheSize) {
+        this.cache = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, double[]> eldest) {
+                return size() > maxCacheSize;
+            }
+        });
+    }
+
+    /**
+     * Counts cards by points: index 2..11 (all ten-valued ranks share index 10).
+     */
+    public static int[] composition(List<Card> cards) {
+        int[] counts = new int[MAX_POINTS + 1];
+        for (Card card : cards) {
+            counts[card.getValue().getPoints()]++;
+        }
+        return counts;
+    }
+
+    /**
+     * Probability of each outcome bucket when the dealer's hand totals {@code dealerTotal} and draws from {@code counts}.
+     * {@code dealerTotal} can be a single upcard or the total of the dealer's current hand.
+     * The returned array must not be modified.
+     */
+    public double[] exact(int dealerTotal, int[] counts) {
+        if (!fitsPacking(counts)) {
+            return infiniteDeck(dealerTotal);
+        }
+        return distribution(dealerTotal, counts.clone(), pack(counts));
+    }
+
+    /**
+     * Same as {@link #exact(int, int[])} for an infinite shoe: each rank has probability 1/13, tens 4/13.
+     * {@code dealerTotal} can be a single upcard or the total of the dealer's current hand.
+     * The returned array must not be modified.
+     */
+    public double[] infiniteDeck(int dealerTotal) {
+        return INFINITE_DECK[Math.min(dealerTotal, MAX_TOTAL)];
+    }
+
+    public int cacheSize() {
+        return cache.size();
+    }
+
+    private double[] distribution(int total, int[] counts, long composition) {
+        if (total >= 17) {
+            return terminal(total);
+        }
+
+        long key = ((long) total << TOTAL_SHIFT) | composition;
+        double[] cached = cache.get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        int remaining = 0;
+        for (int points = MIN_POINTS; points <= MAX_POINTS; points++) {
+            remaining += counts[points];
+        }
+
+        double[] result = new double[OUTCOMES];
+        if (remaining == 0) {
+            result[UNDER_17] = 1.0;
+        } else {
+            for (int points = MIN_POINTS; points <= MAX_POINTS; points++) {
+                int count = counts[points];
+                if (count == 0) {
+                    continue;
+                }
+                double probability = (double) count / remaining;
+                counts[points]--;
+                double[] next = distribution(total + points, counts, composition - (1L << shift(points)));
+                counts[points]++;
+                for (int outcome = 0; outcome < OUTCOMES; outcome++) {
+                    result[outcome] += probability * next[outcome];
+                }
+            }
+        }
+
+        cache.put(key, result);
+        return result;
+    }
+
+    private static double[] terminal(int total) {
+        double[] result = new double[OUTCOMES];
+        result[total > 21 ? BUST : total - 16] = 1.0;
+        return result;
+    }
+
+    private static boolean fitsPacking(int[] counts) {
+        for (int points = MIN_POINTS; points <= MAX_POINTS; points++) {
+            int bits = points == TEN ? TEN_FIELD_BITS : SMALL_FIELD_BITS;
+            if (counts[points] >= (1 << bits)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static long pack(int[] counts) {
+        long packed = 0;
+        for (int points = MIN_POINTS; points <= MAX_POINTS; points++) {
+            packed |= (long) counts[points] << shift(points);
+        }
+        return packed;
+    }
+
+    private static int shift(int points) {
+        return points <= TEN
+                ? (points - MIN_POINTS) * SMALL_FIELD_BITS
+                : 8 * SMALL_FIELD_BITS + TEN_FIELD_BITS;
+    }
+
+    private static double[][] infiniteDeckTables() {
+        double[] rankProbability = new double[MAX_POINTS + 1];
+        int ranks = CardValue.values().length;
+        for (CardValue value : CardValue.values()) {
+            rankProbability[value.getPoints()] += 1.0 / ranks;
+        }
+
+        double[][] byTotal = new double[MAX_TOTAL + 1][];
+        for (int total = MAX_TOTAL; total >= 0; total--) {
+            if (total >= 17) {
+                byTotal[total] = terminal(total);
+                continue;
+            }
+            double[] result = new double[OUTCOMES];
+            for (int points = MIN_POINTS; points <= MAX_POINTS; points++) {
+                double[] next = byTotal[Math.min(total + points, MAX_TOTAL)];
+                for (int outcome = 0; outcome < OUTCOMES; outcome++) {
+                    result[outcome] += rankProbability[points] * next[outcome];
+                }
+            }
+            byTotal[total] = result;
+        }
+        return byTotal;
+    }
+}
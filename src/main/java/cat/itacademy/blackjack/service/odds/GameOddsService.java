@@ -0,0 +1,111 @@
+package cat.itacademy.blackjack.service.odds;
+
+import cat.itacademy.blackjack.config.CpuScheduler;
+import cat.itacademy.blackjack.dto.GameOddsResponse;
+import cat.itacademy.blackjack.dto.StandOdds;
+import cat.itacademy.blackjack.exception.GameNotFoundException;
+import cat.itacademy.blackjack.exception.InvalidGameStateException;
+import cat.itacademy.blackjack.model.Card;
+import cat.itacademy.blackjack.model.GameStatus;
+import cat.itacademy.blackjack.model.Games;
+import cat.itacademy.blackjack.service.engine.DeckManager;
+import cat.itacademy.blackjack.service.eventlog.GameStateLoader;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Odds from the player's point of view. Both dealer cards are shown in this game, so the dealer's current
+ * total is known and only the remaining deck is unseen, as in {@code BasicStrategyAdvisor}.
+ */
+@Component
+@RequiredArgsConstructor
+public class GameOddsService {
+
+    private static final Logger logger = LoggerFactory.getLogger(GameOddsService.class);
+
+    private final GameStateLoader gameStateLoader;
+    private final DeckManager deckManager;
+    private final DealerProbabilityEngine dealerProbabilityEngine;
+    private final CpuScheduler cpuScheduler;
+
+    public Mono<GameOddsResponse> getOdds(Long gameId, boolean exact) {
+        if (gameId == null) {
+            return Mono.error(new GameNotFoundException("Game ID must not be null."));
+        }
+
+        return gameStateLoader.load(gameId)
+                .switchIfEmpty(Mono.error(new GameNotFoundException(gameId)))
+                .flatMap(game -> getOdds(game, exact));
+    }
+
+    /**
+     * Odds of an already loaded game.
+     */
+    public Mono<GameOddsResponse> getOdds(Games game, boolean exact) {
+        if (game.getStatus() != GameStatus.IN_PROGRESS) {
+            return Mono.error(new InvalidGameStateException("Odds are only available for games in progress."));
+        }
+        return Mono.zip(
+                deckManager.deserializeCardsReactive(game.getDealerCardsJson()),
+                exact ? deckManager.deserializeCardsReactive(game.getDeckJson()) : Mono.just(List.<Card>of())
+        ).flatMap(tuple -> cpuScheduler.run(
+                // infinite-deck odds are a table lookup; exact odds walk the unseen deck
+                exact ? (long) tuple.getT2().size() * DeckManager.CARD_JSON_BYTES : 0,
+                () -> odds(game, exact, tuple.getT1(), tuple.getT2())));
+    }
+
+    private GameOddsResponse odds(Games game, boolean exact, List<Card> dealerCards, List<Card> deck) {
+        if (dealerCards.isEmpty()) {
+            throw new InvalidGameStateException("Dealer has no cards.");
+        }
+        int dealerScore = game.getDealerScore();
+        double[] outcomes = exact
+                ? dealerProbabilityEngine.exact(dealerScore, DealerProbabilityEngine.composition(deck))
+                : dealerProbabilityEngine.infiniteDeck(dealerScore);
+
+        logger.debug("Odds for game {} (exact: {}), cache size {}", game.getId(), exact, dealerProbabilityEngine.cacheSize());
+        return new GameOddsResponse(game.getId(), dealerCards.get(0).getValue(), dealerScore, game.getPlayerScore(), exact,
+                toMap(outcomes), standOdds(game.getPlayerScore(), outcomes));
+    }
+
+    static StandOdds standOdds(int playerScore, double[] outcomes) {
+        if (playerScore > 21) {
+            return new StandOdds(0, 0, 1);
+        }
+
+        double win = outcomes[DealerProbabilityEngine.BUST];
+        double draw = 0;
+        for (int total = 17; total <= 21; total++) {
+            double probability = outcomes[total - 16];
+            if (total < playerScore) {
+                win += probability;
+            } else if (total == playerScore) {
+                draw += probability;
+            }
+        }
+        // The dealer only ends below 17 when the deck runs out; any score of 17+ beats it
+        if (playerScore >= 17) {
+            win += outcomes[DealerProbabilityEngine.UNDER_17];
+        }
+        return new StandOdds(win, draw, Math.max(0, 1 - win - draw));
+    }
+
+    private static Map<String, Double> toMap(double[] outcomes) {
+        Map<String, Double> map = new LinkedHashMap<>();
+        if (outcomes[DealerProbabilityEngine.UNDER_17] > 0) {
+            map.put("UNDER_17", outcomes[DealerProbabilityEngine.UNDER_17]);
+        }
+        for (int total = 17; total <= 21; total++) {
+            map.put(String.valueOf(total), outcomes[total - 16]);
+        }
+        map.put("BUST", outcomes[DealerProbabilityEngine.BUST]);
+        return map;
+    }
+}
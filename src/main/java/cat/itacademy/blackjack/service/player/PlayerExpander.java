@@ -0,0 +1,31 @@
+package cat.itacademy.blackjack.service.player;
+
+import cat.itacademy.blackjack.dto.GameResponse;
+import cat.itacademy.blackjack.dto.PlayerSummary;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+
+/**
+ * Embeds player name and stats into a stream of games. Lookups go through {@link PlayerLoader},
+ * so the distinct players of a page, and of any listing running at the same time, are resolved
+ * with a single {@code $in} query instead of one Mongo lookup per game.
+ */
+@Component
+@RequiredArgsConstructor
+public class PlayerExpander {
+
+    private final PlayerLoader playerLoader;
+
+    public Flux<GameResponse> expand(Flux<GameResponse> games) {
+        return games.flatMapSequential(game -> playerLoader.findById(game.playerId())
+                .map(player -> withPlayer(game, PlayerSummary.from(player)))
+                .defaultIfEmpty(game));
+    }
+
+    // kept out of GameResponse: MapStruct would take a one-argument copy method there for a fluent setter
+    public static GameResponse withPlayer(GameResponse game, PlayerSummary player) {
+        return new GameResponse(game.id(), game.playerId(), game.createdAt(), game.status(), game.turn(),
+                game.playerScore(), game.dealerScore(), game.playerCards(), game.dealerCards(), player);
+    }
+}
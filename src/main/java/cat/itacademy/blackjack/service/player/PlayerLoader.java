@@ -0,0 +1,47 @@
+package cat.itacademy.blackjack.service.player;
+
+import cat.itacademy.blackjack.model.Player;
+import cat.itacademy.blackjack.repository.mongo.PlayerRepository;
+import cat.itacademy.blackjack.service.batch.BatchLoader;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+/**
+ * Single-player lookups coalesced across concurrent requests: lookups by id become one
+ * {@code findAllById} and lookups by name one {@code findByNameIn} per batch.
+ */
+@Component
+public class PlayerLoader implements DisposableBean {
+
+    private final BatchLoader<String, Player> byId;
+    private final BatchLoader<String, Player> byName;
+
+    public PlayerLoader(PlayerRepository playerRepository,
+                        @Value("${blackjack.player-loader.max-batch-size:100}") int maxBatchSize,
+                        @Value("${blackjack.player-loader.window:2ms}") Duration window,
+                        MeterRegistry meterRegistry) {
+        this.byId = new BatchLoader<>("player-by-id", playerRepository::findAllById, Player::getId,
+                maxBatchSize, window, meterRegistry);
+        this.byName = new BatchLoader<>("player-by-name", playerRepository::findByNameIn, Player::getName,
+                maxBatchSize, window, meterRegistry);
+    }
+
+    public Mono<Player> findById(String id) {
+        return byId.load(id);
+    }
+
+    public Mono<Player> findByName(String name) {
+        return byName.load(name);
+    }
+
+    @Override
+    public void destroy() {
+        byId.dispose();
+        byName.dispose();
+    }
+}
@@ -0,0 +1,23 @@
+package cat.itacademy.blackjack.service.session;
+
+import cat.itacademy.blackjack.model.Card;
+import cat.itacademy.blackjack.model.Games;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * Deserialized state of one game kept in memory between moves of a WebSocket connection.
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+public class GameSession {
+
+    private Games game;
+    private List<Card> deck;
+    private List<Card> playerCards;
+    private List<Card> dealerCards;
+}
@@ -0,0 +1,160 @@
+package cat.itacademy.blackjack.service.session;
+
+import cat.itacademy.blackjack.dto.GameEvent;
+import cat.itacademy.blackjack.exception.GameNotFoundException;
+import cat.itacademy.blackjack.mapper.GameMapper;
+import cat.itacademy.blackjack.model.Card;
+import cat.itacademy.blackjack.service.cluster.GameChangedEvent;
+import cat.itacademy.blackjack.service.engine.DeckManager;
+import cat.itacademy.blackjack.service.event.GameEventPublisher;
+import cat.itacademy.blackjack.service.eventlog.GameStateLoader;
+import cat.itacademy.blackjack.service.logic.GameCommandLanes;
+import cat.itacademy.blackjack.service.logic.GameHitProcessor;
+import cat.itacademy.blackjack.service.logic.GameStandProcessor;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Runs moves against a {@link GameSession} held in memory. The game is loaded and deserialized once
+ * when the session opens; every move is appended to the game's move log by the processors.
+ * A session is reloaded before its next move if a newer move of the game was logged elsewhere (another
+ * socket, a REST or bulk move on this node, or another node) or the game was deleted. Latest seqs are only
+ * kept for games with an open session, and dropped on {@link #close}.
+ */
+@Component
+@RequiredArgsConstructor
+public class GameSessionService {
+
+    private static final Logger logger = LoggerFactory.getLogger(GameSessionService.class);
+
+    private final GameStateLoader gameStateLoader;
+    private final DeckManager deckManager;
+    private final GameMapper gameMapper;
+    private final GameHitProcessor gameHitProcessor;
+    private final GameStandProcessor gameStandProcessor;
+    private final GameCommandLanes gameCommandLanes;
+    private final GameEventPublisher gameEventPublisher;
+    private final Map<Long, OpenGame> openGames = new ConcurrentHashMap<>();
+
+    /**
+     * Loads a session; it must be {@link #close closed} once the caller stops using it.
+     */
+    public Mono<GameSession> open(Long gameId) {
+        if (gameId == null) {
+            return Mono.error(new GameNotFoundException("Game ID must not be null."));
+        }
+
+        logger.debug("Opening in-memory session for game ID: {}", gameId);
+        return load(gameId)
+                .doOnNext(session -> openGames.compute(gameId, (id, open) -> (open == null ? new OpenGame() : open).retain()));
+    }
+
+    public void close(GameSession session) {
+        openGames.computeIfPresent(session.getGame().getId(), (id, open) -> open.release());
+    }
+
+    /**
+     * Sees every logged move: {@code GameChangeNotifier} publishes this node's own changes, and
+     * {@code GameChangeListener} republishes other nodes'.
+     */
+    @EventListener
+    public void onGameChanged(GameChangedEvent event) {
+        openGames.computeIfPresent(event.id(), (id, open) -> open.changed(event.deleted() ? Integer.MAX_VALUE : event.seq()));
+    }
+
+    public GameEvent snapshot(GameSession session) {
+        return GameEvent.snapshot(gameMapper.toResponse(session.getGame(), session.getPlayerCards(), session.getDealerCards()),
+                session.getGame().getLastSeq());
+    }
+
+    public Mono<GameEvent> hit(GameSession session) {
+        return gameCommandLanes.submit(session.getGame().getId(), () -> refreshIfStale(session)
+                .then(Mono.defer(() -> gameHitProcessor.applyHit(session.getGame(), session.getDeck(), session.getPlayerCards())
+                        .map(saved -> {
+                            session.setGame(saved);
+                            List<Card> playerCards = session.getPlayerCards();
+                            return gameEventPublisher.hitEvent(saved, playerCards.get(playerCards.size() - 1));
+                        }))));
+    }
+
+    public Mono<GameEvent> stand(GameSession session) {
+        return gameCommandLanes.submit(session.getGame().getId(),
+                () -> refreshIfStale(session).then(Mono.defer(() -> doStand(session))));
+    }
+
+    private Mono<GameEvent> doStand(GameSession session) {
+        int dealerCardsBefore = session.getDealerCards().size();
+        return gameStandProcessor.applyStand(session.getGame(), session.getDealerCards(), session.getPlayerCards(), session.getDeck())
+                .map(saved -> {
+                    session.setGame(saved);
+                    session.setDealerCards(new ArrayList<>(saved.getDealerCards()));
+                    List<Card> drawn = saved.getDealerCards().subList(dealerCardsBefore, saved.getDealerCards().size());
+                    return gameEventPublisher.standEvent(saved, drawn);
+                });
+    }
+
+    private Mono<Void> refreshIfStale(GameSession session) {
+        Long gameId = session.getGame().getId();
+        OpenGame open = openGames.get(gameId);
+        int localSeq = session.getGame().getLastSeq();
+        if (open == null || localSeq >= open.latestSeq) {
+            return Mono.empty();
+        }
+
+        logger.debug("Session of game {} is stale (session seq {}, latest {}), reloading", gameId, localSeq, open.latestSeq);
+        return load(gameId)
+                .doOnNext(fresh -> {
+                    session.setGame(fresh.getGame());
+                    session.setDeck(fresh.getDeck());
+                    session.setPlayerCards(fresh.getPlayerCards());
+                    session.setDealerCards(fresh.getDealerCards());
+                })
+                .then();
+    }
+
+    private Mono<GameSession> load(Long gameId) {
+        return gameStateLoader.load(gameId)
+                .switchIfEmpty(Mono.error(new GameNotFoundException(gameId)))
+                .flatMap(game -> Mono.zip(
+                        deckManager.deserializeCardsReactive(game.getDeckJson()),
+                        deckManager.deserializeCardsReactive(game.getPlayerCardsJson()),
+                        deckManager.deserializeCardsReactive(game.getDealerCardsJson())
+                ).map(tuple -> new GameSession(game,
+                        new ArrayList<>(tuple.getT1()),
+                        new ArrayList<>(tuple.getT2()),
+                        new ArrayList<>(tuple.getT3()))));
+    }
+
+    /**
+     * Open sessions of one game on this node and the latest seq logged for it by anyone. Only changed
+     * inside {@code openGames.compute}, which runs atomically per game.
+     */
+    private static final class OpenGame {
+
+        private int sessions;
+        private volatile int latestSeq;
+
+        OpenGame retain() {
+            sessions++;
+            return this;
+        }
+
+        OpenGame release() {
+            return --sessions > 0 ? this : null;
+        }
+
+        OpenGame changed(int seq) {
+            latestSeq = Math.max(latestSeq, seq);
+            return this;
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package cat.itacademy.blackjack.service.simulation;
+
+import cat.itacademy.blackjack.service.engine.BlackjackEngine;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Runs simulations on a dedicated {@link ForkJoinPool}, so long analyses never compete with
+ * the common pool or the Reactor schedulers that serve requests.
+ */
+public class MonteCarloSimulator implements AutoCloseable {
+
+    private final ForkJoinPool pool;
+    private final BlackjackEngine engine;
+
+    public MonteCarloSimulator(int parallelism, BlackjackEngine engine) {
+        this.pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+        this.engine = engine;
+    }
+
+    /**
+     * Plays {@code hands} hands under {@code rules}. The same seed always gives the same result,
+     * whatever the parallelism.
+     */
+    public SimulationStats run(long hands, SimulationRules rules, long seed) {
+        return pool.invoke(new SimulationTask(hands, new SplittableRandom(seed), rules, engine));
+    }
+
+    public int parallelism() {
+        return pool.getParallelism();
+    }
+
+    @Override
+    public void close() {
+        pool.shutdownNow();
+    }
+}
@@ -0,0 +1,44 @@
+package cat.itacademy.blackjack.service.simulation;
+
+import cat.itacademy.blackjack.model.CardValue;
+
+import java.util.SplittableRandom;
+
+/**
+ * A shoe stored as card points in a {@code byte[]}. Cards are drawn with an incremental Fisher-Yates step,
+ * so a hand only pays for the cards it actually uses, and {@link #reset()} reshuffles in O(1).
+ */
+final class PrimitiveDeck {
+
+    private final byte[] cards;
+    private final SplittableRandom random;
+    private int position;
+
+    PrimitiveDeck(int decks, SplittableRandom random) {
+        CardValue[] values = CardValue.values();
+        this.cards = new byte[decks * 4 * values.length];
+        this.random = random;
+        int index = 0;
+        for (int deck = 0; deck < decks * 4; deck++) {
+            for (CardValue value : values) {
+                cards[index++] = (byte) value.getPoints();
+            }
+        }
+    }
+
+    int draw() {
+        int pick = position + random.nextInt(cards.length - position);
+        byte card = cards[pick];
+        cards[pick] = cards[position];
+        cards[position++] = card;
+        return card;
+    }
+
+    boolean isEmpty() {
+        return position == cards.length;
+    }
+
+    void reset() {
+        position = 0;
+    }
+}
@@ -0,0 +1,63 @@
+package cat.itacademy.blackjack.service.simulation;
+
+import cat.itacademy.blackjack.dto.SimulationResult;
+import cat.itacademy.blackjack.service.engine.BlackjackEngine;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Command-line entry point that runs a simulation without starting the API:
+ * <pre>
+ * java -cp target/blackjack-api-0.0.1-SNAPSHOT.jar \
+ *      -Dloader.main=cat.itacademy.blackjack.service.simulation.SimulationCli \
+ *      org.springframework.boot.loader.launch.PropertiesLauncher \
+ *      --hands=100000000 --decks=1 --dealer-stands-on=17 --player-stands-on=17 --seed=42 --parallelism=0
+ * </pre>
+ */
+public final class SimulationCli {
+
+    private SimulationCli() {
+    }
+
+    public static void main(String[] args) {
+        Map<String, String> options = parse(args);
+        long hands = Long.parseLong(options.getOrDefault("hands", "10000000"));
+        long seed = Long.parseLong(options.getOrDefault("seed", String.valueOf(System.nanoTime())));
+        int parallelism = Integer.parseInt(options.getOrDefault("parallelism", "0"));
+        SimulationRules live = SimulationRules.LIVE_GAME;
+        SimulationRules rules = new SimulationRules(
+                Integer.parseInt(options.getOrDefault("decks", String.valueOf(live.decks()))),
+                Integer.parseInt(options.getOrDefault("dealer-stands-on", String.valueOf(live.dealerStandsOn()))),
+                Integer.parseInt(options.getOrDefault("player-stands-on", String.valueOf(live.playerStandsOn()))));
+
+        try (MonteCarloSimulator simulator = new MonteCarloSimulator(parallelism, new BlackjackEngine())) {
+            System.out.printf("Simulating %,d hands on %d threads, %s, seed %d%n", hands, simulator.parallelism(), rules, seed);
+            long start = System.nanoTime();
+            SimulationResult result = simulator.run(hands, rules, seed).toResult();
+            double seconds = (System.nanoTime() - start) / 1e9;
+
+            System.out.printf("Elapsed:          %.2f s (%,.0f hands/s)%n", seconds, hands / seconds);
+            System.out.printf("Player wins:      %,d%n", result.playerWins());
+            System.out.printf("Dealer wins:      %,d%n", result.dealerWins());
+            System.out.printf("Draws:            %,d%n", result.draws());
+            System.out.printf("Player busts:     %,d%n", result.playerBusts());
+            System.out.printf("House edge:       %.4f%%%n", result.houseEdge() * 100);
+            System.out.printf("Dealer bust rate: %.4f%%%n", result.dealerBustRate() * 100);
+            result.dealerFinalTotals().forEach((total, probability) ->
+                    System.out.printf("Dealer %2d:        %.4f%%%n", total, probability * 100));
+        }
+    }
+
+    private static Map<String, String> parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value, got: " + arg);
+            }
+            int separator = arg.indexOf('=');
+            options.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+        return options;
+    }
+}
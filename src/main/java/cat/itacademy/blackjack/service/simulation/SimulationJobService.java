@@ -0,0 +1,104 @@
+package cat.itacademy.blackjack.service.simulation;
+
+import cat.itacademy.blackjack.dto.SimulationJobResponse;
+import cat.itacademy.blackjack.dto.SimulationRequest;
+import cat.itacademy.blackjack.exception.SimulationNotFoundException;
+import cat.itacademy.blackjack.model.SimulationJobStatus;
+import cat.itacademy.blackjack.service.engine.BlackjackEngine;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs simulations as background jobs and keeps the last {@code maxRetainedJobs} of them in memory.
+ */
+@Service
+public class SimulationJobService {
+
+    private static final Logger logger = LoggerFactory.getLogger(SimulationJobService.class);
+
+    private final MonteCarloSimulator simulator;
+    private final int maxRunningJobs;
+    private final int maxRetainedJobs;
+    private final Map<String, SimulationJobResponse> jobs = new ConcurrentHashMap<>();
+    private final Queue<String> jobOrder = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger runningJobs = new AtomicInteger();
+
+    public SimulationJobService(BlackjackEngine blackjackEngine,
+                                @Value("${blackjack.simulation.parallelism:0}") int parallelism,
+                                @Value("${blackjack.simulation.max-running-jobs:2}") int maxRunningJobs,
+                                @Value("${blackjack.simulation.max-retained-jobs:100}") int maxRetainedJobs) {
+        this.simulator = new MonteCarloSimulator(parallelism, blackjackEngine);
+        this.maxRunningJobs = maxRunningJobs;
+        this.maxRetainedJobs = maxRetainedJobs;
+    }
+
+    public SimulationJobResponse submit(SimulationRequest request) {
+        if (runningJobs.incrementAndGet() > maxRunningJobs) {
+            runningJobs.decrementAndGet();
+            throw new ResponseStatusException(HttpStatus.TOO_MANY_REQUESTS, "Too many simulations running, retry later.");
+        }
+
+        String id = UUID.randomUUID().toString();
+        long hands = request.hands();
+        long seed = request.seed() != null ? request.seed() : ThreadLocalRandom.current().nextLong();
+        SimulationRules rules = request.toRules();
+        SimulationJobResponse running = new SimulationJobResponse(id, SimulationJobStatus.RUNNING, hands, seed, null, null, null);
+        store(running);
+
+        logger.info("Starting simulation {}: {} hands, rules {}, seed {}", id, hands, rules, seed);
+        long start = System.nanoTime();
+        Mono.fromCallable(() -> simulator.run(hands, rules, seed))
+                .subscribeOn(Schedulers.boundedElastic())
+                .doFinally(signal -> runningJobs.decrementAndGet())
+                .subscribe(
+                        stats -> {
+                            long elapsed = (System.nanoTime() - start) / 1_000_000;
+                            logger.info("Simulation {} completed in {} ms", id, elapsed);
+                            jobs.replace(id, new SimulationJobResponse(id, SimulationJobStatus.COMPLETED, hands, seed,
+                                    elapsed, stats.toResult(), null));
+                        },
+                        error -> {
+                            long elapsed = (System.nanoTime() - start) / 1_000_000;
+                            logger.error("Simulation {} failed", id, error);
+                            jobs.replace(id, new SimulationJobResponse(id, SimulationJobStatus.FAILED, hands, seed,
+                                    elapsed, null, error.getMessage()));
+                        });
+        return running;
+    }
+
+    public Mono<SimulationJobResponse> find(String id) {
+        return Mono.justOrEmpty(jobs.get(id))
+                .switchIfEmpty(Mono.error(new SimulationNotFoundException(id)));
+    }
+
+    private void store(SimulationJobResponse job) {
+        jobs.put(job.id(), job);
+        jobOrder.add(job.id());
+        while (jobOrder.size() > maxRetainedJobs) {
+            String oldest = jobOrder.poll();
+            if (oldest != null) {
+                jobs.remove(oldest);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        simulator.close();
+    }
+}
@@ -0,0 +1,14 @@
+package cat.itacademy.blackjack.service.simulation;
+
+/**
+ * Table rules for a simulation run. The defaults reproduce the live game: one deck reshuffled every hand
+ * and a dealer drawing below 17.
+ *
+ * @param decks          decks in the shoe, reshuffled before every hand
+ * @param dealerStandsOn dealer draws while below this total
+ * @param playerStandsOn simulated player hits while below this total
+ */
+public record SimulationRules(int decks, int dealerStandsOn, int playerStandsOn) {
+
+    public static final SimulationRules LIVE_GAME = new SimulationRules(1, 17, 17);
+}
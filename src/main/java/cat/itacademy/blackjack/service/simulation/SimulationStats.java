@@ -0,0 +1,118 @@
+package cat.itacademy.blackjack.service.simulation;
+
+import cat.itacademy.blackjack.dto.SimulationResult;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Mergeable counters of a simulation shard. Each shard fills its own instance and shards are combined
+ * with {@link #merge(SimulationStats)}, so no counter is shared between threads.
+ */
+public final class SimulationStats {
+
+    static final int MAX_TOTAL = 32;
+
+    private long hands;
+    private long playerWins;
+    private long dealerWins;
+    private long draws;
+    private long playerBusts;
+    private long dealerBusts;
+    private final long[] dealerFinalTotals = new long[MAX_TOTAL];
+
+    void recordPlayerWin() {
+        hands++;
+        playerWins++;
+    }
+
+    void recordDealerWin() {
+        hands++;
+        dealerWins++;
+    }
+
+    void recordDraw() {
+        hands++;
+        draws++;
+    }
+
+    void recordPlayerBust() {
+        playerBusts++;
+    }
+
+    void recordDealerTotal(int total) {
+        dealerFinalTotals[total]++;
+        if (total > 21) {
+            dealerBusts++;
+        }
+    }
+
+    public SimulationStats merge(SimulationStats other) {
+        hands += other.hands;
+        playerWins += other.playerWins;
+        dealerWins += other.dealerWins;
+        draws += other.draws;
+        playerBusts += other.playerBusts;
+        dealerBusts += other.dealerBusts;
+        for (int total = 0; total < MAX_TOTAL; total++) {
+            dealerFinalTotals[total] += other.dealerFinalTotals[total];
+        }
+        return this;
+    }
+
+    public long hands() {
+        return hands;
+    }
+
+    public long playerWins() {
+        return playerWins;
+    }
+
+    public long dealerWins() {
+        return dealerWins;
+    }
+
+    public long draws() {
+        return draws;
+    }
+
+    public long playerBusts() {
+        return playerBusts;
+    }
+
+    public long dealerBusts() {
+        return dealerBusts;
+    }
+
+    /**
+     * House edge per unit bet with even-money payouts: (dealer wins - player wins) / hands.
+     */
+    public double houseEdge() {
+        return hands == 0 ? 0 : (double) (dealerWins - playerWins) / hands;
+    }
+
+    public SimulationResult toResult() {
+        long dealerHands = 0;
+        for (long count : dealerFinalTotals) {
+            dealerHands += count;
+        }
+
+        Map<Integer, Double> dealerTotals = new LinkedHashMap<>();
+        for (int total = 0; total < MAX_TOTAL; total++) {
+            if (dealerFinalTotals[total] > 0) {
+                dealerTotals.put(total, (double) dealerFinalTotals[total] / dealerHands);
+            }
+        }
+
+        return new SimulationResult(
+                hands,
+                playerWins,
+                dealerWins,
+                draws,
+                playerBusts,
+                houseEdge(),
+                dealerHands == 0 ? 0 : (double) dealerBusts / dealerHands,
+                dealerTotals
+        );
+    }
+}
@@ -0,0 +1,87 @@
+package cat.itacademy.blackjack.service.simulation;
+
+import cat.itacademy.blackjack.model.GameStatus;
+import cat.itacademy.blackjack.service.engine.BlackjackEngine;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Plays {@code hands} hands, splitting in halves until a shard is small enough to run on one thread.
+ * Each half gets its own {@link SplittableRandom} split from the parent, so results only depend on the seed.
+ */
+final class SimulationTask extends RecursiveTask<SimulationStats> {
+
+    static final long SHARD_SIZE = 50_000;
+
+    private final long hands;
+    private final SplittableRandom random;
+    private final SimulationRules rules;
+    private final BlackjackEngine engine;
+
+    SimulationTask(long hands, SplittableRandom random, SimulationRules rules, BlackjackEngine engine) {
+        this.hands = hands;
+        this.random = random;
+        this.rules = rules;
+        this.engine = engine;
+    }
+
+    @Override
+    protected SimulationStats compute() {
+        if (hands <= SHARD_SIZE) {
+            return play();
+        }
+
+        long half = hands / 2;
+        SimulationTask left = new SimulationTask(half, random.split(), rules, engine);
+        SimulationTask right = new SimulationTask(hands - half, random.split(), rules, engine);
+        left.fork();
+        SimulationStats stats = right.compute();
+        return stats.merge(left.join());
+    }
+
+    /**
+     * Same flow as a live game: the player hits below {@code playerStandsOn}, a bust or a 21 ends the game
+     * without the dealer playing, otherwise the dealer draws below {@code dealerStandsOn}.
+     */
+    private SimulationStats play() {
+        SimulationStats stats = new SimulationStats();
+        PrimitiveDeck deck = new PrimitiveDeck(rules.decks(), random);
+
+        for (long hand = 0; hand < hands; hand++) {
+            deck.reset();
+            int player = deck.draw() + deck.draw();
+            int dealer = deck.draw() + deck.draw();
+
+            boolean finished = false;
+            while (player < rules.playerStandsOn() && player <= 21 && !deck.isEmpty()) {
+                player += deck.draw();
+                if (player >= 21) {
+                    finished = true;
+                    break;
+                }
+            }
+
+            if (player > 21) {
+                stats.recordPlayerBust();
+            }
+            if (!finished) {
+                while (dealer < rules.dealerStandsOn() && !deck.isEmpty()) {
+                    dealer += deck.draw();
+                }
+                stats.recordDealerTotal(dealer);
+            }
+
+            record(stats, engine.determineWinner(player, dealer));
+        }
+        return stats;
+    }
+
+    private static void record(SimulationStats stats, GameStatus status) {
+        switch (status) {
+            case FINISHED_PLAYER_WON -> stats.recordPlayerWin();
+            case FINISHED_DEALER_WON -> stats.recordDealerWin();
+            default -> stats.recordDraw();
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package cat.itacademy.blackjack.service.strategy;
+
+import cat.itacademy.blackjack.model.CardValue;
+import cat.itacademy.blackjack.model.GameAction;
+import cat.itacademy.blackjack.service.odds.DealerProbabilityEngine;
+import org.springframework.stereotype.Component;
+
+/**
+ * Hit/stand decisions for the live game rules, precomputed at startup into flat tables indexed by
+ * (player score, dealer score). Lookups are two array reads: constant time and allocation-free.
+ * <p>
+ * Aces always count 11 in this game, so there are no soft totals, and both dealer cards are visible,
+ * so the dealer's current total is used instead of a single upcard. Expected values use the
+ * infinite-deck dealer distribution.
+ */
+@Component
+public class BasicStrategyAdvisor {
+
+    private static final int SIZE = 32;
+    private static final int MAX = SIZE - 1;
+
+    private final GameAction[] actions = new GameAction[SIZE * SIZE];
+    private final double[] hitValues = new double[SIZE * SIZE];
+    private final double[] standValues = new double[SIZE * SIZE];
+
+    public BasicStrategyAdvisor(DealerProbabilityEngine dealerProbabilityEngine) {
+        double[] rankProbability = new double[12];
+        for (CardValue value : CardValue.values()) {
+            rankProbability[value.getPoints()] += 1.0 / CardValue.values().length;
+        }
+
+        for (int dealer = 0; dealer < SIZE; dealer++) {
+            double[] dealerOutcomes = dealerProbabilityEngine.infiniteDeck(dealer);
+            double[] best = new double[SIZE];
+
+            for (int player = MAX; player >= 0; player--) {
+                int index = index(player, dealer);
+                double stand = standValue(player, dealer, dealerOutcomes);
+                double hit = -1;
+                if (player < 21) {
+                    hit = 0;
+                    for (int points = 2; points <= 11; points++) {
+                        hit += rankProbability[points] * valueAfterHit(Math.min(player + points, MAX), dealer, best);
+                    }
+                }
+                standValues[index] = stand;
+                hitValues[index] = hit;
+                actions[index] = hit > stand ? GameAction.HIT : GameAction.STAND;
+                best[player] = Math.max(hit, stand);
+            }
+        }
+    }
+
+    /**
+     * Recommended move for the given scores.
+     */
+    public GameAction advise(int playerScore, int dealerScore) {
+        return actions[index(playerScore, dealerScore)];
+    }
+
+    public double hitValue(int playerScore, int dealerScore) {
+        return hitValues[index(playerScore, dealerScore)];
+    }
+
+    public double standValue(int playerScore, int dealerScore) {
+        return standValues[index(playerScore, dealerScore)];
+    }
+
+    /**
+     * Value of the hand right after drawing: a bust loses, a 21 ends the game against the dealer's
+     * current total (the dealer does not draw), anything else continues with the best move.
+     */
+    private static double valueAfterHit(int player, int dealer, double[] best) {
+        if (player > 21) {
+            return -1;
+        }
+        if (player == 21) {
+            return dealer == 21 ? 0 : 1;
+        }
+        return best[player];
+    }
+
+    private static double standValue(int player, int dealer, double[] dealerOutcomes) {
+        if (player > 21) {
+            return -1;
+        }
+        double value = dealerOutcomes[DealerProbabilityEngine.BUST];
+        for (int total = 17; total <= 21; total++) {
+            double probability = dealerOutcomes[total - 16];
+            if (total < player) {
+                value += probability;
+            } else if (total > player) {
+                value -= probability;
+            }
+        }
+        return value;
+    }
+
+    private static int index(int playerScore, int dealerScore) {
+        return Math.min(Math.max(playerScore, 0), MAX) * SIZE + Math.min(Math.max(dealerScore, 0), MAX);
+    }
+}
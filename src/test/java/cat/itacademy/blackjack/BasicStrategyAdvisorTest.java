@@ -0,0 +1,53 @@
+package cat.itacademy.blackjack;
+
+import cat.itacademy.blackjack.model.GameAction;
+import cat.itacademy.blackjack.service.odds.DealerProbabilityEngine;
+import cat.itacademy.blackjack.service.strategy.BasicStrategyAdvisor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BasicStrategyAdvisorTest {
+
+    private BasicStrategyAdvisor advisor;
+
+    @BeforeEach
+    void setUp() {
+        advisor = new BasicStrategyAdvisor(new DealerProbabilityEngine(1_000));
+    }
+
+    @Test
+    void advise_shouldHit_whenNoCardCanBust() {
+        for (int dealer = 4; dealer <= 21; dealer++) {
+            assertEquals(GameAction.HIT, advisor.advise(8, dealer));
+            assertEquals(GameAction.HIT, advisor.advise(10, dealer));
+        }
+    }
+
+    @Test
+    void advise_shouldStand_onTwentyAndAbove() {
+        for (int dealer = 4; dealer <= 22; dealer++) {
+            assertEquals(GameAction.STAND, advisor.advise(20, dealer));
+            assertEquals(GameAction.STAND, advisor.advise(21, dealer));
+        }
+    }
+
+    @Test
+    void advise_shouldStand_whenDealerAlreadyBusted() {
+        assertEquals(GameAction.STAND, advisor.advise(8, 22));
+        assertEquals(1.0, advisor.standValue(8, 22), 1e-12);
+    }
+
+    @Test
+    void advise_shouldHit_whenStandingAlreadyLoses() {
+        assertEquals(GameAction.HIT, advisor.advise(16, 20));
+        assertEquals(-1.0, advisor.standValue(16, 20), 1e-12);
+    }
+
+    @Test
+    void advise_shouldStand_whenDealerIsLikelyToBust() {
+        assertEquals(GameAction.STAND, advisor.advise(13, 16));
+        assertTrue(advisor.standValue(13, 16) > advisor.hitValue(13, 16));
+    }
+}
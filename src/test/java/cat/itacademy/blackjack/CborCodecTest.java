@@ -0,0 +1,110 @@
+package cat.itacademy.blackjack;
+
+import cat.itacademy.blackjack.config.CodecConfig;
+import cat.itacademy.blackjack.controller.FinishedGameResponses;
+import cat.itacademy.blackjack.controller.GameController;
+import cat.itacademy.blackjack.controller.PlayerController;
+import cat.itacademy.blackjack.dto.CardResponseDTO;
+import cat.itacademy.blackjack.dto.GameResponse;
+import cat.itacademy.blackjack.dto.PlayerResponse;
+import cat.itacademy.blackjack.model.GameStatus;
+import cat.itacademy.blackjack.model.GameTurn;
+import cat.itacademy.blackjack.service.GameService;
+import cat.itacademy.blackjack.service.PlayerService;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.codec.CodecCustomizer;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.springframework.util.unit.DataSize;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class CborCodecTest {
+
+    private final ObjectMapper cborMapper = new ObjectMapper(new CBORFactory()).findAndRegisterModules();
+    private final ObjectMapper jsonMapper = new ObjectMapper().findAndRegisterModules();
+    private GameService gameService;
+    private PlayerService playerService;
+    private WebTestClient client;
+
+    @BeforeEach
+    void setUp() {
+        gameService = mock(GameService.class);
+        playerService = mock(PlayerService.class);
+        CodecCustomizer cbor = new CodecConfig().cborCodecCustomizer(new Jackson2ObjectMapperBuilder());
+        client = WebTestClient.bindToController(
+                        new GameController(gameService, playerService,
+                                new FinishedGameResponses(jsonMapper, DataSize.ofKilobytes(64), new SimpleMeterRegistry())),
+                        new PlayerController(playerService))
+                .httpMessageCodecs(cbor::customize)
+                .build();
+    }
+
+    @Test
+    void getGameById_shouldWriteCbor_whenAccepted_andBeSmallerThanJson() throws Exception {
+        GameResponse game = game();
+        when(gameService.getGameById(1L)).thenReturn(Mono.just(game));
+
+        byte[] body = client.get().uri("/game/details/1")
+                .accept(MediaType.APPLICATION_CBOR)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType(MediaType.APPLICATION_CBOR)
+                .expectBody().returnResult()
+                .getResponseBody();
+
+        assertEquals(game, cborMapper.readValue(body, GameResponse.class));
+        assertTrue(body.length < jsonMapper.writeValueAsBytes(game).length);
+    }
+
+    @Test
+    void getGameById_shouldNotServeTheCachedJson_toCborClients() {
+        when(gameService.getGameById(1L)).thenReturn(Mono.just(game()));
+
+        client.get().uri("/game/details/1")
+                .exchange()
+                .expectHeader().contentType(MediaType.APPLICATION_JSON);
+
+        client.get().uri("/game/details/1")
+                .accept(MediaType.APPLICATION_CBOR)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType(MediaType.APPLICATION_CBOR);
+    }
+
+    @Test
+    void findAll_shouldWriteAFluxAsOneCborArray() throws Exception {
+        List<PlayerResponse> players = List.of(
+                new PlayerResponse("p1", "John", 10, LocalDateTime.of(2025, 7, 14, 19, 0)),
+                new PlayerResponse("p2", "Jane", 20, LocalDateTime.of(2025, 7, 14, 20, 0)));
+        when(playerService.findAll()).thenReturn(Flux.fromIterable(players));
+
+        byte[] body = client.get().uri("/player/all")
+                .accept(MediaType.APPLICATION_CBOR)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().returnResult()
+                .getResponseBody();
+
+        assertEquals(players, cborMapper.readValue(body, new TypeReference<List<PlayerResponse>>() {
+        }));
+    }
+
+    private static GameResponse game() {
+        List<CardResponseDTO> cards = List.of(new CardResponseDTO("HEARTS", "TEN"), new CardResponseDTO("CLUBS", "NINE"));
+        return new GameResponse(1L, "p1", LocalDateTime.of(2025, 7, 14, 19, 0), GameStatus.FINISHED_PLAYER_WON,
+                GameTurn.FINISHED, 19, 18, cards, cards, null);
+    }
+}
@@ -0,0 +1,96 @@
+package cat.itacademy.blackjack;
+
+import cat.itacademy.blackjack.config.CodecConfig;
+import cat.itacademy.blackjack.dto.PlayerResponse;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Publisher;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.Encoder;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.EncoderHttpMessageWriter;
+import org.springframework.http.codec.ServerCodecConfigurer;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.util.unit.DataSize;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.ByteArrayOutputStream;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ChunkedJsonEncoderTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final List<PlayerResponse> players = IntStream.range(0, 100)
+            .mapToObj(i -> new PlayerResponse("p" + i, "player-" + i, i, LocalDateTime.of(2025, 7, 14, 19, 0)))
+            .toList();
+    private Encoder<Object> encoder;
+
+    @BeforeEach
+    void setUp() {
+        ServerCodecConfigurer configurer = ServerCodecConfigurer.create();
+        new CodecConfig().jsonCodecCustomizer(objectMapper, DataSize.ofKilobytes(1)).customize(configurer);
+        encoder = configurer.getWriters().stream()
+                .filter(EncoderHttpMessageWriter.class::isInstance)
+                .map(writer -> ((EncoderHttpMessageWriter<?>) writer).getEncoder())
+                .filter(Jackson2JsonEncoder.class::isInstance)
+                .map(found -> {
+                    @SuppressWarnings("unchecked")
+                    Encoder<Object> json = (Encoder<Object>) found;
+                    return json;
+                })
+                .findFirst()
+                .orElseThrow();
+    }
+
+    @Test
+    void encode_shouldJoinArrayElementsIntoChunks_withoutChangingTheBody() throws Exception {
+        List<DataBuffer> buffers = encode(Flux.fromIterable(players), MediaType.APPLICATION_JSON);
+        buffers.subList(0, buffers.size() - 1).forEach(buffer -> assertTrue(buffer.readableByteCount() >= 1024));
+
+        byte[] body = concat(buffers);
+        assertEquals(players, objectMapper.readValue(body, new TypeReference<List<PlayerResponse>>() {
+        }));
+        int expectedChunks = (body.length + 1023) / 1024;
+        assertTrue(buffers.size() <= expectedChunks, "wrote " + buffers.size() + " buffers for " + body.length + " bytes");
+    }
+
+    @Test
+    void encode_shouldKeepOneBufferPerElement_forNdjson() {
+        List<DataBuffer> buffers = encode(Flux.fromIterable(players), MediaType.APPLICATION_NDJSON);
+
+        assertEquals(players.size(), buffers.size());
+    }
+
+    @Test
+    void encode_shouldWriteSingleValuesAsBefore() throws Exception {
+        List<DataBuffer> buffers = encode(Mono.just(players.get(0)), MediaType.APPLICATION_JSON);
+
+        assertEquals(players.get(0), objectMapper.readValue(concat(buffers), PlayerResponse.class));
+    }
+
+    private List<DataBuffer> encode(Publisher<?> input, MediaType mediaType) {
+        return encoder.encode(input, DefaultDataBufferFactory.sharedInstance, ResolvableType.forClass(PlayerResponse.class),
+                        mediaType, null)
+                .collectList()
+                .block();
+    }
+
+    private static byte[] concat(List<DataBuffer> buffers) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        buffers.forEach(buffer -> {
+            byte[] bytes = new byte[buffer.readableByteCount()];
+            buffer.read(bytes);
+            out.writeBytes(bytes);
+        });
+        return out.toByteArray();
+    }
+}
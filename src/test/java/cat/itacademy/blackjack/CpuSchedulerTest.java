@@ -0,0 +1,76 @@
+package cat.itacademy.blackjack;
+
+import cat.itacademy.blackjack.config.CpuScheduler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.test.StepVerifier;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CpuSchedulerTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private CpuScheduler cpuScheduler;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cpuScheduler = new CpuScheduler(1, 1, DataSize.ofBytes(512), meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        cpuScheduler.dispose();
+    }
+
+    @Test
+    void run_shouldStayInline_belowThreshold() {
+        String caller = Thread.currentThread().getName();
+
+        StepVerifier.create(cpuScheduler.run(100, () -> Thread.currentThread().getName()))
+                .expectNext(caller)
+                .verifyComplete();
+
+        assertEquals(1, meterRegistry.get("blackjack.cpu.tasks").tag("mode", "inline").counter().count());
+    }
+
+    @Test
+    void run_shouldOffload_atOrAboveThreshold() {
+        StepVerifier.create(cpuScheduler.run(512, () -> Thread.currentThread().getName()))
+                .assertNext(thread -> assertTrue(thread.startsWith("cpu-")))
+                .verifyComplete();
+
+        assertEquals(1, meterRegistry.get("blackjack.cpu.tasks").tag("mode", "offloaded").counter().count());
+        assertEquals(1, meterRegistry.get("blackjack.cpu.queue.wait").timer().count());
+    }
+
+    @Test
+    void offload_shouldFailWith503_whenQueueIsFull() throws InterruptedException {
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        cpuScheduler.offload(() -> {
+            running.countDown();
+            return release.await(5, TimeUnit.SECONDS);
+        }).subscribe();
+        assertTrue(running.await(5, TimeUnit.SECONDS));
+        cpuScheduler.offload(() -> "queued").subscribe();
+
+        assertEquals(1.0, meterRegistry.get("blackjack.cpu.queue.size").gauge().value());
+        assertEquals(0.0, meterRegistry.get("blackjack.cpu.queue.remaining").gauge().value());
+        StepVerifier.create(cpuScheduler.offload(() -> "rejected"))
+                .expectErrorSatisfies(error -> assertEquals(HttpStatus.SERVICE_UNAVAILABLE,
+                        ((ResponseStatusException) error).getStatusCode()))
+                .verify();
+        assertEquals(1, meterRegistry.get("blackjack.cpu.rejected").counter().count());
+
+        release.countDown();
+    }
+}
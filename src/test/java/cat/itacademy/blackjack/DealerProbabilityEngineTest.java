@@ -0,0 +1,92 @@
+package cat.itacademy.blackjack;
+
+import cat.itacademy.blackjack.model.Card;
+import cat.itacademy.blackjack.model.CardSuit;
+import cat.itacademy.blackjack.model.CardValue;
+import cat.itacademy.blackjack.service.odds.DealerProbabilityEngine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DealerProbabilityEngineTest {
+
+    private DealerProbabilityEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        engine = new DealerProbabilityEngine(10_000);
+    }
+
+    private static List<Card> fullDeck() {
+        List<Card> deck = new ArrayList<>();
+        for (CardSuit suit : CardSuit.values()) {
+            for (CardValue value : CardValue.values()) {
+                deck.add(new Card(suit, value));
+            }
+        }
+        return deck;
+    }
+
+    @Test
+    void exact_shouldBeCertain_whenOnlyOneOutcomeIsPossible() {
+        List<Card> unseen = List.of(new Card(CardSuit.HEARTS, CardValue.SEVEN), new Card(CardSuit.CLUBS, CardValue.SEVEN));
+
+        double[] outcomes = engine.exact(10, DealerProbabilityEngine.composition(unseen));
+
+        assertEquals(1.0, outcomes[17 - 16], 1e-12);
+    }
+
+    @Test
+    void exact_shouldSumToOne_andBeCloseToInfiniteDeck_forAFullShoe() {
+        int[] counts = DealerProbabilityEngine.composition(fullDeck());
+
+        for (int upcard = 2; upcard <= 11; upcard++) {
+            double[] exact = engine.exact(upcard, counts);
+            double[] infinite = engine.infiniteDeck(upcard);
+
+            assertEquals(1.0, Arrays.stream(exact).sum(), 1e-9);
+            assertEquals(1.0, Arrays.stream(infinite).sum(), 1e-9);
+            assertEquals(infinite[DealerProbabilityEngine.BUST], exact[DealerProbabilityEngine.BUST], 0.05);
+        }
+    }
+
+    @Test
+    void exact_shouldReuseMemoizedSubResults() {
+        int[] counts = DealerProbabilityEngine.composition(fullDeck());
+
+        double[] first = engine.exact(6, counts);
+        int cached = engine.cacheSize();
+        double[] second = engine.exact(6, counts);
+
+        assertSame(first, second);
+        assertEquals(cached, engine.cacheSize());
+    }
+
+    @Test
+    void exact_shouldKeepTheCacheBounded_withoutChangingResults() {
+        DealerProbabilityEngine small = new DealerProbabilityEngine(100);
+        int[] counts = DealerProbabilityEngine.composition(fullDeck());
+
+        for (int upcard = 2; upcard <= 11; upcard++) {
+            assertArrayEquals(engine.exact(upcard, counts), small.exact(upcard, counts), 1e-12);
+            assertTrue(small.cacheSize() <= 100);
+        }
+    }
+
+    @Test
+    void exact_shouldStartFromTheDealersHandTotal() {
+        List<Card> unseen = List.of(new Card(CardSuit.HEARTS, CardValue.TWO), new Card(CardSuit.CLUBS, CardValue.FIVE));
+
+        double[] fromSixteen = engine.exact(16, DealerProbabilityEngine.composition(unseen));
+        double[] fromSeventeen = engine.exact(17, DealerProbabilityEngine.composition(unseen));
+
+        assertEquals(0.5, fromSixteen[18 - 16], 1e-12);
+        assertEquals(0.5, fromSixteen[21 - 16], 1e-12);
+        assertEquals(1.0, fromSeventeen[17 - 16], 1e-12);
+    }
+}
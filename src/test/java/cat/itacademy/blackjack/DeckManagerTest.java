@@ -1,13 +1,16 @@
 package cat.itacademy.blackjack;
 
+import cat.itacademy.blackjack.config.CpuScheduler;
 import cat.itacademy.blackjack.model.Card;
 import cat.itacademy.blackjack.model.CardSuit;
 import cat.itacademy.blackjack.model.CardValue;
 import cat.itacademy.blackjack.service.engine.DeckManager;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
 import reactor.test.StepVerifier;
 import reactor.util.function.Tuple2;
 
@@ -23,7 +26,7 @@ class DeckManagerTest {
 
     @BeforeEach
     void setUp() {
-        deckManager = new DeckManager(new ObjectMapper());
+        deckManager = new DeckManager(new ObjectMapper(), new CpuScheduler(2, 64, DataSize.ofBytes(512), new SimpleMeterRegistry()));
     }
 
     @Test
@@ -0,0 +1,104 @@
+package cat.itacademy.blackjack;
+
+import cat.itacademy.blackjack.controller.FinishedGameResponses;
+import cat.itacademy.blackjack.dto.CardResponseDTO;
+import cat.itacademy.blackjack.dto.GameResponse;
+import cat.itacademy.blackjack.model.GameStatus;
+import cat.itacademy.blackjack.model.GameTurn;
+import cat.itacademy.blackjack.service.cluster.GameChangedEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FinishedGameResponsesTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void put_shouldStoreTheBodyTheJsonEncoderWouldWrite() throws Exception {
+        FinishedGameResponses cache = new FinishedGameResponses(objectMapper, DataSize.ofKilobytes(64), meterRegistry);
+        GameResponse game = game(1L);
+
+        cache.put(game, "\"game-1\"");
+        FinishedGameResponses.Entry entry = cache.get(1L);
+
+        assertNotNull(entry);
+        assertEquals("\"game-1\"", entry.etag());
+        DataBuffer buffer = entry.asDataBuffer();
+        assertEquals(objectMapper.writeValueAsString(game), buffer.toString(StandardCharsets.UTF_8));
+        assertNull(cache.get(2L));
+    }
+
+    @Test
+    void put_shouldEvictTheOldestGames_whenOverTheSizeLimit() throws Exception {
+        int size = objectMapper.writeValueAsBytes(game(1L)).length;
+        FinishedGameResponses cache = new FinishedGameResponses(objectMapper, DataSize.ofBytes(size * 2L), meterRegistry);
+
+        cache.put(game(1L), "\"1\"");
+        cache.put(game(2L), "\"2\"");
+        cache.put(game(3L), "\"3\"");
+
+        assertNull(cache.get(1L));
+        assertNotNull(cache.get(2L));
+        assertNotNull(cache.get(3L));
+        assertEquals(1.0, meterRegistry.get("blackjack.game.cache.evictions").counter().count());
+        assertEquals(size * 2.0, meterRegistry.get("blackjack.game.cache.bytes").gauge().value());
+    }
+
+    @Test
+    void getAndPutAfterMiss_shouldRecordTheHitRate() {
+        FinishedGameResponses cache = new FinishedGameResponses(objectMapper, DataSize.ofKilobytes(64), meterRegistry);
+
+        cache.putAfterMiss(game(1L), "\"1\"");
+        cache.get(1L);
+        cache.get(1L);
+        cache.evict(1L);
+
+        assertNull(cache.get(1L));
+        assertEquals(2.0, meterRegistry.get("blackjack.game.cache.gets").tag("result", "hit").counter().count());
+        assertEquals(1.0, meterRegistry.get("blackjack.game.cache.gets").tag("result", "miss").counter().count());
+        assertEquals(0.0, meterRegistry.get("blackjack.game.cache.bytes").gauge().value());
+    }
+
+    @Test
+    void onRemoteChange_shouldEvictGamesDeletedOnAnotherNode() throws Exception {
+        int size = objectMapper.writeValueAsBytes(game(1L)).length;
+        FinishedGameResponses cache = new FinishedGameResponses(objectMapper, DataSize.ofBytes(size * 2L), meterRegistry);
+        cache.put(game(1L), "\"1\"");
+        cache.put(game(2L), "\"2\"");
+
+        cache.onRemoteChange(GameChangedEvent.changed(2L, 3, GameStatus.FINISHED_DEALER_WON, "other-node"));
+        assertNotNull(cache.get(2L));
+        cache.onRemoteChange(GameChangedEvent.deleted(1L, "other-node"));
+        assertNull(cache.get(1L));
+
+        // later evictions still go oldest first
+        cache.put(game(3L), "\"3\"");
+        cache.put(game(4L), "\"4\"");
+        assertNull(cache.get(2L));
+        assertNotNull(cache.get(3L));
+        assertNotNull(cache.get(4L));
+    }
+
+    private static GameResponse game(Long id) {
+        List<CardResponseDTO> cards = List.of(new CardResponseDTO("HEARTS", "TEN"), new CardResponseDTO("CLUBS", "NINE"));
+        return new GameResponse(id, "p1", LocalDateTime.of(2025, 7, 14, 19, 0), GameStatus.FINISHED_DEALER_WON,
+                GameTurn.FINISHED, 19, 20, cards, cards, null);
+    }
+}
@@ -7,9 +7,13 @@ import cat.itacademy.blackjack.repository.sql.GameRepository;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.OptimisticLockingFailureException;
 import reactor.test.StepVerifier;
 
 import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
 
 @SpringBootTest
 public class GameRepositoryIT extends IntegrationTestBase {
@@ -19,8 +23,82 @@ public class GameRepositoryIT extends IntegrationTestBase {
 
     @Test
     void shouldSaveAndFindGame() {
-        Games game = Games.builder()
-                .playerId("integrationTestPlayer")
+        StepVerifier.create(gameRepository.save(game("integrationTestPlayer")))
+                .expectNextMatches(saved -> saved.getId() != null && saved.getPlayerId().equals("integrationTestPlayer"))
+                .verifyComplete();
+
+        StepVerifier.create(gameRepository.findByPlayerId("integrationTestPlayer"))
+                .expectNextMatches(found -> found.getId() != null && found.getPlayerId().equals("integrationTestPlayer"))
+                .verifyComplete();
+    }
+
+    @Test
+    void save_shouldRejectStaleVersion() {
+        Long id = gameRepository.save(game("staleVersionPlayer")).block().getId();
+        Games first = gameRepository.findById(id).block();
+        Games second = gameRepository.findById(id).block();
+
+        first.setPlayerScore(18);
+        StepVerifier.create(gameRepository.save(first))
+                .expectNextMatches(saved -> saved.getVersion() == 1L)
+                .verifyComplete();
+
+        second.setPlayerScore(20);
+        StepVerifier.create(gameRepository.save(second))
+                .expectError(OptimisticLockingFailureException.class)
+                .verify();
+    }
+
+    @Test
+    void insertAll_shouldAssignEachGameTheIdOfItsOwnRow() {
+        Games withDeck = game("batchPlayer2");
+        withDeck.setInitialDeck(new byte[]{1, 2, 3});
+
+        List<Games> saved = gameRepository.insertAll(List.of(game("batchPlayer1"), withDeck, game("batchPlayer3")))
+                .collectList()
+                .block();
+
+        assertEquals(List.of("batchPlayer1", "batchPlayer2", "batchPlayer3"), saved.stream().map(Games::getPlayerId).toList());
+        for (Games game : saved) {
+            StepVerifier.create(gameRepository.findById(game.getId()))
+                    .assertNext(found -> {
+                        assertEquals(game.getPlayerId(), found.getPlayerId());
+                        assertEquals(0L, found.getVersion());
+                    })
+                    .verifyComplete();
+        }
+        StepVerifier.create(gameRepository.findById(saved.get(1).getId()))
+                .assertNext(found -> assertArrayEquals(new byte[]{1, 2, 3}, found.getInitialDeck()))
+                .verifyComplete();
+    }
+
+    @Test
+    void updateAll_shouldOnlyOverwriteOlderSnapshots() {
+        List<Games> saved = gameRepository.insertAll(List.of(game("snapshotPlayer1"), game("snapshotPlayer2")))
+                .collectList()
+                .block();
+        Games newer = saved.get(0);
+        newer.setLastSeq(2);
+        newer.setPlayerScore(19);
+        Games same = saved.get(1);
+        same.setLastSeq(0);
+
+        StepVerifier.create(gameRepository.updateAll(List.of(newer, same)))
+                .expectNext(newer.getId())
+                .verifyComplete();
+
+        StepVerifier.create(gameRepository.findById(newer.getId()))
+                .assertNext(found -> {
+                    assertEquals(2, found.getEventSeq());
+                    assertEquals(19, found.getPlayerScore());
+                    assertEquals(1L, found.getVersion());
+                })
+                .verifyComplete();
+    }
+
+    static Games game(String playerId) {
+        return Games.builder()
+                .playerId(playerId)
                 .createdAt(LocalDateTime.now())
                 .status(GameStatus.IN_PROGRESS)
                 .turn(GameTurn.PLAYER_TURN)
@@ -30,15 +108,5 @@ public class GameRepositoryIT extends IntegrationTestBase {
                 .playerCardsJson("[]")
                 .dealerCardsJson("[]")
                 .build();
-
-        StepVerifier.create(gameRepository.save(game))
-                .expectNextMatches(saved -> saved.getId() != null && saved.getPlayerId().equals("integrationTestPlayer"))
-                .verifyComplete();
-
-        StepVerifier.create(gameRepository.findByPlayerId("integrationTestPlayer"))
-                .expectNextMatches(found -> found.getId() != null && found.getPlayerId().equals("integrationTestPlayer"))
-                .verifyComplete();
     }
 }
-
-
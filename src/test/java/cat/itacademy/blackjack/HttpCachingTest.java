@@ -0,0 +1,151 @@
+package cat.itacademy.blackjack;
+
+import cat.itacademy.blackjack.controller.FinishedGameResponses;
+import cat.itacademy.blackjack.controller.GameController;
+import cat.itacademy.blackjack.controller.PlayerController;
+import cat.itacademy.blackjack.dto.CardResponseDTO;
+import cat.itacademy.blackjack.dto.GameResponse;
+import cat.itacademy.blackjack.dto.PlayerRankingResponse;
+import cat.itacademy.blackjack.model.GameStatus;
+import cat.itacademy.blackjack.model.GameTurn;
+import cat.itacademy.blackjack.service.GameService;
+import cat.itacademy.blackjack.service.PlayerService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.springframework.util.unit.DataSize;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class HttpCachingTest {
+
+    private GameService gameService;
+    private PlayerService playerService;
+    private WebTestClient client;
+
+    @BeforeEach
+    void setUp() {
+        gameService = mock(GameService.class);
+        playerService = mock(PlayerService.class);
+        client = WebTestClient.bindToController(
+                new GameController(gameService, playerService,
+                        new FinishedGameResponses(new ObjectMapper().findAndRegisterModules(), DataSize.ofKilobytes(64), new SimpleMeterRegistry())),
+                new PlayerController(playerService)).build();
+    }
+
+    @Test
+    void getGameById_shouldCacheFinishedGamesBriefly_andAnswer304() {
+        when(gameService.getGameById(1L)).thenReturn(Mono.just(game(GameStatus.FINISHED_PLAYER_WON, GameTurn.FINISHED)));
+
+        String etag = client.get().uri("/game/details/1")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(HttpHeaders.CACHE_CONTROL, "max-age=60, public")
+                .expectBody().returnResult()
+                .getResponseHeaders()
+                .getETag();
+        assertNotNull(etag);
+
+        client.get().uri("/game/details/1")
+                .header(HttpHeaders.IF_NONE_MATCH, etag)
+                .exchange()
+                .expectStatus().isNotModified()
+                .expectBody().isEmpty();
+
+        client.get().uri("/game/details/1")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType(MediaType.APPLICATION_JSON)
+                .expectBody()
+                .jsonPath("$.status").isEqualTo("FINISHED_PLAYER_WON")
+                .jsonPath("$.dealerCards.length()").isEqualTo(3);
+
+        // later reads are served from the encoded response cache
+        verify(gameService, times(1)).getGameById(1L);
+    }
+
+    @Test
+    void stand_shouldCacheTheFinishedGame_forLaterReads() {
+        when(gameService.stand(1L)).thenReturn(Mono.just(game(GameStatus.FINISHED_DEALER_WON, GameTurn.FINISHED)));
+
+        client.post().uri("/game/1/stand")
+                .exchange()
+                .expectStatus().isOk();
+
+        client.get().uri("/game/details/1")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.status").isEqualTo("FINISHED_DEALER_WON");
+
+        verify(gameService, never()).getGameById(any());
+    }
+
+    @Test
+    void getGameById_shouldChangeETag_whenTheGameMoves() {
+        when(gameService.getGameById(1L))
+                .thenReturn(Mono.just(game(GameStatus.IN_PROGRESS, GameTurn.PLAYER_TURN)))
+                .thenReturn(Mono.just(game(GameStatus.FINISHED_DEALER_WON, GameTurn.FINISHED)));
+
+        String etag = client.get().uri("/game/details/1")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().cacheControl(CacheControl.noCache())
+                .expectBody().returnResult()
+                .getResponseHeaders()
+                .getETag();
+
+        client.get().uri("/game/details/1")
+                .header(HttpHeaders.IF_NONE_MATCH, etag)
+                .exchange()
+                .expectStatus().isOk();
+    }
+
+    @Test
+    void getRanking_shouldAnswer304_untilTheRankingChanges() {
+        PlayerRankingResponse john = new PlayerRankingResponse("John", 4, 3, 0.75, 60);
+        PlayerRankingResponse jane = new PlayerRankingResponse("Jane", 4, 2, 0.5, 40);
+        when(playerService.getRanking(any()))
+                .thenReturn(Flux.just(john, jane))
+                .thenReturn(Flux.just(john, jane))
+                .thenReturn(Flux.just(jane, john));
+
+        String etag = client.get().uri("/player/ranking")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(2)
+                .returnResult()
+                .getResponseHeaders()
+                .getETag();
+
+        client.get().uri("/player/ranking")
+                .header(HttpHeaders.IF_NONE_MATCH, etag)
+                .exchange()
+                .expectStatus().isNotModified();
+
+        client.get().uri("/player/ranking")
+                .header(HttpHeaders.IF_NONE_MATCH, etag)
+                .exchange()
+                .expectStatus().isOk();
+    }
+
+    private static GameResponse game(GameStatus status, GameTurn turn) {
+        List<CardResponseDTO> cards = List.of(new CardResponseDTO("HEARTS", "TEN"), new CardResponseDTO("CLUBS", "NINE"));
+        return new GameResponse(1L, "p1", LocalDateTime.of(2025, 7, 14, 19, 0), status, turn, 19,
+                status == GameStatus.IN_PROGRESS ? 10 : 20, cards,
+                status == GameStatus.IN_PROGRESS ? cards.subList(0, 1) : List.of(cards.get(0), cards.get(0), cards.get(1)), null);
+    }
+}
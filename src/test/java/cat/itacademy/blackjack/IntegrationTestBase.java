@@ -1,6 +1,7 @@
 package cat.itacademy.blackjack;
 
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
 import org.testcontainers.containers.MongoDBContainer;
@@ -8,8 +9,15 @@ import org.testcontainers.containers.PostgreSQLContainer;
 import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
 
-@Testcontainers
+/**
+ * Starts Mongo and Postgres once per test class and points both the R2DBC and the {@code jdbc} profile
+ * settings at them, so a test can run in JDBC mode with {@code @ActiveProfiles("jdbc")}.
+ * The context is closed with the class, since the next class gets new containers on new ports.
+ * Skipped when Docker is not available.
+ */
+@Testcontainers(disabledWithoutDocker = true)
 @ExtendWith(org.springframework.test.context.junit.jupiter.SpringExtension.class)
+@DirtiesContext
 public abstract class IntegrationTestBase {
 
     @Container
@@ -36,5 +44,9 @@ public abstract class IntegrationTestBase {
                         postgres.getDatabaseName()));
         registry.add("spring.r2dbc.username", postgres::getUsername);
         registry.add("spring.r2dbc.password", postgres::getPassword);
+
+        registry.add("blackjack.jdbc.url", postgres::getJdbcUrl);
+        registry.add("blackjack.jdbc.username", postgres::getUsername);
+        registry.add("blackjack.jdbc.password", postgres::getPassword);
     }
 }
\ No newline at end of file
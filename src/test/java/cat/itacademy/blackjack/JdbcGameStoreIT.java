@@ -0,0 +1,145 @@
+package cat.itacademy.blackjack;
+
+import cat.itacademy.blackjack.model.AutoplayStrategy;
+import cat.itacademy.blackjack.model.Card;
+import cat.itacademy.blackjack.model.GameMove;
+import cat.itacademy.blackjack.model.GameTurn;
+import cat.itacademy.blackjack.model.Games;
+import cat.itacademy.blackjack.model.Player;
+import cat.itacademy.blackjack.repository.blocking.JdbcGameMoveRepository;
+import cat.itacademy.blackjack.service.GameService;
+import cat.itacademy.blackjack.service.engine.DeckManager;
+import cat.itacademy.blackjack.service.jdbc.JdbcGameService;
+import cat.itacademy.blackjack.service.jdbc.JdbcGameStore;
+import cat.itacademy.blackjack.service.logic.AutoplayProcessor;
+import cat.itacademy.blackjack.service.logic.AutoplayProcessor.PlayedGame;
+import cat.itacademy.blackjack.service.logic.GameCreationService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.test.context.ActiveProfiles;
+import reactor.test.StepVerifier;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * The {@code jdbc} profile's game storage on Spring JDBC: batch insert ids, the move log and its replay,
+ * append conflicts, the auto-play transaction and the delete cascade. Nothing here reaches Mongo.
+ */
+@SpringBootTest
+@ActiveProfiles("jdbc")
+public class JdbcGameStoreIT extends IntegrationTestBase {
+
+    @Autowired
+    private JdbcGameStore gameStore;
+
+    @Autowired
+    private JdbcGameMoveRepository gameMoveRepository;
+
+    @Autowired
+    private GameCreationService gameCreationService;
+
+    @Autowired
+    private AutoplayProcessor autoplayProcessor;
+
+    @Autowired
+    private DeckManager deckManager;
+
+    @Autowired
+    private GameService gameService;
+
+    @Test
+    void gameService_shouldBeTheBlockingOne() {
+        assertInstanceOf(JdbcGameService.class, gameService);
+    }
+
+    @Test
+    void insertAll_shouldSetIdsInBatchOrder() {
+        List<Games> games = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            games.add(gameCreationService.dealGame(player("batch-" + i)));
+        }
+
+        gameStore.insertAll(games);
+
+        Map<Long, Games> loaded = gameStore.loadAll(games.stream().map(Games::getId).toList());
+        assertEquals(5, loaded.size());
+        games.forEach(game -> {
+            assertEquals(0L, game.getVersion());
+            assertEquals(game.getPlayerId(), loaded.get(game.getId()).getPlayerId());
+            assertArrayEquals(game.getInitialDeck(), loaded.get(game.getId()).getInitialDeck());
+        });
+    }
+
+    @Test
+    void append_shouldBeReplayedOnTheNextLoad() {
+        Games game = gameStore.insert(gameCreationService.dealGame(player("replay")));
+        Card top = deckManager.deserializeCards(game.getDeckJson()).get(0);
+
+        gameStore.append(gameStore.load(game.getId()).orElseThrow(), List.of(GameMove.hit(top)));
+
+        Games loaded = gameStore.load(game.getId()).orElseThrow();
+        assertEquals(1, loaded.getLastSeq());
+        assertEquals(3, deckManager.deserializeCards(loaded.getPlayerCardsJson()).size());
+        assertEquals(1, gameMoveRepository.findAfter(game.getId(), 0).size());
+
+        StepVerifier.create(gameService.getSnapshot(game.getId()))
+                .assertNext(snapshot -> {
+                    assertEquals(1, snapshot.seq());
+                    assertEquals(3, snapshot.playerCards().size());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void append_shouldFail_whenAnotherCopyLoggedTheSameSeqFirst() {
+        Games game = gameStore.insert(gameCreationService.dealGame(player("conflict")));
+        Card top = deckManager.deserializeCards(game.getDeckJson()).get(0);
+        Games first = gameStore.load(game.getId()).orElseThrow();
+        Games second = gameStore.load(game.getId()).orElseThrow();
+
+        gameStore.append(first, List.of(GameMove.hit(top)));
+
+        assertThrows(OptimisticLockingFailureException.class, () -> gameStore.append(second, List.of(GameMove.hit(top))));
+        assertEquals(1, gameMoveRepository.findAfter(game.getId(), 0).size());
+    }
+
+    @Test
+    void insertPlayed_shouldWriteFinishedSnapshotsAndTheirLogs() {
+        List<PlayedGame> played = autoplayProcessor.playBatch(player("bot").getId(), AutoplayStrategy.BASIC, 3);
+
+        List<Games> saved = gameStore.insertPlayed(played);
+
+        assertEquals(3, saved.size());
+        for (PlayedGame game : played) {
+            Games loaded = gameStore.load(game.game().getId()).orElseThrow();
+            assertEquals(GameTurn.FINISHED, loaded.getTurn());
+            assertEquals(game.moves().size(), loaded.getEventSeq());
+            assertEquals(game.moves().size(), gameMoveRepository.findAfter(loaded.getId(), 0).size());
+        }
+    }
+
+    @Test
+    void delete_shouldRemoveTheGameAndItsLog() {
+        Games game = gameStore.insert(gameCreationService.dealGame(player("deleted")));
+        Card top = deckManager.deserializeCards(game.getDeckJson()).get(0);
+        gameStore.append(gameStore.load(game.getId()).orElseThrow(), List.of(GameMove.hit(top)));
+
+        assertTrue(gameStore.delete(game.getId()));
+
+        assertTrue(gameStore.load(game.getId()).isEmpty());
+        assertTrue(gameMoveRepository.findAfter(game.getId(), 0).isEmpty());
+        assertFalse(gameStore.delete(game.getId()));
+    }
+
+    private static Player player(String id) {
+        Player player = new Player();
+        player.setId(id);
+        return player;
+    }
+}
@@ -0,0 +1,154 @@
+package cat.itacademy.blackjack;
+
+import cat.itacademy.blackjack.config.jdbc.JdbcScheduler;
+import cat.itacademy.blackjack.dto.PlayerRankingResponse;
+import cat.itacademy.blackjack.dto.PlayerRequest;
+import cat.itacademy.blackjack.dto.PlayerResponse;
+import cat.itacademy.blackjack.exception.InvalidPlayerNameException;
+import cat.itacademy.blackjack.exception.PlayerAlreadyExistsException;
+import cat.itacademy.blackjack.exception.PlayerNotFoundException;
+import cat.itacademy.blackjack.mapper.PlayerMapper;
+import cat.itacademy.blackjack.model.Player;
+import cat.itacademy.blackjack.repository.blocking.BlockingPlayerRepository;
+import cat.itacademy.blackjack.service.jdbc.JdbcPlayerService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class JdbcPlayerServiceTest {
+
+    @Mock
+    private BlockingPlayerRepository playerRepository;
+
+    @Mock
+    private PlayerMapper playerMapper;
+
+    private final JdbcScheduler jdbcScheduler = new JdbcScheduler();
+    private JdbcPlayerService playerService;
+
+    private PlayerRequest validRequest;
+    private Player samplePlayer;
+    private PlayerResponse sampleResponse;
+
+    @BeforeEach
+    void setUp() {
+        playerService = new JdbcPlayerService(jdbcScheduler, playerRepository, playerMapper, 10, 50);
+        validRequest = new PlayerRequest("John");
+        samplePlayer = new Player("id123", "John", 100, 10, 5, 0.5, LocalDateTime.now());
+        sampleResponse = new PlayerResponse("id123", "John", 100, samplePlayer.getCreatedAt());
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcScheduler.dispose();
+    }
+
+    @Test
+    void create_ShouldFail_WhenNameIsEmpty() {
+        StepVerifier.create(playerService.create(new PlayerRequest("   ")))
+                .expectError(InvalidPlayerNameException.class)
+                .verify();
+
+        verifyNoInteractions(playerRepository);
+    }
+
+    @Test
+    void create_ShouldFail_WhenPlayerAlreadyExists() {
+        when(playerRepository.findByName("John")).thenReturn(Optional.of(samplePlayer));
+
+        StepVerifier.create(playerService.create(validRequest))
+                .expectError(PlayerAlreadyExistsException.class)
+                .verify();
+
+        verify(playerRepository, never()).save(any());
+    }
+
+    @Test
+    void create_ShouldSucceed_WhenPlayerIsNew() {
+        when(playerRepository.findByName("John")).thenReturn(Optional.empty());
+        when(playerMapper.toEntity(validRequest)).thenReturn(samplePlayer);
+        when(playerRepository.save(samplePlayer)).thenReturn(samplePlayer);
+        when(playerMapper.toResponse(samplePlayer)).thenReturn(sampleResponse);
+
+        StepVerifier.create(playerService.create(validRequest))
+                .expectNext(sampleResponse)
+                .verifyComplete();
+    }
+
+    @Test
+    void findById_ShouldFail_WhenNotFound() {
+        when(playerRepository.findById("missing")).thenReturn(Optional.empty());
+
+        StepVerifier.create(playerService.findById("missing"))
+                .expectError(PlayerNotFoundException.class)
+                .verify();
+    }
+
+    @Test
+    void getRanking_ShouldClampTheLimit() {
+        PlayerRankingResponse ranked = new PlayerRankingResponse("John", 10, 5, 0.5, 100);
+        when(playerRepository.findRanking(Limit.of(50))).thenReturn(List.of(ranked));
+
+        StepVerifier.create(playerService.getRanking(5000))
+                .expectNext(ranked)
+                .verifyComplete();
+    }
+
+    @Test
+    void deleteById_ShouldFail_WhenNotFound() {
+        when(playerRepository.findById("missing")).thenReturn(Optional.empty());
+
+        StepVerifier.create(playerService.deleteById("missing"))
+                .expectError(PlayerNotFoundException.class)
+                .verify();
+
+        verify(playerRepository, never()).delete(any());
+    }
+
+    @Test
+    void deleteById_ShouldDelete_WhenFound() {
+        when(playerRepository.findById("id123")).thenReturn(Optional.of(samplePlayer));
+
+        StepVerifier.create(playerService.deleteById("id123"))
+                .verifyComplete();
+
+        verify(playerRepository).delete(samplePlayer);
+    }
+
+    @Test
+    void updatePlayerName_ShouldFail_WhenNameIsTaken() {
+        when(playerRepository.findByName("Jane")).thenReturn(Optional.of(samplePlayer));
+
+        StepVerifier.create(playerService.updatePlayerName("id123", "Jane"))
+                .expectError(PlayerAlreadyExistsException.class)
+                .verify();
+
+        verify(playerRepository, never()).save(any());
+    }
+
+    @Test
+    void updatePlayerName_ShouldSaveTheNewName() {
+        when(playerRepository.findByName("Jane")).thenReturn(Optional.empty());
+        when(playerRepository.findById("id123")).thenReturn(Optional.of(samplePlayer));
+        when(playerRepository.save(samplePlayer)).thenReturn(samplePlayer);
+        when(playerMapper.toResponse(samplePlayer)).thenReturn(sampleResponse);
+
+        StepVerifier.create(playerService.updatePlayerName("id123", "Jane"))
+                .expectNext(sampleResponse)
+                .verifyComplete();
+
+        verify(playerRepository).save(argThat(player -> "Jane".equals(player.getName())));
+    }
+}
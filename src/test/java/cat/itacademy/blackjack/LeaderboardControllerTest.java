@@ -0,0 +1,68 @@
+package cat.itacademy.blackjack;
+
+import cat.itacademy.blackjack.controller.LeaderboardController;
+import cat.itacademy.blackjack.model.PlayerStanding;
+import cat.itacademy.blackjack.repository.mongo.PlayerRepository;
+import cat.itacademy.blackjack.repository.sql.LeaderboardRepository;
+import cat.itacademy.blackjack.service.leaderboard.LeaderboardService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class LeaderboardControllerTest {
+
+    private WebTestClient client;
+
+    @BeforeEach
+    void setUp() {
+        LeaderboardRepository leaderboardRepository = mock(LeaderboardRepository.class);
+        PlayerRepository playerRepository = mock(PlayerRepository.class);
+        when(leaderboardRepository.findTop(any(), anyInt())).thenReturn(Flux.just(
+                new PlayerStanding("p1", 4, 3, 70),
+                new PlayerStanding("p2", 2, 1, 30)));
+        when(playerRepository.findAllById(anyIterable())).thenReturn(Flux.empty());
+
+        LeaderboardService service = new LeaderboardService(leaderboardRepository, playerRepository, 10, Duration.ofMinutes(1));
+        client = WebTestClient.bindToController(new LeaderboardController(service)).build();
+    }
+
+    @Test
+    void getLeaderboard_shouldReturn304_whenTheETagStillMatches() {
+        String etag = client.get().uri("/leaderboard/weekly?limit=1")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.entries.length()").isEqualTo(1)
+                .jsonPath("$.entries[0].playerId").isEqualTo("p1")
+                .returnResult()
+                .getResponseHeaders()
+                .getETag();
+        assertNotNull(etag);
+
+        client.get().uri("/leaderboard/weekly?limit=1")
+                .header(HttpHeaders.IF_NONE_MATCH, etag)
+                .exchange()
+                .expectStatus().isNotModified()
+                .expectBody().isEmpty();
+
+        client.get().uri("/leaderboard/weekly?limit=2")
+                .header(HttpHeaders.IF_NONE_MATCH, etag)
+                .exchange()
+                .expectStatus().isOk();
+    }
+
+    @Test
+    void getLeaderboard_shouldReject_unknownWindows() {
+        client.get().uri("/leaderboard/monthly")
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+}
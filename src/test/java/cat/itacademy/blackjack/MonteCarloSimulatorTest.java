@@ -0,0 +1,52 @@
+package cat.itacademy.blackjack;
+
+import cat.itacademy.blackjack.dto.SimulationResult;
+import cat.itacademy.blackjack.service.engine.BlackjackEngine;
+import cat.itacademy.blackjack.service.simulation.MonteCarloSimulator;
+import cat.itacademy.blackjack.service.simulation.SimulationRules;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MonteCarloSimulatorTest {
+
+    private MonteCarloSimulator simulator;
+
+    @BeforeEach
+    void setUp() {
+        simulator = new MonteCarloSimulator(4, new BlackjackEngine());
+    }
+
+    @AfterEach
+    void tearDown() {
+        simulator.close();
+    }
+
+    @Test
+    void run_shouldBeReproducible_forTheSameSeed() {
+        SimulationResult first = simulator.run(200_000, SimulationRules.LIVE_GAME, 42).toResult();
+        SimulationResult second = simulator.run(200_000, SimulationRules.LIVE_GAME, 42).toResult();
+
+        assertEquals(first, second);
+    }
+
+    @Test
+    void run_shouldAccountForEveryHand() {
+        SimulationResult result = simulator.run(123_457, SimulationRules.LIVE_GAME, 7).toResult();
+
+        assertEquals(123_457, result.hands());
+        assertEquals(result.hands(), result.playerWins() + result.dealerWins() + result.draws());
+        assertEquals(1.0, result.dealerFinalTotals().values().stream().mapToDouble(Double::doubleValue).sum(), 1e-9);
+        assertTrue(result.dealerFinalTotals().keySet().stream().allMatch(total -> total >= 17));
+    }
+
+    @Test
+    void run_shouldFavourTheHouse_whenPlayerMimicsTheDealer() {
+        SimulationResult result = simulator.run(500_000, SimulationRules.LIVE_GAME, 1).toResult();
+
+        assertTrue(result.houseEdge() > 0);
+        assertTrue(result.dealerBustRate() > 0.1 && result.dealerBustRate() < 0.6);
+    }
+}
@@ -1,5 +1,6 @@
 package cat.itacademy.blackjack;
 
+import cat.itacademy.blackjack.dto.PlayerRankingResponse;
 import cat.itacademy.blackjack.dto.PlayerRequest;
 import cat.itacademy.blackjack.dto.PlayerResponse;
 import cat.itacademy.blackjack.exception.InvalidPlayerNameException;
@@ -12,9 +13,9 @@ import cat.itacademy.blackjack.service.PlayerServiceImpl;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
@@ -33,7 +34,6 @@ class PlayerServiceImplTest {
     @Mock
     private PlayerMapper playerMapper;
 
-    @InjectMocks
     private PlayerServiceImpl playerService;
 
     private PlayerRequest validRequest;
@@ -42,8 +42,9 @@ class PlayerServiceImplTest {
 
     @BeforeEach
     void setUp() {
+        playerService = new PlayerServiceImpl(playerRepository, playerMapper, 10, 50);
         validRequest = new PlayerRequest("John");
-        samplePlayer = new Player("id123", "John", 100, 10, 5, LocalDateTime.now());
+        samplePlayer = new Player("id123", "John", 100, 10, 5, 0.5, LocalDateTime.now());
         sampleResponse = new PlayerResponse("id123", "John", 100, samplePlayer.getCreatedAt());
     }
 
@@ -122,7 +123,7 @@ class PlayerServiceImplTest {
 
     @Test
     void findAll_ShouldReturnListOfPlayers() {
-        Player another = new Player("id2", "Alice", 80, 8, 4, LocalDateTime.now());
+        Player another = new Player("id2", "Alice", 80, 8, 4, 0.5, LocalDateTime.now());
         PlayerResponse response2 = new PlayerResponse("id2", "Alice", 80, another.getCreatedAt());
 
         when(playerRepository.findAll()).thenReturn(Flux.just(samplePlayer, another));
@@ -136,18 +137,28 @@ class PlayerServiceImplTest {
     }
 
     @Test
-    void getRanking_ShouldReturnOrderedRanking() {
-        Player player1 = new Player("1", "A", 100, 10, 5, LocalDateTime.now()); // 50% winRate
-        Player player2 = new Player("2", "B", 200, 10, 8, LocalDateTime.now()); // 80% winRate
+    void getRanking_ShouldReturnRankingSortedAndLimitedByMongo() {
+        when(playerRepository.findRanking(Limit.of(10))).thenReturn(Flux.just(
+                new PlayerRankingResponse("B", 10, 8, 0.8, 200),
+                new PlayerRankingResponse("A", 10, 5, 0.5, 100)));
 
-        when(playerRepository.findAll()).thenReturn(Flux.just(player1, player2));
-
-        StepVerifier.create(playerService.getRanking())
+        StepVerifier.create(playerService.getRanking(null))
                 .expectNextMatches(r -> r.name().equals("B") && r.winRate() == 0.8)
                 .expectNextMatches(r -> r.name().equals("A") && r.winRate() == 0.5)
                 .verifyComplete();
     }
 
+    @Test
+    void getRanking_ShouldClampRequestedLimit() {
+        when(playerRepository.findRanking(any(Limit.class))).thenReturn(Flux.empty());
+
+        StepVerifier.create(playerService.getRanking(500)).verifyComplete();
+        StepVerifier.create(playerService.getRanking(0)).verifyComplete();
+
+        verify(playerRepository).findRanking(Limit.of(50));
+        verify(playerRepository).findRanking(Limit.of(1));
+    }
+
     @Test
     void deleteById_ShouldFail_WhenIdIsNullOrEmpty() {
         StepVerifier.create(playerService.deleteById(null))
@@ -180,7 +191,7 @@ class PlayerServiceImplTest {
     }
     @Test
     void updatePlayerName_ShouldSucceed_WhenPlayerExistsAndNameIsNew() {
-        Player updatedPlayer = new Player("id123", "updatedPlayer", 100, 10, 5, samplePlayer.getCreatedAt());
+        Player updatedPlayer = new Player("id123", "updatedPlayer", 100, 10, 5, 0.5, samplePlayer.getCreatedAt());
         PlayerResponse updatedResponse = new PlayerResponse("id123", "updatedPlayer", 100, samplePlayer.getCreatedAt());
 
         when(playerRepository.findByName("updatedPlayer")).thenReturn(Mono.empty());
@@ -234,7 +245,7 @@ class PlayerServiceImplTest {
 
     @Test
     void updatePlayerName_ShouldFail_WhenNameAlreadyExists() {
-        Player existingPlayer = new Player("anotherId", "updatedPlayer", 50, 5, 2, LocalDateTime.now());
+        Player existingPlayer = new Player("anotherId", "updatedPlayer", 50, 5, 2, 0.4, LocalDateTime.now());
 
         when(playerRepository.findByName("updatedPlayer")).thenReturn(Mono.just(existingPlayer));
 
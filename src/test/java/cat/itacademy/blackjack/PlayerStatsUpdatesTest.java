@@ -0,0 +1,34 @@
+package cat.itacademy.blackjack;
+
+import cat.itacademy.blackjack.repository.mongo.PlayerStatsUpdates;
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PlayerStatsUpdatesTest {
+
+    @Test
+    void recordResults_shouldComputeWinRateInALaterStage_thanTheCounters() {
+        List<Document> pipeline = PlayerStatsUpdates.recordResults(3, 2, 40).toPipeline(Aggregation.DEFAULT_CONTEXT);
+
+        assertEquals(4, pipeline.size());
+        assertTrue(pipeline.get(0).get("$set", Document.class).containsKey("gamesPlayed"));
+        assertTrue(pipeline.get(1).get("$set", Document.class).containsKey("gamesWon"));
+        assertTrue(pipeline.get(2).get("$set", Document.class).containsKey("totalScore"));
+
+        Document winRate = pipeline.get(3).get("$set", Document.class).get("winRate", Document.class);
+        assertTrue(winRate.containsKey("$cond"), "winRate must guard against players without games");
+    }
+
+    @Test
+    void backfillWinRate_shouldOnlySetWinRate() {
+        List<Document> pipeline = PlayerStatsUpdates.backfillWinRate().toPipeline(Aggregation.DEFAULT_CONTEXT);
+
+        assertEquals(1, pipeline.size());
+        assertEquals(List.of("winRate"), List.copyOf(pipeline.get(0).get("$set", Document.class).keySet()));
+    }
+}
@@ -0,0 +1,38 @@
+package cat.itacademy.blackjack;
+
+import cat.itacademy.blackjack.config.R2dbcDriverProperties;
+import io.r2dbc.postgresql.PostgresqlConnectionFactoryProvider;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class R2dbcDriverPropertiesTest {
+
+    @Test
+    void applyTo_shouldSetStatementCacheAndPipeliningOptions() {
+        ConnectionFactoryOptions.Builder builder = ConnectionFactoryOptions.parse("r2dbc:postgresql://localhost:5432/blackjack").mutate();
+
+        new R2dbcDriverProperties(128, true).applyTo(builder);
+        ConnectionFactoryOptions options = builder.build();
+
+        assertEquals(128, options.getValue(PostgresqlConnectionFactoryProvider.PREPARED_STATEMENT_CACHE_QUERIES));
+        assertEquals(false, options.getValue(PostgresqlConnectionFactoryProvider.COMPATIBILITY_MODE));
+        assertEquals(true, options.getValue(PostgresqlConnectionFactoryProvider.TCP_NODELAY));
+    }
+
+    @Test
+    void applyTo_shouldEnableCompatibilityMode_whenPipeliningDisabled() {
+        ConnectionFactoryOptions.Builder builder = ConnectionFactoryOptions.parse("r2dbc:postgresql://localhost:5432/blackjack").mutate();
+
+        new R2dbcDriverProperties(0, false).applyTo(builder);
+
+        assertEquals(true, builder.build().getValue(PostgresqlConnectionFactoryProvider.COMPATIBILITY_MODE));
+    }
+
+    @Test
+    void isPostgres_shouldOnlyMatchPostgresUrls() {
+        assertTrue(R2dbcDriverProperties.isPostgres(ConnectionFactoryOptions.parse("r2dbc:postgresql://localhost/blackjack")));
+        assertFalse(R2dbcDriverProperties.isPostgres(ConnectionFactoryOptions.parse("r2dbc:h2:mem:///blackjack")));
+    }
+}
@@ -0,0 +1,31 @@
+package cat.itacademy.blackjack;
+
+import cat.itacademy.blackjack.config.R2dbcPoolProperties;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class R2dbcPoolPropertiesTest {
+
+    @Test
+    void resolveMaxSize_shouldKeepConfiguredValue_whenCoreSizingDisabled() {
+        R2dbcPoolProperties properties = new R2dbcPoolProperties(false, 0);
+
+        assertEquals(10, properties.resolveMaxSize(10, 8));
+    }
+
+    @Test
+    void resolveMaxSize_shouldDeriveFromCores_whenCoreSizingEnabled() {
+        R2dbcPoolProperties properties = new R2dbcPoolProperties(true, 4);
+
+        assertEquals(32, properties.resolveMaxSize(10, 8));
+    }
+
+    @Test
+    void resolveInitialSize_shouldNeverExceedMaxSize() {
+        R2dbcPoolProperties properties = new R2dbcPoolProperties(true, 1);
+
+        assertEquals(2, properties.resolveInitialSize(4, 2));
+        assertEquals(4, properties.resolveInitialSize(4, 8));
+    }
+}
@@ -0,0 +1,225 @@
+package cat.itacademy.blackjack;
+
+import cat.itacademy.blackjack.model.GameMove;
+import cat.itacademy.blackjack.model.GameMoveType;
+import cat.itacademy.blackjack.model.GameStatus;
+import cat.itacademy.blackjack.model.GameTurn;
+import cat.itacademy.blackjack.model.Games;
+import cat.itacademy.blackjack.repository.sql.GameAuditRepository;
+import cat.itacademy.blackjack.repository.sql.GameMoveRepository;
+import cat.itacademy.blackjack.repository.sql.GameRepository;
+import cat.itacademy.blackjack.repository.sql.LeaderboardRepository;
+import cat.itacademy.blackjack.service.cluster.GameChangedEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.r2dbc.postgresql.api.PostgresqlConnection;
+import io.r2dbc.postgresql.api.PostgresqlResult;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.Disposable;
+import reactor.core.publisher.ConnectableFlux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * The repositories that write their own SQL through {@code DatabaseClient}: bind markers, arrays,
+ * {@code bytea}, timestamps and constraint violations, plus the NOTIFY sent after a save when the cluster is enabled.
+ */
+@SpringBootTest(properties = {"blackjack.cluster.enabled=true", "blackjack.cluster.node-id=sql-it"})
+public class SqlRepositoriesIT extends IntegrationTestBase {
+
+    @Autowired
+    private GameRepository gameRepository;
+
+    @Autowired
+    private GameMoveRepository gameMoveRepository;
+
+    @Autowired
+    private GameAuditRepository gameAuditRepository;
+
+    @Autowired
+    private LeaderboardRepository leaderboardRepository;
+
+    @Autowired
+    private TransactionalOperator transactionalOperator;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${spring.r2dbc.url}")
+    private String r2dbcUrl;
+
+    @Value("${spring.r2dbc.username}")
+    private String r2dbcUsername;
+
+    @Value("${spring.r2dbc.password}")
+    private String r2dbcPassword;
+
+    @Test
+    void moves_shouldBeAppendedAndReadBackInOrder() {
+        Long id = gameRepository.save(GameRepositoryIT.game("movesPlayer")).block().getId();
+
+        StepVerifier.create(gameMoveRepository.appendAll(List.of(
+                        new GameMove(id, 1, GameMoveType.HIT, (byte) 5),
+                        new GameMove(id, 2, GameMoveType.DEALER_DRAW, (byte) 40),
+                        new GameMove(id, 3, GameMoveType.STAND, null))))
+                .verifyComplete();
+
+        StepVerifier.create(gameMoveRepository.findAfter(id, 1))
+                .expectNext(new GameMove(id, 2, GameMoveType.DEALER_DRAW, (byte) 40))
+                .expectNext(new GameMove(id, 3, GameMoveType.STAND, null))
+                .verifyComplete();
+        StepVerifier.create(gameMoveRepository.findPending(List.of(id)).map(GameMove::seq))
+                .expectNext(1, 2, 3)
+                .verifyComplete();
+    }
+
+    @Test
+    void moves_shouldRejectATakenSeq_andAppendNoneOfTheBatch() {
+        Long id = gameRepository.save(GameRepositoryIT.game("conflictPlayer")).block().getId();
+        gameMoveRepository.appendAll(List.of(new GameMove(id, 1, GameMoveType.HIT, (byte) 5))).block();
+
+        StepVerifier.create(gameMoveRepository.appendAll(List.of(
+                        new GameMove(id, 2, GameMoveType.HIT, (byte) 6),
+                        new GameMove(id, 1, GameMoveType.HIT, (byte) 7))))
+                .expectError(DataIntegrityViolationException.class)
+                .verify();
+
+        StepVerifier.create(gameMoveRepository.findByGameIds(List.of(id)).map(GameMove::card))
+                .expectNext((byte) 5)
+                .verifyComplete();
+    }
+
+    @Test
+    void transaction_shouldRollBackInsertedGames_whenTheirMoveAppendFails() {
+        // the same shape as an auto-play batch: rows, then their logs, where one log row is a duplicate
+        Mono<List<Games>> batch = gameRepository.insertAll(List.of(GameRepositoryIT.game("rolledBackPlayer")))
+                .collectList()
+                .flatMap(saved -> gameMoveRepository.appendAll(List.of(
+                                new GameMove(saved.get(0).getId(), 1, GameMoveType.HIT, (byte) 5),
+                                new GameMove(saved.get(0).getId(), 1, GameMoveType.HIT, (byte) 6)))
+                        .thenReturn(saved));
+
+        StepVerifier.create(batch.as(transactionalOperator::transactional))
+                .expectError(DataIntegrityViolationException.class)
+                .verify();
+
+        StepVerifier.create(gameRepository.findByPlayerId("rolledBackPlayer"))
+                .verifyComplete();
+    }
+
+    @Test
+    void save_shouldNotifyTheClusterChannel() {
+        // a connection of its own, outside the app's pool, like another node's listener
+        ConnectionFactoryOptions options = ConnectionFactoryOptions.parse(r2dbcUrl).mutate()
+                .option(ConnectionFactoryOptions.USER, r2dbcUsername)
+                .option(ConnectionFactoryOptions.PASSWORD, r2dbcPassword)
+                .build();
+        PostgresqlConnection listener = Mono.from(ConnectionFactories.get(options).create())
+                .cast(PostgresqlConnection.class)
+                .block();
+        try {
+            listener.createStatement("LISTEN game_changes")
+                    .execute()
+                    .flatMap(PostgresqlResult::getRowsUpdated)
+                    .blockLast();
+            ConnectableFlux<GameChangedEvent> events = listener.getNotifications()
+                    .map(notification -> read(notification.getParameter()))
+                    .replay();
+            Disposable connection = events.connect();
+
+            Long id = gameRepository.save(GameRepositoryIT.game("notifyPlayer")).block().getId();
+
+            StepVerifier.create(events.filter(event -> event.id().equals(id)))
+                    .assertNext(event -> {
+                        assertEquals("sql-it", event.origin());
+                        assertEquals(GameStatus.IN_PROGRESS, event.status());
+                        assertFalse(event.deleted());
+                    })
+                    .thenCancel()
+                    .verify(Duration.ofSeconds(10));
+            connection.dispose();
+        } finally {
+            Mono.from(listener.close()).block();
+        }
+    }
+
+    private GameChangedEvent read(String payload) {
+        try {
+            return objectMapper.readValue(payload, GameChangedEvent.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Test
+    void audit_shouldReadStoredGamesByKeysetPage() {
+        Games withDeck = GameRepositoryIT.game("auditPlayer2");
+        withDeck.setInitialDeck(new byte[]{9, 8, 7});
+        List<Games> saved = gameRepository.insertAll(List.of(GameRepositoryIT.game("auditPlayer1"), withDeck))
+                .collectList()
+                .block();
+        Long first = saved.get(0).getId();
+        Long second = saved.get(1).getId();
+
+        StepVerifier.create(gameAuditRepository.findPage(first - 1, second, 10))
+                .assertNext(game -> {
+                    assertEquals(first, game.id());
+                    assertNull(game.initialDeck());
+                })
+                .assertNext(game -> {
+                    assertEquals(second, game.id());
+                    assertEquals(GameStatus.IN_PROGRESS, game.status());
+                    assertArrayEquals(new byte[]{9, 8, 7}, game.initialDeck());
+                })
+                .verifyComplete();
+        StepVerifier.create(gameAuditRepository.findPage(first - 1, second, 1))
+                .expectNextCount(1)
+                .verifyComplete();
+    }
+
+    @Test
+    void leaderboard_shouldRankFinishedGamesSinceAWindow() {
+        LocalDateTime window = LocalDateTime.of(2100, 1, 1, 0, 0);
+        gameRepository.insertAll(List.of(
+                        finished("leaderA", GameStatus.FINISHED_PLAYER_WON, 21, window),
+                        finished("leaderA", GameStatus.FINISHED_DEALER_WON, 17, window),
+                        finished("leaderB", GameStatus.FINISHED_PLAYER_WON, 20, window),
+                        finished("leaderC", GameStatus.FINISHED_PLAYER_WON, 21, window.minusDays(1))))
+                .blockLast();
+
+        StepVerifier.create(leaderboardRepository.findTop(window, 10))
+                .assertNext(standing -> {
+                    assertEquals("leaderB", standing.playerId());
+                    assertEquals(1, standing.gamesWon());
+                    assertEquals(20L, standing.totalScore());
+                })
+                .assertNext(standing -> {
+                    assertEquals("leaderA", standing.playerId());
+                    assertEquals(2, standing.gamesPlayed());
+                    assertEquals(38L, standing.totalScore());
+                })
+                .verifyComplete();
+    }
+
+    private static Games finished(String playerId, GameStatus status, int playerScore, LocalDateTime createdAt) {
+        Games game = GameRepositoryIT.game(playerId);
+        game.setStatus(status);
+        game.setTurn(GameTurn.FINISHED);
+        game.setPlayerScore(playerScore);
+        game.setCreatedAt(createdAt);
+        return game;
+    }
+}
@@ -0,0 +1,155 @@
+package cat.itacademy.blackjack.gameservice;
+
+import cat.itacademy.blackjack.config.CpuScheduler;
+import cat.itacademy.blackjack.dto.AutoplaySummary;
+import cat.itacademy.blackjack.exception.PlayerNotFoundException;
+import cat.itacademy.blackjack.model.AutoplayStrategy;
+import cat.itacademy.blackjack.model.GameMove;
+import cat.itacademy.blackjack.model.GameMoveType;
+import cat.itacademy.blackjack.model.GameTurn;
+import cat.itacademy.blackjack.model.Games;
+import cat.itacademy.blackjack.model.Player;
+import cat.itacademy.blackjack.repository.mongo.PlayerRepository;
+import cat.itacademy.blackjack.repository.sql.GameMoveRepository;
+import cat.itacademy.blackjack.repository.sql.GameRepository;
+import cat.itacademy.blackjack.service.engine.BlackjackEngine;
+import cat.itacademy.blackjack.service.engine.DeckManager;
+import cat.itacademy.blackjack.service.logic.AutoplayProcessor;
+import cat.itacademy.blackjack.service.logic.PlayerStatsUpdater;
+import cat.itacademy.blackjack.service.odds.DealerProbabilityEngine;
+import cat.itacademy.blackjack.service.strategy.BasicStrategyAdvisor;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import org.springframework.util.unit.DataSize;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class AutoplayProcessorTest {
+
+    private PlayerRepository playerRepository;
+    private GameRepository gameRepository;
+    private GameMoveRepository gameMoveRepository;
+    private PlayerStatsUpdater playerStatsUpdater;
+    private TransactionalOperator transactionalOperator;
+    private AutoplayProcessor autoplayProcessor;
+
+    @BeforeEach
+    void setUp() {
+        playerRepository = mock(PlayerRepository.class);
+        gameRepository = mock(GameRepository.class);
+        gameMoveRepository = mock(GameMoveRepository.class);
+        playerStatsUpdater = mock(PlayerStatsUpdater.class);
+        transactionalOperator = mock(TransactionalOperator.class);
+        when(transactionalOperator.transactional(any(Mono.class))).thenAnswer(inv -> inv.getArgument(0));
+
+        CpuScheduler cpuScheduler = new CpuScheduler(2, 64, DataSize.ofBytes(512), new SimpleMeterRegistry());
+        autoplayProcessor = new AutoplayProcessor(
+                playerRepository,
+                gameRepository,
+                gameMoveRepository,
+                new DeckManager(new ObjectMapper(), cpuScheduler),
+                new BlackjackEngine(),
+                new BasicStrategyAdvisor(new DealerProbabilityEngine(1_000)),
+                playerStatsUpdater,
+                cpuScheduler,
+                transactionalOperator,
+                2
+        );
+    }
+
+    @Test
+    void autoplay_shouldFail_whenPlayerNotFound() {
+        when(playerRepository.findByName("bot")).thenReturn(Mono.empty());
+
+        StepVerifier.create(autoplayProcessor.autoplay("bot", AutoplayStrategy.BASIC, 3))
+                .expectError(PlayerNotFoundException.class)
+                .verify();
+    }
+
+    @Test
+    void autoplay_shouldPersistFinishedGamesInBatches_andStreamRunningTotals() {
+        Player bot = new Player("p1", "bot", 0, 0, 0, 0.0, LocalDateTime.now());
+        when(playerRepository.findByName("bot")).thenReturn(Mono.just(bot));
+        stubInsertAll();
+        when(gameMoveRepository.appendAll(anyList())).thenAnswer(inv -> {
+            List<GameMove> moves = inv.getArgument(0);
+            // every game ends with a STAND, or with the hit that took the player to 21 or more
+            Map<Long, List<GameMove>> byGame = moves.stream().collect(Collectors.groupingBy(GameMove::gameId));
+            byGame.values().forEach(log -> assertNotEquals(GameMoveType.DEALER_DRAW, log.get(log.size() - 1).type()));
+            return Mono.empty();
+        });
+        when(playerStatsUpdater.recordResults(eq("p1"), anyList())).thenReturn(Mono.empty());
+
+        StepVerifier.create(autoplayProcessor.autoplay("bot", AutoplayStrategy.BASIC, 5).collectList())
+                .assertNext(summaries -> {
+                    assertEquals(3, summaries.size());
+                    AutoplaySummary last = summaries.get(2);
+                    assertTrue(last.completed());
+                    assertEquals(5, last.gamesPlayed());
+                    assertEquals(5, last.wins() + last.losses() + last.draws());
+                    assertEquals(last.wins() - last.losses(), last.net());
+                })
+                .verifyComplete();
+
+        verify(gameRepository, times(3)).insertAll(anyList());
+        verify(gameMoveRepository, times(3)).appendAll(anyList());
+        verify(playerStatsUpdater, times(3)).recordResults(eq("p1"), anyList());
+        verify(gameRepository, never()).save(any(Games.class));
+        verify(transactionalOperator, times(3)).transactional(any(Mono.class));
+    }
+
+    @Test
+    void autoplay_shouldNotRecordStats_whenTheMoveLogAppendFails() {
+        Player bot = new Player("p1", "bot", 0, 0, 0, 0.0, LocalDateTime.now());
+        when(playerRepository.findByName("bot")).thenReturn(Mono.just(bot));
+        stubInsertAll();
+        when(gameMoveRepository.appendAll(anyList())).thenReturn(Mono.error(new IllegalStateException("append failed")));
+
+        StepVerifier.create(autoplayProcessor.autoplay("bot", AutoplayStrategy.BASIC, 2))
+                .expectError(IllegalStateException.class)
+                .verify();
+
+        // insertAll and appendAll ran inside the transaction, which rolls back on the error
+        verify(transactionalOperator).transactional(any(Mono.class));
+        verify(playerStatsUpdater, never()).recordResults(anyString(), anyList());
+    }
+
+    @Test
+    void autoplay_shouldKeepGoing_whenStatsCannotBeRecordedAfterCommit() {
+        Player bot = new Player("p1", "bot", 0, 0, 0, 0.0, LocalDateTime.now());
+        when(playerRepository.findByName("bot")).thenReturn(Mono.just(bot));
+        stubInsertAll();
+        when(gameMoveRepository.appendAll(anyList())).thenReturn(Mono.empty());
+        when(playerStatsUpdater.recordResults(eq("p1"), anyList())).thenReturn(Mono.error(new IllegalStateException("mongo down")));
+
+        StepVerifier.create(autoplayProcessor.autoplay("bot", AutoplayStrategy.BASIC, 2))
+                .expectNextMatches(summary -> summary.gamesPlayed() == 2 && summary.completed())
+                .verifyComplete();
+    }
+
+    private void stubInsertAll() {
+        when(gameRepository.insertAll(anyList())).thenAnswer(inv -> {
+            List<Games> games = inv.getArgument(0);
+            assertTrue(games.stream().allMatch(game -> game.getTurn() == GameTurn.FINISHED && "p1".equals(game.getPlayerId())));
+            assertTrue(games.stream().allMatch(game -> game.getInitialDeck().length == 52 && game.getEventSeq() > 0));
+            long id = 1;
+            for (Games game : games) {
+                game.setId(id++);
+            }
+            return Flux.fromIterable(games);
+        });
+    }
+}
@@ -0,0 +1,208 @@
+package cat.itacademy.blackjack.gameservice;
+
+import cat.itacademy.blackjack.config.CpuScheduler;
+import cat.itacademy.blackjack.dto.GameResponse;
+import cat.itacademy.blackjack.dto.MoveRequest;
+import cat.itacademy.blackjack.mapper.CardMapper;
+import cat.itacademy.blackjack.mapper.GameMapper;
+import cat.itacademy.blackjack.model.*;
+import cat.itacademy.blackjack.repository.sql.GameMoveRepository;
+import cat.itacademy.blackjack.repository.sql.GameRepository;
+import cat.itacademy.blackjack.service.cluster.GameChangeNotifier;
+import cat.itacademy.blackjack.service.engine.BlackjackEngine;
+import cat.itacademy.blackjack.service.engine.DeckManager;
+import cat.itacademy.blackjack.service.event.GameEventPublisher;
+import cat.itacademy.blackjack.service.eventlog.GameMoveLog;
+import cat.itacademy.blackjack.service.eventlog.GameStateLoader;
+import cat.itacademy.blackjack.service.logic.BulkMoveProcessor;
+import cat.itacademy.blackjack.service.logic.GameCommandLanes;
+import cat.itacademy.blackjack.service.logic.GameHitProcessor;
+import cat.itacademy.blackjack.service.logic.GameStandProcessor;
+import cat.itacademy.blackjack.service.logic.PlayerStatsUpdater;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.util.unit.DataSize;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class BulkMoveProcessorTest {
+
+    private GameRepository gameRepository;
+    private GameMoveRepository gameMoveRepository;
+    private GameStateLoader gameStateLoader;
+    private DeckManager deckManager;
+    private GameCommandLanes gameCommandLanes;
+    private BulkMoveProcessor bulkMoveProcessor;
+
+    @BeforeEach
+    void setUp() {
+        gameRepository = mock(GameRepository.class);
+        gameMoveRepository = mock(GameMoveRepository.class);
+        gameStateLoader = mock(GameStateLoader.class);
+        deckManager = new DeckManager(new ObjectMapper(), new CpuScheduler(2, 64, DataSize.ofBytes(512), new SimpleMeterRegistry()));
+        BlackjackEngine blackjackEngine = new BlackjackEngine();
+        GameMapper gameMapper = mock(GameMapper.class);
+        PlayerStatsUpdater playerStatsUpdater = mock(PlayerStatsUpdater.class);
+        GameEventPublisher gameEventPublisher = new GameEventPublisher(Mappers.getMapper(CardMapper.class), 16, new SimpleMeterRegistry());
+        GameChangeNotifier gameChangeNotifier = mock(GameChangeNotifier.class);
+
+        when(gameMapper.toResponse(any(Games.class), anyList(), anyList())).thenReturn(mock(GameResponse.class));
+        when(playerStatsUpdater.updateAfterGameIfFinished(any(Games.class))).thenReturn(Mono.empty());
+        when(gameChangeNotifier.notifyChanged(any(Games.class))).thenReturn(Mono.empty());
+
+        GameMoveLog gameMoveLog = new GameMoveLog(gameMoveRepository, gameRepository, gameChangeNotifier, 8);
+        gameCommandLanes = new GameCommandLanes(4, Duration.ofSeconds(30), new SimpleMeterRegistry());
+
+        bulkMoveProcessor = new BulkMoveProcessor(
+                gameStateLoader,
+                gameMoveLog,
+                deckManager,
+                gameMapper,
+                new GameHitProcessor(gameStateLoader, gameMoveLog, deckManager, blackjackEngine, gameMapper, playerStatsUpdater, gameEventPublisher),
+                new GameStandProcessor(gameStateLoader, gameMoveLog, deckManager, blackjackEngine, gameMapper, playerStatsUpdater, gameEventPublisher),
+                gameEventPublisher,
+                gameChangeNotifier,
+                playerStatsUpdater,
+                gameCommandLanes,
+                4,
+                10
+        );
+    }
+
+    private Games game(long id) {
+        return Games.builder()
+                .id(id)
+                .version(3L)
+                .playerId("p" + id)
+                .status(GameStatus.IN_PROGRESS)
+                .turn(GameTurn.PLAYER_TURN)
+                .playerScore(5)
+                .dealerScore(12)
+                .deckJson(deckManager.serializeCards(List.of(
+                        new Card(CardSuit.HEARTS, CardValue.TWO),
+                        new Card(CardSuit.HEARTS, CardValue.THREE),
+                        new Card(CardSuit.HEARTS, CardValue.TEN))))
+                .playerCardsJson(deckManager.serializeCards(List.of(
+                        new Card(CardSuit.CLUBS, CardValue.TWO),
+                        new Card(CardSuit.CLUBS, CardValue.THREE))))
+                .dealerCardsJson(deckManager.serializeCards(List.of(
+                        new Card(CardSuit.SPADES, CardValue.SEVEN),
+                        new Card(CardSuit.SPADES, CardValue.FIVE))))
+                .build();
+    }
+
+    @Test
+    void processMoves_shouldApplyMovesInOrderPerGame_andLogAllGamesWithOneAppend() {
+        Games first = game(1L);
+        Games second = game(2L);
+        when(gameStateLoader.loadAll(anyCollection())).thenReturn(Flux.just(first, second));
+        when(gameMoveRepository.appendAll(anyList())).thenReturn(Mono.empty());
+        when(gameRepository.updateAll(anyList())).thenReturn(Flux.just(1L, 2L));
+
+        List<MoveRequest> moves = List.of(
+                new MoveRequest(1L, GameAction.HIT),
+                new MoveRequest(2L, GameAction.STAND),
+                new MoveRequest(1L, GameAction.STAND),
+                new MoveRequest(2L, GameAction.HIT));
+
+        StepVerifier.create(bulkMoveProcessor.processMoves(moves).collectList())
+                .assertNext(results -> {
+                    assertEquals(4, results.size());
+                    assertTrue(results.stream().filter(r -> r.index() != 3).allMatch(r -> r.error() == null));
+                    assertNotNull(results.stream().filter(r -> r.index() == 3).findFirst().orElseThrow().error());
+                })
+                .verifyComplete();
+
+        // first: HIT, two dealer draws, STAND; second: two dealer draws, STAND
+        verify(gameMoveRepository, times(1)).appendAll(argThat(logged -> logged.size() == 7));
+        verify(gameRepository, times(1)).updateAll(anyList());
+        verify(gameRepository, never()).save(any(Games.class));
+        assertEquals(GameTurn.FINISHED, first.getTurn());
+        assertEquals(4, first.getLastSeq());
+        assertEquals(4, first.getEventSeq());
+        assertEquals(3, second.getLastSeq());
+    }
+
+    @Test
+    void processMoves_shouldRejectMoves_whenGameIsMissingOrChangedConcurrently() {
+        Games first = game(1L);
+        when(gameStateLoader.loadAll(anyCollection())).thenReturn(Flux.just(first));
+        when(gameMoveRepository.appendAll(anyList())).thenReturn(Mono.error(new DuplicateKeyException("seq taken")));
+
+        List<MoveRequest> moves = List.of(
+                new MoveRequest(1L, GameAction.HIT),
+                new MoveRequest(99L, GameAction.HIT));
+
+        StepVerifier.create(bulkMoveProcessor.processMoves(moves).collectList())
+                .assertNext(results -> {
+                    assertEquals(2, results.size());
+                    assertTrue(results.stream().allMatch(r -> r.error() != null && r.game() == null));
+                })
+                .verifyComplete();
+
+        assertEquals(0, first.getLastSeq());
+        assertEquals(3L, first.getVersion());
+        verify(gameRepository, never()).updateAll(anyList());
+    }
+
+    @Test
+    void processMoves_shouldOnlyRejectConflictingGames_whenBatchAppendFails() {
+        Games first = game(1L);
+        Games second = game(2L);
+        when(gameStateLoader.loadAll(anyCollection())).thenReturn(Flux.just(first, second));
+        when(gameMoveRepository.appendAll(anyList())).thenReturn(
+                Mono.error(new DuplicateKeyException("seq taken")),
+                Mono.empty(),
+                Mono.error(new DuplicateKeyException("seq taken")));
+
+        List<MoveRequest> moves = List.of(
+                new MoveRequest(1L, GameAction.HIT),
+                new MoveRequest(2L, GameAction.HIT));
+
+        StepVerifier.create(bulkMoveProcessor.processMoves(moves).collectList())
+                .assertNext(results -> {
+                    assertNull(results.get(0).error());
+                    assertNotNull(results.get(1).error());
+                })
+                .verifyComplete();
+
+        assertEquals(1, first.getLastSeq());
+        assertEquals(0, second.getLastSeq());
+        verify(gameMoveRepository, times(3)).appendAll(anyList());
+        verify(gameRepository, never()).updateAll(anyList());
+    }
+
+    @Test
+    void processMoves_shouldWaitForARunningMoveOnTheSameGame() {
+        Games first = game(1L);
+        when(gameStateLoader.loadAll(anyCollection())).thenReturn(Flux.just(first));
+        when(gameMoveRepository.appendAll(anyList())).thenReturn(Mono.empty());
+        when(gameRepository.updateAll(anyList())).thenReturn(Flux.just(1L));
+        Sinks.Empty<Void> runningMove = Sinks.empty();
+        gameCommandLanes.submit(1L, runningMove::asMono).subscribe();
+
+        StepVerifier.create(bulkMoveProcessor.processMoves(List.of(new MoveRequest(1L, GameAction.HIT))))
+                .expectSubscription()
+                .expectNoEvent(Duration.ofMillis(100))
+                .then(() -> assertEquals(0, first.getLastSeq()))
+                .then(runningMove::tryEmitEmpty)
+                .assertNext(result -> assertNull(result.error()))
+                .verifyComplete();
+
+        assertEquals(1, first.getLastSeq());
+    }
+}
@@ -0,0 +1,140 @@
+package cat.itacademy.blackjack.gameservice;
+
+import cat.itacademy.blackjack.config.CpuScheduler;
+import cat.itacademy.blackjack.dto.GameVerificationResult;
+import cat.itacademy.blackjack.model.*;
+import cat.itacademy.blackjack.repository.sql.GameAuditRepository;
+import cat.itacademy.blackjack.repository.sql.GameMoveRepository;
+import cat.itacademy.blackjack.repository.sql.GameRepository;
+import cat.itacademy.blackjack.service.audit.GameAuditService;
+import cat.itacademy.blackjack.service.audit.GameVerifier;
+import cat.itacademy.blackjack.service.engine.BlackjackEngine;
+import cat.itacademy.blackjack.service.engine.DeckManager;
+import cat.itacademy.blackjack.service.eventlog.GameStateLoader;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class GameAuditServiceTest {
+
+    private GameAuditRepository gameAuditRepository;
+    private GameMoveRepository gameMoveRepository;
+    private DeckManager deckManager;
+    private GameVerifier gameVerifier;
+    private GameAuditService gameAuditService;
+
+    @BeforeEach
+    void setUp() {
+        gameAuditRepository = mock(GameAuditRepository.class);
+        gameMoveRepository = mock(GameMoveRepository.class);
+        CpuScheduler cpuScheduler = new CpuScheduler(2, 64, DataSize.ofBytes(512), new SimpleMeterRegistry());
+        deckManager = new DeckManager(new ObjectMapper(), cpuScheduler);
+        BlackjackEngine blackjackEngine = new BlackjackEngine();
+        gameVerifier = new GameVerifier(deckManager, blackjackEngine,
+                new GameStateLoader(mock(GameRepository.class), gameMoveRepository, deckManager, blackjackEngine));
+        gameAuditService = new GameAuditService(gameAuditRepository, gameMoveRepository, gameVerifier, cpuScheduler, 2, 2, 1, 5, 10);
+    }
+
+    /** Player 2+3, dealer 7+5, then HEARTS TWO, THREE, TEN on top of the rest of a full deck. */
+    private byte[] initialDeck() {
+        List<Card> deck = new ArrayList<>(List.of(
+                new Card(CardSuit.CLUBS, CardValue.TWO),
+                new Card(CardSuit.CLUBS, CardValue.THREE),
+                new Card(CardSuit.SPADES, CardValue.SEVEN),
+                new Card(CardSuit.SPADES, CardValue.FIVE),
+                new Card(CardSuit.HEARTS, CardValue.TWO),
+                new Card(CardSuit.HEARTS, CardValue.THREE),
+                new Card(CardSuit.HEARTS, CardValue.TEN)));
+        return deckManager.packCards(deck);
+    }
+
+    /** Hit draws HEARTS TWO (7), the dealer draws THREE and TEN (25) and busts. */
+    private List<GameMove> log(long gameId) {
+        List<GameMove> moves = List.of(
+                GameMove.hit(new Card(CardSuit.HEARTS, CardValue.TWO)),
+                GameMove.dealerDraw(new Card(CardSuit.HEARTS, CardValue.THREE)),
+                GameMove.dealerDraw(new Card(CardSuit.HEARTS, CardValue.TEN)),
+                GameMove.stand());
+        List<GameMove> numbered = new ArrayList<>();
+        for (int i = 0; i < moves.size(); i++) {
+            numbered.add(moves.get(i).at(gameId, i + 1));
+        }
+        return numbered;
+    }
+
+    @Test
+    void verify_shouldMatch_whenReplayGivesTheStoredScoresAndStatus() {
+        StoredGame stored = new StoredGame(1L, GameStatus.FINISHED_PLAYER_WON, 7, 25, 4, initialDeck());
+
+        GameVerificationResult result = gameVerifier.verify(stored, log(1L));
+
+        assertEquals(VerificationOutcome.MATCH, result.outcome());
+        assertEquals(4, result.movesReplayed());
+    }
+
+    @Test
+    void verify_shouldReportMismatch_whenStoredRowDisagreesWithReplay() {
+        StoredGame stored = new StoredGame(1L, GameStatus.FINISHED_DEALER_WON, 7, 20, 4, initialDeck());
+
+        GameVerificationResult result = gameVerifier.verify(stored, log(1L));
+
+        assertEquals(VerificationOutcome.MISMATCH, result.outcome());
+        assertEquals(25, result.replayedDealerScore());
+        assertEquals(GameStatus.FINISHED_PLAYER_WON, result.replayedStatus());
+    }
+
+    @Test
+    void verify_shouldOnlyReplayUpToTheSnapshot_andFlagTamperedOrMissingDecks() {
+        StoredGame inProgress = new StoredGame(1L, GameStatus.IN_PROGRESS, 7, 12, 1, initialDeck());
+        assertEquals(VerificationOutcome.MATCH, gameVerifier.verify(inProgress, log(1L)).outcome());
+
+        List<GameMove> tampered = new ArrayList<>(log(1L));
+        tampered.set(0, GameMove.hit(new Card(CardSuit.HEARTS, CardValue.ACE)).at(1L, 1));
+        StoredGame finished = new StoredGame(1L, GameStatus.FINISHED_PLAYER_WON, 7, 25, 4, initialDeck());
+        GameVerificationResult result = gameVerifier.verify(finished, tampered);
+        assertEquals(VerificationOutcome.MISMATCH, result.outcome());
+        assertNotNull(result.error());
+
+        StoredGame legacy = new StoredGame(2L, GameStatus.FINISHED_PLAYER_WON, 7, 25, 4, null);
+        assertEquals(VerificationOutcome.UNVERIFIABLE, gameVerifier.verify(legacy, log(2L)).outcome());
+    }
+
+    @Test
+    void verifyRange_shouldWalkAllKeysetPages() {
+        StoredGame first = new StoredGame(1L, GameStatus.FINISHED_PLAYER_WON, 7, 25, 4, initialDeck());
+        StoredGame second = new StoredGame(2L, GameStatus.FINISHED_DRAW, 7, 25, 4, initialDeck());
+        StoredGame third = new StoredGame(3L, GameStatus.FINISHED_PLAYER_WON, 7, 25, 4, null);
+        when(gameAuditRepository.findPage(0L, 10L, 2)).thenReturn(Flux.just(first, second));
+        when(gameAuditRepository.findPage(2L, 10L, 2)).thenReturn(Flux.just(third));
+        when(gameMoveRepository.findByGameIds(anyCollection())).thenAnswer(inv -> {
+            List<GameMove> moves = new ArrayList<>();
+            for (Object id : (Collection<?>) inv.getArgument(0)) {
+                moves.addAll(log((Long) id));
+            }
+            return Flux.fromIterable(moves);
+        });
+
+        StepVerifier.create(gameAuditService.verifyRange(1L, 10L).collectList())
+                .assertNext(results -> {
+                    assertEquals(3, results.size());
+                    assertEquals(1, results.stream().filter(r -> r.outcome() == VerificationOutcome.MATCH).count());
+                    assertEquals(1, results.stream().filter(r -> r.outcome() == VerificationOutcome.MISMATCH).count());
+                    assertEquals(1, results.stream().filter(r -> r.outcome() == VerificationOutcome.UNVERIFIABLE).count());
+                })
+                .verifyComplete();
+
+        verify(gameAuditRepository, never()).findPage(eq(3L), anyLong(), anyInt());
+    }
+}
@@ -0,0 +1,202 @@
+package cat.itacademy.blackjack.gameservice;
+
+import cat.itacademy.blackjack.config.ClusterProperties;
+import cat.itacademy.blackjack.config.MeteredConnectionFactory;
+import cat.itacademy.blackjack.dto.GameEvent;
+import cat.itacademy.blackjack.model.GameStatus;
+import cat.itacademy.blackjack.service.GameService;
+import cat.itacademy.blackjack.service.cluster.GameChangeListener;
+import cat.itacademy.blackjack.service.cluster.GameChangedEvent;
+import cat.itacademy.blackjack.service.event.GameEventPublisher;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.postgresql.api.Notification;
+import io.r2dbc.postgresql.api.PostgresqlConnection;
+import io.r2dbc.postgresql.api.PostgresqlResult;
+import io.r2dbc.postgresql.api.PostgresqlStatement;
+import io.r2dbc.spi.ConnectionFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.scheduler.VirtualTimeScheduler;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Queue;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class GameChangeListenerTest {
+
+    private ConnectionFactory unpooled;
+    private ApplicationEventPublisher applicationEventPublisher;
+    private GameEventPublisher gameEventPublisher;
+    private GameService gameService;
+    private GameChangeListener listener;
+
+    @BeforeEach
+    void setUp() {
+        MeteredConnectionFactory connectionFactory = mock(MeteredConnectionFactory.class);
+        ConnectionPool pool = mock(ConnectionPool.class);
+        unpooled = mock(ConnectionFactory.class);
+        when(connectionFactory.unwrap()).thenReturn(pool);
+        when(pool.unwrap()).thenReturn(unpooled);
+
+        applicationEventPublisher = mock(ApplicationEventPublisher.class);
+        gameEventPublisher = mock(GameEventPublisher.class);
+        gameService = mock(GameService.class);
+
+        listener = listener(connectionFactory, "game_changes");
+    }
+
+    @AfterEach
+    void tearDown() {
+        listener.stop();
+        VirtualTimeScheduler.reset();
+    }
+
+    private GameChangeListener listener(MeteredConnectionFactory connectionFactory, String channel) {
+        return new GameChangeListener(connectionFactory, new ClusterProperties(true, channel, "this-node"),
+                new ObjectMapper(), applicationEventPublisher, gameEventPublisher, gameService);
+    }
+
+    private PostgresqlConnection connection(Flux<Notification> notifications) {
+        PostgresqlConnection connection = mock(PostgresqlConnection.class);
+        PostgresqlStatement statement = mock(PostgresqlStatement.class);
+        PostgresqlResult result = mock(PostgresqlResult.class);
+        when(connection.createStatement("LISTEN game_changes")).thenReturn(statement);
+        when(statement.execute()).thenReturn(Flux.just(result));
+        when(result.getRowsUpdated()).thenReturn(Mono.just(0L));
+        when(connection.getNotifications()).thenReturn(notifications);
+        when(connection.close()).thenReturn(Mono.empty());
+        return connection;
+    }
+
+    private Sinks.Many<Notification> listening() {
+        Sinks.Many<Notification> notifications = Sinks.many().unicast().onBackpressureBuffer();
+        doReturn(Mono.just(connection(notifications.asFlux()))).when(unpooled).create();
+        listener.start();
+        return notifications;
+    }
+
+    private static Notification notification(String payload) {
+        Notification notification = mock(Notification.class);
+        when(notification.getName()).thenReturn("game_changes");
+        when(notification.getParameter()).thenReturn(payload);
+        return notification;
+    }
+
+    @Test
+    void handle_shouldPublishOtherNodesChange_andRefreshTheLiveStream_whenSomeoneIsWatching() {
+        GameEvent snapshot = mock(GameEvent.class);
+        when(gameEventPublisher.hasSubscribers(7L)).thenReturn(true);
+        when(gameService.getSnapshot(7L)).thenReturn(Mono.just(snapshot));
+        Sinks.Many<Notification> notifications = listening();
+
+        notifications.tryEmitNext(notification(
+                "{\"id\":7,\"seq\":3,\"status\":\"FINISHED_PLAYER_WON\",\"origin\":\"other-node\",\"deleted\":false}"));
+
+        verify(applicationEventPublisher).publishEvent(
+                GameChangedEvent.changed(7L, 3, GameStatus.FINISHED_PLAYER_WON, "other-node"));
+        verify(gameEventPublisher).publish(snapshot);
+    }
+
+    @Test
+    void handle_shouldNotLoadASnapshot_whenNobodyIsWatching() {
+        when(gameEventPublisher.hasSubscribers(7L)).thenReturn(false);
+        Sinks.Many<Notification> notifications = listening();
+
+        notifications.tryEmitNext(notification(
+                "{\"id\":7,\"seq\":3,\"status\":\"IN_PROGRESS\",\"origin\":\"other-node\",\"deleted\":false}"));
+
+        verify(applicationEventPublisher).publishEvent(GameChangedEvent.changed(7L, 3, GameStatus.IN_PROGRESS, "other-node"));
+        verifyNoInteractions(gameService);
+        verify(gameEventPublisher, never()).publish(any());
+    }
+
+    @Test
+    void handle_shouldIgnoreThisNodesOwnNotifications() {
+        Sinks.Many<Notification> notifications = listening();
+
+        notifications.tryEmitNext(notification(
+                "{\"id\":7,\"seq\":3,\"status\":\"IN_PROGRESS\",\"origin\":\"this-node\",\"deleted\":false}"));
+
+        verifyNoInteractions(applicationEventPublisher, gameEventPublisher, gameService);
+    }
+
+    @Test
+    void handle_shouldPublishADeletion_withoutRefreshingTheStream() {
+        when(gameEventPublisher.hasSubscribers(7L)).thenReturn(true);
+        Sinks.Many<Notification> notifications = listening();
+
+        notifications.tryEmitNext(notification("{\"id\":7,\"origin\":\"other-node\",\"deleted\":true}"));
+
+        verify(applicationEventPublisher).publishEvent(GameChangedEvent.deleted(7L, "other-node"));
+        verifyNoInteractions(gameService);
+    }
+
+    @Test
+    void handle_shouldSkipMalformedPayloads_andKeepListening() {
+        Sinks.Many<Notification> notifications = listening();
+
+        notifications.tryEmitNext(notification("not json"));
+        notifications.tryEmitNext(notification(
+                "{\"id\":8,\"seq\":1,\"status\":\"IN_PROGRESS\",\"origin\":\"other-node\",\"deleted\":false}"));
+
+        verify(applicationEventPublisher).publishEvent(GameChangedEvent.changed(8L, 1, GameStatus.IN_PROGRESS, "other-node"));
+        verifyNoMoreInteractions(applicationEventPublisher);
+    }
+
+    @Test
+    void handle_shouldKeepListening_whenTheSnapshotRefreshFails() {
+        when(gameEventPublisher.hasSubscribers(any())).thenReturn(true);
+        when(gameService.getSnapshot(7L)).thenReturn(Mono.error(new IllegalStateException("db down")));
+        when(gameService.getSnapshot(8L)).thenReturn(Mono.just(mock(GameEvent.class)));
+        Sinks.Many<Notification> notifications = listening();
+
+        notifications.tryEmitNext(notification(
+                "{\"id\":7,\"seq\":3,\"status\":\"IN_PROGRESS\",\"origin\":\"other-node\",\"deleted\":false}"));
+        notifications.tryEmitNext(notification(
+                "{\"id\":8,\"seq\":1,\"status\":\"IN_PROGRESS\",\"origin\":\"other-node\",\"deleted\":false}"));
+
+        verify(applicationEventPublisher, times(2)).publishEvent(any(GameChangedEvent.class));
+        verify(gameEventPublisher).publish(any());
+    }
+
+    @Test
+    void start_shouldReconnectWithBackoff_whenTheListenConnectionDrops() {
+        VirtualTimeScheduler scheduler = VirtualTimeScheduler.getOrSet();
+        Sinks.Many<Notification> notifications = Sinks.many().unicast().onBackpressureBuffer();
+        PostgresqlConnection dropped = connection(Flux.empty());
+        PostgresqlConnection reconnected = connection(notifications.asFlux());
+        // like the driver's, the publisher opens a new connection on each subscription
+        Queue<PostgresqlConnection> connections = new ArrayDeque<>(List.of(dropped, reconnected));
+        doReturn(Mono.fromSupplier(connections::poll)).when(unpooled).create();
+
+        listener.start();
+        verify(dropped).close();
+        verify(reconnected, never()).createStatement(any());
+
+        scheduler.advanceTimeBy(Duration.ofSeconds(2));
+        verify(reconnected).createStatement("LISTEN game_changes");
+
+        notifications.tryEmitNext(notification("{\"id\":9,\"origin\":\"other-node\",\"deleted\":true}"));
+        verify(applicationEventPublisher).publishEvent(GameChangedEvent.deleted(9L, "other-node"));
+    }
+
+    @Test
+    void start_shouldNotListen_whenTheChannelNameIsInvalid() {
+        MeteredConnectionFactory connectionFactory = mock(MeteredConnectionFactory.class);
+        listener = listener(connectionFactory, "game_changes; DROP TABLE games");
+
+        listener.start();
+
+        verifyNoInteractions(connectionFactory);
+    }
+}
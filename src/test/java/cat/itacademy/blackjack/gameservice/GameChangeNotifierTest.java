@@ -0,0 +1,110 @@
+package cat.itacademy.blackjack.gameservice;
+
+import cat.itacademy.blackjack.config.ClusterProperties;
+import cat.itacademy.blackjack.model.GameStatus;
+import cat.itacademy.blackjack.model.Games;
+import cat.itacademy.blackjack.service.cluster.GameChangeNotifier;
+import cat.itacademy.blackjack.service.cluster.GameChangedEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class GameChangeNotifierTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private DatabaseClient databaseClient;
+    private DatabaseClient.GenericExecuteSpec spec;
+    private ApplicationEventPublisher applicationEventPublisher;
+
+    private Games game;
+
+    @BeforeEach
+    void setUp() {
+        databaseClient = mock(DatabaseClient.class);
+        spec = mock(DatabaseClient.GenericExecuteSpec.class);
+        when(databaseClient.sql(anyString())).thenReturn(spec);
+        when(spec.bind(anyString(), any())).thenReturn(spec);
+        when(spec.then()).thenReturn(Mono.empty());
+        applicationEventPublisher = mock(ApplicationEventPublisher.class);
+
+        game = Games.builder()
+                .id(7L)
+                .status(GameStatus.IN_PROGRESS)
+                .build();
+        game.setLastSeq(3);
+    }
+
+    private GameChangeNotifier notifier(boolean clusterEnabled) {
+        return new GameChangeNotifier(databaseClient, objectMapper,
+                new ClusterProperties(clusterEnabled, "game_changes", "this-node"), applicationEventPublisher);
+    }
+
+    private GameChangedEvent sentPayload() throws Exception {
+        ArgumentCaptor<Object> payload = ArgumentCaptor.forClass(Object.class);
+        verify(databaseClient).sql("SELECT pg_notify(:channel, :payload)");
+        verify(spec).bind("channel", "game_changes");
+        verify(spec).bind(eq("payload"), payload.capture());
+        return objectMapper.readValue((String) payload.getValue(), GameChangedEvent.class);
+    }
+
+    @Test
+    void onAfterSave_shouldNotifyTheChannel_andPublishTheLocalEvent() throws Exception {
+        StepVerifier.create(notifier(true).onAfterSave(game, null, null))
+                .expectNext(game)
+                .verifyComplete();
+
+        GameChangedEvent expected = GameChangedEvent.changed(7L, 3, GameStatus.IN_PROGRESS, "this-node");
+        assertEquals(expected, sentPayload());
+        verify(applicationEventPublisher).publishEvent(expected);
+    }
+
+    @Test
+    void notifyDeleted_shouldSendADeletion() throws Exception {
+        StepVerifier.create(notifier(true).notifyDeleted(7L))
+                .verifyComplete();
+
+        assertEquals(GameChangedEvent.deleted(7L, "this-node"), sentPayload());
+        verify(applicationEventPublisher).publishEvent(GameChangedEvent.deleted(7L, "this-node"));
+    }
+
+    @Test
+    void notifyChanged_shouldOnlyPublishTheLocalEvent_whenTheClusterIsDisabled() {
+        StepVerifier.create(notifier(false).notifyChanged(game))
+                .verifyComplete();
+
+        verify(applicationEventPublisher).publishEvent(GameChangedEvent.changed(7L, 3, GameStatus.IN_PROGRESS, "this-node"));
+        verifyNoInteractions(databaseClient);
+    }
+
+    @Test
+    void notifyChanged_shouldReadTheSeqWhenSubscribed() throws Exception {
+        Mono<Void> notification = notifier(true).notifyChanged(game);
+        game.setLastSeq(4);
+
+        StepVerifier.create(notification)
+                .verifyComplete();
+
+        assertEquals(4, sentPayload().seq());
+    }
+
+    @Test
+    void notifyChanged_shouldComplete_whenPgNotifyFails() {
+        when(spec.then()).thenReturn(Mono.error(new IllegalStateException("connection closed")));
+
+        StepVerifier.create(notifier(true).notifyChanged(game))
+                .verifyComplete();
+
+        verify(applicationEventPublisher).publishEvent(any(GameChangedEvent.class));
+    }
+}
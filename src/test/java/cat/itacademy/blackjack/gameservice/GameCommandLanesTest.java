@@ -0,0 +1,137 @@
+package cat.itacademy.blackjack.gameservice;
+
+import cat.itacademy.blackjack.exception.InvalidGameStateException;
+import cat.itacademy.blackjack.service.logic.GameCommandLanes;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameCommandLanesTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private GameCommandLanes lanes;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        lanes = new GameCommandLanes(8, Duration.ofSeconds(30), meterRegistry);
+    }
+
+    @Test
+    void submit_shouldStartTheNextMoveOnAGame_onlyAfterThePreviousOneTerminates() {
+        Sinks.One<String> firstResult = Sinks.one();
+        List<String> started = new CopyOnWriteArrayList<>();
+
+        Mono<String> first = lanes.submit(1L, () -> {
+            started.add("first");
+            return firstResult.asMono();
+        });
+        Mono<String> second = lanes.submit(1L, () -> {
+            started.add("second");
+            return Mono.just("second");
+        });
+
+        StepVerifier.create(Flux.merge(first, second))
+                .then(() -> assertEquals(List.of("first"), started))
+                .then(() -> assertEquals(1.0, meterRegistry.get("blackjack.game.lanes.queued").gauge().value()))
+                .then(() -> firstResult.tryEmitValue("first"))
+                .expectNext("first", "second")
+                .verifyComplete();
+        assertEquals(List.of("first", "second"), started);
+    }
+
+    @Test
+    void submit_shouldNotWaitForOtherGames() {
+        Sinks.One<String> blocked = Sinks.one();
+        lanes.submit(1L, blocked::asMono).subscribe();
+
+        StepVerifier.create(lanes.submit(2L, () -> Mono.just("other game")))
+                .expectNext("other game")
+                .verifyComplete();
+        blocked.tryEmitEmpty();
+    }
+
+    @Test
+    void submit_shouldRelayErrors_andKeepTheLaneRunning() {
+        StepVerifier.create(lanes.submit(1L, () -> Mono.error(new InvalidGameStateException("finished"))))
+                .expectError(InvalidGameStateException.class)
+                .verify();
+        StepVerifier.create(lanes.submit(1L, () -> {
+                    throw new IllegalStateException("not even a Mono");
+                }))
+                .expectError(IllegalStateException.class)
+                .verify();
+
+        StepVerifier.create(lanes.submit(1L, () -> Mono.just("next")))
+                .expectNext("next")
+                .verifyComplete();
+    }
+
+    @Test
+    void submit_shouldRunConcurrentMovesOnOneGameOneAtATime() {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+
+        StepVerifier.create(Flux.range(0, 200)
+                        .flatMap(i -> lanes.submit(7L, () -> Mono.fromCallable(() -> {
+                                            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                                            return i;
+                                        })
+                                        .delayElement(Duration.ofNanos(i % 3 == 0 ? 0 : 1000), Schedulers.parallel())
+                                        .doOnTerminate(running::decrementAndGet))
+                                .subscribeOn(Schedulers.parallel()), 64)
+                        .count())
+                .expectNext(200L)
+                .verifyComplete();
+
+        assertEquals(1, maxRunning.get());
+    }
+
+    @Test
+    void submit_shouldDrainManyQueuedSynchronousMoves_withoutRecursion() {
+        Sinks.One<Integer> blocker = Sinks.one();
+        lanes.submit(1L, blocker::asMono).subscribe();
+        List<Mono<Integer>> queued = Flux.range(0, 50_000)
+                .map(i -> lanes.submit(1L, () -> Mono.just(i)).cache())
+                .doOnNext(Mono::subscribe)
+                .collectList()
+                .block();
+
+        blocker.tryEmitValue(-1);
+
+        StepVerifier.create(Flux.concat(queued).count())
+                .expectNext(50_000L)
+                .verifyComplete();
+    }
+
+    @Test
+    void submit_shouldFailAStuckMoveWith503_andReleaseItsLane() {
+        lanes = new GameCommandLanes(8, Duration.ofMillis(100), meterRegistry);
+        AtomicInteger cancelled = new AtomicInteger();
+
+        StepVerifier.create(lanes.submit(1L, () -> Mono.never().doOnCancel(cancelled::incrementAndGet)))
+                .expectErrorSatisfies(error -> assertEquals(HttpStatus.SERVICE_UNAVAILABLE,
+                        ((ResponseStatusException) error).getStatusCode()))
+                .verify(Duration.ofSeconds(5));
+
+        assertEquals(1, cancelled.get());
+        assertEquals(1, meterRegistry.get("blackjack.game.lanes.timeouts").counter().count());
+        StepVerifier.create(lanes.submit(1L, () -> Mono.just("next")))
+                .expectNext("next")
+                .verifyComplete();
+    }
+}
@@ -1,5 +1,6 @@
 package cat.itacademy.blackjack.gameservice;
 
+import cat.itacademy.blackjack.config.CpuScheduler;
 import cat.itacademy.blackjack.dto.GameResponse;
 import cat.itacademy.blackjack.exception.InsufficientCardsException;
 import cat.itacademy.blackjack.exception.PlayerNotFoundException;
@@ -12,11 +13,16 @@ import cat.itacademy.blackjack.service.engine.DeckManager;
 import cat.itacademy.blackjack.service.engine.GameFactory;
 import cat.itacademy.blackjack.service.logic.GameCreationService;
 import cat.itacademy.blackjack.service.logic.PlayerStatsUpdater;
+import cat.itacademy.blackjack.service.player.PlayerLoader;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
@@ -47,11 +53,14 @@ public class GameCreationServiceTest {
 
         gameCreationService = new GameCreationService(
                 playerRepository,
+                new PlayerLoader(playerRepository, 10, Duration.ofMillis(1), new SimpleMeterRegistry()),
                 gameRepository,
                 deckManager,
                 gameFactory,
                 gameMapper,
-                playerStatsUpdater
+                playerStatsUpdater,
+                new CpuScheduler(2, 64, DataSize.ofBytes(512), new SimpleMeterRegistry()),
+                2
         );
     }
 
@@ -71,7 +80,7 @@ public class GameCreationServiceTest {
 
     @Test
     void createGame_shouldFail_whenPlayerNotFound() {
-        when(playerRepository.findByName("John")).thenReturn(Mono.empty());
+        when(playerRepository.findByNameIn(List.of("John"))).thenReturn(Flux.empty());
 
         StepVerifier.create(gameCreationService.createGame("John"))
                 .expectError(PlayerNotFoundException.class)
@@ -80,8 +89,8 @@ public class GameCreationServiceTest {
 
     @Test
     void createGame_shouldFail_whenDeckIsInsufficient() {
-        Player player = new Player("1", "John", 0, 0, 0, LocalDateTime.now());
-        when(playerRepository.findByName("John")).thenReturn(Mono.just(player));
+        Player player = new Player("1", "John", 0, 0, 0, 0.0, LocalDateTime.now());
+        when(playerRepository.findByNameIn(List.of("John"))).thenReturn(Flux.just(player));
         when(deckManager.generateShuffledDeck()).thenReturn(List.of(new Card(CardSuit.HEARTS, CardValue.FIVE))); // < 4
 
         StepVerifier.create(gameCreationService.createGame("John"))
@@ -92,7 +101,7 @@ public class GameCreationServiceTest {
     @Test
     void createGame_shouldSucceed_whenPlayerExistsAndDeckIsValid() {
         // Arrange
-        Player player = new Player("1", "John", 0, 0, 0, LocalDateTime.now());
+        Player player = new Player("1", "John", 0, 0, 0, 0.0, LocalDateTime.now());
 
         List<Card> deck = new ArrayList<>(List.of(
                 new Card(CardSuit.HEARTS, CardValue.TWO),
@@ -112,7 +121,7 @@ public class GameCreationServiceTest {
 
         GameResponse expectedResponse = mock(GameResponse.class);
 
-        when(playerRepository.findByName("John")).thenReturn(Mono.just(player));
+        when(playerRepository.findByNameIn(List.of("John"))).thenReturn(Flux.just(player));
         when(deckManager.generateShuffledDeck()).thenReturn(new ArrayList<>(deck));
         when(gameFactory.createNewGame(anyString(), anyList(), anyList(), anyList())).thenReturn(mockGame);
         when(gameRepository.save(any(Games.class))).thenReturn(Mono.just(mockGame));
@@ -125,11 +134,51 @@ public class GameCreationServiceTest {
                 .expectNext(expectedResponse)
                 .verifyComplete();
 
-        verify(playerRepository).findByName("John");
+        verify(playerRepository).findByNameIn(List.of("John"));
         verify(deckManager).generateShuffledDeck();
         verify(gameFactory).createNewGame(eq(player.getId()), anyList(), anyList(), anyList());
         verify(gameRepository).save(mockGame);
         verify(gameMapper).toResponse(mockGame, playerCards, dealerCards);
     }
-}
 
+    @Test
+    void createGames_shouldFail_withoutInserting_whenAnyPlayerIsMissing() {
+        Player john = new Player("1", "John", 0, 0, 0, 0.0, LocalDateTime.now());
+        when(playerRepository.findByNameIn(anyCollection())).thenReturn(Flux.just(john));
+
+        StepVerifier.create(gameCreationService.createGames(List.of("John", "Ghost")))
+                .expectErrorMatches(error -> error instanceof PlayerNotFoundException
+                        && error.getMessage().contains("Ghost"))
+                .verify();
+
+        verify(gameRepository, never()).insertAll(anyList());
+    }
+
+    @Test
+    void createGames_shouldResolvePlayersOnce_andInsertInBatches() {
+        Player john = new Player("1", "John", 0, 0, 0, 0.0, LocalDateTime.now());
+        Player ana = new Player("2", "Ana", 0, 0, 0, 0.0, LocalDateTime.now());
+        GameResponse response = mock(GameResponse.class);
+
+        when(playerRepository.findByNameIn(anyCollection())).thenReturn(Flux.just(john, ana));
+        when(deckManager.generateShuffledDeck()).thenAnswer(inv -> new ArrayList<>(List.of(
+                new Card(CardSuit.HEARTS, CardValue.TWO),
+                new Card(CardSuit.SPADES, CardValue.THREE),
+                new Card(CardSuit.CLUBS, CardValue.FOUR),
+                new Card(CardSuit.DIAMONDS, CardValue.FIVE),
+                new Card(CardSuit.SPADES, CardValue.SIX))));
+        when(gameFactory.createNewGame(anyString(), anyList(), anyList(), anyList()))
+                .thenAnswer(inv -> Games.builder().playerId(inv.getArgument(0)).build());
+        when(gameRepository.insertAll(anyList())).thenAnswer(inv -> Flux.fromIterable(inv.<List<Games>>getArgument(0)));
+        when(gameMapper.toResponse(any(Games.class), anyList(), anyList())).thenReturn(response);
+
+        StepVerifier.create(gameCreationService.createGames(List.of("John", "Ana", "John")))
+                .expectNextCount(3)
+                .verifyComplete();
+
+        verify(playerRepository).findByNameIn(anyCollection());
+        verify(playerRepository, never()).findByName(anyString());
+        verify(gameRepository, times(2)).insertAll(anyList());
+        verify(gameRepository, never()).save(any(Games.class));
+    }
+}
@@ -0,0 +1,169 @@
+package cat.itacademy.blackjack.gameservice;
+
+import cat.itacademy.blackjack.dto.GameEvent;
+import cat.itacademy.blackjack.mapper.CardMapper;
+import cat.itacademy.blackjack.model.*;
+import cat.itacademy.blackjack.service.event.GameEventPublisher;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameEventPublisherTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private GameEventPublisher publisher;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        publisher = new GameEventPublisher(Mappers.getMapper(CardMapper.class), 16, meterRegistry);
+    }
+
+    private Games game(Long id, int playerScore, GameStatus status, GameTurn turn) {
+        return game(id, playerScore, status, turn, 1);
+    }
+
+    private Games game(Long id, int playerScore, GameStatus status, GameTurn turn, int lastSeq) {
+        return Games.builder()
+                .id(id)
+                .playerScore(playerScore)
+                .dealerScore(10)
+                .status(status)
+                .turn(turn)
+                .lastSeq(lastSeq)
+                .build();
+    }
+
+    private Mono<GameEvent> snapshot(Long id) {
+        return snapshot(id, 0);
+    }
+
+    private Mono<GameEvent> snapshot(Long id, int seq) {
+        return Mono.just(new GameEvent(id, GameEventType.SNAPSHOT, List.of(), List.of(), 12, 10,
+                GameStatus.IN_PROGRESS, GameTurn.PLAYER_TURN, seq));
+    }
+
+    private void hit(int seq) {
+        publisher.publishHit(game(1L, 14, GameStatus.IN_PROGRESS, GameTurn.PLAYER_TURN, seq),
+                new Card(CardSuit.HEARTS, CardValue.TWO));
+    }
+
+    @Test
+    void subscribe_shouldEmitSnapshotThenDeltas_andCompleteWhenGameEnds() {
+        StepVerifier.create(publisher.subscribe(1L, snapshot(1L)))
+                .expectNextMatches(event -> event.type() == GameEventType.SNAPSHOT)
+                .then(() -> publisher.publishHit(game(1L, 17, GameStatus.IN_PROGRESS, GameTurn.PLAYER_TURN),
+                        new Card(CardSuit.HEARTS, CardValue.FIVE)))
+                .expectNextMatches(event -> event.type() == GameEventType.HIT
+                        && event.playerScore() == 17
+                        && event.playerCards().get(0).value().equals("FIVE"))
+                .then(() -> publisher.publishStand(game(1L, 17, GameStatus.FINISHED_PLAYER_WON, GameTurn.FINISHED, 3),
+                        List.of(new Card(CardSuit.SPADES, CardValue.KING))))
+                .expectNextMatches(event -> event.type() == GameEventType.STAND && event.dealerCards().size() == 1)
+                .verifyComplete();
+    }
+
+    @Test
+    void subscribe_shouldIgnoreEventsOfOtherGames() {
+        StepVerifier.create(publisher.subscribe(1L, snapshot(1L)))
+                .expectNextCount(1)
+                .then(() -> publisher.publishHit(game(2L, 25, GameStatus.FINISHED_DEALER_WON, GameTurn.FINISHED),
+                        new Card(CardSuit.CLUBS, CardValue.TEN)))
+                .expectNoEvent(Duration.ofMillis(100))
+                .thenCancel()
+                .verify();
+    }
+
+    @Test
+    void subscribe_shouldCompleteAfterSnapshot_whenGameAlreadyFinished() {
+        Mono<GameEvent> finished = Mono.just(new GameEvent(1L, GameEventType.SNAPSHOT, List.of(), List.of(), 20, 19,
+                GameStatus.FINISHED_PLAYER_WON, GameTurn.FINISHED, 5));
+
+        StepVerifier.create(publisher.subscribe(1L, finished))
+                .expectNextCount(1)
+                .verifyComplete();
+    }
+
+    @Test
+    void subscribe_shouldSkipDeltasAlreadyInTheSnapshot() {
+        StepVerifier.create(publisher.subscribe(1L, snapshot(1L, 2)))
+                .expectNextMatches(event -> event.type() == GameEventType.SNAPSHOT && event.seq() == 2)
+                .then(() -> hit(2))
+                .then(() -> hit(3))
+                .expectNextMatches(event -> event.type() == GameEventType.HIT && event.seq() == 3)
+                .thenCancel()
+                .verify();
+    }
+
+    @Test
+    void subscribe_shouldResendSnapshot_whenADeltaIsMissing() {
+        AtomicInteger reads = new AtomicInteger();
+        Mono<GameEvent> snapshot = Mono.defer(() -> snapshot(1L, reads.getAndIncrement() == 0 ? 0 : 3));
+
+        StepVerifier.create(publisher.subscribe(1L, snapshot))
+                .expectNextMatches(event -> event.seq() == 0)
+                .then(() -> hit(3))
+                .expectNextMatches(event -> event.type() == GameEventType.SNAPSHOT && event.seq() == 3)
+                .then(() -> hit(4))
+                .expectNextMatches(event -> event.type() == GameEventType.HIT && event.seq() == 4)
+                .thenCancel()
+                .verify();
+    }
+
+    @Test
+    void subscribe_shouldResendSnapshot_whenTheBufferOverflows() {
+        AtomicInteger reads = new AtomicInteger();
+        Mono<GameEvent> snapshot = Mono.defer(() -> snapshot(1L, reads.getAndIncrement() == 0 ? 0 : 100));
+
+        StepVerifier.create(publisher.subscribe(1L, snapshot), 1)
+                .expectNextMatches(event -> event.seq() == 0)
+                .then(() -> IntStream.rangeClosed(1, 100).forEach(this::hit))
+                .thenRequest(Long.MAX_VALUE)
+                .thenConsumeWhile(event -> event.type() == GameEventType.HIT)
+                .expectNextMatches(event -> event.type() == GameEventType.SNAPSHOT && event.seq() == 100)
+                .expectNoEvent(Duration.ofMillis(100))
+                .thenCancel()
+                .verify();
+        assertEquals(2, reads.get());
+    }
+
+    @Test
+    void hasSubscribers_shouldTrackOpenStreams() {
+        Disposable stream = publisher.subscribe(1L, snapshot(1L)).subscribe();
+        assertTrue(publisher.hasSubscribers(1L));
+        assertFalse(publisher.hasSubscribers(2L));
+
+        stream.dispose();
+        assertFalse(publisher.hasSubscribers(1L));
+    }
+
+    @Test
+    void publish_shouldQueueBehindAnEmitInProgress_insteadOfWaiting() {
+        StepVerifier.create(publisher.subscribe(1L, snapshot(1L))
+                        .doOnNext(event -> {
+                            // publishing from inside the delivery of seq 1 contends with that emit
+                            if (event.seq() == 1) {
+                                hit(2);
+                            }
+                        }))
+                .expectNextMatches(event -> event.type() == GameEventType.SNAPSHOT)
+                .then(() -> hit(1))
+                .expectNextMatches(event -> event.seq() == 1)
+                .expectNextMatches(event -> event.seq() == 2)
+                .thenCancel()
+                .verify(Duration.ofSeconds(1));
+
+        assertEquals(0, meterRegistry.get("blackjack.events.dropped").counter().count());
+    }
+}
@@ -6,9 +6,11 @@ import cat.itacademy.blackjack.exception.InsufficientCardsException;
 import cat.itacademy.blackjack.exception.InvalidGameStateException;
 import cat.itacademy.blackjack.mapper.GameMapper;
 import cat.itacademy.blackjack.model.*;
-import cat.itacademy.blackjack.repository.sql.GameRepository;
 import cat.itacademy.blackjack.service.engine.BlackjackEngine;
 import cat.itacademy.blackjack.service.engine.DeckManager;
+import cat.itacademy.blackjack.service.event.GameEventPublisher;
+import cat.itacademy.blackjack.service.eventlog.GameMoveLog;
+import cat.itacademy.blackjack.service.eventlog.GameStateLoader;
 import cat.itacademy.blackjack.service.logic.GameHitProcessor;
 import cat.itacademy.blackjack.service.logic.PlayerStatsUpdater;
 import org.junit.jupiter.api.BeforeEach;
@@ -22,15 +24,18 @@ import reactor.test.StepVerifier;
 import java.util.ArrayList;
 import java.util.List;
 
+import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 class GameHitProcessorTest {
 
-    @Mock private GameRepository gameRepository;
+    @Mock private GameStateLoader gameStateLoader;
+    @Mock private GameMoveLog gameMoveLog;
     @Mock private DeckManager deckManager;
     @Mock private BlackjackEngine blackjackEngine;
     @Mock private GameMapper gameMapper;
     @Mock private PlayerStatsUpdater playerStatsUpdater;
+    @Mock private GameEventPublisher gameEventPublisher;
 
     @InjectMocks
     private GameHitProcessor gameHitProcessor;
@@ -40,6 +45,7 @@ class GameHitProcessorTest {
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
+        when(deckManager.withDeck(anyList(), any())).thenAnswer(inv -> Mono.fromCallable(inv.getArgument(1)));
         game = new Games();
         game.setId(1L);
         game.setStatus(GameStatus.IN_PROGRESS);
@@ -58,7 +64,7 @@ class GameHitProcessorTest {
 
     @Test
     void processHit_shouldFail_whenGameNotFound() {
-        when(gameRepository.findById(1L)).thenReturn(Mono.empty());
+        when(gameStateLoader.load(1L)).thenReturn(Mono.empty());
 
         StepVerifier.create(gameHitProcessor.processHit(1L))
                 .expectError(GameNotFoundException.class)
@@ -68,7 +74,7 @@ class GameHitProcessorTest {
     @Test
     void processHit_shouldFail_whenNotPlayersTurn() {
         game.setTurn(GameTurn.FINISHED);
-        when(gameRepository.findById(1L)).thenReturn(Mono.just(game));
+        when(gameStateLoader.load(1L)).thenReturn(Mono.just(game));
 
         StepVerifier.create(gameHitProcessor.processHit(1L))
                 .expectError(InvalidGameStateException.class)
@@ -81,7 +87,7 @@ class GameHitProcessorTest {
         game.setPlayerCardsJson("player");
         game.setDealerCardsJson("dealer");
 
-        when(gameRepository.findById(1L)).thenReturn(Mono.just(game));
+        when(gameStateLoader.load(1L)).thenReturn(Mono.just(game));
         when(deckManager.deserializeCardsReactive("deck")).thenReturn(Mono.just(new ArrayList<>()));
         when(deckManager.deserializeCardsReactive("player")).thenReturn(Mono.just(List.of(new Card())));
         when(deckManager.deserializeCardsReactive("dealer")).thenReturn(Mono.just(List.of(new Card())));
@@ -104,19 +110,24 @@ class GameHitProcessorTest {
         List<Card> playerCards = new ArrayList<>();
         List<Card> dealerCards = new ArrayList<>();
 
-        when(gameRepository.findById(1L)).thenReturn(Mono.just(game));
+        when(gameStateLoader.load(1L)).thenReturn(Mono.just(game));
         when(deckManager.deserializeCardsReactive("deck")).thenReturn(Mono.just(deck));
         when(deckManager.deserializeCardsReactive("player")).thenReturn(Mono.just(playerCards));
         when(deckManager.deserializeCardsReactive("dealer")).thenReturn(Mono.just(dealerCards));
         when(blackjackEngine.calculateScore(anyList())).thenReturn(16); // No bust
         when(deckManager.serializeDeck(anyList())).thenReturn("updatedDeck");
-        when(gameRepository.save(any())).thenAnswer(inv -> Mono.just(inv.getArgument(0)));
+        when(gameMoveLog.append(any(), anyList())).thenAnswer(inv -> Mono.just(inv.getArgument(0)));
         when(playerStatsUpdater.updateAfterGameIfFinished(any())).thenReturn(Mono.empty()); // <--- AÑADIDO
         when(gameMapper.toResponse(any(), anyList(), anyList())).thenReturn(mock(GameResponse.class));
 
         StepVerifier.create(gameHitProcessor.processHit(1L))
                 .expectNextCount(1)
                 .verifyComplete();
+
+        verify(gameEventPublisher).publishHit(game, newCard);
+        verify(gameMoveLog).append(eq(game), argThat(moves -> moves.size() == 1
+                && moves.get(0).type() == GameMoveType.HIT
+                && moves.get(0).toCard().getValue() == CardValue.FIVE));
     }
 
 
@@ -133,13 +144,13 @@ class GameHitProcessorTest {
         List<Card> playerCards = new ArrayList<>();
         List<Card> dealerCards = new ArrayList<>();
 
-        when(gameRepository.findById(1L)).thenReturn(Mono.just(game));
+        when(gameStateLoader.load(1L)).thenReturn(Mono.just(game));
         when(deckManager.deserializeCardsReactive("deck")).thenReturn(Mono.just(deck));
         when(deckManager.deserializeCardsReactive("player")).thenReturn(Mono.just(playerCards));
         when(deckManager.deserializeCardsReactive("dealer")).thenReturn(Mono.just(dealerCards));
         when(blackjackEngine.calculateScore(anyList())).thenReturn(25); // BUST
         when(deckManager.serializeDeck(anyList())).thenReturn("deckAfterBust");
-        when(gameRepository.save(any())).thenAnswer(inv -> Mono.just(inv.getArgument(0)));
+        when(gameMoveLog.append(any(), anyList())).thenAnswer(inv -> Mono.just(inv.getArgument(0)));
         when(playerStatsUpdater.updateAfterGameIfFinished(any())).thenReturn(Mono.empty()); // <--- AÑADIDO
         when(gameMapper.toResponse(any(), anyList(), anyList())).thenReturn(mock(GameResponse.class));
 
@@ -9,21 +9,27 @@ import cat.itacademy.blackjack.model.*;
 import cat.itacademy.blackjack.repository.mongo.PlayerRepository;
 import cat.itacademy.blackjack.repository.sql.GameRepository;
 import cat.itacademy.blackjack.service.GameServiceImpl;
+import cat.itacademy.blackjack.service.cluster.GameChangeNotifier;
 import cat.itacademy.blackjack.service.engine.BlackjackEngine;
 import cat.itacademy.blackjack.service.engine.DeckManager;
+import cat.itacademy.blackjack.service.eventlog.GameStateLoader;
+import cat.itacademy.blackjack.service.logic.GameCommandLanes;
 import cat.itacademy.blackjack.service.logic.GameCreationService;
 import cat.itacademy.blackjack.service.logic.GameHitProcessor;
 import cat.itacademy.blackjack.service.logic.GameStandProcessor;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import java.time.Duration;
 import java.util.List;
 
 import static org.mockito.ArgumentMatchers.*;
@@ -33,6 +39,7 @@ import static org.mockito.Mockito.*;
 class GameServiceImplTest {
 
     @Mock private GameRepository gameRepository;
+    @Mock private GameStateLoader gameStateLoader;
     @Mock private PlayerRepository playerRepository;
     @Mock private GameMapper gameMapper;
     @Mock private DeckManager deckManager;
@@ -40,6 +47,8 @@ class GameServiceImplTest {
     @Mock private GameCreationService gameCreationService;
     @Mock private GameHitProcessor gameHitProcessor;
     @Mock private GameStandProcessor gameStandProcessor;
+    @Mock private GameChangeNotifier gameChangeNotifier;
+    @Spy private GameCommandLanes gameCommandLanes = new GameCommandLanes(4, Duration.ofSeconds(30), new SimpleMeterRegistry());
 
     @InjectMocks
     private GameServiceImpl gameService;
@@ -50,7 +59,7 @@ class GameServiceImplTest {
 
     @BeforeEach
     void setUp() {
-        player = new Player("playerId", "John", 100, 10, 5, null);
+        player = new Player("playerId", "John", 100, 10, 5, 0.5, null);
 
         game = new Games();
         game.setId(1L);
@@ -105,7 +114,7 @@ class GameServiceImplTest {
 
     @Test
     void getGameById_shouldFail_whenGameNotFound() {
-        when(gameRepository.findById(1L)).thenReturn(Mono.empty());
+        when(gameStateLoader.load(1L)).thenReturn(Mono.empty());
 
         StepVerifier.create(gameService.getGameById(1L))
                 .expectError(GameNotFoundException.class)
@@ -114,7 +123,7 @@ class GameServiceImplTest {
 
     @Test
     void getGameById_shouldSucceed() {
-        when(gameRepository.findById(1L)).thenReturn(Mono.just(game));
+        when(gameStateLoader.load(1L)).thenReturn(Mono.just(game));
         when(deckManager.deserializeCardsReactive(anyString())).thenReturn(Mono.just(List.of()));
         when(gameMapper.toResponse(eq(game), anyList(), anyList())).thenReturn(mockResponse);
 
@@ -126,11 +135,11 @@ class GameServiceImplTest {
     // --- getAllGames ---
     @Test
     void getAllGames_shouldReturnAll() {
-        when(gameRepository.findAll()).thenReturn(Flux.just(game));
+        when(gameStateLoader.loadAll()).thenReturn(Flux.just(game));
         when(deckManager.deserializeCardsReactive(anyString())).thenReturn(Mono.just(List.of()));
         when(gameMapper.toResponse(eq(game), anyList(), anyList())).thenReturn(mockResponse);
 
-        StepVerifier.create(gameService.getAllGames())
+        StepVerifier.create(gameService.getAllGames(false))
                 .expectNext(mockResponse)
                 .verifyComplete();
     }
@@ -156,9 +165,11 @@ class GameServiceImplTest {
     void deleteGame_shouldSucceed() {
         when(gameRepository.findById(1L)).thenReturn(Mono.just(game));
         when(gameRepository.delete(game)).thenReturn(Mono.empty());
+        when(gameChangeNotifier.notifyDeleted(1L)).thenReturn(Mono.empty());
 
         StepVerifier.create(gameService.deleteGame(1L)).verifyComplete();
         verify(gameRepository).delete(game);
+        verify(gameChangeNotifier).notifyDeleted(1L);
     }
 
     // --- GameLogic ---
@@ -0,0 +1,219 @@
+package cat.itacademy.blackjack.gameservice;
+
+import cat.itacademy.blackjack.exception.GameNotFoundException;
+import cat.itacademy.blackjack.mapper.CardMapper;
+import cat.itacademy.blackjack.mapper.GameMapper;
+import cat.itacademy.blackjack.model.*;
+import cat.itacademy.blackjack.config.ClusterProperties;
+import cat.itacademy.blackjack.repository.sql.GameMoveRepository;
+import cat.itacademy.blackjack.repository.sql.GameRepository;
+import cat.itacademy.blackjack.service.cluster.GameChangeNotifier;
+import cat.itacademy.blackjack.service.cluster.GameChangedEvent;
+import cat.itacademy.blackjack.service.engine.DeckManager;
+import cat.itacademy.blackjack.service.event.GameEventPublisher;
+import cat.itacademy.blackjack.service.eventlog.GameMoveLog;
+import cat.itacademy.blackjack.service.eventlog.GameStateLoader;
+import cat.itacademy.blackjack.service.logic.GameCommandLanes;
+import cat.itacademy.blackjack.service.logic.GameHitProcessor;
+import cat.itacademy.blackjack.service.logic.GameStandProcessor;
+import cat.itacademy.blackjack.service.session.GameSession;
+import cat.itacademy.blackjack.service.session.GameSessionService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class GameSessionServiceTest {
+
+    private GameStateLoader gameStateLoader;
+    private DeckManager deckManager;
+    private GameHitProcessor gameHitProcessor;
+    private GameStandProcessor gameStandProcessor;
+    private GameSessionService gameSessionService;
+
+    private Games game;
+
+    @BeforeEach
+    void setUp() {
+        gameStateLoader = mock(GameStateLoader.class);
+        deckManager = mock(DeckManager.class);
+        gameHitProcessor = mock(GameHitProcessor.class);
+        gameStandProcessor = mock(GameStandProcessor.class);
+
+        gameSessionService = new GameSessionService(
+                gameStateLoader,
+                deckManager,
+                mock(GameMapper.class),
+                gameHitProcessor,
+                gameStandProcessor,
+                new GameCommandLanes(4, Duration.ofSeconds(30), new SimpleMeterRegistry()),
+                new GameEventPublisher(Mappers.getMapper(CardMapper.class), 16, new SimpleMeterRegistry())
+        );
+
+        game = Games.builder()
+                .id(1L)
+                .version(1L)
+                .status(GameStatus.IN_PROGRESS)
+                .turn(GameTurn.PLAYER_TURN)
+                .playerScore(12)
+                .dealerScore(10)
+                .build();
+    }
+
+    private GameSession session() {
+        return new GameSession(game,
+                new ArrayList<>(List.of(new Card(CardSuit.HEARTS, CardValue.FIVE))),
+                new ArrayList<>(List.of(new Card(CardSuit.CLUBS, CardValue.TWO), new Card(CardSuit.CLUBS, CardValue.TEN))),
+                new ArrayList<>(List.of(new Card(CardSuit.SPADES, CardValue.FOUR), new Card(CardSuit.SPADES, CardValue.SIX))));
+    }
+
+    @Test
+    void open_shouldFail_whenGameNotFound() {
+        when(gameStateLoader.load(1L)).thenReturn(Mono.empty());
+
+        StepVerifier.create(gameSessionService.open(1L))
+                .expectError(GameNotFoundException.class)
+                .verify();
+    }
+
+    @Test
+    void hit_shouldReturnDeltaWithDrawnCard_withoutReadingTheGameAgain() {
+        GameSession session = session();
+        when(gameHitProcessor.applyHit(eq(game), anyList(), anyList())).thenAnswer(inv -> {
+            List<Card> deck = inv.getArgument(1);
+            List<Card> playerCards = inv.getArgument(2);
+            playerCards.add(deck.remove(0));
+            game.setPlayerScore(17);
+            return Mono.just(game);
+        });
+
+        StepVerifier.create(gameSessionService.hit(session))
+                .expectNextMatches(event -> event.type() == GameEventType.HIT
+                        && event.playerScore() == 17
+                        && event.playerCards().size() == 1
+                        && event.playerCards().get(0).value().equals("FIVE"))
+                .verifyComplete();
+
+        verify(gameStateLoader, never()).load(anyLong());
+    }
+
+    @Test
+    void stand_shouldReturnOnlyTheDealerCardsDrawn() {
+        GameSession session = session();
+        when(gameStandProcessor.applyStand(eq(game), anyList(), anyList(), anyList())).thenAnswer(inv -> {
+            List<Card> dealerCards = new ArrayList<>(session.getDealerCards());
+            dealerCards.add(new Card(CardSuit.HEARTS, CardValue.KING));
+            game.setDealerCards(dealerCards);
+            game.setDealerScore(20);
+            game.setStatus(GameStatus.FINISHED_DEALER_WON);
+            game.setTurn(GameTurn.FINISHED);
+            return Mono.just(game);
+        });
+
+        StepVerifier.create(gameSessionService.stand(session))
+                .expectNextMatches(event -> event.type() == GameEventType.STAND
+                        && event.dealerCards().size() == 1
+                        && event.dealerCards().get(0).value().equals("KING")
+                        && event.isFinal())
+                .verifyComplete();
+    }
+
+    private Games remote() {
+        Games remote = Games.builder()
+                .id(1L)
+                .version(1L)
+                .lastSeq(2)
+                .status(GameStatus.IN_PROGRESS)
+                .turn(GameTurn.PLAYER_TURN)
+                .deckJson("deck")
+                .playerCardsJson("player")
+                .dealerCardsJson("dealer")
+                .build();
+        when(gameStateLoader.load(1L)).thenReturn(Mono.just(remote));
+        when(deckManager.deserializeCardsReactive("deck")).thenReturn(Mono.just(List.of(new Card(CardSuit.DIAMONDS, CardValue.ACE))));
+        when(deckManager.deserializeCardsReactive("player")).thenReturn(Mono.just(List.of(new Card(CardSuit.CLUBS, CardValue.TWO))));
+        when(deckManager.deserializeCardsReactive("dealer")).thenReturn(Mono.just(List.of(new Card(CardSuit.SPADES, CardValue.FOUR))));
+        when(gameHitProcessor.applyHit(any(Games.class), anyList(), anyList())).thenAnswer(inv -> {
+            List<Card> deck = inv.getArgument(1);
+            List<Card> playerCards = inv.getArgument(2);
+            playerCards.add(deck.remove(0));
+            return Mono.just(inv.<Games>getArgument(0));
+        });
+        return remote;
+    }
+
+    @Test
+    void hit_shouldReloadSession_whenAnotherNodeLoggedANewerMove() {
+        remote();
+        gameSessionService.open(1L).block();
+        GameSession session = session();
+
+        gameSessionService.onGameChanged(GameChangedEvent.changed(1L, 2, GameStatus.IN_PROGRESS, "other-node"));
+
+        StepVerifier.create(gameSessionService.hit(session))
+                .expectNextMatches(event -> event.playerCards().get(0).value().equals("ACE"))
+                .verifyComplete();
+
+        verify(gameStateLoader, times(2)).load(1L);
+    }
+
+    @Test
+    void onGameChanged_shouldBeIgnored_onceTheSessionIsClosed() {
+        remote();
+        gameSessionService.close(gameSessionService.open(1L).block());
+        GameSession session = session();
+
+        gameSessionService.onGameChanged(GameChangedEvent.changed(1L, 2, GameStatus.IN_PROGRESS, "other-node"));
+
+        StepVerifier.create(gameSessionService.hit(session))
+                .expectNextMatches(event -> event.playerCards().get(0).value().equals("FIVE"))
+                .verifyComplete();
+
+        verify(gameStateLoader, times(1)).load(1L);
+    }
+
+    @Test
+    void hit_shouldFail_whenAnotherNodeDeletedTheGame() {
+        remote();
+        gameSessionService.open(1L).block();
+        when(gameStateLoader.load(1L)).thenReturn(Mono.empty());
+
+        gameSessionService.onGameChanged(GameChangedEvent.deleted(1L, "other-node"));
+
+        StepVerifier.create(gameSessionService.hit(session()))
+                .expectError(GameNotFoundException.class)
+                .verify();
+    }
+
+    @Test
+    void hit_shouldReloadSession_whenAMoveWasLoggedOnThisNodeOutsideTheSession() {
+        Games restGame = remote();
+        gameSessionService.open(1L).block();
+        GameSession session = session();
+        GameMoveRepository gameMoveRepository = mock(GameMoveRepository.class);
+        when(gameMoveRepository.appendAll(anyList())).thenReturn(Mono.empty());
+        GameChangeNotifier gameChangeNotifier = new GameChangeNotifier(mock(DatabaseClient.class), null,
+                new ClusterProperties(false, null, "this-node"),
+                event -> gameSessionService.onGameChanged((GameChangedEvent) event));
+        GameMoveLog gameMoveLog = new GameMoveLog(gameMoveRepository, mock(GameRepository.class), gameChangeNotifier, 8);
+
+        // a REST hit logs seq 3 on the same game, behind the session's back
+        gameMoveLog.append(restGame, List.of(GameMove.hit(new Card(CardSuit.DIAMONDS, CardValue.ACE)))).block();
+
+        StepVerifier.create(gameSessionService.hit(session))
+                .expectNextMatches(event -> event.playerCards().get(0).value().equals("ACE"))
+                .verifyComplete();
+
+        verify(gameStateLoader, times(2)).load(1L);
+    }
+}
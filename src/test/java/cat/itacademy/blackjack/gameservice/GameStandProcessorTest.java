@@ -5,9 +5,11 @@ import cat.itacademy.blackjack.exception.GameNotFoundException;
 import cat.itacademy.blackjack.exception.InvalidGameStateException;
 import cat.itacademy.blackjack.mapper.GameMapper;
 import cat.itacademy.blackjack.model.*;
-import cat.itacademy.blackjack.repository.sql.GameRepository;
 import cat.itacademy.blackjack.service.engine.BlackjackEngine;
 import cat.itacademy.blackjack.service.engine.DeckManager;
+import cat.itacademy.blackjack.service.event.GameEventPublisher;
+import cat.itacademy.blackjack.service.eventlog.GameMoveLog;
+import cat.itacademy.blackjack.service.eventlog.GameStateLoader;
 import cat.itacademy.blackjack.service.logic.GameStandProcessor;
 import cat.itacademy.blackjack.service.logic.PlayerStatsUpdater;
 import org.junit.jupiter.api.BeforeEach;
@@ -26,7 +28,10 @@ import static org.mockito.Mockito.*;
 class GameStandProcessorTest {
 
     @Mock
-    private GameRepository gameRepository;
+    private GameStateLoader gameStateLoader;
+
+    @Mock
+    private GameMoveLog gameMoveLog;
 
     @Mock
     private GameMapper gameMapper;
@@ -43,11 +48,15 @@ class GameStandProcessorTest {
     @Mock
     private PlayerStatsUpdater playerStatsUpdater;
 
+    @Mock
+    private GameEventPublisher gameEventPublisher;
+
     private Games game;
 
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
+        when(deckManager.withDeck(anyList(), any())).thenAnswer(inv -> Mono.fromCallable(inv.getArgument(1)));
         game = new Games();
         game.setId(1L);
         game.setTurn(GameTurn.PLAYER_TURN);
@@ -83,7 +92,7 @@ class GameStandProcessorTest {
 
     @Test
     void processStand_shouldFail_whenGameNotFound() {
-        when(gameRepository.findById(1L)).thenReturn(Mono.empty());
+        when(gameStateLoader.load(1L)).thenReturn(Mono.empty());
 
         StepVerifier.create(gameStandProcessor.processStand(1L))
                 .expectError(GameNotFoundException.class)
@@ -93,7 +102,7 @@ class GameStandProcessorTest {
     @Test
     void processStand_shouldFail_whenGameAlreadyFinished() {
         game.setStatus(GameStatus.FINISHED_PLAYER_WON);
-        when(gameRepository.findById(1L)).thenReturn(Mono.just(game));
+        when(gameStateLoader.load(1L)).thenReturn(Mono.just(game));
 
         StepVerifier.create(gameStandProcessor.processStand(1L))
                 .expectError(InvalidGameStateException.class)
@@ -117,7 +126,7 @@ class GameStandProcessorTest {
                 )
         );
 
-        when(gameRepository.findById(1L)).thenReturn(Mono.just(game));
+        when(gameStateLoader.load(1L)).thenReturn(Mono.just(game));
         when(deckManager.deserializeCardsReactive(game.getDealerCardsJson())).thenReturn(Mono.just(dealerCards));
         when(deckManager.deserializeCardsReactive(game.getPlayerCardsJson())).thenReturn(Mono.just(playerCards));
         when(deckManager.deserializeCardsReactive(game.getDeckJson())).thenReturn(Mono.just(deck));
@@ -127,13 +136,15 @@ class GameStandProcessorTest {
         when(blackjackEngine.determineWinner(15, 18)).thenReturn(GameStatus.FINISHED_DEALER_WON);
 
         when(deckManager.serializeCards(anyList())).thenReturn("serializedDeck");
-        when(gameRepository.save(any())).thenAnswer(inv -> Mono.just(inv.getArgument(0)));
+        when(gameMoveLog.append(any(), anyList())).thenAnswer(inv -> Mono.just(inv.getArgument(0)));
         when(gameMapper.toResponse(any(), anyList(), anyList())).thenReturn(mock(GameResponse.class));
         when(playerStatsUpdater.updateAfterGameIfFinished(any())).thenReturn(Mono.empty());
 
         StepVerifier.create(gameStandProcessor.processStand(1L))
                 .expectNextCount(1)
                 .verifyComplete();
+
+        verify(gameMoveLog).append(eq(game), argThat(moves -> moves.size() == 1 && moves.get(0).type() == GameMoveType.STAND));
     }
 
 }
@@ -0,0 +1,117 @@
+package cat.itacademy.blackjack.gameservice;
+
+import cat.itacademy.blackjack.config.CpuScheduler;
+import cat.itacademy.blackjack.mapper.GameMapper;
+import cat.itacademy.blackjack.model.*;
+import cat.itacademy.blackjack.repository.sql.GameMoveRepository;
+import cat.itacademy.blackjack.repository.sql.GameRepository;
+import cat.itacademy.blackjack.service.engine.BlackjackEngine;
+import cat.itacademy.blackjack.service.engine.DeckManager;
+import cat.itacademy.blackjack.service.eventlog.GameStateLoader;
+import cat.itacademy.blackjack.service.logic.GameHitProcessor;
+import cat.itacademy.blackjack.service.logic.GameStandProcessor;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class GameStateLoaderTest {
+
+    private GameRepository gameRepository;
+    private GameMoveRepository gameMoveRepository;
+    private DeckManager deckManager;
+    private BlackjackEngine blackjackEngine;
+    private GameStateLoader gameStateLoader;
+
+    @BeforeEach
+    void setUp() {
+        gameRepository = mock(GameRepository.class);
+        gameMoveRepository = mock(GameMoveRepository.class);
+        deckManager = new DeckManager(new ObjectMapper(), new CpuScheduler(2, 64, DataSize.ofBytes(512), new SimpleMeterRegistry()));
+        blackjackEngine = new BlackjackEngine();
+        gameStateLoader = new GameStateLoader(gameRepository, gameMoveRepository, deckManager, blackjackEngine);
+    }
+
+    private Games snapshot() {
+        return Games.builder()
+                .id(1L)
+                .version(2L)
+                .eventSeq(3)
+                .status(GameStatus.IN_PROGRESS)
+                .turn(GameTurn.PLAYER_TURN)
+                .playerScore(5)
+                .dealerScore(12)
+                .deckJson(deckManager.serializeCards(List.of(
+                        new Card(CardSuit.HEARTS, CardValue.TWO),
+                        new Card(CardSuit.HEARTS, CardValue.THREE),
+                        new Card(CardSuit.HEARTS, CardValue.TEN))))
+                .playerCardsJson(deckManager.serializeCards(List.of(
+                        new Card(CardSuit.CLUBS, CardValue.TWO),
+                        new Card(CardSuit.CLUBS, CardValue.THREE))))
+                .dealerCardsJson(deckManager.serializeCards(List.of(
+                        new Card(CardSuit.SPADES, CardValue.SEVEN),
+                        new Card(CardSuit.SPADES, CardValue.FIVE))))
+                .build();
+    }
+
+    @Test
+    void replay_shouldRebuildTheStateReachedByPlayingTheMovesLive() {
+        Games live = snapshot();
+        List<Card> deck = new ArrayList<>(deckManager.deserializeCards(live.getDeckJson()));
+        List<Card> playerCards = new ArrayList<>(deckManager.deserializeCards(live.getPlayerCardsJson()));
+        List<Card> dealerCards = new ArrayList<>(deckManager.deserializeCards(live.getDealerCardsJson()));
+        GameHitProcessor hitProcessor = new GameHitProcessor(null, null, deckManager, blackjackEngine, mock(GameMapper.class), null, null);
+        GameStandProcessor standProcessor = new GameStandProcessor(null, null, deckManager, blackjackEngine, mock(GameMapper.class), null, null);
+
+        List<GameMove> log = new ArrayList<>();
+        log.add(GameMove.hit(hitProcessor.drawForPlayer(live, deck, playerCards)));
+        log.addAll(GameStandProcessor.standMoves(standProcessor.playDealerTurn(live, dealerCards, playerCards, deck)));
+        List<GameMove> numbered = new ArrayList<>();
+        for (int i = 0; i < log.size(); i++) {
+            numbered.add(log.get(i).at(1L, 4 + i));
+        }
+
+        Games replayed = gameStateLoader.replay(snapshot(), numbered);
+
+        assertEquals(live.getStatus(), replayed.getStatus());
+        assertEquals(GameTurn.FINISHED, replayed.getTurn());
+        assertEquals(live.getPlayerScore(), replayed.getPlayerScore());
+        assertEquals(live.getDealerScore(), replayed.getDealerScore());
+        assertEquals(live.getDeckJson(), replayed.getDeckJson());
+        assertEquals(live.getDealerCardsJson(), replayed.getDealerCardsJson());
+        assertEquals(3 + numbered.size(), replayed.getLastSeq());
+        assertEquals(3, replayed.getEventSeq());
+    }
+
+    @Test
+    void replay_shouldFail_whenTheLoggedCardIsNotOnTopOfTheDeck() {
+        List<GameMove> moves = List.of(GameMove.hit(new Card(CardSuit.HEARTS, CardValue.TEN)).at(1L, 4));
+
+        assertThrows(IllegalStateException.class, () -> gameStateLoader.replay(snapshot(), moves));
+    }
+
+    @Test
+    void load_shouldReturnTheSnapshot_whenNoMovesFollowIt() {
+        Games snapshot = snapshot();
+        when(gameRepository.findById(1L)).thenReturn(Mono.just(snapshot));
+        when(gameMoveRepository.findAfter(1L, 3)).thenReturn(Flux.empty());
+
+        StepVerifier.create(gameStateLoader.load(1L))
+                .assertNext(game -> {
+                    assertSame(snapshot, game);
+                    assertEquals(3, game.getLastSeq());
+                    assertEquals(GameStatus.IN_PROGRESS, game.getStatus());
+                })
+                .verifyComplete();
+    }
+}
@@ -0,0 +1,222 @@
+package cat.itacademy.blackjack.gameservice;
+
+import cat.itacademy.blackjack.config.CpuScheduler;
+import cat.itacademy.blackjack.config.jdbc.JdbcScheduler;
+import cat.itacademy.blackjack.dto.GameEvent;
+import cat.itacademy.blackjack.dto.GameResponse;
+import cat.itacademy.blackjack.dto.MoveRequest;
+import cat.itacademy.blackjack.exception.GameNotFoundException;
+import cat.itacademy.blackjack.exception.PlayerNotFoundException;
+import cat.itacademy.blackjack.mapper.GameMapper;
+import cat.itacademy.blackjack.model.*;
+import cat.itacademy.blackjack.repository.blocking.BlockingPlayerRepository;
+import cat.itacademy.blackjack.service.cluster.GameChangeNotifier;
+import cat.itacademy.blackjack.service.engine.DeckManager;
+import cat.itacademy.blackjack.service.event.GameEventPublisher;
+import cat.itacademy.blackjack.service.jdbc.JdbcGameService;
+import cat.itacademy.blackjack.service.jdbc.JdbcGameStore;
+import cat.itacademy.blackjack.service.logic.AutoplayProcessor;
+import cat.itacademy.blackjack.service.logic.AutoplayProcessor.PlayedGame;
+import cat.itacademy.blackjack.service.logic.BulkMoveProcessor;
+import cat.itacademy.blackjack.service.logic.GameCommandLanes;
+import cat.itacademy.blackjack.service.logic.GameCreationService;
+import cat.itacademy.blackjack.service.logic.GameHitProcessor;
+import cat.itacademy.blackjack.service.logic.GameStandProcessor;
+import cat.itacademy.blackjack.service.odds.GameOddsService;
+import cat.itacademy.blackjack.service.strategy.BasicStrategyAdvisor;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.util.unit.DataSize;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class JdbcGameServiceTest {
+
+    @Mock private JdbcGameStore gameStore;
+    @Mock private BlockingPlayerRepository playerRepository;
+    @Mock private GameMapper gameMapper;
+    @Mock private DeckManager deckManager;
+    @Mock private GameCreationService gameCreationService;
+    @Mock private GameHitProcessor gameHitProcessor;
+    @Mock private GameStandProcessor gameStandProcessor;
+    @Mock private AutoplayProcessor autoplayProcessor;
+    @Mock private GameEventPublisher gameEventPublisher;
+    @Mock private GameChangeNotifier gameChangeNotifier;
+    @Mock private GameOddsService gameOddsService;
+    @Mock private BasicStrategyAdvisor basicStrategyAdvisor;
+
+    private final JdbcScheduler jdbcScheduler = new JdbcScheduler();
+    private final CpuScheduler cpuScheduler = new CpuScheduler(2, 64, DataSize.ofBytes(512), new SimpleMeterRegistry());
+
+    private JdbcGameService gameService;
+    private Games game;
+    private GameResponse response;
+    private final Card card = new Card(CardSuit.HEARTS, CardValue.FIVE);
+
+    @BeforeEach
+    void setUp() {
+        gameService = new JdbcGameService(jdbcScheduler, gameStore, playerRepository, gameMapper, deckManager,
+                cpuScheduler, gameCreationService, gameHitProcessor, gameStandProcessor, autoplayProcessor,
+                new GameCommandLanes(4, Duration.ofSeconds(30), new SimpleMeterRegistry()), gameEventPublisher,
+                gameChangeNotifier, gameOddsService, basicStrategyAdvisor, 2, 4);
+
+        game = new Games();
+        game.setId(1L);
+        game.setPlayerId("playerId");
+        game.setStatus(GameStatus.IN_PROGRESS);
+        game.setTurn(GameTurn.PLAYER_TURN);
+        game.setDeckJson("[]");
+        game.setPlayerCardsJson("[]");
+        game.setDealerCardsJson("[]");
+
+        response = mock(GameResponse.class);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcScheduler.dispose();
+        cpuScheduler.dispose();
+    }
+
+    @Test
+    void getGameById_shouldFail_whenGameNotFound() {
+        when(gameStore.load(1L)).thenReturn(Optional.empty());
+
+        StepVerifier.create(gameService.getGameById(1L))
+                .expectError(GameNotFoundException.class)
+                .verify();
+    }
+
+    @Test
+    void getSnapshot_shouldCarryTheReplayedSeq() {
+        game.setLastSeq(3);
+        when(gameStore.load(1L)).thenReturn(Optional.of(game));
+        when(deckManager.deserializeCards("[]")).thenReturn(List.of());
+        when(gameMapper.toResponse(eq(game), anyList(), anyList())).thenReturn(response);
+
+        StepVerifier.create(gameService.getSnapshot(1L))
+                .assertNext(event -> assertEquals(3, event.seq()))
+                .verifyComplete();
+    }
+
+    @Test
+    void createGame_shouldFail_whenPlayerNotFound() {
+        when(playerRepository.findByName("John")).thenReturn(Optional.empty());
+
+        StepVerifier.create(gameService.createGame("John"))
+                .expectError(PlayerNotFoundException.class)
+                .verify();
+
+        verifyNoInteractions(gameStore, gameChangeNotifier);
+    }
+
+    @Test
+    void createGame_shouldInsertAndNotify() {
+        Player player = new Player("playerId", "John", 100, 10, 5, 0.5, null);
+        when(playerRepository.findByName("John")).thenReturn(Optional.of(player));
+        when(gameCreationService.dealGame(player)).thenReturn(game);
+        when(gameStore.insert(game)).thenReturn(game);
+        when(gameChangeNotifier.notifyChanged(game)).thenReturn(Mono.empty());
+        when(gameMapper.toResponse(eq(game), any(), any())).thenReturn(response);
+
+        StepVerifier.create(gameService.createGame("John"))
+                .expectNext(response)
+                .verifyComplete();
+
+        verify(gameStore).recordResults("playerId", List.of(game));
+    }
+
+    @Test
+    void hit_shouldAppendPublishAndNotify() {
+        when(gameStore.load(1L)).thenReturn(Optional.of(game));
+        when(deckManager.deserializeCards("[]")).thenReturn(List.of());
+        when(gameHitProcessor.drawForPlayer(eq(game), anyList(), anyList())).thenReturn(card);
+        when(gameChangeNotifier.notifyChanged(game)).thenReturn(Mono.empty());
+        when(gameMapper.toResponse(eq(game), anyList(), anyList())).thenReturn(response);
+
+        StepVerifier.create(gameService.hit(1L))
+                .expectNext(response)
+                .verifyComplete();
+
+        verify(gameStore).append(game, List.of(GameMove.hit(card)));
+        verify(gameEventPublisher).publishHit(game, card);
+    }
+
+    @Test
+    void hit_shouldFailWithoutPublishing_whenAnotherMoveWasLoggedFirst() {
+        when(gameStore.load(1L)).thenReturn(Optional.of(game));
+        when(deckManager.deserializeCards("[]")).thenReturn(List.of());
+        when(gameHitProcessor.drawForPlayer(eq(game), anyList(), anyList())).thenReturn(card);
+        when(gameStore.append(eq(game), anyList())).thenThrow(new OptimisticLockingFailureException("Game 1 was modified concurrently"));
+
+        StepVerifier.create(gameService.hit(1L))
+                .expectError(OptimisticLockingFailureException.class)
+                .verify();
+
+        verifyNoInteractions(gameEventPublisher, gameChangeNotifier);
+    }
+
+    @Test
+    void deleteGame_shouldFail_whenGameNotFound() {
+        when(gameStore.delete(1L)).thenReturn(false);
+
+        StepVerifier.create(gameService.deleteGame(1L))
+                .expectError(GameNotFoundException.class)
+                .verify();
+
+        verifyNoInteractions(gameChangeNotifier);
+    }
+
+    @Test
+    void playMoves_shouldRejectAppliedMoves_whenTheAppendConflicts() {
+        when(gameStore.load(1L)).thenReturn(Optional.of(game));
+        when(deckManager.deserializeCards("[]")).thenReturn(List.of());
+        when(gameHitProcessor.drawForPlayer(eq(game), anyList(), anyList())).thenReturn(card);
+        when(gameEventPublisher.hitEvent(eq(game), eq(card), anyInt())).thenReturn(mock(GameEvent.class));
+        when(gameStore.append(eq(game), anyList())).thenThrow(new OptimisticLockingFailureException("conflict"));
+
+        StepVerifier.create(gameService.playMoves(List.of(new MoveRequest(1L, GameAction.HIT), new MoveRequest(1L, GameAction.HIT))))
+                .assertNext(result -> assertEquals(BulkMoveProcessor.CONFLICT, result.error()))
+                .assertNext(result -> assertEquals(BulkMoveProcessor.CONFLICT, result.error()))
+                .verifyComplete();
+
+        verify(gameEventPublisher, never()).publish(any());
+        verifyNoInteractions(gameChangeNotifier);
+    }
+
+    @Test
+    void autoplay_shouldKeepSavedGames_whenStatsUpdateFails() {
+        Player player = new Player("playerId", "bot", 0, 0, 0, 0.0, null);
+        game.setStatus(GameStatus.FINISHED_PLAYER_WON);
+        game.setTurn(GameTurn.FINISHED);
+        List<PlayedGame> played = List.of(new PlayedGame(game, List.of(GameMove.stand())));
+        when(playerRepository.findByName("bot")).thenReturn(Optional.of(player));
+        when(autoplayProcessor.playBatch("playerId", AutoplayStrategy.BASIC, 1)).thenReturn(played);
+        when(gameStore.insertPlayed(played)).thenReturn(List.of(game));
+        doThrow(new IllegalStateException("mongo down")).when(gameStore).recordResults(eq("playerId"), anyList());
+
+        StepVerifier.create(gameService.autoplay("bot", AutoplayStrategy.BASIC, 1))
+                .assertNext(summary -> {
+                    assertEquals(1, summary.wins());
+                    assertTrue(summary.completed());
+                })
+                .verifyComplete();
+
+        verify(gameStore, times(4)).recordResults(eq("playerId"), anyList());
+    }
+}
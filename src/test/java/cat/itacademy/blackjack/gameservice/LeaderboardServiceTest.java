@@ -0,0 +1,106 @@
+package cat.itacademy.blackjack.gameservice;
+
+import cat.itacademy.blackjack.dto.LeaderboardEntry;
+import cat.itacademy.blackjack.model.LeaderboardWindow;
+import cat.itacademy.blackjack.model.Player;
+import cat.itacademy.blackjack.model.PlayerStanding;
+import cat.itacademy.blackjack.repository.mongo.PlayerRepository;
+import cat.itacademy.blackjack.repository.sql.LeaderboardRepository;
+import cat.itacademy.blackjack.service.leaderboard.LeaderboardService;
+import cat.itacademy.blackjack.service.leaderboard.LeaderboardSnapshot;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class LeaderboardServiceTest {
+
+    private LeaderboardRepository leaderboardRepository;
+    private PlayerRepository playerRepository;
+    private LeaderboardService leaderboardService;
+
+    @BeforeEach
+    void setUp() {
+        leaderboardRepository = mock(LeaderboardRepository.class);
+        playerRepository = mock(PlayerRepository.class);
+        leaderboardService = new LeaderboardService(leaderboardRepository, playerRepository, 10, Duration.ofMinutes(1));
+
+        when(playerRepository.findAllById(anyIterable())).thenReturn(Flux.just(
+                new Player("p1", "Ana", 0, 0, 0, 0.0, null),
+                new Player("p2", "John", 0, 0, 0, 0.0, null)));
+    }
+
+    @Test
+    void snapshot_shouldRankAndNamePlayers_andServeLaterRequestsFromMemory() {
+        when(leaderboardRepository.findTop(any(), eq(10))).thenReturn(Flux.just(
+                new PlayerStanding("p2", 4, 3, 70),
+                new PlayerStanding("p1", 2, 1, 30)));
+
+        StepVerifier.create(leaderboardService.snapshot(LeaderboardWindow.DAILY))
+                .assertNext(snapshot -> {
+                    List<LeaderboardEntry> entries = snapshot.board().entries();
+                    assertEquals(LeaderboardWindow.DAILY, snapshot.board().window());
+                    assertEquals(LocalDateTime.now().toLocalDate().atStartOfDay(), snapshot.board().since());
+                    assertEquals(new LeaderboardEntry(1, "p2", "John", 4, 3, 0.75, 70), entries.get(0));
+                    assertEquals(new LeaderboardEntry(2, "p1", "Ana", 2, 1, 0.5, 30), entries.get(1));
+                })
+                .verifyComplete();
+
+        StepVerifier.create(leaderboardService.snapshot(LeaderboardWindow.DAILY))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        verify(leaderboardRepository, times(1)).findTop(any(), anyInt());
+        verify(playerRepository, times(1)).findAllById(anyIterable());
+    }
+
+    @Test
+    void refresh_shouldKeepTheVersion_whileTheRankingIsUnchanged() {
+        when(leaderboardRepository.findTop(isNull(), eq(10)))
+                .thenReturn(Flux.just(new PlayerStanding("p1", 2, 1, 30)))
+                .thenReturn(Flux.just(new PlayerStanding("p1", 2, 1, 30)))
+                .thenReturn(Flux.just(new PlayerStanding("p1", 3, 2, 50)));
+
+        LeaderboardSnapshot first = leaderboardService.refresh(LeaderboardWindow.ALL_TIME).block();
+        LeaderboardSnapshot same = leaderboardService.refresh(LeaderboardWindow.ALL_TIME).block();
+        LeaderboardSnapshot changed = leaderboardService.refresh(LeaderboardWindow.ALL_TIME).block();
+
+        assertEquals(first.etag(10), same.etag(10));
+        assertNotEquals(first.etag(10), changed.etag(10));
+        // a limit above the number of entries returns the same body, so it shares the ETag
+        assertEquals(first.etag(10), first.etag(1));
+        assertSame(changed, leaderboardService.snapshot(LeaderboardWindow.ALL_TIME).block());
+    }
+
+    @Test
+    void refreshAll_shouldKeepOtherWindows_whenOneFails() {
+        when(leaderboardRepository.findTop(any(), eq(10))).thenAnswer(inv -> inv.getArgument(0) == null
+                ? Flux.error(new IllegalStateException("db down"))
+                : Flux.just(new PlayerStanding("p1", 1, 1, 21)));
+
+        StepVerifier.create(leaderboardService.refreshAll()).verifyComplete();
+
+        verify(leaderboardRepository, times(3)).findTop(any(), eq(10));
+        StepVerifier.create(leaderboardService.snapshot(LeaderboardWindow.WEEKLY).map(s -> s.board().entries().size()))
+                .expectNext(1)
+                .verifyComplete();
+    }
+
+    @Test
+    void window_shouldStartAtMidnight_andOnMonday() {
+        LocalDateTime thursday = LocalDateTime.of(2025, 7, 17, 15, 30);
+
+        assertEquals(LocalDateTime.of(2025, 7, 17, 0, 0), LeaderboardWindow.DAILY.since(thursday));
+        assertEquals(LocalDateTime.of(2025, 7, 14, 0, 0), LeaderboardWindow.WEEKLY.since(thursday));
+        assertNull(LeaderboardWindow.ALL_TIME.since(thursday));
+        assertEquals(LeaderboardWindow.ALL_TIME, LeaderboardWindow.fromPath("all-time"));
+    }
+}
@@ -0,0 +1,103 @@
+package cat.itacademy.blackjack.gameservice;
+
+import cat.itacademy.blackjack.dto.GameResponse;
+import cat.itacademy.blackjack.model.GameStatus;
+import cat.itacademy.blackjack.model.GameTurn;
+import cat.itacademy.blackjack.model.Player;
+import cat.itacademy.blackjack.repository.mongo.PlayerRepository;
+import cat.itacademy.blackjack.service.player.PlayerExpander;
+import cat.itacademy.blackjack.service.player.PlayerLoader;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class PlayerExpanderTest {
+
+    private PlayerRepository playerRepository;
+    private PlayerLoader playerLoader;
+    private PlayerExpander playerExpander;
+
+    @BeforeEach
+    void setUp() {
+        playerRepository = mock(PlayerRepository.class);
+        when(playerRepository.findAllById(any(Iterable.class))).thenAnswer(inv -> {
+            Iterable<String> ids = inv.getArgument(0);
+            return Flux.fromIterable(ids)
+                    .filter(id -> !id.equals("ghost"))
+                    .map(id -> new Player(id, "name-" + id, 10, 4, 2, 0.5, null));
+        });
+        playerLoader = new PlayerLoader(playerRepository, 3, Duration.ofMillis(50), new SimpleMeterRegistry());
+        playerExpander = new PlayerExpander(playerLoader);
+    }
+
+    @AfterEach
+    void tearDown() {
+        playerLoader.destroy();
+    }
+
+    @Test
+    void expand_shouldResolveDistinctPlayersOncePerBatch() {
+        Flux<GameResponse> games = Flux.just(game(1L, "a"), game(2L, "b"), game(3L, "a"), game(4L, "ghost"));
+
+        StepVerifier.create(playerExpander.expand(games).collectList())
+                .assertNext(expanded -> {
+                    assertEquals(List.of(1L, 2L, 3L, 4L), expanded.stream().map(GameResponse::id).toList());
+                    assertEquals("name-a", expanded.get(0).player().name());
+                    assertEquals("name-b", expanded.get(1).player().name());
+                    assertEquals("name-a", expanded.get(2).player().name());
+                    assertEquals(2, expanded.get(2).player().gamesWon());
+                    assertNull(expanded.get(3).player());
+                })
+                .verifyComplete();
+
+        // two batches of at most 3 lookups, the first one with only two distinct players
+        verify(playerRepository).findAllById(List.of("a", "b"));
+        verify(playerRepository).findAllById(List.of("ghost"));
+        verify(playerRepository, times(2)).findAllById(any(Iterable.class));
+    }
+
+    @Test
+    void loader_shouldCoalesceConcurrentCallers_intoOneQuery() {
+        Mono<List<String>> names = Flux.just("x", "y", "x")
+                .flatMap(id -> playerLoader.findById(id).map(Player::getName))
+                .collectSortedList();
+
+        StepVerifier.create(names)
+                .expectNext(List.of("name-x", "name-x", "name-y"))
+                .verifyComplete();
+
+        verify(playerRepository).findAllById(List.of("x", "y"));
+        verify(playerRepository, times(1)).findAllById(any(Iterable.class));
+    }
+
+    @Test
+    void loader_shouldFailEveryCallerOfTheBatch_whenTheQueryFails() {
+        when(playerRepository.findByNameIn(any())).thenReturn(Flux.error(new IllegalStateException("mongo down")));
+
+        StepVerifier.create(Flux.just("a", "b").flatMap(playerLoader::findByName))
+                .expectError(IllegalStateException.class)
+                .verify();
+
+        // the loader keeps serving later batches
+        when(playerRepository.findByNameIn(any())).thenReturn(Flux.just(new Player("1", "a", 0, 0, 0, 0.0, null)));
+        StepVerifier.create(playerLoader.findByName("a").map(Player::getId))
+                .expectNext("1")
+                .verifyComplete();
+    }
+
+    private static GameResponse game(Long id, String playerId) {
+        return new GameResponse(id, playerId, null, GameStatus.IN_PROGRESS, GameTurn.PLAYER_TURN,
+                0, 0, List.of(), List.of(), null);
+    }
+}
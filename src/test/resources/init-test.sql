@@ -1,5 +1,7 @@
 CREATE TABLE IF NOT EXISTS games (
     id BIGSERIAL PRIMARY KEY,
+    version BIGINT NOT NULL DEFAULT 0,
+    event_seq INT NOT NULL DEFAULT 0,
     player_id VARCHAR(255) NOT NULL,
     created_at TIMESTAMP NOT NULL,
     status VARCHAR(50) NOT NULL,
@@ -8,7 +10,18 @@ CREATE TABLE IF NOT EXISTS games (
     dealer_score INT NOT NULL,
     deck_json TEXT NOT NULL,
     player_cards_json TEXT NOT NULL,
-    dealer_cards_json TEXT NOT NULL
+    dealer_cards_json TEXT NOT NULL,
+    initial_deck BYTEA
+);
+
+CREATE INDEX IF NOT EXISTS games_created_at_idx ON games (created_at);
+
+CREATE TABLE IF NOT EXISTS game_events (
+    game_id BIGINT NOT NULL REFERENCES games(id) ON DELETE CASCADE,
+    seq INT NOT NULL,
+    action VARCHAR(20) NOT NULL,
+    card SMALLINT,
+    PRIMARY KEY (game_id, seq)
 );
 
 INSERT INTO games (player_id, created_at, status, turn, player_score, dealer_score, deck_json, player_cards_json, dealer_cards_json)